@@ -2,8 +2,16 @@ package com.movie.movie_backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisReactiveAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
 
-@SpringBootApplication
+// Redis 연결은 cache.l2.enabled=true 일 때만 CacheConfig에서 만듦 (기본 설정에서는 Redis 자동 설정을 모두 끔)
+@SpringBootApplication(exclude = {
+		RedisAutoConfiguration.class,
+		RedisReactiveAutoConfiguration.class,
+		RedisRepositoriesAutoConfiguration.class
+})
 public class MovieBackendApplication {
 
 	public static void main(String[] args) {
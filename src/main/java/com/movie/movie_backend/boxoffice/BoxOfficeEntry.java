@@ -0,0 +1,7 @@
+package com.movie.movie_backend.boxoffice;
+
+/**
+ * 박스오피스 스냅샷 항목 (BoxOffice 엔티티에서 필요한 값만 복사한 불변 값)
+ */
+public record BoxOfficeEntry(int rank, String movieCd, String movieNm, long salesAmt, long audiCnt, long audiAcc) {
+}
@@ -0,0 +1,131 @@
+package com.movie.movie_backend.boxoffice;
+
+import com.movie.movie_backend.dto.BoxOfficeDto;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 순위 타입(DAILY/WEEKLY)별 최신 박스오피스 불변 스냅샷
+ *
+ * - 순위로 바로 찾는 배열(rank - 1 위치) + movieCd로 찾는 맵
+ * - 화면용 BoxOfficeDto 목록도 만들 때 한 번 조립해 둠 → 읽기에서 DB 조회 없음
+ *   (DTO는 수정 가능한 객체라 조회할 때마다 복사본을 주고, 날짜에 따라 바뀌는 개봉일수는 그때 계산)
+ * - 수정하지 않고, 새로 만든 스냅샷으로 참조만 교체 (version은 교체할 때마다 증가)
+ */
+public final class BoxOfficeSnapshot {
+
+    private final String rankType;
+    private final long version;
+    private final LocalDate targetDate;
+    private final BoxOfficeEntry[] byRank;               // rank - 1 위치 (빠진 순위는 null)
+    private final Map<String, BoxOfficeEntry> byMovieCd;
+    private final List<BoxOfficeDto> dtos;
+
+    public BoxOfficeSnapshot(String rankType, long version, LocalDate targetDate,
+                             List<BoxOfficeEntry> entries, List<BoxOfficeDto> dtos) {
+        this.rankType = rankType;
+        this.version = version;
+        this.targetDate = targetDate;
+
+        int maxRank = entries.stream().mapToInt(BoxOfficeEntry::rank).max().orElse(0);
+        this.byRank = new BoxOfficeEntry[maxRank];
+        Map<String, BoxOfficeEntry> map = new HashMap<>(entries.size() * 2);
+        for (BoxOfficeEntry entry : entries) {
+            if (entry.rank() >= 1 && byRank[entry.rank() - 1] == null) {
+                byRank[entry.rank() - 1] = entry;
+            }
+            // 같은 영화가 두 번 있으면 높은 순위 우선
+            map.merge(entry.movieCd(), entry, (existing, added) -> added.rank() < existing.rank() ? added : existing);
+        }
+        this.byMovieCd = map;
+        this.dtos = List.copyOf(dtos);
+    }
+
+    public static BoxOfficeSnapshot empty(String rankType) {
+        return new BoxOfficeSnapshot(rankType, 0L, null, List.of(), List.of());
+    }
+
+    public String getRankType() {
+        return rankType;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public LocalDate getTargetDate() {
+        return targetDate;
+    }
+
+    public boolean isEmpty() {
+        return byMovieCd.isEmpty();
+    }
+
+    public int size() {
+        return byMovieCd.size();
+    }
+
+    /**
+     * 순위로 조회 (없으면 null)
+     */
+    public BoxOfficeEntry entryAt(int rank) {
+        if (rank < 1 || rank > byRank.length) {
+            return null;
+        }
+        return byRank[rank - 1];
+    }
+
+    /**
+     * 영화 코드로 조회 (없으면 null)
+     */
+    public BoxOfficeEntry find(String movieCd) {
+        return movieCd != null ? byMovieCd.get(movieCd) : null;
+    }
+
+    /**
+     * 순위 (박스오피스에 없으면 0)
+     */
+    public int rankOf(String movieCd) {
+        BoxOfficeEntry entry = find(movieCd);
+        return entry != null ? entry.rank() : 0;
+    }
+
+    /**
+     * 누적 관객수 (박스오피스에 없으면 0)
+     */
+    public long audiAccOf(String movieCd) {
+        BoxOfficeEntry entry = find(movieCd);
+        return entry != null ? entry.audiAcc() : 0L;
+    }
+
+    public boolean contains(String movieCd) {
+        return find(movieCd) != null;
+    }
+
+    /**
+     * 순위 순 항목 목록
+     */
+    public List<BoxOfficeEntry> entries() {
+        return Arrays.stream(byRank).filter(entry -> entry != null).toList();
+    }
+
+    /**
+     * 순위 순 화면용 DTO 목록 (호출마다 새 복사본의 수정 불가 목록, 개봉일수는 오늘 기준)
+     */
+    public List<BoxOfficeDto> dtos() {
+        LocalDate today = LocalDate.now();
+        return dtos.stream().map(dto -> copyOf(dto, today)).toList();
+    }
+
+    private static BoxOfficeDto copyOf(BoxOfficeDto dto, LocalDate today) {
+        return dto.toBuilder()
+                .tags(dto.getTags() != null ? dto.getTags().clone() : null)
+                .daysSinceRelease(dto.getOpenDt() != null ? (int) ChronoUnit.DAYS.between(dto.getOpenDt(), today) : 0)
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.movie.movie_backend.cache;
+
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * 캐시 하나의 설정 (크기/가중치 한도, 만료, 갱신 주기, 노드 간 공유 여부)
+ *
+ * - maximumWeight가 0보다 크면 항목 수 대신 가중치(목록 크기/문자열 길이 추정)로 한도를 잡음
+ * - refreshAfterWrite가 지나면 첫 요청 하나만 다시 읽고 나머지 요청은 기존 값을 그대로 받음
+ * - shared면 L2(SharedCacheStore)가 있을 때 노드 간에 값을 공유하고 변경을 알림
+ * - 모든 값은 cache.<이름>.maximum-size / maximum-weight / expire-after-write / refresh-after-write 로 덮어쓸 수 있음
+ */
+public record CacheProfile(String name, long maximumSize, long maximumWeight,
+                           Duration expireAfterWrite, Duration refreshAfterWrite, boolean shared) {
+
+    public static CacheProfile of(String name, long maximumSize, Duration expireAfterWrite) {
+        return new CacheProfile(name, maximumSize, 0, expireAfterWrite, null, false);
+    }
+
+    public CacheProfile withName(String name) {
+        return new CacheProfile(name, maximumSize, maximumWeight, expireAfterWrite, refreshAfterWrite, shared);
+    }
+
+    public CacheProfile withMaximumWeight(long maximumWeight) {
+        return new CacheProfile(name, maximumSize, maximumWeight, expireAfterWrite, refreshAfterWrite, shared);
+    }
+
+    public CacheProfile withRefreshAfterWrite(Duration refreshAfterWrite) {
+        return new CacheProfile(name, maximumSize, maximumWeight, expireAfterWrite, refreshAfterWrite, shared);
+    }
+
+    public CacheProfile sharedAcrossNodes() {
+        return new CacheProfile(name, maximumSize, maximumWeight, expireAfterWrite, refreshAfterWrite, true);
+    }
+
+    /**
+     * 설정 파일 값으로 덮어쓴 프로필 (없는 값은 그대로)
+     */
+    public CacheProfile withOverrides(Environment environment) {
+        String prefix = "cache." + name + ".";
+        return new CacheProfile(name,
+                environment.getProperty(prefix + "maximum-size", Long.class, maximumSize),
+                environment.getProperty(prefix + "maximum-weight", Long.class, maximumWeight),
+                environment.getProperty(prefix + "expire-after-write", Duration.class, expireAfterWrite),
+                environment.getProperty(prefix + "refresh-after-write", Duration.class, refreshAfterWrite),
+                environment.getProperty(prefix + "shared", Boolean.class, shared));
+    }
+}
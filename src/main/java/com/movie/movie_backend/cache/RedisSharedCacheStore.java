@@ -0,0 +1,165 @@
+package com.movie.movie_backend.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Redis(또는 Redis 호환 서버) 기반 L2 캐시
+ *
+ * - 값은 "캐시이름::키"에 타입 정보를 포함한 JSON으로 저장 (만료는 프로필의 expireAfterWrite)
+ * - 복원 가능한 타입은 dto 패키지와 캐시 값에 실제로 쓰이는 JDK 값/컬렉션 타입으로 제한
+ * - 변경 시 INVALIDATION_CHANNEL로 "노드ID\n캐시이름\n키" 발행, 자기 노드가 보낸 알림은 무시
+ * - 연결 실패 등은 로그만 남기고 캐시 미스로 처리
+ */
+@Slf4j
+public class RedisSharedCacheStore implements SharedCacheStore, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "movie-cache:invalidate";
+    private static final String KEY_SEPARATOR = "::";
+    private static final String ALL_KEYS = "*";
+    private static final String DTO_PACKAGE = "com.movie.movie_backend.dto.";
+    private static final List<Class<?>> CACHED_JDK_TYPES = List.of(
+            String.class, Boolean.class, Integer.class, Long.class, Double.class,
+            LocalDate.class, LocalDateTime.class, Instant.class,
+            ArrayList.class, HashMap.class, LinkedHashMap.class, TreeMap.class, HashSet.class, LinkedHashSet.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate messageTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, List<InvalidationListener>> listeners = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("deprecation") // DefaultTyping.EVERYTHING: Long/Double 같은 final 타입도 원래 타입으로 복원
+    public RedisSharedCacheStore(RedisConnectionFactory connectionFactory) {
+        // 응답용 ObjectMapper와 분리 (날짜 형식/타입 정보가 저장 포맷에 맞아야 그대로 복원됨)
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .activateDefaultTyping(typeValidator(), ObjectMapper.DefaultTyping.EVERYTHING);
+
+        this.redisTemplate = new RedisTemplate<>();
+        this.redisTemplate.setConnectionFactory(connectionFactory);
+        this.redisTemplate.setKeySerializer(RedisSerializer.string());
+        this.redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer(objectMapper));
+        this.redisTemplate.afterPropertiesSet();
+        this.messageTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @Override
+    public Object get(String cacheName, String key) {
+        try {
+            return redisTemplate.opsForValue().get(redisKey(cacheName, key));
+        } catch (Exception e) {
+            log.warn("L2 캐시 조회 실패: {}::{} - {}", cacheName, key, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String cacheName, String key, Object value, Duration ttl) {
+        try {
+            if (ttl != null) {
+                redisTemplate.opsForValue().set(redisKey(cacheName, key), value, ttl);
+            } else {
+                redisTemplate.opsForValue().set(redisKey(cacheName, key), value);
+            }
+            publish(cacheName, key);
+        } catch (Exception e) {
+            log.warn("L2 캐시 저장 실패: {}::{} - {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        try {
+            redisTemplate.delete(redisKey(cacheName, key));
+            publish(cacheName, key);
+        } catch (Exception e) {
+            log.warn("L2 캐시 삭제 실패: {}::{} - {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        try {
+            List<String> keys = new ArrayList<>();
+            ScanOptions options = ScanOptions.scanOptions().match(cacheName + KEY_SEPARATOR + "*").count(1000).build();
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                cursor.forEachRemaining(keys::add);
+            }
+            if (!keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+            publish(cacheName, ALL_KEYS);
+        } catch (Exception e) {
+            log.warn("L2 캐시 비우기 실패: {} - {}", cacheName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(String cacheName, InvalidationListener listener) {
+        listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * 다른 노드의 무효화 알림 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\n", 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        String key = ALL_KEYS.equals(parts[2]) ? null : parts[2];
+        for (InvalidationListener listener : listeners.getOrDefault(parts[1], List.of())) {
+            listener.invalidated(key);
+        }
+    }
+
+    private void publish(String cacheName, String key) {
+        messageTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + "\n" + cacheName + "\n" + key);
+    }
+
+    private static BasicPolymorphicTypeValidator typeValidator() {
+        BasicPolymorphicTypeValidator.Builder builder = BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType(DTO_PACKAGE);
+        for (Class<?> type : CACHED_JDK_TYPES) {
+            builder.allowIfSubType(type);
+        }
+        return builder.build();
+    }
+
+    private static String redisKey(String cacheName, String key) {
+        return cacheName + KEY_SEPARATOR + key;
+    }
+}
@@ -0,0 +1,30 @@
+package com.movie.movie_backend.cache;
+
+import java.time.Duration;
+
+/**
+ * 노드 간 공유 캐시(L2) 저장소
+ *
+ * - put/evict/clear 하면 다른 노드에 무효화 알림을 보냄 → 다른 노드는 L1에서 해당 키를 지우고 다음 조회 때 L2에서 읽음
+ * - 저장소 장애는 예외로 올리지 않고 캐시 미스로 처리 (L1과 원본 조회로 계속 응답)
+ */
+public interface SharedCacheStore {
+
+    Object get(String cacheName, String key);
+
+    void put(String cacheName, String key, Object value, Duration ttl);
+
+    void evict(String cacheName, String key);
+
+    void clear(String cacheName);
+
+    /**
+     * 다른 노드에서 온 무효화 알림 수신 등록
+     */
+    void subscribe(String cacheName, InvalidationListener listener);
+
+    @FunctionalInterface
+    interface InvalidationListener {
+        void invalidated(String key); // key가 null이면 캐시 전체
+    }
+}
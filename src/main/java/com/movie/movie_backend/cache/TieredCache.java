@@ -0,0 +1,240 @@
+package com.movie.movie_backend.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.NullValue;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * L1(노드 메모리, Caffeine) + L2(SharedCacheStore, 선택) 2단 캐시
+ *
+ * - 조회: L1 → L2 → 원본(valueLoader) 순, 아래 단계에서 찾은 값은 위 단계에 채움
+ * - 같은 키를 동시에 읽으면 원본 조회는 한 번만 (Caffeine get)
+ * - refreshAfterWrite가 지난 항목은 그 키의 첫 요청만 원본을 다시 읽고, 그동안 다른 요청은 기존 값을 받음
+ * - 쓰기/삭제는 L1과 L2에 함께 반영, 다른 노드는 무효화 알림을 받아 L1에서 지움
+ * - 키는 문자열(toString)로 통일 → L1/L2/무효화 알림이 같은 키를 가리킴
+ */
+public class TieredCache extends AbstractValueAdaptingCache {
+
+    private final CacheProfile profile;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Entry> local;
+    private final SharedCacheStore shared;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    // 요청 단위 통계 (L1 적중 / L2 적중 / 둘 다 없음, 원본 조회 수)
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+
+    public TieredCache(CacheProfile profile, SharedCacheStore shared) {
+        super(true);
+        this.profile = profile;
+        this.shared = profile.shared() ? shared : null;
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (profile.maximumWeight() > 0) {
+            builder = builder.maximumWeight(profile.maximumWeight())
+                    .weigher((key, entry) -> ((Entry) entry).weight());
+        } else {
+            builder = builder.maximumSize(profile.maximumSize());
+        }
+        if (profile.expireAfterWrite() != null) {
+            builder = builder.expireAfterWrite(profile.expireAfterWrite());
+        }
+        this.local = builder.build();
+
+        if (this.shared != null) {
+            this.shared.subscribe(profile.name(), this::invalidateLocal);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return profile.name();
+    }
+
+    @Override
+    public com.github.benmanes.caffeine.cache.Cache<String, Entry> getNativeCache() {
+        return local;
+    }
+
+    public CacheProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * 현재까지의 적중/미스 통계 (만료/용량 초과로 밀려난 수는 Caffeine 통계에서)
+     */
+    public TieredCacheStats stats() {
+        return new TieredCacheStats(getName(), shared != null, local.estimatedSize(),
+                hits.sum(), l2Hits.sum(), misses.sum(), loads.sum(), local.stats().evictionCount());
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String cacheKey = keyOf(key);
+        Entry entry = local.getIfPresent(cacheKey);
+        if (entry != null) {
+            hits.increment();
+            return entry.value();
+        }
+        Object value = readShared(cacheKey);
+        if (value != null) {
+            l2Hits.increment();
+            local.put(cacheKey, Entry.of(value));
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = keyOf(key);
+        Entry entry = local.getIfPresent(cacheKey);
+        if (entry != null) {
+            hits.increment();
+        }
+        if (entry != null && isRefreshDue(entry) && refreshing.add(cacheKey)) {
+            try {
+                entry = store(cacheKey, toStoreValue(load(key, valueLoader)));
+            } finally {
+                refreshing.remove(cacheKey);
+            }
+        }
+        if (entry == null) {
+            boolean[] loaded = {false};
+            entry = local.get(cacheKey, k -> {
+                Object value = readShared(k);
+                if (value != null) {
+                    l2Hits.increment();
+                    return Entry.of(value);
+                }
+                misses.increment();
+                loaded[0] = true;
+                return Entry.of(toStoreValue(load(key, valueLoader)));
+            });
+            // L2 쓰기(와 무효화 알림)는 L1 계산이 끝난 뒤에 (같은 키 계산 중 L1을 다시 건드리지 않도록)
+            if (loaded[0]) {
+                writeShared(cacheKey, entry.value());
+            }
+        }
+        return (T) fromStoreValue(entry.value());
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        store(keyOf(key), toStoreValue(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = keyOf(key);
+        local.invalidate(cacheKey);
+        if (shared != null) {
+            shared.evict(getName(), cacheKey);
+        }
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = local.asMap().containsKey(keyOf(key));
+        evict(key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        if (shared != null) {
+            shared.clear(getName());
+        }
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = !local.asMap().isEmpty();
+        clear();
+        return notEmpty;
+    }
+
+    // ===== 내부 메서드 =====
+
+    private Entry store(String cacheKey, Object storeValue) {
+        Entry entry = Entry.of(storeValue);
+        local.put(cacheKey, entry);
+        writeShared(cacheKey, storeValue);
+        return entry;
+    }
+
+    /**
+     * 다른 노드의 변경 알림 (L2는 이미 바뀌었으므로 L1만 지움)
+     */
+    private void invalidateLocal(String key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    private boolean isRefreshDue(Entry entry) {
+        return profile.refreshAfterWrite() != null
+                && System.currentTimeMillis() - entry.writtenAt() >= profile.refreshAfterWrite().toMillis();
+    }
+
+    private Object readShared(String cacheKey) {
+        return shared != null ? shared.get(getName(), cacheKey) : null;
+    }
+
+    private void writeShared(String cacheKey, Object storeValue) {
+        // null 결과는 노드 안에서만 캐시 (L2 직렬화 대상에서 제외)
+        if (shared != null && storeValue != NullValue.INSTANCE) {
+            shared.put(getName(), cacheKey, storeValue, profile.expireAfterWrite());
+        }
+    }
+
+    private <T> T load(Object key, Callable<T> valueLoader) {
+        loads.increment();
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    private static String keyOf(Object key) {
+        return String.valueOf(key);
+    }
+
+    /**
+     * L1 항목 (가중치는 넣을 때 한 번만 계산)
+     */
+    public record Entry(Object value, long writtenAt, int weight) {
+
+        static Entry of(Object value) {
+            return new Entry(value, System.currentTimeMillis(), weigh(value));
+        }
+
+        private static int weigh(Object value) {
+            if (value instanceof Collection<?> collection) {
+                return collection.size() + 1;
+            }
+            if (value instanceof Map<?, ?> map) {
+                return map.size() + 1;
+            }
+            if (value instanceof CharSequence text) {
+                return text.length() / 64 + 1;
+            }
+            return 1;
+        }
+    }
+}
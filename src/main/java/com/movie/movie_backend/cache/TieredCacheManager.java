@@ -0,0 +1,44 @@
+package com.movie.movie_backend.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.core.env.Environment;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 프로필별 TieredCache 관리
+ * - 등록된 프로필은 시작 시 생성, 등록되지 않은 이름은 기본 프로필(노드 로컬)로 처음 요청될 때 생성
+ */
+public class TieredCacheManager extends AbstractCacheManager {
+
+    private final List<CacheProfile> profiles;
+    private final CacheProfile defaultProfile;
+    private final Environment environment;
+    private final SharedCacheStore sharedCacheStore;
+
+    public TieredCacheManager(List<CacheProfile> profiles, CacheProfile defaultProfile,
+                              Environment environment, SharedCacheStore sharedCacheStore) {
+        this.profiles = profiles;
+        this.defaultProfile = defaultProfile;
+        this.environment = environment;
+        this.sharedCacheStore = sharedCacheStore;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return profiles.stream()
+                .map(this::createCache)
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(defaultProfile.withName(name));
+    }
+
+    private Cache createCache(CacheProfile profile) {
+        return new TieredCache(profile.withOverrides(environment), sharedCacheStore);
+    }
+}
@@ -0,0 +1,15 @@
+package com.movie.movie_backend.cache;
+
+/**
+ * 캐시 하나의 적중/미스 통계
+ * - hits: L1 적중, l2Hits: L1에 없고 L2에서 찾음, misses: 둘 다 없어 원본 조회 대상
+ * - loads: 실제 원본 조회 수 (갱신 주기 재조회 포함), evictions: 만료/용량 초과로 L1에서 밀려난 수
+ */
+public record TieredCacheStats(String name, boolean shared, long size,
+                               long hits, long l2Hits, long misses, long loads, long evictions) {
+
+    public double hitRate() {
+        long requests = hits + l2Hits + misses;
+        return requests == 0 ? 0.0 : (double) (hits + l2Hits) / requests;
+    }
+}
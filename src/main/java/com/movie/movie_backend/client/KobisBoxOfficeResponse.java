@@ -0,0 +1,32 @@
+package com.movie.movie_backend.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * KOBIS 일별/주간 박스오피스 응답 (숫자 필드는 문자열로 내려오지만 Jackson이 숫자로 변환)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record KobisBoxOfficeResponse(Result boxOfficeResult) {
+
+    public List<Entry> dailyEntries() {
+        return boxOfficeResult != null && boxOfficeResult.dailyBoxOfficeList() != null
+                ? boxOfficeResult.dailyBoxOfficeList() : List.of();
+    }
+
+    public List<Entry> weeklyEntries() {
+        return boxOfficeResult != null && boxOfficeResult.weeklyBoxOfficeList() != null
+                ? boxOfficeResult.weeklyBoxOfficeList() : List.of();
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Result(String boxofficeType, String showRange,
+                         List<Entry> dailyBoxOfficeList, List<Entry> weeklyBoxOfficeList) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Entry(int rank, String movieCd, String movieNm, String openDt,
+                        long salesAmt, long audiCnt, long audiAcc) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.movie.movie_backend.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * KOBIS(영화진흥위원회) 오픈 API 클라이언트
+ */
+@Component
+@RequiredArgsConstructor
+public class KobisClient {
+
+    private final ProviderHttpClient httpClient;
+
+    @Value("${kobis.api.key}")
+    private String apiKey;
+
+    @Value("${kobis.api.base-url:http://www.kobis.or.kr/kobisopenapi/webservice/rest}")
+    private String baseUrl;
+
+    /**
+     * 일별 박스오피스 (targetDt: yyyyMMdd)
+     */
+    public KobisBoxOfficeResponse dailyBoxOffice(String targetDt) {
+        return httpClient.get(url("/boxoffice/searchDailyBoxOfficeList.json", "targetDt", targetDt),
+                KobisBoxOfficeResponse.class);
+    }
+
+    /**
+     * 주간 박스오피스 (weekGb: 0=주간, 1=주말, 2=주중)
+     */
+    public KobisBoxOfficeResponse weeklyBoxOffice(String targetDt, String weekGb) {
+        return httpClient.get(url("/boxoffice/searchWeeklyBoxOfficeList.json", "targetDt", targetDt, "weekGb", weekGb),
+                KobisBoxOfficeResponse.class);
+    }
+
+    /**
+     * 영화 상세정보 (movieInfoResult 구조가 깊어 트리로 반환)
+     */
+    public JsonNode movieInfo(String movieCd) {
+        return httpClient.get(url("/movie/searchMovieInfo.json", "movieCd", movieCd), JsonNode.class);
+    }
+
+    /**
+     * 영화 목록 검색
+     */
+    public JsonNode searchMovieList(String movieNm, String openStartDt, String openEndDt, int itemPerPage) {
+        return httpClient.get(url("/movie/searchMovieList.json", "movieNm", movieNm, "openStartDt", openStartDt,
+                "openEndDt", openEndDt, "itemPerPage", itemPerPage), JsonNode.class);
+    }
+
+    private String url(String path, Object... keyValues) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("key", apiKey);
+        for (int i = 0; i < keyValues.length; i += 2) {
+            params.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return ProviderHttpClient.buildUrl(baseUrl, path, params);
+    }
+}
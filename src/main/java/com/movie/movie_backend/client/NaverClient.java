@@ -0,0 +1,42 @@
+package com.movie.movie_backend.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 네이버 검색(영화) API 클라이언트
+ */
+@Component
+@RequiredArgsConstructor
+public class NaverClient {
+
+    private final ProviderHttpClient httpClient;
+
+    @Value("${naver.api.client-id}")
+    private String clientId;
+
+    @Value("${naver.api.client-secret}")
+    private String clientSecret;
+
+    @Value("${naver.api.base-url:https://openapi.naver.com}")
+    private String baseUrl;
+
+    /**
+     * 영화 검색 (year가 null이면 연도 조건 없이 검색)
+     */
+    public NaverMovieSearchResponse searchMovie(String query, String year, int display) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("query", query);
+        params.put("display", display);
+        params.put("yearfrom", year);
+        params.put("yearto", year);
+        String url = ProviderHttpClient.buildUrl(baseUrl, "/v1/search/movie.json", params);
+        return httpClient.get(url, Map.of(
+                "X-Naver-Client-Id", clientId,
+                "X-Naver-Client-Secret", clientSecret), NaverMovieSearchResponse.class);
+    }
+}
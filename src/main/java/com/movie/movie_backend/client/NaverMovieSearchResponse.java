@@ -0,0 +1,21 @@
+package com.movie.movie_backend.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * 네이버 영화 검색 응답 (v1/search/movie.json)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record NaverMovieSearchResponse(int total, List<Item> items) {
+
+    public Item firstItem() {
+        return items != null && !items.isEmpty() ? items.get(0) : null;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Item(String title, String link, String image, String subtitle, String pubDate,
+                       String director, String actor, String userRating, String description) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.movie.movie_backend.client;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * 외부 API 응답 캐시 정책 (경로별 TTL, 목록에 없는 경로는 캐시하지 않음)
+ *
+ * - 검색/상세처럼 거의 바뀌지 않는 응답은 길게, 인기/개봉예정/박스오피스처럼 자주 바뀌는 응답은 짧게 보관
+ * - TTL이 지나도 ETag/Last-Modified가 있으면 조건부 요청으로 재검증 (304면 본문을 다시 받지 않음)
+ */
+public enum ProviderCachePolicy {
+
+    TMDB_SEARCH_MOVIE("/search/movie$", Duration.ofDays(7)),
+    TMDB_SEARCH_PERSON("/search/person$", Duration.ofDays(30)),
+    TMDB_MOVIE_IMAGES("/movie/\\d+/images$", Duration.ofDays(30)),
+    TMDB_MOVIE_CREDITS("/movie/\\d+/credits$", Duration.ofDays(7)),
+    TMDB_MOVIE_DETAIL("/movie/\\d+$", Duration.ofDays(7)),
+    TMDB_GENRES("/genre/movie/list$", Duration.ofDays(30)),
+    TMDB_MOVIE_LISTS("/movie/(popular|upcoming)$", Duration.ofHours(1)),
+    KOBIS_MOVIE_INFO("/movie/searchMovieInfo\\.json$", Duration.ofDays(7)),
+    KOBIS_MOVIE_LIST("/movie/searchMovieList\\.json$", Duration.ofDays(1)),
+    KOBIS_BOX_OFFICE("/boxoffice/search\\w+BoxOfficeList\\.json$", Duration.ofHours(6)),
+    NAVER_SEARCH_MOVIE("/v1/search/movie\\.json$", Duration.ofDays(7));
+
+    private final Pattern pathPattern;
+    private final Duration ttl;
+
+    ProviderCachePolicy(String pathPattern, Duration ttl) {
+        this.pathPattern = Pattern.compile(pathPattern);
+        this.ttl = ttl;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * URL 경로에 맞는 정책 (없으면 null → 캐시하지 않음)
+     */
+    public static ProviderCachePolicy of(URI uri) {
+        String path = uri.getPath();
+        if (path == null) {
+            return null;
+        }
+        for (ProviderCachePolicy policy : values()) {
+            if (policy.pathPattern.matcher(path).find()) {
+                return policy;
+            }
+        }
+        return null;
+    }
+}
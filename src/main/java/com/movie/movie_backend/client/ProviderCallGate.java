@@ -0,0 +1,40 @@
+package com.movie.movie_backend.client;
+
+import java.util.function.Supplier;
+
+/**
+ * 실제 네트워크 요청 직전에 실행할 작업을 호출 스레드에 등록 (예: 제공처 호출 한도 토큰 획득)
+ *
+ * 캐시 적중이나 진행 중인 같은 요청에 합류한 경우에는 실행되지 않아 호출 한도를 아낄 수 있음
+ */
+public final class ProviderCallGate {
+
+    private static final ThreadLocal<Runnable> BEFORE_NETWORK = new ThreadLocal<>();
+
+    private ProviderCallGate() {
+    }
+
+    /**
+     * beforeNetwork를 등록한 상태로 call 실행 (call 안에서 보내는 네트워크 요청마다 한 번씩 실행됨)
+     */
+    public static <V> V run(Runnable beforeNetwork, Supplier<V> call) {
+        Runnable previous = BEFORE_NETWORK.get();
+        BEFORE_NETWORK.set(beforeNetwork);
+        try {
+            return call.get();
+        } finally {
+            if (previous != null) {
+                BEFORE_NETWORK.set(previous);
+            } else {
+                BEFORE_NETWORK.remove();
+            }
+        }
+    }
+
+    static void beforeNetwork() {
+        Runnable beforeNetwork = BEFORE_NETWORK.get();
+        if (beforeNetwork != null) {
+            beforeNetwork.run();
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.movie.movie_backend.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+/**
+ * 외부 API(KOBIS/TMDB/네이버) 공용 비동기 HTTP 클라이언트
+ *
+ * - JDK HttpClient 하나를 공유 → 호스트별 커넥션 풀/keep-alive 재사용, 응답 처리는 가상 스레드에서
+ * - 같은 URL(+헤더, 응답 타입) 요청이 진행 중이면 새로 호출하지 않고 그 결과를 함께 받음
+ * - 응답 본문은 문자열로 모으지 않고 스트림에서 바로 Jackson으로 타입 레코드에 매핑
+ * - 실패는 RestTemplate과 같은 예외(HttpClientErrorException/HttpServerErrorException/ResourceAccessException)로 변환
+ *   → IngestionEngine의 재시도/429 처리가 그대로 동작
+ * - 캐시 정책이 있는 경로는 ProviderResponseCache를 먼저 보고, 만료된 항목은 ETag/Last-Modified로 조건부 요청
+ */
+@Slf4j
+@Component
+public class ProviderHttpClient {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Pattern API_KEY_PARAM = Pattern.compile("((?:api_key|key)=)[^&]*");
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final ProviderResponseCache responseCache;
+    private final Map<InFlightKey, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+
+    public ProviderHttpClient(ObjectMapper objectMapper, ProviderResponseCache responseCache) {
+        this.objectMapper = objectMapper;
+        this.responseCache = responseCache;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(CONNECT_TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public <T> CompletableFuture<T> getAsync(String url, Class<T> type) {
+        return getAsync(url, Map.of(), type);
+    }
+
+    /**
+     * GET 요청을 비동기로 보내고 응답 본문을 type으로 매핑 (진행 중인 같은 요청이 있으면 합류)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> getAsync(String url, Map<String, String> headers, Class<T> type) {
+        InFlightKey key = new InFlightKey(url, Map.copyOf(headers), type);
+        CompletableFuture<T> created = new CompletableFuture<>();
+        CompletableFuture<T> existing = (CompletableFuture<T>) inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            log.debug("진행 중인 요청에 합류: {}", redact(url));
+            return existing.copy();
+        }
+
+        CompletableFuture<T> response;
+        try {
+            response = send(url, key.headers(), type);
+        } catch (RuntimeException e) {
+            // 호출 한도 대기 중단 등 요청 전에 실패해도 진행 중 목록에 남지 않도록 같은 경로로 처리
+            response = CompletableFuture.failedFuture(e);
+        }
+        response.whenComplete((value, error) -> {
+            // 완료 전에 먼저 빼야 이후 요청이 끝난 결과를 재사용하지 않고 새로 호출함
+            inFlight.remove(key, created);
+            if (error != null) {
+                created.completeExceptionally(unwrap(error));
+            } else {
+                created.complete(value);
+            }
+        });
+        // 호출한 쪽에서 취소/완료해도 공유 중인 결과에는 영향이 없도록 복사본을 돌려줌
+        return created.copy();
+    }
+
+    public <T> T get(String url, Class<T> type) {
+        return get(url, Map.of(), type);
+    }
+
+    /**
+     * 동기 호출 (기존 RestTemplate 호출부 대체용, 실패는 RestTemplate과 같은 예외로 던짐)
+     */
+    public <T> T get(String url, Map<String, String> headers, Class<T> type) {
+        try {
+            return getAsync(url, headers, type).join();
+        } catch (CompletionException e) {
+            throw asRuntime(e.getCause());
+        }
+    }
+
+    /**
+     * baseUrl + path + 쿼리스트링 (값은 URL 인코딩, null 값은 생략)
+     */
+    public static String buildUrl(String baseUrl, String path, Map<String, ?> params) {
+        StringBuilder url = new StringBuilder(baseUrl).append(path);
+        char separator = path.contains("?") ? '&' : '?';
+        for (Map.Entry<String, ?> param : params.entrySet()) {
+            if (param.getValue() == null) {
+                continue;
+            }
+            url.append(separator)
+                    .append(param.getKey())
+                    .append('=')
+                    .append(URLEncoder.encode(String.valueOf(param.getValue()), StandardCharsets.UTF_8));
+            separator = '&';
+        }
+        return url.toString();
+    }
+
+    /**
+     * 로그/예외 메시지용 URL (API 키 값 가림)
+     */
+    public static String redact(String url) {
+        return API_KEY_PARAM.matcher(url).replaceAll("$1***");
+    }
+
+    // ===== 내부 메서드 =====
+
+    private <T> CompletableFuture<T> send(String url, Map<String, String> headers, Class<T> type) {
+        Duration ttl = responseCache.ttlFor(url);
+        if (ttl == null) {
+            ProviderCallGate.beforeNetwork();
+            return httpClient.sendAsync(request(url, headers).build(), HttpResponse.BodyHandlers.ofInputStream())
+                    .thenApply(response -> read(url, response, type));
+        }
+
+        ProviderResponseCache.CachedResponse cached = responseCache.get(url);
+        if (cached != null && cached.isFresh(System.currentTimeMillis())) {
+            try {
+                return CompletableFuture.completedFuture(objectMapper.readValue(cached.body(), type));
+            } catch (IOException e) {
+                log.warn("외부 API 캐시 본문 해석 실패, 다시 요청합니다: {}", redact(url));
+                cached = null;
+            }
+        }
+
+        HttpRequest.Builder builder = request(url, headers);
+        if (cached != null && cached.etag() != null) {
+            builder.header("If-None-Match", cached.etag());
+        }
+        if (cached != null && cached.lastModified() != null) {
+            builder.header("If-Modified-Since", cached.lastModified());
+        }
+        ProviderResponseCache.CachedResponse stale = cached;
+        ProviderCallGate.beforeNetwork();
+        return httpClient.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> readCacheable(url, response, stale, ttl, type));
+    }
+
+    private HttpRequest.Builder request(String url, Map<String, String> headers) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET();
+        headers.forEach(builder::header);
+        return builder;
+    }
+
+    /**
+     * 캐시 대상 응답 처리 (304면 저장된 본문 재사용, 2xx면 본문과 검증자를 저장)
+     */
+    private <T> T readCacheable(String url, HttpResponse<byte[]> response, ProviderResponseCache.CachedResponse stale,
+                                Duration ttl, Class<T> type) {
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        int status = response.statusCode();
+        try {
+            if (status == 304 && stale != null) {
+                responseCache.put(url, stale.withExpiresAt(expiresAt));
+                return objectMapper.readValue(stale.body(), type);
+            }
+            if (status >= 200 && status < 300) {
+                T value = objectMapper.readValue(response.body(), type);
+                responseCache.put(url, new ProviderResponseCache.CachedResponse(response.body(),
+                        response.headers().firstValue("ETag").orElse(null),
+                        response.headers().firstValue("Last-Modified").orElse(null),
+                        expiresAt));
+                return value;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        throw toResponseException(url, response, response.body());
+    }
+
+    private <T> T read(String url, HttpResponse<InputStream> response, Class<T> type) {
+        try (InputStream body = response.body()) {
+            int status = response.statusCode();
+            if (status >= 200 && status < 300) {
+                return objectMapper.readValue(body, type);
+            }
+            throw toResponseException(url, response, body.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static RestClientResponseException toResponseException(String url, HttpResponse<?> response, byte[] body) {
+        HttpStatusCode status = HttpStatusCode.valueOf(response.statusCode());
+        HttpHeaders headers = new HttpHeaders();
+        response.headers().map().forEach(headers::addAll);
+        String message = status.value() + " " + redact(url);
+
+        if (status.is4xxClientError()) {
+            return HttpClientErrorException.create(message, status, "", headers, body, StandardCharsets.UTF_8);
+        }
+        if (status.is5xxServerError()) {
+            return HttpServerErrorException.create(message, status, "", headers, body, StandardCharsets.UTF_8);
+        }
+        return new RestClientResponseException(message, status, "", headers, body, StandardCharsets.UTF_8);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof UncheckedIOException unchecked) {
+            cause = unchecked.getCause();
+        }
+        if (cause instanceof IOException io) {
+            return new ResourceAccessException("외부 API 호출 실패: " + io.getMessage(), io);
+        }
+        return cause;
+    }
+
+    private static RuntimeException asRuntime(Throwable error) {
+        if (error instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (error instanceof Error fatal) {
+            throw fatal;
+        }
+        return new IllegalStateException(error);
+    }
+
+    private record InFlightKey(String url, Map<String, String> headers, Class<?> type) {
+    }
+}
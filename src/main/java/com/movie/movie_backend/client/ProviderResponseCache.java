@@ -0,0 +1,255 @@
+package com.movie.movie_backend.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * 외부 API 응답 디스크 캐시 (재시작/재실행해도 이미 받은 응답은 다시 내려받지 않음)
+ *
+ * - 키: API 키 파라미터를 뺀 정규화 URL (쿼리 파라미터 정렬, 호스트 소문자) → SHA-256 파일명
+ * - 값: 응답 본문 + ETag/Last-Modified + 만료 시각, 임시 파일에 쓴 뒤 이동해서 반쯤 쓴 파일이 보이지 않게 함
+ * - 만료 후에도 재검증용으로 retention 동안 보관하고, 그 뒤에는 새벽 정리 작업에서 삭제
+ */
+@Slf4j
+@Component
+public class ProviderResponseCache {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String ENTRY_SUFFIX = ".bin";
+    private static final Set<String> SECRET_PARAMS = Set.of("api_key", "key");
+
+    private final Path directory;
+    private final Duration retention;
+
+    public ProviderResponseCache(@Value("${provider.cache.enabled:true}") boolean enabled,
+                                 @Value("${provider.cache.dir:${user.home}/.movie-backend/provider-cache}") String directory,
+                                 @Value("${provider.cache.retention-days:30}") long retentionDays) {
+        this(enabled ? Paths.get(directory) : null, Duration.ofDays(retentionDays));
+    }
+
+    ProviderResponseCache(Path directory, Duration retention) {
+        this.directory = directory;
+        this.retention = retention;
+        if (directory != null) {
+            log.info("외부 API 응답 캐시 경로: {}", directory.toAbsolutePath());
+        }
+    }
+
+    /**
+     * 캐시를 쓰지 않는 인스턴스 (테스트/단독 사용)
+     */
+    public static ProviderResponseCache disabled() {
+        return new ProviderResponseCache(null, Duration.ZERO);
+    }
+
+    public static ProviderResponseCache at(Path directory) {
+        return new ProviderResponseCache(directory, Duration.ofDays(30));
+    }
+
+    /**
+     * 이 URL 응답을 캐시할지와 TTL (캐시하지 않으면 null)
+     */
+    public Duration ttlFor(String url) {
+        if (directory == null) {
+            return null;
+        }
+        ProviderCachePolicy policy = ProviderCachePolicy.of(URI.create(url));
+        return policy != null ? policy.getTtl() : null;
+    }
+
+    /**
+     * 저장된 응답 (없거나 읽을 수 없으면 null, 만료 여부는 호출한 쪽에서 확인)
+     */
+    public CachedResponse get(String url) {
+        if (directory == null) {
+            return null;
+        }
+        String key = normalize(url);
+        Path file = fileFor(key);
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            if (in.readInt() != FORMAT_VERSION || !key.equals(in.readUTF())) {
+                return null;
+            }
+            String etag = emptyToNull(in.readUTF());
+            String lastModified = emptyToNull(in.readUTF());
+            long expiresAt = in.readLong();
+            byte[] body = in.readNBytes(in.readInt());
+            return new CachedResponse(body, etag, lastModified, expiresAt);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.warn("외부 API 캐시 읽기 실패, 삭제합니다: {} - {}", ProviderHttpClient.redact(url), e.getMessage());
+            deleteQuietly(file);
+            return null;
+        }
+    }
+
+    public void put(String url, CachedResponse response) {
+        if (directory == null) {
+            return;
+        }
+        String key = normalize(url);
+        Path file = fileFor(key);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(temp))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(key);
+                out.writeUTF(response.etag() != null ? response.etag() : "");
+                out.writeUTF(response.lastModified() != null ? response.lastModified() : "");
+                out.writeLong(response.expiresAt());
+                out.writeInt(response.body().length);
+                out.write(response.body());
+            }
+            move(temp, file);
+        } catch (IOException e) {
+            log.warn("외부 API 캐시 저장 실패: {} - {}", ProviderHttpClient.redact(url), e.getMessage());
+        }
+    }
+
+    /**
+     * 만료 후 retention이 지난 항목 삭제 (새벽 4시 50분)
+     */
+    @Scheduled(cron = "0 50 4 * * *")
+    public void evictExpired() {
+        if (directory == null || !Files.isDirectory(directory)) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis() - retention.toMillis();
+        int deleted = 0;
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.filter(file -> file.getFileName().toString().endsWith(ENTRY_SUFFIX)).toList()) {
+                if (readExpiresAt(file) < cutoff) {
+                    deleteQuietly(file);
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("외부 API 캐시 정리 실패: {}", e.getMessage());
+        }
+        log.info("외부 API 캐시 정리 완료: {}개 삭제", deleted);
+    }
+
+    /**
+     * 캐시 키용 URL 정규화 (API 키 제거, 쿼리 파라미터 이름순 정렬, scheme/host 소문자)
+     */
+    static String normalize(String url) {
+        URI uri = URI.create(url);
+        TreeMap<String, String> params = new TreeMap<>();
+        String query = uri.getRawQuery();
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                if (pair.isEmpty()) {
+                    continue;
+                }
+                int eq = pair.indexOf('=');
+                String name = eq >= 0 ? pair.substring(0, eq) : pair;
+                if (!SECRET_PARAMS.contains(name)) {
+                    params.merge(name, eq >= 0 ? pair.substring(eq + 1) : "", (a, b) -> a + "," + b);
+                }
+            }
+        }
+        StringBuilder key = new StringBuilder()
+                .append(uri.getScheme().toLowerCase())
+                .append("://")
+                .append(uri.getRawAuthority().toLowerCase())
+                .append(uri.getRawPath());
+        char separator = '?';
+        for (Map.Entry<String, String> param : params.entrySet()) {
+            key.append(separator).append(param.getKey()).append('=').append(param.getValue());
+            separator = '&';
+        }
+        return key.toString();
+    }
+
+    // ===== 내부 메서드 =====
+
+    private Path fileFor(String key) {
+        String hash = sha256(key);
+        return directory.resolve(hash.substring(0, 2)).resolve(hash + ENTRY_SUFFIX);
+    }
+
+    private static long readExpiresAt(Path file) {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                return Long.MIN_VALUE;
+            }
+            in.readUTF();
+            in.readUTF();
+            in.readUTF();
+            return in.readLong();
+        } catch (IOException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // 다음 정리 때 다시 시도
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 캐시된 응답 (expiresAt: epoch millis)
+     */
+    public record CachedResponse(byte[] body, String etag, String lastModified, long expiresAt) {
+
+        public boolean isFresh(long now) {
+            return now < expiresAt;
+        }
+
+        public boolean hasValidator() {
+            return etag != null || lastModified != null;
+        }
+
+        public CachedResponse withExpiresAt(long expiresAt) {
+            return new CachedResponse(body, etag, lastModified, expiresAt);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.movie.movie_backend.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * TMDB API 클라이언트 (응답은 타입 레코드로 바로 매핑)
+ */
+@Component
+@RequiredArgsConstructor
+public class TmdbClient {
+
+    public static final String POSTER_BASE_URL = "https://image.tmdb.org/t/p/w500";
+    public static final String ORIGINAL_IMAGE_BASE_URL = "https://image.tmdb.org/t/p/original";
+
+    private final ProviderHttpClient httpClient;
+
+    @Value("${tmdb.api.key}")
+    private String apiKey;
+
+    @Value("${tmdb.api.base-url:https://api.themoviedb.org/3}")
+    private String baseUrl;
+
+    /**
+     * 영화 검색 (year가 null이면 연도 조건 없이 검색)
+     */
+    public TmdbMovieSearchResponse searchMovie(String query, String year, String language) {
+        return httpClient.get(searchMovieUrl(query, year, language), TmdbMovieSearchResponse.class);
+    }
+
+    public CompletableFuture<TmdbMovieSearchResponse> searchMovieAsync(String query, String year, String language) {
+        return httpClient.getAsync(searchMovieUrl(query, year, language), TmdbMovieSearchResponse.class);
+    }
+
+    /**
+     * 인기 영화 목록 한 페이지
+     */
+    public TmdbMovieSearchResponse popularMovies(int page, String language) {
+        return httpClient.get(url("/movie/popular", params("language", language, "page", page)), TmdbMovieSearchResponse.class);
+    }
+
+    public CompletableFuture<TmdbMovieSearchResponse> popularMoviesAsync(int page, String language) {
+        return httpClient.getAsync(url("/movie/popular", params("language", language, "page", page)), TmdbMovieSearchResponse.class);
+    }
+
+    /**
+     * 개봉 예정 영화 목록 한 페이지
+     */
+    public TmdbMovieSearchResponse upcomingMovies(int page, String language, String region) {
+        return httpClient.get(url("/movie/upcoming", params("language", language, "page", page, "region", region)),
+                TmdbMovieSearchResponse.class);
+    }
+
+    public CompletableFuture<TmdbMovieSearchResponse> upcomingMoviesAsync(int page, String language, String region) {
+        return httpClient.getAsync(url("/movie/upcoming", params("language", language, "page", page, "region", region)),
+                TmdbMovieSearchResponse.class);
+    }
+
+    /**
+     * 영화 상세 (감독 정보를 위해 credits 포함)
+     */
+    public TmdbMovieDetailResponse movieDetail(int movieId, String language) {
+        return httpClient.get(url("/movie/" + movieId, params("language", language, "append_to_response", "credits")),
+                TmdbMovieDetailResponse.class);
+    }
+
+    /**
+     * 영화 출연/제작진
+     */
+    public TmdbCreditsResponse movieCredits(int movieId) {
+        return httpClient.get(url("/movie/" + movieId + "/credits", params()), TmdbCreditsResponse.class);
+    }
+
+    /**
+     * 영화 이미지 (backdrop/poster)
+     */
+    public TmdbImagesResponse movieImages(int movieId) {
+        return httpClient.get(url("/movie/" + movieId + "/images", params()), TmdbImagesResponse.class);
+    }
+
+    /**
+     * 영화 장르 목록
+     */
+    public TmdbGenreListResponse movieGenres(String language) {
+        return httpClient.get(url("/genre/movie/list", params("language", language)), TmdbGenreListResponse.class);
+    }
+
+    /**
+     * 인물 검색
+     */
+    public TmdbPersonSearchResponse searchPerson(String name, String language) {
+        return httpClient.get(url("/search/person", params("query", name, "language", language)), TmdbPersonSearchResponse.class);
+    }
+
+    public static String posterUrl(String posterPath) {
+        return posterPath != null && !posterPath.isEmpty() ? POSTER_BASE_URL + posterPath : null;
+    }
+
+    private String searchMovieUrl(String query, String year, String language) {
+        return url("/search/movie", params("query", query, "year", year, "language", language));
+    }
+
+    private String url(String path, Map<String, Object> params) {
+        Map<String, Object> withKey = new LinkedHashMap<>();
+        withKey.put("api_key", apiKey);
+        withKey.putAll(params);
+        return ProviderHttpClient.buildUrl(baseUrl, path, withKey);
+    }
+
+    private static Map<String, Object> params(Object... keyValues) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            params.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return params;
+    }
+}
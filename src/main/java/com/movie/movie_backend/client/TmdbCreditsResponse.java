@@ -0,0 +1,36 @@
+package com.movie.movie_backend.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * TMDB 영화 출연/제작진 응답 (movie/{id}/credits)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record TmdbCreditsResponse(List<CastMember> cast, List<TmdbMovieDetailResponse.Crew> crew) {
+
+    public List<CastMember> castOrEmpty() {
+        return cast != null ? cast : List.of();
+    }
+
+    /**
+     * 첫 번째 감독 이름 (없으면 null)
+     */
+    public String directorName() {
+        if (crew == null) {
+            return null;
+        }
+        return crew.stream()
+                .filter(member -> "Director".equals(member.job()))
+                .map(TmdbMovieDetailResponse.Crew::name)
+                .findFirst()
+                .orElse(null);
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record CastMember(String name, String character, int order,
+                             @JsonProperty("profile_path") String profilePath) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.movie.movie_backend.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * TMDB 영화 장르 목록 응답 (genre/movie/list)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record TmdbGenreListResponse(List<Genre> genres) {
+
+    /**
+     * 장르 ID → 장르명
+     */
+    public Map<Integer, String> namesById() {
+        if (genres == null) {
+            return Map.of();
+        }
+        return genres.stream().collect(Collectors.toMap(Genre::id, Genre::name, (a, b) -> a));
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Genre(int id, String name) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.movie.movie_backend.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * TMDB 영화 이미지 응답 (movie/{id}/images)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record TmdbImagesResponse(List<Image> backdrops, List<Image> posters) {
+
+    public List<Image> backdropsOrEmpty() {
+        return backdrops != null ? backdrops : List.of();
+    }
+
+    public List<Image> postersOrEmpty() {
+        return posters != null ? posters : List.of();
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Image(@JsonProperty("file_path") String filePath) {
+
+        public boolean hasPath() {
+            return filePath != null && !filePath.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.movie.movie_backend.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * TMDB 영화 상세 응답 (movie/{id}?append_to_response=credits)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record TmdbMovieDetailResponse(
+        int id,
+        String title,
+        @JsonProperty("original_title") String originalTitle,
+        String overview,
+        @JsonProperty("release_date") String releaseDate,
+        Integer runtime,
+        @JsonProperty("poster_path") String posterPath,
+        @JsonProperty("vote_average") double voteAverage,
+        @JsonProperty("vote_count") int voteCount,
+        List<Named> genres,
+        @JsonProperty("production_countries") List<Named> productionCountries,
+        @JsonProperty("production_companies") List<Named> productionCompanies,
+        Credits credits) {
+
+    public String genreNames() {
+        return joinNames(genres);
+    }
+
+    public String countryNames() {
+        return joinNames(productionCountries);
+    }
+
+    public String companyNames() {
+        return joinNames(productionCompanies);
+    }
+
+    /**
+     * 첫 번째 감독 이름 (credits를 함께 요청하지 않았거나 감독이 없으면 null)
+     */
+    public String directorName() {
+        if (credits == null || credits.crew() == null) {
+            return null;
+        }
+        return credits.crew().stream()
+                .filter(crew -> "Director".equals(crew.job()))
+                .map(Crew::name)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static String joinNames(List<Named> values) {
+        if (values == null) {
+            return "";
+        }
+        return values.stream().map(Named::name).collect(Collectors.joining(", "));
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Named(String name) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Credits(List<Crew> crew) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Crew(String name, String job) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.movie.movie_backend.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * TMDB 영화 목록 응답 (search/movie, movie/popular, movie/upcoming 공용)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record TmdbMovieSearchResponse(
+        int page,
+        @JsonProperty("total_pages") int totalPages,
+        List<Movie> results) {
+
+    public List<Movie> resultsOrEmpty() {
+        return results != null ? results : List.of();
+    }
+
+    /**
+     * 첫 번째 검색 결과 (없으면 null)
+     */
+    public Movie firstResult() {
+        return results != null && !results.isEmpty() ? results.get(0) : null;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Movie(
+            int id,
+            String title,
+            @JsonProperty("original_title") String originalTitle,
+            String overview,
+            @JsonProperty("release_date") String releaseDate,
+            @JsonProperty("poster_path") String posterPath,
+            @JsonProperty("backdrop_path") String backdropPath,
+            double popularity,
+            @JsonProperty("vote_average") double voteAverage,
+            @JsonProperty("vote_count") int voteCount,
+            @JsonProperty("genre_ids") List<Integer> genreIds) {
+
+        public boolean hasPoster() {
+            return posterPath != null && !posterPath.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.movie.movie_backend.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * TMDB 인물 검색 응답 (search/person)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record TmdbPersonSearchResponse(List<Person> results) {
+
+    public Person firstResult() {
+        return results != null && !results.isEmpty() ? results.get(0) : null;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Person(int id, String name, @JsonProperty("profile_path") String profilePath) {
+    }
+}
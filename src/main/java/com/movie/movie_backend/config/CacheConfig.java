@@ -1,24 +1,95 @@
 package com.movie.movie_backend.config;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
+import com.movie.movie_backend.cache.CacheProfile;
+import com.movie.movie_backend.cache.RedisSharedCacheStore;
+import com.movie.movie_backend.cache.SharedCacheStore;
+import com.movie.movie_backend.cache.TieredCacheManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.List;
 
+/**
+ * 캐시 설정
+ * - 캐시마다 프로필(크기/만료/갱신 주기/공유 여부)을 따로 둠, 값은 cache.<이름>.* 설정으로 덮어쓸 수 있음
+ * - cache.l2.enabled=true면 Redis를 L2로 붙여 shared 프로필 캐시를 노드 간에 공유 (기본은 노드 메모리만)
+ *   Redis 자동 설정은 꺼 두었으므로 연결은 여기서만 만듦 (spring.data.redis.host/port/password/database 사용)
+ */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    public static final String VERIFICATION_CODES = "verificationCodes";
+    public static final String MOVIE_DETAIL = "movieDetail";
+    public static final String MOVIE_REVIEWS = "movieReviews";
+    public static final String RATING_STATS = "ratingStats";
+
+    /**
+     * 등록되지 않은 이름의 캐시에 쓰는 기본 프로필 (3분 후 만료, 최대 1000개, 노드 로컬)
+     */
+    private static final CacheProfile DEFAULT_PROFILE = CacheProfile.of("default", 1000, Duration.ofMinutes(3));
+
+    private static final List<CacheProfile> PROFILES = List.of(
+            // 메일 인증 코드: 메일 본문 안내와 같은 3분, 발송한 노드와 확인하는 노드가 다를 수 있으므로 공유
+            CacheProfile.of(VERIFICATION_CODES, 10_000, Duration.ofMinutes(3)).sharedAcrossNodes(),
+            // 영화 상세: 변경 시 바로 지우고, 예매 순위(박스오피스 스냅샷) 반영을 위해 1분마다 다시 읽음
+            CacheProfile.of(MOVIE_DETAIL, 5_000, Duration.ofMinutes(30))
+                    .withRefreshAfterWrite(Duration.ofMinutes(1)).sharedAcrossNodes(),
+            // 영화별 리뷰 목록: 목록 길이가 제각각이라 리뷰 수 합계로 한도
+            CacheProfile.of(MOVIE_REVIEWS, 0, Duration.ofMinutes(30)).withMaximumWeight(200_000).sharedAcrossNodes(),
+            // 평점 통계(평균/개수/분포): 리뷰/평점 변경 이벤트로만 바뀜
+            CacheProfile.of(RATING_STATS, 20_000, Duration.ofHours(1)).sharedAcrossNodes()
+    );
+
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(3, TimeUnit.MINUTES) // 3분 후 만료
-                .maximumSize(1000)); // 최대 1000개 항목
-        return cacheManager;
+    public CacheManager cacheManager(Environment environment, ObjectProvider<SharedCacheStore> sharedCacheStore) {
+        return new TieredCacheManager(PROFILES, DEFAULT_PROFILE, environment, sharedCacheStore.getIfAvailable());
+    }
+
+    /**
+     * Redis L2 캐시 + 노드 간 무효화 알림 수신
+     */
+    @Configuration
+    @ConditionalOnProperty(name = "cache.l2.enabled", havingValue = "true")
+    static class SharedCacheConfig {
+
+        @Bean
+        public LettuceConnectionFactory redisConnectionFactory(@Value("${spring.data.redis.host:localhost}") String host,
+                                                               @Value("${spring.data.redis.port:6379}") int port,
+                                                               @Value("${spring.data.redis.password:}") String password,
+                                                               @Value("${spring.data.redis.database:0}") int database) {
+            RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(host, port);
+            configuration.setDatabase(database);
+            if (!password.isEmpty()) {
+                configuration.setPassword(password);
+            }
+            return new LettuceConnectionFactory(configuration);
+        }
+
+        @Bean
+        public RedisSharedCacheStore sharedCacheStore(RedisConnectionFactory connectionFactory) {
+            return new RedisSharedCacheStore(connectionFactory);
+        }
+
+        @Bean
+        public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                                RedisSharedCacheStore sharedCacheStore) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.addMessageListener(sharedCacheStore, new ChannelTopic(RedisSharedCacheStore.INVALIDATION_CHANNEL));
+            return container;
+        }
     }
-} 
+}
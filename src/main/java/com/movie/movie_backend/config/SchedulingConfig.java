@@ -0,0 +1,10 @@
+package com.movie.movie_backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // @Scheduled 작업 활성화 (검색 인덱스 변경분 반영 등)
+}
@@ -0,0 +1,91 @@
+package com.movie.movie_backend.config;
+
+import com.movie.movie_backend.service.BoxOfficeSnapshotService;
+import com.movie.movie_backend.service.MovieCardService;
+import com.movie.movie_backend.service.REVRatingAggregateService;
+import com.movie.movie_backend.service.REVRatingLeaderboardService;
+import com.movie.movie_backend.service.SRHAutocompleteService;
+import com.movie.movie_backend.service.SRHMovieSearchService;
+import com.movie.movie_backend.service.TmdbMovieListService;
+import com.movie.movie_backend.service.TmdbRatingService;
+import com.movie.movie_backend.service.TrendingMovieService;
+import com.movie.movie_backend.warmup.WarmupStage;
+import com.movie.movie_backend.warmup.WarmupTask;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+import java.time.Duration;
+
+/**
+ * 시작 준비 작업 중 메모리 색인/스냅샷 구축 작업 등록 (DB 보충 작업은 warmup 패키지의 *Task 클래스)
+ * 모두 WarmupScheduler가 애플리케이션 준비 후 백그라운드에서 실행 → 구축 전 요청은 각 서비스의 DB 조회 경로로 응답
+ */
+@Configuration
+public class WarmupConfig {
+
+    /**
+     * 평점 집계 테이블이 비어 있으면 채움 (순위표보다 먼저)
+     */
+    @Bean
+    @Order(1)
+    public WarmupTask ratingAggregateWarmupTask(REVRatingAggregateService ratingAggregateService) {
+        return WarmupTask.of("ratingAggregate", WarmupStage.INDEX, ratingAggregateService::backfillIfEmpty);
+    }
+
+    @Bean
+    @Order(2)
+    public WarmupTask ratingLeaderboardWarmupTask(REVRatingLeaderboardService ratingLeaderboardService) {
+        return WarmupTask.of("ratingLeaderboard", WarmupStage.INDEX, ratingLeaderboardService::rebuild);
+    }
+
+    @Bean
+    @Order(3)
+    public WarmupTask movieCardWarmupTask(MovieCardService movieCardService) {
+        // 변경 이벤트를 놓친 카드(직접 SQL 수정 등)도 하루 한 번 전체 재구축으로 맞춤
+        return WarmupTask.of("movieCard", WarmupStage.INDEX, Duration.ofDays(1), movieCardService::rebuildAll);
+    }
+
+    @Bean
+    @Order(4)
+    public WarmupTask boxOfficeSnapshotWarmupTask(BoxOfficeSnapshotService boxOfficeSnapshotService) {
+        return WarmupTask.of("boxOfficeSnapshot", WarmupStage.INDEX, boxOfficeSnapshotService::reloadAll);
+    }
+
+    @Bean
+    @Order(5)
+    public WarmupTask movieSearchIndexWarmupTask(SRHMovieSearchService movieSearchService) {
+        return WarmupTask.of("movieSearchIndex", WarmupStage.INDEX, movieSearchService::rebuildIndex);
+    }
+
+    @Bean
+    @Order(6)
+    public WarmupTask autocompleteIndexWarmupTask(SRHAutocompleteService autocompleteService) {
+        return WarmupTask.of("autocompleteIndex", WarmupStage.INDEX, autocompleteService::requestRebuild);
+    }
+
+    @Bean
+    @Order(7)
+    public WarmupTask trendingWarmupTask(TrendingMovieService trendingMovieService) {
+        // 박스오피스 스냅샷(4) 이후에 실행되어야 최신 일일 관객수가 함께 반영됨
+        return WarmupTask.of("trending", WarmupStage.INDEX, trendingMovieService::seed);
+    }
+
+    @Bean
+    @Order(8)
+    public WarmupTask tmdbMovieListWarmupTask(TmdbMovieListService tmdbMovieListService) {
+        // 저장된 목록만 읽어 복원, TMDB 갱신은 백그라운드로 넘김
+        return WarmupTask.of("tmdbMovieLists", WarmupStage.INDEX, tmdbMovieListService::loadPersisted);
+    }
+
+    /**
+     * TMDB 평점 가져오기 (기존 initializeRatings 대체, 기본 비활성화 → warmup.tmdb-ratings.enabled=true)
+     */
+    @Bean
+    @Order(2)
+    @ConditionalOnProperty(name = "warmup.tmdb-ratings.enabled", havingValue = "true")
+    public WarmupTask tmdbRatingWarmupTask(TmdbRatingService tmdbRatingService) {
+        return WarmupTask.of("tmdbRatings", WarmupStage.DETAIL, Duration.ofDays(1), tmdbRatingService::fetchAndSaveTmdbRatings);
+    }
+}
@@ -0,0 +1,30 @@
+package com.movie.movie_backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final Duration asyncTimeout;
+
+    public WebMvcConfig(@Value("${web.async-timeout:PT30M}") Duration asyncTimeout) {
+        this.asyncTimeout = asyncTimeout;
+    }
+
+    /**
+     * 비동기 응답(StreamingResponseBody 내보내기 등)은 가상 스레드에서 쓰고, 전체 카탈로그를 다 쓸 만큼 제한 시간을 둠
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mvc-async-");
+        executor.setVirtualThreads(true);
+        configurer.setTaskExecutor(executor);
+        configurer.setDefaultTimeout(asyncTimeout.toMillis());
+    }
+}
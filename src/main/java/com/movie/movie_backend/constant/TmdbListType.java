@@ -0,0 +1,16 @@
+package com.movie.movie_backend.constant;
+
+public enum TmdbListType {
+    POPULAR("인기 영화"),
+    COMING_SOON("개봉예정작");
+
+    private final String displayName;
+
+    TmdbListType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
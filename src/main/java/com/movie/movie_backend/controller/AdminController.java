@@ -13,12 +13,26 @@ import com.movie.movie_backend.service.KobisPopularMovieService;
 import com.movie.movie_backend.service.DataMigrationService;
 import com.movie.movie_backend.service.TmdbPosterBatchService;
 import com.movie.movie_backend.service.NaverMovieBatchService;
+import com.movie.movie_backend.service.MovieDetailReconciliationService;
+import com.movie.movie_backend.service.MovieExportService;
+import com.movie.movie_backend.service.MovieCacheEvictionService;
+import com.movie.movie_backend.service.MovieVisitService;
+import com.movie.movie_backend.cache.TieredCacheStats;
+import com.movie.movie_backend.export.MovieExportFormat;
+import com.movie.movie_backend.warmup.WarmupScheduler;
+import com.movie.movie_backend.warmup.WarmupStage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -35,6 +49,13 @@ public class AdminController {
     private final DataMigrationService dataMigrationService;
     private final TmdbPosterBatchService tmdbPosterBatchService;
     private final NaverMovieBatchService naverMovieBatchService;
+    private final WarmupScheduler warmupScheduler;
+    private final MovieDetailReconciliationService reconciliationService;
+    private final MovieExportService movieExportService;
+    private final MovieCacheEvictionService movieCacheEvictionService;
+    private final MovieVisitService movieVisitService;
+
+    private static final int MISSING_SAMPLE_SIZE = 100; // 상태 확인 응답에 담는 누락 영화 코드 수
 
     // ===== 영화 관리 =====
 
@@ -125,6 +146,65 @@ public class AdminController {
         return ResponseEntity.ok(movies);
     }
 
+    /**
+     * 영화 전체 내보내기 (format=ndjson|csv, status가 없으면 전체, DB에서 읽는 대로 응답에 바로 씀)
+     */
+    @GetMapping("/movies/export")
+    public ResponseEntity<StreamingResponseBody> exportMovies(@RequestParam(defaultValue = "ndjson") String format,
+                                                              @RequestParam(required = false) MovieStatus status) {
+        MovieExportFormat exportFormat;
+        try {
+            exportFormat = MovieExportFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            log.warn("영화 내보내기 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+
+        String filename = "movies-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + "." + exportFormat.getExtension();
+        StreamingResponseBody body = out -> movieExportService.export(exportFormat, status, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .contentType(exportFormat.getMediaType())
+                .body(body);
+    }
+
+    // ===== 캐시 =====
+
+    /**
+     * 캐시별 적중/미스 통계 (L1 적중, L2 적중, 미스, 원본 조회, 밀려난 수, 적중률)
+     */
+    @GetMapping("/caches/stats")
+    public ResponseEntity<List<Map<String, Object>>> getCacheStats() {
+        List<Map<String, Object>> result = movieCacheEvictionService.getStats().stream()
+                .map(this::toStatsMap)
+                .toList();
+        return ResponseEntity.ok(result);
+    }
+
+    private Map<String, Object> toStatsMap(TieredCacheStats stats) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", stats.name());
+        map.put("shared", stats.shared());
+        map.put("size", stats.size());
+        map.put("hits", stats.hits());
+        map.put("l2Hits", stats.l2Hits());
+        map.put("misses", stats.misses());
+        map.put("loads", stats.loads());
+        map.put("evictions", stats.evictions());
+        map.put("hitRate", Math.round(stats.hitRate() * 1000) / 1000.0);
+        return map;
+    }
+
+    // ===== 방문 기록 =====
+
+    /**
+     * 영화 방문 기록 큐 현황 (대기, 저장, 큐 초과로 버림, 저장 실패, 집계 중인 영화 수)
+     */
+    @GetMapping("/visits/stats")
+    public ResponseEntity<Map<String, Object>> getVisitStats() {
+        return ResponseEntity.ok(movieVisitService.getStats());
+    }
+
     // ===== 박스오피스 관리 (왓챠피디아 스타일) =====
 
     /**
@@ -509,13 +589,13 @@ public class AdminController {
             
             long movieListCount = dataMigrationService.getMovieListCount();
             long movieDetailCount = dataMigrationService.getMovieDetailCount();
-            List<String> missingMovieCds = dataMigrationService.findMovieListWithoutDetail();
+            long missingCount = reconciliationService.countMissingDetails();
             
             Map<String, Object> status = Map.of(
                 "movieListCount", movieListCount,
                 "movieDetailCount", movieDetailCount,
-                "missingMovieDetailCount", missingMovieCds.size(),
-                "missingMovieCds", missingMovieCds
+                "missingMovieDetailCount", missingCount,
+                "missingMovieCds", reconciliationService.findMissingMovieCds(MISSING_SAMPLE_SIZE)
             );
             
             return ResponseEntity.ok(status);
@@ -525,31 +605,61 @@ public class AdminController {
         }
     }
 
+    /**
+     * 시작 준비 작업 진행 상황
+     */
+    @GetMapping("/warmup")
+    public ResponseEntity<Map<String, Object>> getWarmupStatus() {
+        WarmupStage currentStage = warmupScheduler.getCurrentStage();
+        Map<String, Object> status = new HashMap<>();
+        status.put("finished", warmupScheduler.isFinished());
+        status.put("currentStage", currentStage != null ? currentStage.getDisplayName() : null);
+        status.put("tasks", warmupScheduler.getTasks());
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "data", status
+        ));
+    }
+
+    /**
+     * 시작 준비 작업 다시 실행 (최근 완료 여부와 관계없이, 체크포인트부터)
+     */
+    @PostMapping("/warmup/{taskName}")
+    public ResponseEntity<Map<String, Object>> rerunWarmupTask(@PathVariable String taskName) {
+        if (!warmupScheduler.rerun(taskName)) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "알 수 없는 작업입니다: " + taskName
+            ));
+        }
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "message", taskName + " 작업을 실행 대기열에 추가했습니다."
+        ));
+    }
+
     /**
      * 누락된 MovieDetail 채워넣기
      */
     @PostMapping("/data/fill-missing-details")
     public ResponseEntity<Map<String, Object>> fillMissingMovieDetails() {
         try {
-            List<String> missingMovieCds = dataMigrationService.findMovieListWithoutDetail();
+            long missingCount = reconciliationService.countMissingDetails();
             
-            if (missingMovieCds.isEmpty()) {
+            if (missingCount == 0) {
                 return ResponseEntity.ok(Map.of(
                     "message", "누락된 MovieDetail이 없습니다.",
                     "missingCount", 0
                 ));
             }
             
-            dataMigrationService.fillMissingMovieDetails();
-            
-            // 업데이트 후 상태 재확인
-            List<String> remainingMissing = dataMigrationService.findMovieListWithoutDetail();
+            MovieDetailReconciliationService.ReconcileReport report = dataMigrationService.fillMissingMovieDetails();
             
             Map<String, Object> result = Map.of(
                 "message", "누락된 MovieDetail 채워넣기 완료",
-                "originalMissingCount", missingMovieCds.size(),
-                "remainingMissingCount", remainingMissing.size(),
-                "successCount", missingMovieCds.size() - remainingMissing.size()
+                "originalMissingCount", missingCount,
+                "remainingMissingCount", reconciliationService.countMissingDetails(),
+                "successCount", report.filled()
             );
             
             return ResponseEntity.ok(result);
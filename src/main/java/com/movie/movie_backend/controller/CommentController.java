@@ -1,13 +1,16 @@
 package com.movie.movie_backend.controller;
 
+import com.movie.movie_backend.dto.CommentDto;
 import com.movie.movie_backend.entity.Comment;
 import com.movie.movie_backend.entity.CommentLike;
+import com.movie.movie_backend.listing.KeysetPage;
 import com.movie.movie_backend.service.REVCommentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -125,6 +128,28 @@ public class CommentController {
         }
     }
 
+    /**
+     * 리뷰의 댓글 스레드 조회 (최상위 댓글 페이지 + 댓글별 대댓글 수/좋아요 수/좋아요 여부)
+     * - 다음 페이지는 응답의 nextCursor를 cursor로 넘김
+     * - 대댓글은 /{commentId}/replies/page로 펼칠 때 조회
+     */
+    @GetMapping("/review/{reviewId}/thread")
+    public ResponseEntity<Map<String, Object>> getCommentThread(
+            @PathVariable Long reviewId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(pageResponse(commentService.getCommentThread(reviewId, userId, cursor, size)));
+        } catch (Exception e) {
+            log.error("댓글 스레드 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "댓글 조회에 실패했습니다: " + e.getMessage()
+            ));
+        }
+    }
+
     /**
      * 리뷰의 모든 댓글 조회 (트리 구조)
      */
@@ -173,6 +198,75 @@ public class CommentController {
         }
     }
 
+    /**
+     * 특정 댓글의 대댓글 페이지 조회 (작성순, 좋아요 수/좋아요 여부 포함, 다음 페이지는 nextCursor로)
+     */
+    @GetMapping("/{commentId}/replies/page")
+    public ResponseEntity<Map<String, Object>> getReplyPage(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(pageResponse(commentService.getReplyPage(commentId, userId, cursor, size)));
+        } catch (Exception e) {
+            log.error("대댓글 페이지 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "대댓글 조회에 실패했습니다: " + e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * 댓글과 그 아래 모든 대댓글 조회 (표시 순서, depth로 들여쓰기)
+     */
+    @GetMapping("/{commentId}/subtree")
+    public ResponseEntity<Map<String, Object>> getSubtree(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) Long userId) {
+        try {
+            List<CommentDto> comments = commentService.getSubtree(commentId, userId);
+
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "data", comments,
+                "count", comments.size(),
+                "descendantCount", commentService.getDescendantCount(commentId)
+            ));
+        } catch (Exception e) {
+            log.error("댓글 트리 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "댓글 트리 조회에 실패했습니다: " + e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * 리뷰의 전체 댓글 트리 조회 (표시 순서, depth로 들여쓰기)
+     */
+    @GetMapping("/review/{reviewId}/tree")
+    public ResponseEntity<Map<String, Object>> getCommentTree(
+            @PathVariable Long reviewId,
+            @RequestParam(required = false) Long userId) {
+        try {
+            List<CommentDto> comments = commentService.getCommentTree(reviewId, userId);
+
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "data", comments,
+                "count", comments.size()
+            ));
+        } catch (Exception e) {
+            log.error("댓글 트리 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "댓글 트리 조회에 실패했습니다: " + e.getMessage()
+            ));
+        }
+    }
+
     /**
      * 사용자의 댓글 조회
      */
@@ -296,4 +390,16 @@ public class CommentController {
             ));
         }
     }
+
+    // 페이지 응답 (nextCursor가 null이면 마지막 페이지)
+    private Map<String, Object> pageResponse(KeysetPage<CommentDto> page) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("success", true);
+        response.put("data", page.content());
+        response.put("count", page.content().size());
+        response.put("totalCount", page.total());
+        response.put("nextCursor", page.nextCursor());
+        response.put("hasNext", page.nextCursor() != null);
+        return response;
+    }
 } 
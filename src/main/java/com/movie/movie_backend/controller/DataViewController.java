@@ -1,8 +1,7 @@
 package com.movie.movie_backend.controller;
 
 import com.movie.movie_backend.entity.MovieList;
-import com.movie.movie_backend.entity.MovieDetail;
-import com.movie.movie_backend.entity.BoxOffice;
+import com.movie.movie_backend.entity.MovieCard;
 import com.movie.movie_backend.dto.BoxOfficeDto;
 import com.movie.movie_backend.dto.MovieDetailDto;
 import com.movie.movie_backend.dto.MovieListDto;
@@ -10,11 +9,17 @@ import com.movie.movie_backend.dto.TopRatedMovieDto;
 import com.movie.movie_backend.service.PRDMovieListService;
 import com.movie.movie_backend.service.PRDMovieService;
 import com.movie.movie_backend.service.BoxOfficeService;
-import com.movie.movie_backend.service.TmdbPopularMovieService;
+import com.movie.movie_backend.service.TmdbMovieListService;
 import com.movie.movie_backend.service.KobisApiService;
 import com.movie.movie_backend.service.DataMigrationService;
 import com.movie.movie_backend.service.NaverMovieService;
 import com.movie.movie_backend.service.TmdbRatingService;
+import com.movie.movie_backend.service.MovieDetailReconciliationService;
+import com.movie.movie_backend.service.MovieListingService;
+import com.movie.movie_backend.service.MovieCardService;
+import com.movie.movie_backend.service.TrendingMovieService;
+import com.movie.movie_backend.trending.TrendingEntry;
+import com.movie.movie_backend.listing.KeysetPage;
 import com.movie.movie_backend.repository.PRDMovieListRepository;
 import com.movie.movie_backend.repository.PRDMovieRepository;
 import com.movie.movie_backend.repository.BoxOfficeRepository;
@@ -28,6 +33,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -37,11 +43,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.HashMap;
-import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.ArrayList;
-import java.util.Set;
 
 import com.movie.movie_backend.constant.MovieStatus;
+import com.movie.movie_backend.constant.TmdbListType;
 
 @Slf4j
 @Controller
@@ -54,7 +60,7 @@ public class DataViewController {
     private final PRDMovieRepository movieRepository;
     private final BoxOfficeRepository boxOfficeRepository;
     private final BoxOfficeService boxOfficeService;
-    private final TmdbPopularMovieService tmdbPopularMovieService;
+    private final TmdbMovieListService tmdbMovieListService;
     private final KobisApiService kobisApiService;
     private final MovieDetailMapper movieDetailMapper;
     private final MovieListMapper movieListMapper;
@@ -62,6 +68,10 @@ public class DataViewController {
     private final NaverMovieService naverMovieService;
     private final TmdbRatingService tmdbRatingService;
     private final TopRatedMovieMapper topRatedMovieMapper;
+    private final MovieDetailReconciliationService reconciliationService;
+    private final MovieListingService movieListingService;
+    private final MovieCardService movieCardService;
+    private final TrendingMovieService trendingMovieService;
 
     /**
      * 데이터 조회 메인 페이지
@@ -124,6 +134,7 @@ public class DataViewController {
      * React에서 사용법:
      * - 영화 목록을 페이지네이션으로 조회할 때 사용
      * - 기본값: page=0, size=20
+     * - 다음 페이지는 응답의 nextCursor를 cursor로 넘기면 keyset 조회 (뒤 페이지도 첫 페이지와 같은 비용)
      * - 응답: { content: [...], totalElements: 100, totalPages: 5, ... }
      * 
      * 예시:
@@ -141,23 +152,11 @@ public class DataViewController {
     })
     public ResponseEntity<Map<String, Object>> getMovieListData(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
         try {
-            List<MovieList> movieList = movieListRepository.findAll();
-            int total = movieList.size();
-            int start = page * size;
-            int end = Math.min(start + size, total);
-            
-            List<MovieList> pagedList = movieList.subList(start, end);
-            
-            return ResponseEntity.ok(Map.of(
-                "data", pagedList,
-                "total", total,
-                "page", page,
-                "size", size,
-                "totalPages", (int) Math.ceil((double) total / size)
-            ));
+            KeysetPage<?> result = movieListingService.getMovieLists(cursor, page, size);
+            return ResponseEntity.ok(pageResponse(result.content(), result, page));
         } catch (Exception e) {
             log.error("MovieList 데이터 조회 실패", e);
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -171,6 +170,7 @@ public class DataViewController {
      * - 영화 상세정보를 페이지네이션으로 조회할 때 사용
      * - 감독, 배우, 줄거리 등 상세 정보 포함
      * - 기본값: page=0, size=20
+     * - 다음 페이지는 응답의 nextCursor를 cursor로 넘기면 keyset 조회 (뒤 페이지도 첫 페이지와 같은 비용)
      * 
      * 예시:
      * fetch('/data/api/movie-detail?page=0&size=10')
@@ -187,23 +187,11 @@ public class DataViewController {
     })
     public ResponseEntity<Map<String, Object>> getMovieDetailData(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
         try {
-            List<MovieDetail> movieDetails = movieRepository.findAll();
-            int total = movieDetails.size();
-            int start = page * size;
-            int end = Math.min(start + size, total);
-            
-            List<MovieDetail> pagedList = movieDetails.subList(start, end);
-            
-            return ResponseEntity.ok(Map.of(
-                "data", pagedList,
-                "total", total,
-                "page", page,
-                "size", size,
-                "totalPages", (int) Math.ceil((double) total / size)
-            ));
+            KeysetPage<?> result = movieListingService.getMovieDetails(cursor, page, size);
+            return ResponseEntity.ok(pageResponse(result.content(), result, page));
         } catch (Exception e) {
             log.error("MovieDetail 데이터 조회 실패", e);
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -217,6 +205,7 @@ public class DataViewController {
      * - 박스오피스 데이터를 페이지네이션으로 조회할 때 사용
      * - 순위, 매출액, 관객수 등 박스오피스 정보 포함
      * - 기본값: page=0, size=20
+     * - 다음 페이지는 응답의 nextCursor를 cursor로 넘기면 keyset 조회 (뒤 페이지도 첫 페이지와 같은 비용)
      * 
      * 예시:
      * fetch('/data/api/box-office?page=0&size=10')
@@ -233,23 +222,11 @@ public class DataViewController {
     })
     public ResponseEntity<Map<String, Object>> getBoxOfficeData(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
         try {
-            List<BoxOffice> boxOffices = boxOfficeRepository.findAll();
-            int total = boxOffices.size();
-            int start = page * size;
-            int end = Math.min(start + size, total);
-            
-            List<BoxOffice> pagedList = boxOffices.subList(start, end);
-            
-            return ResponseEntity.ok(Map.of(
-                "data", pagedList,
-                "total", total,
-                "page", page,
-                "size", size,
-                "totalPages", (int) Math.ceil((double) total / size)
-            ));
+            KeysetPage<?> result = movieListingService.getBoxOffices(cursor, page, size);
+            return ResponseEntity.ok(pageResponse(result.content(), result, page));
         } catch (Exception e) {
             log.error("BoxOffice 데이터 조회 실패", e);
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -309,6 +286,7 @@ public class DataViewController {
      * - 영화 상세정보를 왓챠피디아 스타일로 조회할 때 사용
      * - 포스터 URL, 감독명, 배우 목록, 줄거리 등 완전한 정보
      * - 기본값: page=0, size=20
+     * - 다음 페이지는 응답의 nextCursor를 cursor로 넘기면 keyset 조회 (뒤 페이지도 첫 페이지와 같은 비용)
      * 
      * 예시:
      * fetch('/data/api/movie-detail-dto?page=0&size=10')
@@ -325,26 +303,12 @@ public class DataViewController {
     })
     public ResponseEntity<Map<String, Object>> getMovieDetailDtoData(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
         try {
-            List<MovieDetail> movieDetails = movieRepository.findAll();
-            int total = movieDetails.size();
-            int start = page * size;
-            int end = Math.min(start + size, total);
-            
-            List<MovieDetail> pagedList = movieDetails.subList(start, end);
-            List<MovieDetailDto> dtoList = pagedList.stream()
-                    .map(movieDetailMapper::toDto)
-                    .collect(Collectors.toList());
-            
-            return ResponseEntity.ok(Map.of(
-                "data", dtoList,
-                "total", total,
-                "page", page,
-                "size", size,
-                "totalPages", (int) Math.ceil((double) total / size)
-            ));
+            KeysetPage<MovieDetailDto> result = movieListingService.getMovieDetails(cursor, page, size)
+                    .map(movieDetailMapper::toDtoList);
+            return ResponseEntity.ok(pageResponse(result.content(), result, page));
         } catch (Exception e) {
             log.error("MovieDetail DTO 데이터 조회 실패", e);
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -358,6 +322,7 @@ public class DataViewController {
      * - 영화 제목으로 검색할 때 사용
      * - 키워드가 포함된 영화 제목을 찾습니다
      * - 기본값: page=0, size=20
+     * - 다음 페이지는 응답의 nextCursor를 cursor로 넘기면 keyset 조회 (뒤 페이지도 첫 페이지와 같은 비용)
      * 
      * 예시:
      * fetch('/data/api/movie-detail-dto/search?keyword=아바타&page=0&size=10')
@@ -375,38 +340,19 @@ public class DataViewController {
     public ResponseEntity<Map<String, Object>> searchMovieDetailDto(
             @RequestParam String keyword,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
         try {
             log.info("영화 검색 요청: keyword={}, page={}, size={}", keyword, page, size);
             
-            List<MovieDetail> allMovies = movieRepository.findAll();
-            
-            // 키워드로 필터링 (대소문자 구분 없이)
-            List<MovieDetail> filteredMovies = allMovies.stream()
-                    .filter(movie -> movie.getMovieNm() != null && 
-                                   movie.getMovieNm().toLowerCase().contains(keyword.toLowerCase()))
-                    .collect(Collectors.toList());
+            KeysetPage<MovieDetailDto> result = movieListingService.searchMovieDetails(keyword, cursor, page, size)
+                    .map(movieDetailMapper::toDtoList);
             
-            int total = filteredMovies.size();
-            int start = page * size;
-            int end = Math.min(start + size, total);
-            
-            List<MovieDetail> pagedList = filteredMovies.subList(start, end);
-            List<MovieDetailDto> dtoList = pagedList.stream()
-                    .map(movieDetailMapper::toDto)
-                    .collect(Collectors.toList());
+            log.info("영화 검색 결과: keyword={}, total={}, page={}, size={}", keyword, result.total(), page, size);
             
-            log.info("영화 검색 결과: keyword={}, total={}, page={}, size={}", keyword, total, page, size);
-            
-            return ResponseEntity.ok(Map.of(
-                "data", dtoList,
-                "total", total,
-                "page", page,
-                "size", size,
-                "totalPages", (int) Math.ceil((double) total / size),
-                "keyword", keyword
-            ));
+            Map<String, Object> response = pageResponse(result.content(), result, page);
+            response.put("keyword", keyword);
+            return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("영화 검색 실패: keyword={}", keyword, e);
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -420,6 +366,7 @@ public class DataViewController {
      * - 영화 목록을 왓챠피디아 스타일로 조회할 때 사용
      * - 포스터 URL이 포함된 기본 영화 정보
      * - 기본값: page=0, size=20
+     * - 다음 페이지는 응답의 nextCursor를 cursor로 넘기면 keyset 조회 (뒤 페이지도 첫 페이지와 같은 비용)
      * 
      * 예시:
      * fetch('/data/api/movie-list-dto?page=0&size=10')
@@ -436,28 +383,13 @@ public class DataViewController {
     })
     public ResponseEntity<Map<String, Object>> getMovieListDtoData(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
         try {
-            log.info("MovieList DTO API 호출됨");
-            List<MovieList> movieLists = movieListRepository.findAll();
-            log.info("MovieList 데이터 조회 완료: {}개", movieLists.size());
-            
-            int total = movieLists.size();
-            int start = page * size;
-            int end = Math.min(start + size, total);
-            
-            List<MovieList> pagedList = movieLists.subList(start, end);
-            List<MovieListDto> dtoList = movieListMapper.toDtoList(pagedList);
-            log.info("MovieList DTO 변환 완료: {}개", dtoList.size());
-            
-            return ResponseEntity.ok(Map.of(
-                "data", dtoList,
-                "total", total,
-                "page", page,
-                "size", size,
-                "totalPages", (int) Math.ceil((double) total / size)
-            ));
+            KeysetPage<MovieListDto> result = movieListingService.getMovieLists(cursor, page, size)
+                    .map(movieListMapper::toDtoList);
+            log.info("MovieList DTO 변환 완료: {}개", result.content().size());
+            return ResponseEntity.ok(pageResponse(result.content(), result, page));
         } catch (Exception e) {
             log.error("MovieList DTO 데이터 조회 실패", e);
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -523,15 +455,17 @@ public class DataViewController {
     @GetMapping("/api/ratings/top-rated")
     @ResponseBody
     @Operation(summary = "평균 별점이 높은 영화 TOP-N 조회 API (왓챠피디아 스타일)", 
-               description = "평균 별점이 높은 영화를 조회합니다. 포스터 URL, 감독명 등 완전한 정보 포함. 기본값: limit=10 (TOP-10). React에서 사용할 때: fetch('/data/api/ratings/top-rated?limit=5')")
+               description = "평균 별점이 높은 영화를 조회합니다. 포스터 URL, 감독명 등 완전한 정보 포함. 기본값: limit=10 (TOP-10). genre, status로 장르/상태별 조회 가능. React에서 사용할 때: fetch('/data/api/ratings/top-rated?limit=5')")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "평균 별점이 높은 영화 조회 성공"),
         @ApiResponse(responseCode = "400", description = "평균 별점이 높은 영화 조회 실패")
     })
     public ResponseEntity<List<TopRatedMovieDto>> getTopRatedMovies(
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String genre,
+            @RequestParam(required = false) MovieStatus status) {
         try {
-            List<TopRatedMovieDto> topRatedDtos = tmdbRatingService.getTopRatedMoviesAsDto(limit);
+            List<TopRatedMovieDto> topRatedDtos = tmdbRatingService.getTopRatedMoviesAsDto(limit, genre, status);
             return ResponseEntity.ok(topRatedDtos);
         } catch (Exception e) {
             log.error("평균 별점이 높은 영화 조회 실패", e);
@@ -539,12 +473,67 @@ public class DataViewController {
         }
     }
 
+    /**
+     * 지금 뜨는 영화 조회 API
+     * 
+     * React에서 사용법:
+     * - 최근 방문/리뷰/평점/좋아요와 일일 관객수를 시간 감쇠 점수로 합친 순위
+     * - 몇 초마다 갱신되는 메모리 스냅샷에서 응답 (외부 API 호출 없음)
+     * - 기본값: limit=20 (최대 100)
+     * 
+     * 예시:
+     * fetch('/data/api/trending-movies?limit=10')
+     *   .then(res => res.json())
+     *   .then(data => console.log(data.data)); // [{ rank, score, movie }, ...]
+     */
+    @GetMapping("/api/trending-movies")
+    @ResponseBody
+    @Operation(summary = "지금 뜨는 영화 조회 API",
+               description = "최근 방문, 새 리뷰/평점, 좋아요, 일일 박스오피스 관객수를 시간 감쇠 점수로 합친 순위입니다. 기본값: limit=20 (최대 100). React에서 사용할 때: fetch('/data/api/trending-movies?limit=10')")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "지금 뜨는 영화 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "지금 뜨는 영화 조회 실패")
+    })
+    public ResponseEntity<Map<String, Object>> getTrendingMovies(
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            List<TrendingEntry> trending = trendingMovieService.getTrending(Math.min(limit, TrendingMovieService.SNAPSHOT_SIZE));
+            Map<String, MovieCard> cards = movieCardService.getCards(trending.stream().map(TrendingEntry::movieCd).toList());
+
+            List<Map<String, Object>> data = new ArrayList<>();
+            for (TrendingEntry entry : trending) {
+                MovieCard card = cards.get(entry.movieCd());
+                if (card == null) {
+                    continue; // 카드가 없는 영화(삭제 등)는 제외
+                }
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("rank", data.size() + 1);
+                item.put("score", entry.score());
+                item.put("movie", card);
+                data.add(item);
+            }
+
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "data", data,
+                "count", data.size()
+            ));
+        } catch (Exception e) {
+            log.error("지금 뜨는 영화 조회 실패", e);
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "지금 뜨는 영화 조회에 실패했습니다: " + e.getMessage()
+            ));
+        }
+    }
+
     /**
      * TMDB 인기 영화 조회 API
      * 
      * React에서 사용법:
      * - TMDB에서 인기 영화를 조회할 때 사용
      * - KOBIS 정보와 TMDB 정보가 결합된 완전한 영화 정보
+     * - 백그라운드에서 미리 만들어 둔 목록으로 바로 응답 (refreshedAt: 목록 생성 시각, stale: 갱신 대기 중)
      * - 기본값: limit=50
      * 
      * 예시:
@@ -554,12 +543,13 @@ public class DataViewController {
      *     console.log('성공:', data.success);
      *     console.log('영화 목록:', data.data);
      *     console.log('개수:', data.count);
+     *     console.log('목록 생성 시각:', data.refreshedAt);
      *   });
      */
     @GetMapping("/api/popular-movies")
     @ResponseBody
     @Operation(summary = "TMDB 인기 영화 조회 API", 
-               description = "TMDB에서 인기 영화를 조회합니다. KOBIS 정보와 TMDB 정보가 결합된 완전한 영화 정보. 기본값: limit=50. React에서 사용할 때: fetch('/data/api/popular-movies?limit=50')")
+               description = "TMDB 인기 영화를 조회합니다. KOBIS 정보와 TMDB 정보가 결합된 완전한 영화 정보이며, 백그라운드에서 주기적으로 갱신되는 목록으로 응답합니다. 기본값: limit=50. React에서 사용할 때: fetch('/data/api/popular-movies?limit=50')")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "TMDB 인기 영화 조회 성공"),
         @ApiResponse(responseCode = "400", description = "TMDB 인기 영화 조회 실패")
@@ -568,18 +558,21 @@ public class DataViewController {
             @RequestParam(defaultValue = "50") int limit) {
         try {
             // limit을 최대 50개로 제한
-            int actualLimit = Math.min(limit, 50);
-            
-            log.info("TMDB 인기 영화 조회 시작: limit={} (실제: {})", limit, actualLimit);
-            
-            List<MovieDetailDto> popularMovies = tmdbPopularMovieService.getPopularMovies(actualLimit);
-            
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "data", popularMovies,
-                "count", popularMovies.size(),
-                "message", "인기 영화 " + popularMovies.size() + "개를 성공적으로 가져왔습니다."
-            ));
+            int actualLimit = Math.min(limit, TmdbMovieListService.POPULAR_SIZE);
+            
+            TmdbMovieListService.ListSnapshot snapshot = tmdbMovieListService.getSnapshot(TmdbListType.POPULAR);
+            List<MovieDetailDto> popularMovies = snapshot.movies().subList(0, Math.max(0, Math.min(actualLimit, snapshot.movies().size())));
+            
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("success", true);
+            response.put("data", popularMovies);
+            response.put("count", popularMovies.size());
+            response.put("refreshedAt", snapshot.refreshedAt());
+            response.put("stale", snapshot.isStale(tmdbMovieListService.getStaleAfter()));
+            response.put("message", popularMovies.isEmpty()
+                    ? "인기 영화 목록을 준비 중입니다. 잠시 후 다시 시도해주세요."
+                    : "인기 영화 " + popularMovies.size() + "개를 성공적으로 가져왔습니다.");
+            return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("TMDB 인기 영화 조회 실패", e);
             return ResponseEntity.badRequest().body(Map.of(
@@ -596,6 +589,7 @@ public class DataViewController {
      * - 개봉예정작을 조회할 때 사용
      * - 포스터 URL, 감독명 등 완전한 정보 포함
      * - 기본값: page=0, size=20
+     * - 다음 페이지는 응답의 nextCursor를 cursor로 넘기면 keyset 조회 (뒤 페이지도 첫 페이지와 같은 비용)
      * 
      * 예시:
      * fetch('/data/api/movies/coming-soon?page=0&size=10')
@@ -612,96 +606,67 @@ public class DataViewController {
     })
     public ResponseEntity<Map<String, Object>> getComingSoonMovies(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
         try {
-            List<MovieList> allMovies = movieListRepository.findAll();
-            LocalDate today = LocalDate.now();
-            
-            List<MovieList> comingSoonMovies = allMovies.stream()
-                    .filter(movie -> {
-                        // status가 COMING_SOON이거나, 개봉일이 오늘보다 늦은 경우
-                        return MovieStatus.COMING_SOON.equals(movie.getStatus()) ||
-                               (movie.getOpenDt() != null && movie.getOpenDt().isAfter(today));
-                    })
-                    .sorted((m1, m2) -> {
-                        if (m1.getOpenDt() == null) return 1;
-                        if (m2.getOpenDt() == null) return -1;
-                        return m1.getOpenDt().compareTo(m2.getOpenDt());
-                    })
-                    .toList();
-            
-            log.info("개봉예정작 필터링 결과: {}개 (전체: {}개)", comingSoonMovies.size(), allMovies.size());
-            
-            int total = comingSoonMovies.size();
-            int start = page * size;
-            int end = Math.min(start + size, total);
-            
-            List<MovieList> pagedList = comingSoonMovies.subList(start, end);
-            
-            // MovieDetail 정보도 함께 가져오기
-            List<Map<String, Object>> enrichedData = new ArrayList<>();
-            for (MovieList movieList : pagedList) {
-                Map<String, Object> movieData = new HashMap<>();
-                
-                // MovieList 정보
-                movieData.put("movieCd", movieList.getMovieCd());
-                movieData.put("movieNm", movieList.getMovieNm());
-                movieData.put("movieNmEn", movieList.getMovieNmEn());
-                movieData.put("openDt", movieList.getOpenDt());
-                movieData.put("genreNm", movieList.getGenreNm());
-                movieData.put("nationNm", movieList.getNationNm());
-                movieData.put("watchGradeNm", movieList.getWatchGradeNm());
-                movieData.put("posterUrl", movieList.getPosterUrl());
-                movieData.put("status", movieList.getStatus());
-                
-                // MovieDetail 정보 추가
-                try {
-                    MovieDetail movieDetail = movieRepository.findById(movieList.getMovieCd()).orElse(null);
-                    if (movieDetail != null) {
-                        movieData.put("description", movieDetail.getDescription());
-                        movieData.put("showTm", movieDetail.getShowTm());
-                        movieData.put("companyNm", movieDetail.getCompanyNm());
-                        movieData.put("averageRating", movieDetail.getAverageRating());
-                        
-                        // 감독 정보
-                        if (movieDetail.getDirector() != null) {
-                            movieData.put("directorName", movieDetail.getDirector().getName());
-                        } else {
-                            movieData.put("directorName", "");
-                        }
-                    } else {
-                        // MovieDetail이 없는 경우 기본값 설정
-                        movieData.put("description", "");
-                        movieData.put("showTm", 0);
-                        movieData.put("companyNm", "");
-                        movieData.put("averageRating", 0.0);
-                        movieData.put("directorName", "");
-                    }
-                } catch (Exception e) {
-                    log.warn("MovieDetail 조회 실패: {} - {}", movieList.getMovieCd(), e.getMessage());
-                    movieData.put("description", "");
-                    movieData.put("showTm", 0);
-                    movieData.put("companyNm", "");
-                    movieData.put("averageRating", 0.0);
-                    movieData.put("directorName", "");
-                }
-                
-                enrichedData.add(movieData);
-            }
-            
-            return ResponseEntity.ok(Map.of(
-                "data", enrichedData,
-                "total", total,
-                "page", page,
-                "size", size,
-                "totalPages", (int) Math.ceil((double) total / size)
-            ));
+            KeysetPage<Map<String, Object>> result = movieListingService.getComingSoon(cursor, page, size)
+                    .map(this::withMovieDetail);
+            return ResponseEntity.ok(pageResponse(result.content(), result, page));
         } catch (Exception e) {
             log.error("개봉예정작 조회 실패", e);
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
 
+    /**
+     * 개봉예정작 목록에 MovieDetail 정보(줄거리, 감독 등)를 붙임 (영화 카드에서 페이지 단위로 한 번에 조회)
+     */
+    private List<Map<String, Object>> withMovieDetail(List<MovieList> movieLists) {
+        List<String> movieCds = movieLists.stream().map(MovieList::getMovieCd).toList();
+        Map<String, MovieCard> cards = new HashMap<>();
+        try {
+            cards.putAll(movieCardService.getCards(movieCds));
+        } catch (Exception e) {
+            log.warn("영화 카드 조회 실패: {} - {}", movieCds, e.getMessage());
+        }
+
+        List<Map<String, Object>> enrichedData = new ArrayList<>();
+        for (MovieList movieList : movieLists) {
+            Map<String, Object> movieData = new HashMap<>();
+            
+            // MovieList 정보
+            movieData.put("movieCd", movieList.getMovieCd());
+            movieData.put("movieNm", movieList.getMovieNm());
+            movieData.put("movieNmEn", movieList.getMovieNmEn());
+            movieData.put("openDt", movieList.getOpenDt());
+            movieData.put("genreNm", movieList.getGenreNm());
+            movieData.put("nationNm", movieList.getNationNm());
+            movieData.put("watchGradeNm", movieList.getWatchGradeNm());
+            movieData.put("posterUrl", movieList.getPosterUrl());
+            movieData.put("status", movieList.getStatus());
+            
+            // MovieDetail 정보 추가
+            MovieCard card = cards.get(movieList.getMovieCd());
+            if (card != null && card.isHasDetail()) {
+                movieData.put("description", card.getDescription());
+                movieData.put("showTm", card.getShowTm());
+                movieData.put("companyNm", card.getCompanyNm());
+                movieData.put("averageRating", card.getAverageRating());
+                movieData.put("directorName", card.getDirectorName() != null ? card.getDirectorName() : "");
+            } else {
+                // MovieDetail이 없는 경우 기본값 설정
+                movieData.put("description", "");
+                movieData.put("showTm", 0);
+                movieData.put("companyNm", "");
+                movieData.put("averageRating", 0.0);
+                movieData.put("directorName", "");
+            }
+            
+            enrichedData.add(movieData);
+        }
+        return enrichedData;
+    }
+
     /**
      * 개봉중인 영화 조회 API
      * 
@@ -709,6 +674,7 @@ public class DataViewController {
      * - 개봉중인 영화를 조회할 때 사용
      * - 포스터 URL, 감독명 등 완전한 정보 포함
      * - 기본값: page=0, size=20
+     * - 다음 페이지는 응답의 nextCursor를 cursor로 넘기면 keyset 조회 (뒤 페이지도 첫 페이지와 같은 비용)
      * 
      * 예시:
      * fetch('/data/api/movies/now-playing?page=0&size=10')
@@ -725,43 +691,12 @@ public class DataViewController {
     })
     public ResponseEntity<Map<String, Object>> getNowPlayingMovies(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
         try {
-            List<MovieList> allMovies = movieListRepository.findAll();
-            LocalDate today = LocalDate.now();
-            LocalDate threeMonthsAgo = today.minusMonths(3);
-            
-            List<MovieList> nowPlayingMovies = allMovies.stream()
-                    .filter(movie -> {
-                        // status가 NOW_PLAYING이거나, 개봉일이 3개월 이내인 경우
-                        return MovieStatus.NOW_PLAYING.equals(movie.getStatus()) ||
-                               (movie.getOpenDt() != null && 
-                                movie.getOpenDt().isBefore(today.plusDays(1)) && // 오늘까지 개봉
-                                movie.getOpenDt().isAfter(threeMonthsAgo)); // 3개월 이내 개봉
-                    })
-                    .sorted((m1, m2) -> {
-                        if (m1.getOpenDt() == null) return 1;
-                        if (m2.getOpenDt() == null) return -1;
-                        return m2.getOpenDt().compareTo(m1.getOpenDt());
-                    })
-                    .toList();
-            
-            log.info("개봉중인 영화 필터링 결과: {}개 (전체: {}개)", nowPlayingMovies.size(), allMovies.size());
-            
-            int total = nowPlayingMovies.size();
-            int start = page * size;
-            int end = Math.min(start + size, total);
-            
-            List<MovieList> pagedList = nowPlayingMovies.subList(start, end);
-            List<MovieListDto> dtoList = movieListMapper.toDtoList(pagedList);
-            
-            return ResponseEntity.ok(Map.of(
-                "data", dtoList,
-                "total", total,
-                "page", page,
-                "size", size,
-                "totalPages", (int) Math.ceil((double) total / size)
-            ));
+            KeysetPage<MovieListDto> result = movieListingService.getNowPlaying(cursor, page, size)
+                    .map(movieListMapper::toDtoList);
+            return ResponseEntity.ok(pageResponse(result.content(), result, page));
         } catch (Exception e) {
             log.error("개봉중인 영화 조회 실패", e);
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -775,6 +710,7 @@ public class DataViewController {
      * - 상영종료된 영화를 조회할 때 사용
      * - 포스터 URL, 감독명 등 완전한 정보 포함
      * - 기본값: page=0, size=20
+     * - 다음 페이지는 응답의 nextCursor를 cursor로 넘기면 keyset 조회 (뒤 페이지도 첫 페이지와 같은 비용)
      * 
      * 예시:
      * fetch('/data/api/movies/ended?page=0&size=10')
@@ -791,41 +727,12 @@ public class DataViewController {
     })
     public ResponseEntity<Map<String, Object>> getEndedMovies(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
         try {
-            List<MovieList> allMovies = movieListRepository.findAll();
-            LocalDate today = LocalDate.now();
-            LocalDate threeMonthsAgo = today.minusMonths(3);
-            
-            List<MovieList> endedMovies = allMovies.stream()
-                    .filter(movie -> {
-                        // status가 ENDED이거나, 개봉일이 3개월보다 오래 전인 경우
-                        return MovieStatus.ENDED.equals(movie.getStatus()) ||
-                               (movie.getOpenDt() != null && movie.getOpenDt().isBefore(threeMonthsAgo));
-                    })
-                    .sorted((m1, m2) -> {
-                        if (m1.getOpenDt() == null) return 1;
-                        if (m2.getOpenDt() == null) return -1;
-                        return m2.getOpenDt().compareTo(m1.getOpenDt());
-                    })
-                    .toList();
-            
-            log.info("상영종료된 영화 필터링 결과: {}개 (전체: {}개)", endedMovies.size(), allMovies.size());
-            
-            int total = endedMovies.size();
-            int start = page * size;
-            int end = Math.min(start + size, total);
-            
-            List<MovieList> pagedList = endedMovies.subList(start, end);
-            List<MovieListDto> dtoList = movieListMapper.toDtoList(pagedList);
-            
-            return ResponseEntity.ok(Map.of(
-                "data", dtoList,
-                "total", total,
-                "page", page,
-                "size", size,
-                "totalPages", (int) Math.ceil((double) total / size)
-            ));
+            KeysetPage<MovieListDto> result = movieListingService.getEnded(cursor, page, size)
+                    .map(movieListMapper::toDtoList);
+            return ResponseEntity.ok(pageResponse(result.content(), result, page));
         } catch (Exception e) {
             log.error("상영종료된 영화 조회 실패", e);
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -833,39 +740,23 @@ public class DataViewController {
     }
 
     /**
-     * MovieDetail 상태 디버깅 API
+     * MovieDetail 상태 디버깅 API (개수는 전체, 목록은 movieCd 순 최대 limit개 - 안티 조인 쿼리로 계산)
      */
     @GetMapping("/api/debug/movie-details")
     @ResponseBody
-    public ResponseEntity<Map<String, Object>> debugMovieDetails() {
+    public ResponseEntity<Map<String, Object>> debugMovieDetails(@RequestParam(defaultValue = "100") int limit) {
         try {
-            List<MovieList> allMovieLists = movieListRepository.findAll();
-            List<MovieDetail> allMovieDetails = movieRepository.findAll();
-            
-            // MovieList의 movieCd들
-            Set<String> movieListCds = allMovieLists.stream()
-                .map(MovieList::getMovieCd)
-                .collect(java.util.stream.Collectors.toSet());
-            
-            // MovieDetail의 movieCd들
-            Set<String> movieDetailCds = allMovieDetails.stream()
-                .map(MovieDetail::getMovieCd)
-                .collect(java.util.stream.Collectors.toSet());
+            PageRequest page = PageRequest.of(0, Math.max(1, limit));
             
             // MovieList에만 있고 MovieDetail에 없는 것들
-            List<String> missingInDetail = movieListCds.stream()
-                .filter(cd -> !movieDetailCds.contains(cd))
-                .collect(java.util.stream.Collectors.toList());
+            List<String> missingInDetail = reconciliationService.findMissingMovieCds(limit);
             
             // MovieDetail에만 있고 MovieList에 없는 것들
-            List<String> missingInList = movieDetailCds.stream()
-                .filter(cd -> !movieListCds.contains(cd))
-                .collect(java.util.stream.Collectors.toList());
+            List<String> missingInList = movieRepository.findMovieCdsWithoutList(page);
             
             // 개봉예정작 중 MovieDetail이 없는 것들
-            List<Map<String, Object>> comingSoonWithoutDetail = allMovieLists.stream()
-                .filter(movie -> MovieStatus.COMING_SOON.equals(movie.getStatus()))
-                .filter(movie -> !movieRepository.existsById(movie.getMovieCd()))
+            List<Map<String, Object>> comingSoonWithoutDetail = movieListRepository
+                .findByStatusWithoutDetail(MovieStatus.COMING_SOON, page).stream()
                 .map(movie -> {
                     Map<String, Object> movieInfo = new HashMap<>();
                     movieInfo.put("movieCd", movie.getMovieCd());
@@ -874,17 +765,17 @@ public class DataViewController {
                     movieInfo.put("status", movie.getStatus());
                     return movieInfo;
                 })
-                .collect(java.util.stream.Collectors.toList());
+                .collect(Collectors.toList());
             
             return ResponseEntity.ok(Map.of(
-                "totalMovieList", allMovieLists.size(),
-                "totalMovieDetail", allMovieDetails.size(),
+                "totalMovieList", movieListRepository.count(),
+                "totalMovieDetail", movieRepository.count(),
                 "missingInDetail", missingInDetail,
-                "missingInDetailCount", missingInDetail.size(),
+                "missingInDetailCount", reconciliationService.countMissingDetails(),
                 "missingInList", missingInList,
-                "missingInListCount", missingInList.size(),
+                "missingInListCount", movieRepository.countWithoutList(),
                 "comingSoonWithoutDetail", comingSoonWithoutDetail,
-                "comingSoonWithoutDetailCount", comingSoonWithoutDetail.size()
+                "comingSoonWithoutDetailCount", movieListRepository.countByStatusWithoutDetail(MovieStatus.COMING_SOON)
             ));
             
         } catch (Exception e) {
@@ -892,4 +783,18 @@ public class DataViewController {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
-} 
+
+    /**
+     * 목록 페이지 응답 (기존 page/totalPages에 다음 페이지 keyset 커서 nextCursor를 추가, 마지막 페이지면 null)
+     */
+    private static Map<String, Object> pageResponse(List<?> data, KeysetPage<?> result, int page) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("data", data);
+        response.put("total", result.total());
+        response.put("page", page);
+        response.put("size", result.size());
+        response.put("totalPages", result.totalPages());
+        response.put("nextCursor", result.nextCursor());
+        return response;
+    }
+}
@@ -6,6 +6,8 @@ import com.movie.movie_backend.entity.MovieList;
 import com.movie.movie_backend.entity.Like;
 import com.movie.movie_backend.entity.User;
 import com.movie.movie_backend.service.MovieManagementService;
+import com.movie.movie_backend.service.MovieVisitService;
+import com.movie.movie_backend.service.REVMovieLikeService;
 import com.movie.movie_backend.service.USRUserService;
 import com.movie.movie_backend.repository.USRUserRepository;
 import lombok.RequiredArgsConstructor;
@@ -17,7 +19,11 @@ import org.springframework.web.bind.annotation.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @RestController
@@ -25,10 +31,22 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class MovieManagementController {
 
+    private static final int MAX_BULK_MOVIE_CDS = 100;
+
     private final MovieManagementService movieManagementService;
+    private final REVMovieLikeService movieLikeService;
+    private final MovieVisitService movieVisitService;
     private final USRUserService userService;
     private final USRUserRepository userRepository;
 
+    /**
+     * 방문 기록용 사용자 ID (이미 로드된 인증 정보만 사용, DB 조회 없음 → 알 수 없으면 null)
+     */
+    private Long currentUserIdOrNull() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof User user ? user.getId() : null;
+    }
+
     /**
      * 현재 인증된 사용자 정보를 가져오는 헬퍼 메서드
      */
@@ -303,7 +321,9 @@ public class MovieManagementController {
             
             return ResponseEntity.ok(Map.of(
                 "success", true,
-                "message", "좋아요가 추가되었습니다."
+                "message", "좋아요가 추가되었습니다.",
+                "liked", true,
+                "likeCount", movieLikeService.getLikeCount(movieCd)
             ));
         } catch (Exception e) {
             log.error("영화 좋아요 실패: {}", movieCd, e);
@@ -314,6 +334,103 @@ public class MovieManagementController {
         }
     }
 
+    /**
+     * 영화 좋아요 취소 (일반 사용자, 누르지 않았으면 그대로)
+     */
+    @DeleteMapping("/{movieCd}/like")
+    public ResponseEntity<Map<String, Object>> unlikeMovie(@PathVariable String movieCd, HttpServletRequest request) {
+        try {
+            User currentUser = getCurrentUser(request);
+            if (currentUser == null) {
+                return ResponseEntity.status(401).body(Map.of(
+                    "success", false,
+                    "message", "로그인이 필요합니다."
+                ));
+            }
+
+            movieLikeService.setLiked(movieCd, currentUser.getId(), false);
+
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "message", "좋아요가 취소되었습니다.",
+                "liked", false,
+                "likeCount", movieLikeService.getLikeCount(movieCd)
+            ));
+        } catch (Exception e) {
+            log.error("영화 좋아요 취소 실패: {}", movieCd, e);
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "좋아요 취소에 실패했습니다: " + e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * 영화 좋아요 토글 (일반 사용자)
+     */
+    @PostMapping("/{movieCd}/like/toggle")
+    public ResponseEntity<Map<String, Object>> toggleMovieLike(@PathVariable String movieCd, HttpServletRequest request) {
+        try {
+            User currentUser = getCurrentUser(request);
+            if (currentUser == null) {
+                return ResponseEntity.status(401).body(Map.of(
+                    "success", false,
+                    "message", "로그인이 필요합니다."
+                ));
+            }
+
+            boolean liked = movieLikeService.toggle(movieCd, currentUser.getId());
+
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "message", liked ? "좋아요가 추가되었습니다." : "좋아요가 취소되었습니다.",
+                "liked", liked,
+                "likeCount", movieLikeService.getLikeCount(movieCd)
+            ));
+        } catch (Exception e) {
+            log.error("영화 좋아요 토글 실패: {}", movieCd, e);
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "좋아요 변경에 실패했습니다: " + e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * 여러 영화의 좋아요 수와 현재 사용자의 좋아요 여부 (목록 화면용, ?movieCds=A,B,C, 비로그인이면 liked는 모두 false)
+     */
+    @GetMapping("/likes")
+    public ResponseEntity<Map<String, Object>> getMovieLikes(@RequestParam List<String> movieCds, HttpServletRequest request) {
+        if (movieCds.size() > MAX_BULK_MOVIE_CDS) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "한 번에 조회할 수 있는 영화는 최대 " + MAX_BULK_MOVIE_CDS + "개입니다."
+            ));
+        }
+        try {
+            User currentUser = getCurrentUser(request);
+            Map<String, Long> likeCounts = movieLikeService.getLikeCounts(movieCds);
+            Set<String> liked = movieLikeService.getLikedMovieCds(
+                    currentUser != null ? currentUser.getId() : null, likeCounts.keySet());
+
+            Map<String, Map<String, Object>> data = new LinkedHashMap<>();
+            likeCounts.forEach((movieCd, likeCount) -> data.put(movieCd, Map.of(
+                "likeCount", likeCount,
+                "liked", liked.contains(movieCd)
+            )));
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "data", data
+            ));
+        } catch (Exception e) {
+            log.error("영화 좋아요 일괄 조회 실패", e);
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "좋아요 조회에 실패했습니다: " + e.getMessage()
+            ));
+        }
+    }
+
     /**
      * 영화 상세 정보 조회 (모든 사용자)
      */
@@ -322,6 +439,7 @@ public class MovieManagementController {
         try {
             log.info("영화 상세 정보 조회: {}", movieCd);
             MovieDetailDto movieDetail = movieManagementService.getMovieDetail(movieCd);
+            movieVisitService.record(movieCd, currentUserIdOrNull());
             
             return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -335,4 +453,20 @@ public class MovieManagementController {
             ));
         }
     }
-} 
+
+    /**
+     * 영화의 최근 방문 수 (minutes: 1~60, 기본 60)
+     */
+    @GetMapping("/{movieCd}/views")
+    public ResponseEntity<Map<String, Object>> getRecentViews(
+            @PathVariable String movieCd,
+            @RequestParam(defaultValue = "60") int minutes) {
+        Duration window = Duration.ofMinutes(Math.min(Math.max(minutes, 1), MovieVisitService.MAX_WINDOW.toMinutes()));
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "movieCd", movieCd,
+            "minutes", window.toMinutes(),
+            "viewCount", movieVisitService.getViewCount(movieCd, window)
+        ));
+    }
+}
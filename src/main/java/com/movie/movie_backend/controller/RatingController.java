@@ -1,5 +1,6 @@
 package com.movie.movie_backend.controller;
 
+import com.movie.movie_backend.constant.MovieStatus;
 import com.movie.movie_backend.dto.MovieDetailDto;
 import com.movie.movie_backend.entity.MovieDetail;
 import com.movie.movie_backend.mapper.MovieDetailMapper;
@@ -22,17 +23,17 @@ public class RatingController {
     private final MovieDetailMapper movieDetailMapper;
 
     /**
-     * 평균 별점이 높은 영화 TOP-10 조회
+     * 평균 별점이 높은 영화 TOP-10 조회 (장르/상태별 조회 가능)
      */
     @GetMapping("/top-rated")
-    public ResponseEntity<Map<String, Object>> getTopRatedMovies(@RequestParam(defaultValue = "10") int limit) {
+    public ResponseEntity<Map<String, Object>> getTopRatedMovies(@RequestParam(defaultValue = "10") int limit,
+                                                                 @RequestParam(required = false) String genre,
+                                                                 @RequestParam(required = false) MovieStatus status) {
         try {
-            log.info("평균 별점이 높은 영화 TOP-{} 조회", limit);
+            log.info("평균 별점이 높은 영화 TOP-{} 조회 (장르: {}, 상태: {})", limit, genre, status);
             
-            List<MovieDetail> topRatedMovies = tmdbRatingService.getTopRatedMovies(limit);
-            List<MovieDetailDto> movieDtos = topRatedMovies.stream()
-                    .map(movieDetailMapper::toDto)
-                    .toList();
+            List<MovieDetail> topRatedMovies = tmdbRatingService.getTopRatedMovies(limit, genre, status);
+            List<MovieDetailDto> movieDtos = movieDetailMapper.toDtoList(topRatedMovies);
             
             return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -1,5 +1,7 @@
 package com.movie.movie_backend.controller;
 
+import com.movie.movie_backend.dto.RatingStatsDto;
+import com.movie.movie_backend.dto.ReviewDto;
 import com.movie.movie_backend.entity.Review;
 import com.movie.movie_backend.service.REVReviewService;
 import lombok.RequiredArgsConstructor;
@@ -7,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -17,6 +20,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ReviewController {
 
+    private static final int MAX_BULK_MOVIE_CDS = 100;
+
     private final REVReviewService reviewService;
 
     /**
@@ -109,7 +114,7 @@ public class ReviewController {
     @GetMapping("/movie/{movieCd}")
     public ResponseEntity<Map<String, Object>> getReviewsByMovie(@PathVariable String movieCd) {
         try {
-            List<Review> reviews = reviewService.getReviewsByMovieCd(movieCd);
+            List<ReviewDto> reviews = reviewService.getReviewsByMovieCd(movieCd);
             
             return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -153,21 +158,46 @@ public class ReviewController {
     @GetMapping("/movie/{movieCd}/rating-stats")
     public ResponseEntity<Map<String, Object>> getRatingStats(@PathVariable String movieCd) {
         try {
-            Double averageRating = reviewService.getAverageRating(movieCd);
-            Long ratingCount = reviewService.getRatingCount(movieCd);
-            Long contentReviewCount = reviewService.getContentReviewCount(movieCd);
-            Map<Integer, Long> ratingDistribution = reviewService.getRatingDistribution(movieCd);
-            
+            RatingStatsDto stats = reviewService.getRatingStats(movieCd);
+
+            // 평점이 없으면 averageRating이 null이므로 Map.of 대신 LinkedHashMap
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("success", true);
+            response.put("movieCd", movieCd);
+            response.put("averageRating", stats.getAverageRating());
+            response.put("ratingCount", stats.getRatingCount());
+            response.put("contentReviewCount", stats.getContentReviewCount());
+            response.put("ratingDistribution", stats.getRatingDistribution());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("평점 통계 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "평점 통계 조회에 실패했습니다: " + e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * 여러 영화의 평점 통계 한 번에 조회 (목록 화면용, ?movieCds=A,B,C)
+     */
+    @GetMapping("/rating-stats")
+    public ResponseEntity<Map<String, Object>> getRatingStatsBulk(@RequestParam List<String> movieCds) {
+        if (movieCds.size() > MAX_BULK_MOVIE_CDS) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "한 번에 조회할 수 있는 영화는 최대 " + MAX_BULK_MOVIE_CDS + "개입니다."
+            ));
+        }
+        try {
+            Map<String, RatingStatsDto> stats = reviewService.getRatingStats(movieCds);
             return ResponseEntity.ok(Map.of(
                 "success", true,
-                "movieCd", movieCd,
-                "averageRating", averageRating,
-                "ratingCount", ratingCount,
-                "contentReviewCount", contentReviewCount,
-                "ratingDistribution", ratingDistribution
+                "data", stats,
+                "count", stats.size()
             ));
         } catch (Exception e) {
-            log.error("평점 통계 조회 실패: {}", e.getMessage());
+            log.error("평점 통계 일괄 조회 실패: {}", e.getMessage());
             return ResponseEntity.badRequest().body(Map.of(
                 "success", false,
                 "message", "평점 통계 조회에 실패했습니다: " + e.getMessage()
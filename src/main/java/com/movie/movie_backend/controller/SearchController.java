@@ -1,6 +1,8 @@
 package com.movie.movie_backend.controller;
 
+import com.movie.movie_backend.dto.AutocompleteSuggestionDto;
 import com.movie.movie_backend.dto.SearchResultDto;
+import com.movie.movie_backend.service.SRHAutocompleteService;
 import com.movie.movie_backend.service.SearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,12 +10,15 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/search")
 @RequiredArgsConstructor
 public class SearchController {
 
     private final SearchService searchService;
+    private final SRHAutocompleteService autocompleteService;
 
     @GetMapping("")
     public SearchResultDto search(@RequestParam("query") String query,
@@ -22,4 +27,11 @@ public class SearchController {
                                  @RequestParam(value = "size", defaultValue = "10") int size) {
         return searchService.search(query, type, page, size);
     }
+
+    // 검색어 자동완성 (영화 제목/배우/감독/태그, 초성 입력 지원)
+    @GetMapping("/autocomplete")
+    public List<AutocompleteSuggestionDto> autocomplete(@RequestParam("query") String query,
+                                                        @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return autocompleteService.suggest(query, limit);
+    }
 } 
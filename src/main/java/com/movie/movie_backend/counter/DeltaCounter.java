@@ -0,0 +1,97 @@
+package com.movie.movie_backend.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키별 증감을 메모리에 모아 두었다가 한꺼번에 꺼내는 카운터 (DB 쓰기 지연용)
+ *
+ * - 키마다 LongAdder 하나: 같은 키에 몰린 동시 증감은 LongAdder 셀로 나뉘어 잠금 없이 흡수
+ * - drain()은 키별 합계를 꺼내고 0으로 되돌림 (sumThenReset은 셀 단위로 원자적이라 동시 증감이 유실되지 않음)
+ * - 꺼낸 값은 complete()/restore() 전까지 inFlight에 남아 pending()에 계속 포함 (저장 중에도 조회 값이 빠지지 않음)
+ * - 한 번의 drain 동안 변화가 없던 키는 맵에서 제거 (제거된 슬롯에 늦게 더한 쪽이 그 값을 새 슬롯으로 옮겨 유실 없음)
+ */
+public class DeltaCounter<K> {
+
+    private final Map<K, Slot> pending = new ConcurrentHashMap<>();
+    private final Map<K, Long> inFlight = new ConcurrentHashMap<>();
+
+    public void add(K key, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        Slot slot = pending.get(key);
+        if (slot == null) {
+            slot = pending.computeIfAbsent(key, k -> new Slot());
+        }
+        slot.adder.add(delta);
+        // drain이 그 사이 슬롯을 제거했으면 아직 꺼내지 않은 값을 새 슬롯으로 옮김
+        if (slot.retired) {
+            add(key, slot.adder.sumThenReset());
+        }
+    }
+
+    /**
+     * 아직 저장되지 않은 증감 (모으는 중 + 저장 중)
+     */
+    public long pending(K key) {
+        Slot slot = pending.get(key);
+        return (slot != null ? slot.adder.sum() : 0) + inFlight.getOrDefault(key, 0L);
+    }
+
+    /**
+     * 모인 증감을 꺼냄 (0이 아닌 키만, 저장이 끝나면 complete, 실패하면 restore 호출)
+     */
+    public Map<K, Long> drain() {
+        Map<K, Long> drained = new HashMap<>();
+        for (Map.Entry<K, Slot> entry : pending.entrySet()) {
+            K key = entry.getKey();
+            Slot slot = entry.getValue();
+            long delta = slot.adder.sumThenReset();
+            if (delta == 0 && pending.remove(key, slot)) {
+                slot.retired = true;
+                delta = slot.adder.sumThenReset();
+            }
+            if (delta != 0) {
+                inFlight.merge(key, delta, Long::sum);
+                drained.merge(key, delta, Long::sum);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 꺼낸 증감 저장 완료 (inFlight에서 뺌)
+     */
+    public void complete(Map<K, Long> drained) {
+        drained.forEach((key, delta) -> inFlight.computeIfPresent(key, (k, value) -> value - delta == 0 ? null : value - delta));
+    }
+
+    /**
+     * 꺼낸 증감 저장 실패 (다음 drain에 다시 포함)
+     */
+    public void restore(Map<K, Long> drained) {
+        drained.forEach(this::add);
+        complete(drained);
+    }
+
+    /**
+     * 키의 저장되지 않은 증감 버림 (대상이 삭제된 경우)
+     */
+    public void discard(K key) {
+        pending.remove(key);
+        inFlight.remove(key);
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    // 키별 증감 슬롯 (retired = drain이 맵에서 제거함)
+    private static class Slot {
+        private final LongAdder adder = new LongAdder();
+        private volatile boolean retired;
+    }
+}
@@ -0,0 +1,10 @@
+package com.movie.movie_backend.dto;
+
+import lombok.*;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class AutocompleteSuggestionDto {
+    private String text;              // 표시할 이름
+    private String type;              // MOVIE, ACTOR, DIRECTOR, TAG
+    private String movieCd;           // 영화 제목일 때만 (상세 페이지 이동용)
+}
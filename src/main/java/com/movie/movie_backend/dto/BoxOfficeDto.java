@@ -3,7 +3,7 @@ package com.movie.movie_backend.dto;
 import lombok.*;
 import java.time.LocalDate;
 
-@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder(toBuilder = true)
 public class BoxOfficeDto {
     
     // 박스오피스 기본 정보
@@ -0,0 +1,21 @@
+package com.movie.movie_backend.dto;
+
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class CommentDto {
+    private Long id;                 // 댓글 ID
+    private Long reviewId;           // 리뷰 ID
+    private Long parentId;           // 부모 댓글 ID (최상위 댓글이면 null)
+    private Long userId;             // 작성자 ID
+    private String nickname;         // 작성자 닉네임
+    private Integer depth;           // 트리 깊이 (최상위 댓글 0)
+    private String content;          // 댓글 내용
+    private String status;           // 댓글 상태
+    private LocalDateTime createdAt; // 작성 시각
+    private LocalDateTime updatedAt; // 수정 시각
+    private long replyCount;         // 대댓글 수 (활성 상태만)
+    private long likeCount;          // 좋아요 수
+    private boolean likedByMe;       // 조회한 사용자가 좋아요를 눌렀는지 (사용자 없이 조회하면 false)
+}
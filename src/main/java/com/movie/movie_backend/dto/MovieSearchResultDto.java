@@ -3,15 +3,15 @@ package com.movie.movie_backend.dto;
 import java.util.List;
 
 public class MovieSearchResultDto {
-    private Long movieId;
+    private String movieCd;
     private String title;
     private String directorName;
     private List<String> tags;
     private List<String> actors;
     private String posterUrl;
 
-    public MovieSearchResultDto(Long movieId, String title, String directorName, List<String> tags, List<String> actors, String posterUrl) {
-        this.movieId = movieId;
+    public MovieSearchResultDto(String movieCd, String title, String directorName, List<String> tags, List<String> actors, String posterUrl) {
+        this.movieCd = movieCd;
         this.title = title;
         this.directorName = directorName;
         this.tags = tags;
@@ -19,14 +19,15 @@ public class MovieSearchResultDto {
         this.posterUrl = posterUrl;
     }
 
-    public Long getMovieId() { return movieId; }
+    public String getMovieCd() { return movieCd; }
+    public String getMovieId() { return movieCd; } // 이전 응답 필드명(movieId) 호환, 값은 movieCd와 같음
     public String getTitle() { return title; }
     public String getDirectorName() { return directorName; }
     public List<String> getTags() { return tags; }
     public List<String> getActors() { return actors; }
     public String getPosterUrl() { return posterUrl; }
 
-    public void setMovieId(Long movieId) { this.movieId = movieId; }
+    public void setMovieCd(String movieCd) { this.movieCd = movieCd; }
     public void setTitle(String title) { this.title = title; }
     public void setDirectorName(String directorName) { this.directorName = directorName; }
     public void setTags(List<String> tags) { this.tags = tags; }
@@ -0,0 +1,13 @@
+package com.movie.movie_backend.dto;
+
+import lombok.*;
+import java.util.Map;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class RatingStatsDto {
+    private String movieCd;                     // 영화코드
+    private Double averageRating;               // 평균 평점 (소수점 첫째자리, 평점이 없으면 null)
+    private long ratingCount;                   // 평점 개수
+    private long contentReviewCount;            // 댓글만 있는 리뷰 개수 (평점 없음)
+    private Map<Integer, Long> ratingDistribution; // 점수별 개수 (1~5점은 항상 포함)
+}
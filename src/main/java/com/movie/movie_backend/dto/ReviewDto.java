@@ -0,0 +1,18 @@
+package com.movie.movie_backend.dto;
+
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class ReviewDto {
+    private Long id;                  // 리뷰 ID
+    private String movieCd;           // 영화코드
+    private Long userId;              // 작성자 ID
+    private String nickname;          // 작성자 닉네임
+    private String content;           // 리뷰 내용 (평점만 남긴 경우 null)
+    private Integer rating;           // 평점 (1~5, 댓글만 남긴 경우 null)
+    private String ratingDisplay;     // 별점 표시 (★★★☆☆)
+    private String status;            // 리뷰 상태
+    private LocalDateTime createdAt;  // 작성 시각
+    private LocalDateTime updatedAt;  // 수정 시각
+}
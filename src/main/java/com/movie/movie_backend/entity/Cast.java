@@ -2,11 +2,13 @@ package com.movie.movie_backend.entity;
 
 import lombok.*;
 import jakarta.persistence.*;
+import com.movie.movie_backend.event.MovieChangeEntityListener;
 import com.movie.movie_backend.constant.RoleType;
 
 @Entity
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 @Table(name = "casts")
+@EntityListeners(MovieChangeEntityListener.class)
 public class Cast {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
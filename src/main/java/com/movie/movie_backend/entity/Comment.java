@@ -9,6 +9,8 @@ import java.util.List;
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 @Table(name = "comment")
 public class Comment {
+    public static final int PATH_ID_LENGTH = 12;
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id; // 댓글 고유 ID
 
@@ -33,6 +35,11 @@ public class Comment {
     @JoinColumn(name = "parent_id")
     private Comment parent; // 부모 댓글(대댓글 구조)
 
+    @Column(length = 500)
+    private String path; // 트리 경로 (조상부터 자기까지 ID를 PATH_ID_LENGTH 자리로 채워 '/'로 이음, 하위 트리 = 이 경로로 시작하는 댓글)
+
+    private Integer depth; // 트리 깊이 (최상위 댓글 0)
+
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> replies; // 대댓글 목록
 
@@ -48,6 +55,12 @@ public class Comment {
         return parent == null;
     }
 
+    // 부모 경로 뒤에 자기 ID를 붙인 경로 (ID가 정해진 뒤에 호출)
+    public String buildPath() {
+        String parentPath = parent != null ? parent.getPath() : "";
+        return parentPath + String.format("%0" + PATH_ID_LENGTH + "d", id) + "/";
+    }
+
     // 댓글 상태 enum
     public enum CommentStatus {
         ACTIVE("활성"),
@@ -0,0 +1,20 @@
+package com.movie.movie_backend.entity;
+
+import lombok.*;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 댓글별 좋아요 수 (REVLikeCounterService가 모아 둔 증감을 주기적으로 반영)
+ */
+@Entity
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+@Table(name = "comment_like_count")
+public class CommentLikeCount {
+    @Id
+    private Long commentId; // 댓글 ID
+
+    private long likeCount; // 좋아요 수
+
+    private LocalDateTime updatedAt; // 마지막 갱신 시각
+}
@@ -6,7 +6,11 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter @Setter @NoArgsConstructor
-@Table(name = "likes")
+@Table(name = "likes",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_likes_user_movie", columnNames = {"user_id", "movie_detail_id"})
+    }
+)
 public class Like {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id; // 좋아요 고유 ID
@@ -0,0 +1,69 @@
+package com.movie.movie_backend.entity;
+
+import com.movie.movie_backend.constant.MovieStatus;
+import lombok.*;
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 영화 카드 읽기 모델 (MovieList 포스터 + MovieDetail + 감독 + 태그 + 평점 + 최신 일일 박스오피스를 한 행에 펼쳐 둔 것)
+ * - 원본 변경 이벤트를 받아 MovieCardService가 갱신 → 목록 화면은 조인 없이 이 테이블(또는 메모리 캐시)만 읽음
+ */
+@Entity
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+@Table(name = "movie_card",
+    indexes = {
+        @Index(name = "idx_movie_card_box_office_rank", columnList = "boxOfficeRank")
+    }
+)
+public class MovieCard {
+    public static final String TAG_SEPARATOR = "|";
+
+    @Id
+    private String movieCd; // 영화 코드
+
+    private String movieNm;      // 영화명
+    private String movieNmEn;    // 영화 영문명
+    private String prdtYear;     // 제작년도
+    private int showTm;          // 상영 시간 (분)
+    private LocalDate openDt;    // 개봉일
+    private String prdtStatNm;   // 제작상태
+    private String typeNm;       // 영화유형
+    private String genreNm;      // 장르
+    private String nationNm;     // 제작국가
+    private String watchGradeNm; // 관람등급
+    private String companyNm;    // 배급사
+
+    @Column(columnDefinition = "TEXT")
+    private String description; // 줄거리
+
+    @Enumerated(EnumType.STRING)
+    private MovieStatus status; // 영화 상태
+
+    private String posterUrl;        // 포스터 (MovieList)
+    private String directorName;     // 감독명
+    private String directorPhotoUrl; // 감독 사진
+
+    @Column(length = 1000)
+    private String tagNames; // 태그 이름 (TAG_SEPARATOR로 연결)
+
+    private Double averageRating; // 평균 평점 (MovieDetail 평점 캐시)
+    private int ratingCount;      // 평점 개수
+
+    private int boxOfficeRank; // 최신 일일 박스오피스 순위 (없으면 0)
+    private long audiAcc;      // 최신 일일 박스오피스 누적 관객수 (없으면 0)
+
+    private boolean inMovieList;  // MovieList에 있는 영화인지
+    private boolean hasDetail;    // MovieDetail이 있는 영화인지
+
+    private LocalDateTime refreshedAt; // 마지막 갱신 시각
+
+    public List<String> getTagNameList() {
+        return tagNames == null || tagNames.isEmpty()
+                ? List.of()
+                : Arrays.asList(tagNames.split("\\" + TAG_SEPARATOR));
+    }
+}
@@ -2,6 +2,7 @@ package com.movie.movie_backend.entity;
 
 import lombok.*;
 import jakarta.persistence.*;
+import com.movie.movie_backend.event.MovieChangeEntityListener;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -11,6 +12,7 @@ import com.movie.movie_backend.constant.MovieStatus;
 @Entity
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 @Table(name = "movie_detail")
+@EntityListeners(MovieChangeEntityListener.class)
 public class MovieDetail {
     @Id
     private String movieCd; // 영화 코드 (KOBIS API의 movieCd)
@@ -0,0 +1,20 @@
+package com.movie.movie_backend.entity;
+
+import lombok.*;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 영화별 좋아요 수 (좋아요 추가/취소 시 같은 트랜잭션에서 증감, likes 전체를 세지 않음)
+ */
+@Entity
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+@Table(name = "movie_like_count")
+public class MovieLikeCount {
+    @Id
+    private String movieCd; // 영화 코드
+
+    private long likeCount; // 좋아요 수
+
+    private LocalDateTime updatedAt; // 마지막 갱신 시각
+}
@@ -2,12 +2,14 @@ package com.movie.movie_backend.entity;
 
 import lombok.*;
 import jakarta.persistence.*;
+import com.movie.movie_backend.event.MovieChangeEntityListener;
 import java.time.LocalDate;
 import com.movie.movie_backend.constant.MovieStatus;
 
 @Entity
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 @Table(name = "movie_list")
+@EntityListeners(MovieChangeEntityListener.class)
 public class MovieList {
     @Id
     private String movieCd; // 영화코드 (PK, 문자열)
@@ -0,0 +1,36 @@
+package com.movie.movie_backend.entity;
+
+import lombok.*;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 영화별 평점 집계 (평점/리뷰 저장·수정·삭제 시 증감으로 갱신)
+ * - rating*: Rating 엔티티 기준 (MovieDetail.averageRating/ratingCount 캐시의 원본)
+ * - reviewRating*, reviewScore1~5: 삭제되지 않은 Review.rating 기준 (합계/개수/분포)
+ */
+@Entity
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+@Table(name = "movie_rating_aggregate",
+    indexes = {
+        @Index(name = "idx_rating_average", columnList = "ratingAverage")
+    }
+)
+public class MovieRatingAggregate {
+    @Id
+    private String movieCd; // 영화 코드
+
+    private long ratingSum;         // 평점 합계
+    private long ratingCount;       // 평점 개수
+    private Double ratingAverage;   // 평점 평균 (정렬용, 평점이 없으면 null)
+
+    private long reviewRatingSum;   // 리뷰 평점 합계
+    private long reviewRatingCount; // 리뷰 평점 개수
+    private long reviewScore1;      // 리뷰 1점 개수
+    private long reviewScore2;      // 리뷰 2점 개수
+    private long reviewScore3;      // 리뷰 3점 개수
+    private long reviewScore4;      // 리뷰 4점 개수
+    private long reviewScore5;      // 리뷰 5점 개수
+
+    private LocalDateTime updatedAt; // 마지막 갱신 시각
+}
@@ -9,6 +9,11 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @NoArgsConstructor
+@Table(name = "movie_visit_log",
+    indexes = {
+        @Index(name = "idx_movie_visit_log_movie_time", columnList = "movie_detail_id, visitedAt")
+    }
+)
 public class MovieVisitLog {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,50 @@
+package com.movie.movie_backend.entity;
+
+import com.movie.movie_backend.constant.TmdbListType;
+import lombok.*;
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * TMDB 목록(인기 영화/개봉예정작) 미리 계산해 둔 결과 (목록 종류별로 순서대로 한 행씩)
+ * - TmdbMovieListService가 백그라운드에서 통째로 교체, 재시작 후에는 이 테이블에서 메모리 스냅샷을 복원
+ */
+@Entity
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+@Table(name = "tmdb_movie_list_item",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_tmdb_movie_list_item_order", columnNames = {"listType", "sortOrder"})
+    }
+)
+public class TmdbMovieListItem {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TmdbListType listType; // 목록 종류
+
+    private int sortOrder; // 목록 안 순서 (0부터)
+
+    private String movieCd;   // KOBIS 영화 코드 (매칭 실패 시 TMDB ID 기반 코드)
+    private String movieNm;   // 영화명
+    private String movieNmEn; // 원제
+
+    @Column(columnDefinition = "TEXT")
+    private String description; // 줄거리
+
+    private LocalDate openDt;      // 개봉일
+    private int showTm;            // 상영 시간 (분)
+    private String genreNm;        // 장르
+    private String nationNm;       // 제작국가
+    private String watchGradeNm;   // 관람등급
+    private String companyNm;      // 영화사
+    private String posterUrl;      // 포스터
+    private String directorName;   // 감독명
+    private int totalAudience;     // 누적 관객수 (KOBIS 매칭 시)
+    private double reservationRate; // 예매율 (KOBIS 매칭 시)
+    private double averageRating;  // TMDB 평점
+
+    private LocalDateTime refreshedAt; // 이 목록을 만든 시각
+}
@@ -0,0 +1,33 @@
+package com.movie.movie_backend.entity;
+
+import com.movie.movie_backend.warmup.WarmupTaskStatus;
+import lombok.*;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 시작 준비 작업 상태 (작업 이름별 한 행, 재시작 후 건너뛰기/이어서 실행 판단에 사용)
+ */
+@Entity
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+@Table(name = "warmup_task_state")
+public class WarmupTaskState {
+    @Id
+    @Column(length = 100)
+    private String taskName; // 작업 이름
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WarmupTaskStatus status; // 마지막 상태
+
+    private String checkpoint; // 이어서 실행할 위치 (작업마다 의미가 다름)
+
+    private int processed; // 처리한 항목 수
+    private int total;     // 전체 항목 수
+
+    @Column(length = 500)
+    private String message; // 마지막 메시지 (실패 사유 등)
+
+    private LocalDateTime startedAt;  // 시작 시각
+    private LocalDateTime finishedAt; // 종료 시각
+}
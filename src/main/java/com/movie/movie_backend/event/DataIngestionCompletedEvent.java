@@ -0,0 +1,15 @@
+package com.movie.movie_backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 외부 API 데이터 수집 작업(박스오피스, 영화 상세, 포스터/감독 보강 등) 완료 이벤트
+ * 자동완성 색인처럼 한 번에 다시 만드는 파생 데이터를 갱신할 때 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class DataIngestionCompletedEvent {
+
+    private final String source; // 완료된 작업 이름
+}
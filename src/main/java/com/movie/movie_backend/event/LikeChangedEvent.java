@@ -0,0 +1,30 @@
+package com.movie.movie_backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 좋아요 추가/취소 이벤트 (좋아요 행이 실제로 바뀐 경우만)
+ * 좋아요 수 카운터에 커밋된 증감만 반영할 때 사용 (커밋 후 처리)
+ */
+@Getter
+@RequiredArgsConstructor
+public class LikeChangedEvent {
+
+    private final Target target; // 좋아요 대상 종류
+    private final String movieCd; // 영화 좋아요면 영화 코드
+    private final Long commentId; // 댓글 좋아요면 댓글 ID
+    private final int delta; // +1 추가, -1 취소
+
+    public static LikeChangedEvent movie(String movieCd, boolean liked) {
+        return new LikeChangedEvent(Target.MOVIE, movieCd, null, liked ? 1 : -1);
+    }
+
+    public static LikeChangedEvent comment(Long commentId, boolean liked) {
+        return new LikeChangedEvent(Target.COMMENT, null, commentId, liked ? 1 : -1);
+    }
+
+    public enum Target {
+        MOVIE, COMMENT
+    }
+}
@@ -0,0 +1,17 @@
+package com.movie.movie_backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * 영화 카드(MovieCard) 갱신 완료 이벤트
+ * 카드 값을 가져다 쓰는 스냅샷(박스오피스 화면용 DTO 등)을 갱신할 때 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class MovieCardChangedEvent {
+
+    private final Set<String> movieCds; // 갱신/삭제된 영화 코드 (null이면 전체 재구축)
+}
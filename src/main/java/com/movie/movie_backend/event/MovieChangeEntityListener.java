@@ -0,0 +1,57 @@
+package com.movie.movie_backend.event;
+
+import com.movie.movie_backend.entity.Cast;
+import com.movie.movie_backend.entity.MovieDetail;
+import com.movie.movie_backend.entity.MovieList;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 영화 관련 엔티티의 저장/삭제를 감지해 MovieChangedEvent를 발행하는 JPA 엔티티 리스너
+ * (Hibernate의 SpringBeanContainer가 생성하므로 생성자 주입 가능)
+ */
+public class MovieChangeEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public MovieChangeEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        publish(entity, MovieChangedEvent.ChangeType.SAVED);
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        // Cast/MovieList가 지워져도 영화 자체는 남아 있으므로 재색인 대상
+        MovieChangedEvent.ChangeType type = entity instanceof MovieDetail
+                ? MovieChangedEvent.ChangeType.DELETED
+                : MovieChangedEvent.ChangeType.SAVED;
+        publish(entity, type);
+    }
+
+    private void publish(Object entity, MovieChangedEvent.ChangeType type) {
+        String movieCd = resolveMovieCd(entity);
+        if (movieCd != null) {
+            eventPublisher.publishEvent(new MovieChangedEvent(movieCd, type));
+        }
+    }
+
+    private String resolveMovieCd(Object entity) {
+        if (entity instanceof MovieDetail movieDetail) {
+            return movieDetail.getMovieCd();
+        }
+        if (entity instanceof MovieList movieList) {
+            return movieList.getMovieCd();
+        }
+        if (entity instanceof Cast cast && cast.getMovieDetail() != null) {
+            return cast.getMovieDetail().getMovieCd();
+        }
+        return null;
+    }
+}
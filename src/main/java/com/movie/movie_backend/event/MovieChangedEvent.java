@@ -0,0 +1,21 @@
+package com.movie.movie_backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 영화 데이터(MovieDetail, MovieList, Cast) 변경 이벤트
+ * 검색 인덱스 등 메모리에 유지되는 파생 데이터를 갱신할 때 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class MovieChangedEvent {
+
+    private final String movieCd;   // 변경된 영화 코드
+    private final ChangeType type;  // 변경 종류
+
+    public enum ChangeType {
+        SAVED,   // 등록/수정
+        DELETED  // 삭제
+    }
+}
@@ -0,0 +1,18 @@
+package com.movie.movie_backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 영화 상세 방문 기록 이벤트 (방문 기록 주기마다 영화별로 모아서 한 번)
+ * 지금 뜨는 영화 점수에 최근 방문을 반영할 때 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class MovieViewsRecordedEvent {
+
+    private final Map<String, Integer> viewCounts; // 영화 코드 → 이번 주기 방문 수
+    private final long recordedAt; // 집계 시각 (epoch millis)
+}
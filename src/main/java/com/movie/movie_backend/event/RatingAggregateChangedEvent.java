@@ -0,0 +1,27 @@
+package com.movie.movie_backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 영화 평점 집계(MovieRatingAggregate) 변경 이벤트
+ * 평점 순위표 등 집계 기반 파생 데이터를 갱신할 때, 새 평점을 지금 뜨는 영화 점수에 반영할 때 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class RatingAggregateChangedEvent {
+
+    private final String movieCd; // 집계가 바뀐 영화 코드 (null이면 전체 재집계)
+    private final ChangeKind kind; // 변경 종류
+
+    public RatingAggregateChangedEvent(String movieCd) {
+        this(movieCd, ChangeKind.RECOUNTED);
+    }
+
+    public enum ChangeKind {
+        ADDED,     // 새 평점
+        UPDATED,   // 기존 평점 점수 변경
+        REMOVED,   // 평점 삭제
+        RECOUNTED  // 이전 값을 모르는 재집계 (영화 단위 또는 전체)
+    }
+}
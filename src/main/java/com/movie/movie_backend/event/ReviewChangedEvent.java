@@ -0,0 +1,20 @@
+package com.movie.movie_backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리뷰 작성/수정/삭제 이벤트
+ * 영화별 리뷰 목록/평점 통계 캐시를 지울 때, 새 리뷰를 지금 뜨는 영화 점수에 반영할 때 사용 (커밋 후 처리)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReviewChangedEvent {
+
+    private final String movieCd; // 리뷰가 바뀐 영화 코드
+    private final boolean created; // 새로 작성된 리뷰인지 (수정/삭제는 false)
+
+    public ReviewChangedEvent(String movieCd) {
+        this(movieCd, false);
+    }
+}
@@ -0,0 +1,32 @@
+package com.movie.movie_backend.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * 영화 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MovieExportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    /**
+     * 요청 파라미터(ndjson, csv, 대소문자 무시)로 찾기 (없는 형식이면 IllegalArgumentException)
+     */
+    public static MovieExportFormat from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value, e);
+        }
+    }
+}
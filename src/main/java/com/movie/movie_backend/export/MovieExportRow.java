@@ -0,0 +1,31 @@
+package com.movie.movie_backend.export;
+
+import com.movie.movie_backend.constant.MovieStatus;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 영화 내보내기 한 행 (엔티티 대신 조회 결과를 바로 담는 값 → 영속성 컨텍스트에 쌓이지 않음)
+ */
+public record MovieExportRow(String movieCd, String movieNm, String movieNmEn, String prdtYear, int showTm,
+                             LocalDate openDt, String prdtStatNm, String typeNm, String genreNm, String nationNm,
+                             String watchGradeNm, String companyNm, MovieStatus status, String directorName,
+                             List<String> tagNames, String description) {
+
+    public static final String TAG_SEPARATOR = "|";
+
+    /**
+     * JPQL 생성자 표현식용 (태그는 DB에서 TAG_SEPARATOR로 이어 붙인 문자열)
+     */
+    public MovieExportRow(String movieCd, String movieNm, String movieNmEn, String prdtYear, int showTm,
+                          LocalDate openDt, String prdtStatNm, String typeNm, String genreNm, String nationNm,
+                          String watchGradeNm, String companyNm, MovieStatus status, String directorName,
+                          String tagNames, String description) {
+        this(movieCd, movieNm, movieNmEn, prdtYear, showTm, openDt, prdtStatNm, typeNm, genreNm, nationNm,
+                watchGradeNm, companyNm, status, directorName,
+                tagNames == null || tagNames.isEmpty() ? List.of() : Arrays.asList(tagNames.split("\\" + TAG_SEPARATOR)),
+                description);
+    }
+}
@@ -0,0 +1,259 @@
+package com.movie.movie_backend.ingestion;
+
+import com.movie.movie_backend.client.ProviderCallGate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 일괄 수집 엔진 (KOBIS/TMDB/네이버 보강 작업 공용)
+ *
+ * - 조회 단계: 항목마다 가상 스레드에서 외부 API 호출, 동시 호출 수는 concurrency로 제한
+ *   호출 간격은 Thread.sleep 대신 제공처별 토큰 버킷(call())으로 조절 → 공개된 호출 한도까지 사용
+ *   토큰은 ProviderHttpClient가 실제로 네트워크 요청을 보낼 때만 소모 (응답 캐시 적중/같은 요청 합류는 소모 없음)
+ * - 재시도: 네트워크 오류/5xx/429만 지수 백오프로 항목 단위 재시도 (429면 해당 제공처 버킷을 잠시 멈춤)
+ * - 저장 단계: 호출한 스레드 하나에서 chunkSize개씩 모아 별도 트랜잭션으로 커밋
+ *   청크 저장이 실패하면 항목별 트랜잭션으로 다시 저장해 실패 항목만 건너뜀
+ * - 조회 함수는 JPA 엔티티를 수정하지 말고 값만 돌려주고, 엔티티 조회/수정은 ChunkWriter에서 함
+ */
+@Slf4j
+@Component
+public class IngestionEngine {
+
+    private static final Duration DEFAULT_THROTTLE_PAUSE = Duration.ofSeconds(1);
+
+    private final Map<IngestionProvider, TokenBucketRateLimiter> rateLimiters = new EnumMap<>(IngestionProvider.class);
+    private final TransactionTemplate chunkTransaction;
+    private final int concurrency;
+    private final int chunkSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public IngestionEngine(PlatformTransactionManager transactionManager,
+                           @Value("${ingestion.rate.kobis:5}") double kobisRate,
+                           @Value("${ingestion.rate.tmdb:40}") double tmdbRate,
+                           @Value("${ingestion.rate.naver:10}") double naverRate,
+                           @Value("${ingestion.concurrency:8}") int concurrency,
+                           @Value("${ingestion.chunk-size:50}") int chunkSize,
+                           @Value("${ingestion.max-attempts:3}") int maxAttempts,
+                           @Value("${ingestion.backoff-millis:500}") long backoffMillis) {
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rateLimiters.put(IngestionProvider.KOBIS, new TokenBucketRateLimiter(kobisRate, Math.max(1, kobisRate)));
+        this.rateLimiters.put(IngestionProvider.TMDB, new TokenBucketRateLimiter(tmdbRate, Math.max(1, tmdbRate)));
+        this.rateLimiters.put(IngestionProvider.NAVER, new TokenBucketRateLimiter(naverRate, Math.max(1, naverRate)));
+        this.concurrency = Math.max(1, concurrency);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = Math.max(0, backoffMillis);
+    }
+
+    /**
+     * 외부 API 호출 (네트워크 요청마다 제공처 토큰을 얻은 뒤 전송, 429면 버킷을 잠시 멈추고 예외를 다시 던짐)
+     */
+    public <V> V call(IngestionProvider provider, Supplier<V> request) {
+        TokenBucketRateLimiter rateLimiter = rateLimiters.get(provider);
+        try {
+            return ProviderCallGate.run(() -> acquire(provider, rateLimiter), request);
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            Duration pause = retryAfter(e);
+            rateLimiter.pause(pause);
+            log.warn("{} API 호출 한도 초과 → {}ms 동안 호출 중지", provider.getDisplayName(), pause.toMillis());
+            throw e;
+        }
+    }
+
+    /**
+     * 일괄 수집 실행 (모든 항목을 처리하고 결과 요약을 반환할 때까지 대기)
+     */
+    public <T, R> IngestionReport run(String jobName, List<T> items, ItemFetcher<T, R> fetcher, ChunkWriter<T, R> writer) {
+        long start = System.currentTimeMillis();
+        log.info("=== 수집 작업 시작: {} ({}개, 동시 {}개, 청크 {}개) ===", jobName, items.size(), concurrency, chunkSize);
+
+        Counters counters = new Counters();
+        BlockingQueue<Outcome<T, R>> outcomes = new LinkedBlockingQueue<>();
+        Semaphore inFlight = new Semaphore(concurrency);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (T item : items) {
+                executor.execute(() -> {
+                    try {
+                        inFlight.acquire();
+                    } catch (InterruptedException e) {
+                        outcomes.add(new Outcome<>(item, null, e));
+                        return;
+                    }
+                    try {
+                        outcomes.add(fetchWithRetry(jobName, item, fetcher));
+                    } catch (Error e) {
+                        // 결과를 기다리는 저장 루프가 멈추지 않도록 실패로 기록
+                        outcomes.add(new Outcome<>(item, null, new IllegalStateException(e)));
+                        throw e;
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+
+            List<FetchedItem<T, R>> chunk = new ArrayList<>(chunkSize);
+            try {
+                for (int received = 0; received < items.size(); received++) {
+                    Outcome<T, R> outcome = outcomes.take();
+                    if (outcome.error() != null) {
+                        counters.failed++;
+                    } else if (outcome.result() == null) {
+                        counters.notFound++;
+                    } else {
+                        counters.matched++;
+                        chunk.add(new FetchedItem<>(outcome.item(), outcome.result()));
+                        if (chunk.size() >= chunkSize) {
+                            save(jobName, chunk, writer, counters);
+                            chunk = new ArrayList<>(chunkSize);
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                log.warn("수집 작업 중단: {}", jobName);
+            }
+            save(jobName, chunk, writer, counters);
+        }
+
+        IngestionReport report = new IngestionReport(jobName, items.size(), counters.matched, counters.notFound,
+                counters.failed, counters.saved, counters.saveFailed, System.currentTimeMillis() - start);
+        log.info("=== 수집 작업 완료: {} - 매칭 {}, 미매칭 {}, 호출 실패 {}, 저장 {}, 저장 실패 {}, {}ms ===",
+                jobName, report.matched(), report.notFound(), report.failed(), report.saved(), report.saveFailed(),
+                report.elapsedMillis());
+        return report;
+    }
+
+    // ===== 내부 메서드 =====
+
+    private static void acquire(IngestionProvider provider, TokenBucketRateLimiter rateLimiter) {
+        try {
+            rateLimiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(provider.getDisplayName() + " API 호출 대기 중 중단되었습니다.", e);
+        }
+    }
+
+    private <T, R> Outcome<T, R> fetchWithRetry(String jobName, T item, ItemFetcher<T, R> fetcher) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return new Outcome<>(item, fetcher.fetch(item), null);
+            } catch (Exception e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    log.warn("[{}] 외부 API 조회 실패: {} - {}", jobName, item, e.getMessage());
+                    return new Outcome<>(item, null, e);
+                }
+                try {
+                    Thread.sleep(backoffDelay(attempt));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return new Outcome<>(item, null, interrupted);
+                }
+            }
+        }
+    }
+
+    /**
+     * 청크 단위 저장 (실패하면 항목별로 다시 저장)
+     */
+    private <T, R> void save(String jobName, List<FetchedItem<T, R>> chunk, ChunkWriter<T, R> writer, Counters counters) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            chunkTransaction.executeWithoutResult(status -> writer.write(chunk));
+            counters.saved += chunk.size();
+            return;
+        } catch (Exception e) {
+            log.warn("[{}] 청크 저장 실패, 항목별로 다시 저장합니다: {}", jobName, e.getMessage());
+        }
+        for (FetchedItem<T, R> fetched : chunk) {
+            try {
+                chunkTransaction.executeWithoutResult(status -> writer.write(List.of(fetched)));
+                counters.saved++;
+            } catch (Exception e) {
+                counters.saveFailed++;
+                log.warn("[{}] 항목 저장 실패: {} - {}", jobName, fetched.item(), e.getMessage());
+            }
+        }
+    }
+
+    private long backoffDelay(int attempt) {
+        long delay = backoffMillis << (attempt - 1);
+        return delay + ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1);
+    }
+
+    private static boolean isRetryable(Exception e) {
+        return e instanceof ResourceAccessException
+                || e instanceof HttpServerErrorException
+                || e instanceof HttpClientErrorException.TooManyRequests;
+    }
+
+    private static Duration retryAfter(HttpClientErrorException e) {
+        HttpHeaders headers = e.getResponseHeaders();
+        String value = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (value != null) {
+            try {
+                return Duration.ofSeconds(Math.max(1, Long.parseLong(value.trim())));
+            } catch (NumberFormatException ignored) {
+                // HTTP 날짜 형식은 기본값 사용
+            }
+        }
+        return DEFAULT_THROTTLE_PAUSE;
+    }
+
+    /**
+     * 항목 하나를 외부 API로 조회 (값이 없으면 null, 호출 실패는 예외)
+     */
+    @FunctionalInterface
+    public interface ItemFetcher<T, R> {
+        R fetch(T item) throws Exception;
+    }
+
+    /**
+     * 조회 결과 청크 저장 (트랜잭션 안에서 호출됨)
+     */
+    @FunctionalInterface
+    public interface ChunkWriter<T, R> {
+        void write(List<FetchedItem<T, R>> chunk);
+    }
+
+    public record FetchedItem<T, R>(T item, R result) {
+    }
+
+    private record Outcome<T, R>(T item, R result, Exception error) {
+    }
+
+    private static class Counters {
+        int matched;
+        int notFound;
+        int failed;
+        int saved;
+        int saveFailed;
+    }
+}
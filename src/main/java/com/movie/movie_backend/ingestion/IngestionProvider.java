@@ -0,0 +1,20 @@
+package com.movie.movie_backend.ingestion;
+
+/**
+ * 외부 데이터 제공처 (제공처마다 호출 속도 제한을 따로 둠)
+ */
+public enum IngestionProvider {
+    KOBIS("영화진흥위원회"),
+    TMDB("TMDB"),
+    NAVER("네이버");
+
+    private final String displayName;
+
+    IngestionProvider(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,15 @@
+package com.movie.movie_backend.ingestion;
+
+/**
+ * 수집 작업 결과 요약
+ *
+ * @param total     대상 항목 수
+ * @param matched   외부 API에서 값을 찾은 항목 수
+ * @param notFound  외부 API에 값이 없던 항목 수
+ * @param failed    재시도 후에도 호출이 실패한 항목 수
+ * @param saved     DB에 반영된 항목 수
+ * @param saveFailed DB 반영에 실패한 항목 수
+ */
+public record IngestionReport(String jobName, int total, int matched, int notFound, int failed,
+                              int saved, int saveFailed, long elapsedMillis) {
+}
@@ -0,0 +1,29 @@
+package com.movie.movie_backend.ingestion;
+
+import com.movie.movie_backend.entity.MovieList;
+
+import java.time.LocalDate;
+
+/**
+ * 외부 API 검색에 필요한 영화 정보 (조회 스레드에서 엔티티 대신 사용하는 불변 값)
+ */
+public record MovieSearchTarget(String movieCd, String movieNm, String movieNmEn, LocalDate openDt) {
+
+    public static MovieSearchTarget from(MovieList movieList) {
+        return new MovieSearchTarget(movieList.getMovieCd(), movieList.getMovieNm(),
+                movieList.getMovieNmEn(), movieList.getOpenDt());
+    }
+
+    public String openYear() {
+        return openDt != null ? String.valueOf(openDt.getYear()) : null;
+    }
+
+    public boolean hasEnglishTitle() {
+        return movieNmEn != null && !movieNmEn.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return movieNm + " (" + movieCd + ")";
+    }
+}
@@ -0,0 +1,86 @@
+package com.movie.movie_backend.ingestion;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 호출 속도 제한기
+ *
+ * - 초당 permitsPerSecond개씩 토큰이 차고, 최대 burst개까지 쌓임
+ * - acquire()는 잠금 안에서 토큰을 예약(부족하면 음수로 빌림)만 하고, 기다리는 건 잠금 밖에서 함
+ *   → 여러 스레드가 동시에 호출해도 예약 순서대로 간격이 벌어짐
+ * - 429(Too Many Requests)를 받으면 pause()로 일정 시간 동안 토큰 충전을 멈춤
+ */
+public class TokenBucketRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double permitsPerSecond;
+    private final double burst;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, double burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(double permitsPerSecond, double burst, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("잘못된 속도 제한 설정: " + permitsPerSecond + "/s, burst " + burst);
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * 토큰 하나를 얻을 때까지 대기
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 토큰 하나를 예약하고 사용 가능할 때까지 남은 시간(ns)을 반환
+     */
+    synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        refill(now);
+        tokens -= 1;
+        long readyAt = Math.max(now, lastRefillNanos);
+        if (tokens < 0) {
+            readyAt += (long) (-tokens / permitsPerSecond * NANOS_PER_SECOND);
+        }
+        return readyAt - now;
+    }
+
+    /**
+     * 지금부터 duration 동안 토큰 충전 중지 (남은 토큰도 버림)
+     */
+    public synchronized void pause(Duration duration) {
+        long now = nanoClock.getAsLong();
+        refill(now);
+        tokens = Math.min(tokens, 0);
+        lastRefillNanos = Math.max(lastRefillNanos, now + duration.toNanos());
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    private void refill(long now) {
+        if (now <= lastRefillNanos) {
+            return;
+        }
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * permitsPerSecond / NANOS_PER_SECOND);
+        lastRefillNanos = now;
+    }
+}
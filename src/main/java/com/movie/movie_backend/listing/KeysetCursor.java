@@ -0,0 +1,58 @@
+package com.movie.movie_backend.listing;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * keyset 페이지 위치 (마지막으로 내려준 행의 정렬 키, 클라이언트에는 불투명 문자열로 전달)
+ *
+ * - 개봉일 정렬 목록: openDt + movieCd (openDt가 null이면 개봉일 없는 영화 구간)
+ * - 단일 키 정렬 목록: key만 사용 (movieCd, 박스오피스 id 등)
+ */
+public record KeysetCursor(LocalDate openDt, String key) {
+
+    private static final char SEPARATOR = '|';
+
+    public static KeysetCursor of(String key) {
+        return new KeysetCursor(null, key);
+    }
+
+    public static KeysetCursor of(LocalDate openDt, String key) {
+        return new KeysetCursor(openDt, key);
+    }
+
+    /**
+     * 커서 문자열 해석 (비어 있으면 null = 첫 페이지, 형식이 틀리면 IllegalArgumentException)
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+            LocalDate openDt = separator == 0 ? null : LocalDate.parse(raw.substring(0, separator));
+            return new KeysetCursor(openDt, raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        String raw = (openDt != null ? openDt.toString() : "") + SEPARATOR + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Long longKey() {
+        try {
+            return Long.valueOf(key);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + key, e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.movie.movie_backend.listing;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset 페이지 (이번 페이지 목록 + 전체 개수 + 페이지 크기 + 다음 페이지 커서, 마지막 페이지면 nextCursor는 null)
+ */
+public record KeysetPage<T>(List<T> content, long total, int size, String nextCursor) {
+
+    /**
+     * 페이지 목록과 마지막 행의 커서로 생성 (size만큼 채워졌을 때만 다음 커서를 둠)
+     */
+    public static <T> KeysetPage<T> of(List<T> content, long total, int size, Function<T, KeysetCursor> cursorOf) {
+        String nextCursor = !content.isEmpty() && content.size() >= size
+                ? cursorOf.apply(content.get(content.size() - 1)).encode()
+                : null;
+        return new KeysetPage<>(content, total, size, nextCursor);
+    }
+
+    public <R> KeysetPage<R> map(Function<List<T>, List<R>> mapper) {
+        return new KeysetPage<>(mapper.apply(content), total, size, nextCursor);
+    }
+
+    public int totalPages() {
+        return size <= 0 ? 0 : (int) Math.ceil((double) total / size);
+    }
+}
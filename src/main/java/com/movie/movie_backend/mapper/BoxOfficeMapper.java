@@ -2,18 +2,16 @@ package com.movie.movie_backend.mapper;
 
 import com.movie.movie_backend.dto.BoxOfficeDto;
 import com.movie.movie_backend.entity.BoxOffice;
-import com.movie.movie_backend.entity.MovieDetail;
-import com.movie.movie_backend.entity.Director;
-import com.movie.movie_backend.entity.Tag;
+import com.movie.movie_backend.entity.MovieCard;
 import com.movie.movie_backend.constant.MovieStatus;
-import com.movie.movie_backend.entity.MovieList;
-import com.movie.movie_backend.repository.PRDMovieListRepository;
-import com.movie.movie_backend.service.TmdbRatingService;
+import com.movie.movie_backend.service.MovieCardService;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import java.text.NumberFormat;
 import java.util.Locale;
@@ -21,12 +19,10 @@ import java.util.Locale;
 @Component
 public class BoxOfficeMapper {
 
-    private final PRDMovieListRepository movieListRepository;
-    private final TmdbRatingService tmdbRatingService;
+    private final MovieCardService movieCardService;
 
-    public BoxOfficeMapper(PRDMovieListRepository movieListRepository, TmdbRatingService tmdbRatingService) {
-        this.movieListRepository = movieListRepository;
-        this.tmdbRatingService = tmdbRatingService;
+    public BoxOfficeMapper(MovieCardService movieCardService) {
+        this.movieCardService = movieCardService;
     }
 
     /**
@@ -34,30 +30,31 @@ public class BoxOfficeMapper {
      */
     public BoxOfficeDto toDto(BoxOffice boxOffice) {
         if (boxOffice == null) return null;
+        MovieCard card = boxOffice.getMovieCd() != null ? movieCardService.getCard(boxOffice.getMovieCd()) : null;
+        return toDto(boxOffice, card);
+    }
 
-        MovieDetail movieDetail = boxOffice.getMovieDetail();
-        
-        // 디버깅 로그 추가
-        System.out.println("BoxOfficeMapper - BoxOffice ID: " + boxOffice.getId());
-        System.out.println("BoxOfficeMapper - movieCd: " + boxOffice.getMovieCd());
-        System.out.println("BoxOfficeMapper - movieDetail: " + (movieDetail != null ? movieDetail.getMovieCd() : "null"));
-        
-        // MovieList에서 포스터 URL 가져오기
-        String posterUrl = null;
-        if (boxOffice.getMovieCd() != null) {
-            MovieList movieList = movieListRepository.findById(boxOffice.getMovieCd()).orElse(null);
-            if (movieList != null) {
-                posterUrl = movieList.getPosterUrl();
-            }
-        }
+    /**
+     * BoxOffice 엔티티 리스트를 BoxOfficeDto 리스트로 변환 (영화 카드는 한 번에 조회)
+     */
+    public List<BoxOfficeDto> toDtoList(List<BoxOffice> boxOfficeList) {
+        if (boxOfficeList == null) return List.of();
+        Map<String, MovieCard> cards = movieCardService.getCards(boxOfficeList.stream()
+                .map(BoxOffice::getMovieCd)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList()));
+        return boxOfficeList.stream()
+                .map(boxOffice -> toDto(boxOffice, cards.get(boxOffice.getMovieCd())))
+                .collect(Collectors.toList());
+    }
 
-        // 평점 정보 가져오기 (캐시된 데이터 사용)
-        Double averageRating = null;
-        Integer ratingCount = null;
-        if (movieDetail != null) {
-            averageRating = movieDetail.getAverageRating();
-            ratingCount = movieDetail.getRatingCount();
-        }
+    /**
+     * 포스터/감독/태그/상세/평점은 영화 카드에서, 순위/관객수/매출은 BoxOffice에서
+     */
+    private BoxOfficeDto toDto(BoxOffice boxOffice, MovieCard card) {
+        // 상세 정보는 MovieDetail이 있는 영화만 (기존과 같이 없으면 빈 값)
+        MovieCard detail = card != null && card.isHasDetail() ? card : null;
 
         return BoxOfficeDto.builder()
                 .id(boxOffice.getId())
@@ -71,14 +68,14 @@ public class BoxOfficeMapper {
                 .rankType(boxOffice.getRankType())
                 
                 // 영화 상세 정보
-                .movieNmEn(movieDetail != null ? movieDetail.getMovieNmEn() : "")
-                .genreNm(movieDetail != null ? movieDetail.getGenreNm() : "")
-                .nationNm(movieDetail != null ? movieDetail.getNationNm() : "")
-                .watchGradeNm(movieDetail != null ? movieDetail.getWatchGradeNm() : "")
-                .posterUrl(posterUrl)
-                .description(movieDetail != null ? movieDetail.getDescription() : "")
-                .showTm(movieDetail != null ? movieDetail.getShowTm() : 0)
-                .openDt(movieDetail != null ? movieDetail.getOpenDt() : null)
+                .movieNmEn(detail != null ? detail.getMovieNmEn() : "")
+                .genreNm(detail != null ? detail.getGenreNm() : "")
+                .nationNm(detail != null ? detail.getNationNm() : "")
+                .watchGradeNm(detail != null ? detail.getWatchGradeNm() : "")
+                .posterUrl(card != null ? card.getPosterUrl() : null)
+                .description(detail != null ? detail.getDescription() : "")
+                .showTm(detail != null ? detail.getShowTm() : 0)
+                .openDt(detail != null ? detail.getOpenDt() : null)
                 
                 // 박스오피스 통계 정보 (왓챠피디아 스타일 포맷팅)
                 .reservationRate(formatReservationRate(boxOffice.getRank()))
@@ -88,39 +85,24 @@ public class BoxOfficeMapper {
                 .rankTypeDisplay(getRankTypeDisplay(boxOffice.getRankType()))
                 
                 // 영화 상태 정보
-                .movieStatus(getMovieStatusDisplay(movieDetail != null ? movieDetail.getStatus() : null))
-                .daysSinceRelease(calculateDaysSinceRelease(movieDetail != null ? movieDetail.getOpenDt() : null))
+                .movieStatus(getMovieStatusDisplay(detail != null ? detail.getStatus() : null))
+                .daysSinceRelease(calculateDaysSinceRelease(detail != null ? detail.getOpenDt() : null))
                 
                 // 감독 정보
-                .directorName(movieDetail != null && movieDetail.getDirector() != null ? 
-                    movieDetail.getDirector().getName() : "")
-                .directorPhotoUrl(movieDetail != null && movieDetail.getDirector() != null ? 
-                    movieDetail.getDirector().getPhotoUrl() : "")
+                .directorName(detail != null && detail.getDirectorName() != null ? detail.getDirectorName() : "")
+                .directorPhotoUrl(detail != null && detail.getDirectorName() != null ? detail.getDirectorPhotoUrl() : "")
                 
                 // 태그 정보
-                .tags(movieDetail != null && movieDetail.getTags() != null ? 
-                    movieDetail.getTags().stream()
-                        .map(Tag::getName)
-                        .toArray(String[]::new) : new String[0])
-                .averageRating(averageRating)
-                .ratingCount(ratingCount)
+                .tags(detail != null ? detail.getTagNameList().toArray(String[]::new) : new String[0])
+                .averageRating(detail != null ? detail.getAverageRating() : null)
+                .ratingCount(detail != null ? detail.getRatingCount() : null)
                 .formattedSalesAmt(formatSalesAmount(boxOffice.getSalesAmt()))
                 .formattedAudiCnt(formatAudienceCount(boxOffice.getAudiCnt()))
                 .formattedAudiAcc(formatAccumulatedAudience(boxOffice.getAudiAcc()))
-                .companyNm(movieDetail != null ? movieDetail.getCompanyNm() : "")
+                .companyNm(detail != null ? detail.getCompanyNm() : "")
                 .build();
     }
 
-    /**
-     * BoxOffice 엔티티 리스트를 BoxOfficeDto 리스트로 변환
-     */
-    public List<BoxOfficeDto> toDtoList(List<BoxOffice> boxOfficeList) {
-        if (boxOfficeList == null) return List.of();
-        return boxOfficeList.stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
-    }
-
     // ===== 헬퍼 메서드 =====
 
     /**
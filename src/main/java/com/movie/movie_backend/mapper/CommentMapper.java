@@ -0,0 +1,45 @@
+package com.movie.movie_backend.mapper;
+
+import com.movie.movie_backend.dto.CommentDto;
+import com.movie.movie_backend.entity.Comment;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Comment -> CommentDto 변환 (대댓글/좋아요 컬렉션은 건드리지 않고, 개수와 좋아요 여부는 미리 모아 온 값으로 채움)
+ */
+@Component
+public class CommentMapper {
+
+    public CommentDto toDto(Comment comment, Long reviewId, long replyCount, long likeCount, boolean likedByMe) {
+        return CommentDto.builder()
+                .id(comment.getId())
+                .reviewId(reviewId)
+                .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
+                .userId(comment.getUser() != null ? comment.getUser().getId() : null)
+                .nickname(comment.getUser() != null ? comment.getUser().getNickname() : null)
+                .depth(comment.getDepth())
+                .content(comment.getContent())
+                .status(comment.getStatus() != null ? comment.getStatus().name() : null)
+                .createdAt(comment.getCreatedAt())
+                .updatedAt(comment.getUpdatedAt())
+                .replyCount(replyCount)
+                .likeCount(likeCount)
+                .likedByMe(likedByMe)
+                .build();
+    }
+
+    public List<CommentDto> toDtoList(List<Comment> comments, Long reviewId, Map<Long, Long> replyCounts,
+                                      Map<Long, Long> likeCounts, Collection<Long> likedIds) {
+        return comments.stream()
+                .map(comment -> toDto(comment, reviewId,
+                        replyCounts.getOrDefault(comment.getId(), 0L),
+                        likeCounts.getOrDefault(comment.getId(), 0L),
+                        likedIds.contains(comment.getId())))
+                .collect(Collectors.toList());
+    }
+}
@@ -1,48 +1,65 @@
 package com.movie.movie_backend.mapper;
 
+import com.movie.movie_backend.boxoffice.BoxOfficeSnapshot;
+import com.movie.movie_backend.entity.MovieCard;
 import com.movie.movie_backend.entity.MovieDetail;
-import com.movie.movie_backend.entity.MovieList;
 import com.movie.movie_backend.dto.MovieDetailDto;
-import com.movie.movie_backend.repository.PRDMovieListRepository;
-import com.movie.movie_backend.repository.BoxOfficeRepository;
+import com.movie.movie_backend.service.BoxOfficeSnapshotService;
+import com.movie.movie_backend.service.MovieCardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * MovieDetail -> MovieDetailDto 변환
+ * - 포스터, 감독명은 영화 카드(MovieCardService)에서 목록 단위로 한 번에 조회 → 캐시에 있으면 쿼리 없음
+ * - 박스오피스 순위/누적 관객수는 메모리 스냅샷에서 조회 (BoxOfficeSnapshotService)
+ */
 @Component
 @RequiredArgsConstructor
 public class MovieDetailMapper {
 
-    private final PRDMovieListRepository movieListRepository;
-    private final BoxOfficeRepository boxOfficeRepository;
+    private final MovieCardService movieCardService;
+    private final BoxOfficeSnapshotService boxOfficeSnapshotService;
 
     public MovieDetailDto toDto(MovieDetail movieDetail) {
-        // MovieList에서 포스터 URL 가져오기
-        String posterUrl = null;
-        String directorName = null;
-        
-        try {
-            MovieList movieList = movieListRepository.findById(movieDetail.getMovieCd()).orElse(null);
-            if (movieList != null) {
-                posterUrl = movieList.getPosterUrl();
-            }
-            
-            if (movieDetail.getDirector() != null) {
-                directorName = movieDetail.getDirector().getName();
-            }
-        } catch (Exception e) {
-            // 로그는 남기되 에러는 발생시키지 않음
+        return toDtoList(List.of(movieDetail)).get(0);
+    }
+
+    public List<MovieDetailDto> toDtoList(List<MovieDetail> movieDetails) {
+        if (movieDetails.isEmpty()) {
+            return new ArrayList<>();
         }
 
+        List<String> movieCds = movieDetails.stream()
+                .map(MovieDetail::getMovieCd)
+                .distinct()
+                .collect(Collectors.toList());
+
+        // 포스터/감독명은 영화 카드에서 한 번에 (캐시에 있으면 쿼리 없음)
+        Map<String, MovieCard> cards = movieCardService.getCards(movieCds);
+
+        // 최신 일일 박스오피스 (요청 동안 같은 스냅샷 사용)
+        BoxOfficeSnapshot boxOffice = boxOfficeSnapshotService.getDailySnapshot();
+        return movieDetails.stream()
+                .map(movieDetail -> toDto(movieDetail,
+                        cards.get(movieDetail.getMovieCd()),
+                        boxOffice))
+                .collect(Collectors.toList());
+    }
+
+    private MovieDetailDto toDto(MovieDetail movieDetail, MovieCard card, BoxOfficeSnapshot boxOffice) {
         // 왓챠피디아 스타일 정보 계산
         int calculatedDaysSinceRelease = calculateDaysSinceRelease(movieDetail.getOpenDt());
-        int reservationRank = getReservationRank(movieDetail.getMovieCd());
+        int reservationRank = boxOffice.rankOf(movieDetail.getMovieCd()); // 박스오피스에 없으면 0
         double reservationRate = calculateReservationRate(reservationRank);
-        int totalAudience = getTotalAudience(movieDetail.getMovieCd());
+        int totalAudience = (int) boxOffice.audiAccOf(movieDetail.getMovieCd());
 
         return MovieDetailDto.builder()
                 .movieCd(movieDetail.getMovieCd())
@@ -63,18 +80,12 @@ public class MovieDetailMapper {
                 .reservationRate(reservationRate)
                 .daysSinceRelease(calculatedDaysSinceRelease)
                 .totalAudience(totalAudience)
-                .posterUrl(posterUrl)
-                .directorName(directorName)
+                .posterUrl(card != null ? card.getPosterUrl() : null)
+                .directorName(card != null ? card.getDirectorName() : null)
                 .averageRating(movieDetail.getAverageRating() != null ? movieDetail.getAverageRating() : 0.0)
                 .build();
     }
 
-    public List<MovieDetailDto> toDtoList(List<MovieDetail> movieDetails) {
-        return movieDetails.stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
-    }
-
     // ===== 왓챠피디아 스타일 정보 계산 메서드들 =====
 
     /**
@@ -86,24 +97,6 @@ public class MovieDetailMapper {
         return (int) ChronoUnit.DAYS.between(openDt, today);
     }
 
-    /**
-     * 박스오피스에서 예매 순위 가져오기
-     */
-    private int getReservationRank(String movieCd) {
-        try {
-            // 최신 박스오피스에서 해당 영화의 순위 찾기
-            var latestBoxOffice = boxOfficeRepository.findLatestBoxOfficeTop10("DAILY");
-            for (var boxOffice : latestBoxOffice) {
-                if (boxOffice.getMovieCd().equals(movieCd)) {
-                    return boxOffice.getRank();
-                }
-            }
-        } catch (Exception e) {
-            // 에러 발생 시 기본값 반환
-        }
-        return 0; // 박스오피스에 없으면 0
-    }
-
     /**
      * 예매율 계산 (순위 기반 추정)
      */
@@ -117,22 +110,4 @@ public class MovieDetailMapper {
             return 1.0;
         }
     }
-
-    /**
-     * 박스오피스에서 누적 관객수 가져오기
-     */
-    private int getTotalAudience(String movieCd) {
-        try {
-            // 최신 박스오피스에서 해당 영화의 누적 관객수 찾기
-            var latestBoxOffice = boxOfficeRepository.findLatestBoxOfficeTop10("DAILY");
-            for (var boxOffice : latestBoxOffice) {
-                if (boxOffice.getMovieCd().equals(movieCd)) {
-                    return (int) boxOffice.getAudiAcc();
-                }
-            }
-        } catch (Exception e) {
-            // 에러 발생 시 기본값 반환
-        }
-        return 0; // 박스오피스에 없으면 0
-    }
-} 
+}
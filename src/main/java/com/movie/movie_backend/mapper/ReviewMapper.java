@@ -0,0 +1,36 @@
+package com.movie.movie_backend.mapper;
+
+import com.movie.movie_backend.dto.ReviewDto;
+import com.movie.movie_backend.entity.Review;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Review -> ReviewDto 변환 (작성자는 id/닉네임만, 영화는 코드만 → 캐시에 두어도 지연 로딩이 필요 없음)
+ */
+@Component
+public class ReviewMapper {
+
+    public ReviewDto toDto(Review review, String movieCd) {
+        return ReviewDto.builder()
+                .id(review.getId())
+                .movieCd(movieCd)
+                .userId(review.getUser() != null ? review.getUser().getId() : null)
+                .nickname(review.getUser() != null ? review.getUser().getNickname() : null)
+                .content(review.getContent())
+                .rating(review.getRating())
+                .ratingDisplay(review.getRatingDisplay())
+                .status(review.getStatus() != null ? review.getStatus().name() : null)
+                .createdAt(review.getCreatedAt())
+                .updatedAt(review.getUpdatedAt())
+                .build();
+    }
+
+    public List<ReviewDto> toDtoList(List<Review> reviews, String movieCd) {
+        return reviews.stream()
+                .map(review -> toDto(review, movieCd))
+                .collect(Collectors.toList());
+    }
+}
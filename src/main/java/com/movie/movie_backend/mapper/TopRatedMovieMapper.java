@@ -1,46 +1,43 @@
 package com.movie.movie_backend.mapper;
 
+import com.movie.movie_backend.entity.MovieCard;
 import com.movie.movie_backend.entity.MovieDetail;
-import com.movie.movie_backend.entity.MovieList;
 import com.movie.movie_backend.dto.TopRatedMovieDto;
-import com.movie.movie_backend.repository.PRDMovieListRepository;
-import com.movie.movie_backend.repository.BoxOfficeRepository;
+import com.movie.movie_backend.service.BoxOfficeSnapshotService;
+import com.movie.movie_backend.service.MovieCardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class TopRatedMovieMapper {
 
-    private final PRDMovieListRepository movieListRepository;
-    private final BoxOfficeRepository boxOfficeRepository;
+    private final MovieCardService movieCardService;
+    private final BoxOfficeSnapshotService boxOfficeSnapshotService;
 
     public TopRatedMovieDto toDto(MovieDetail movieDetail) {
-        // MovieList에서 포스터 URL과 기본 정보 가져오기
-        String posterUrl = null;
-        String movieNmEn = null;
-        String genreNm = null;
-        String nationNm = null;
-        String watchGradeNm = null;
-        
-        try {
-            MovieList movieList = movieListRepository.findById(movieDetail.getMovieCd()).orElse(null);
-            if (movieList != null) {
-                posterUrl = movieList.getPosterUrl();
-                movieNmEn = movieList.getMovieNmEn();
-                genreNm = movieList.getGenreNm();
-                nationNm = movieList.getNationNm();
-                watchGradeNm = movieList.getWatchGradeNm();
-            }
-        } catch (Exception e) {
-            // 로그는 남기되 에러는 발생시키지 않음
-        }
+        return toDto(movieDetail, movieCardService.getCard(movieDetail.getMovieCd()));
+    }
+
+    /**
+     * 포스터/영문명/장르 등은 영화 카드에서 한 번에 조회 (영화마다 MovieList를 따로 조회하지 않음)
+     */
+    public List<TopRatedMovieDto> toDtoList(List<MovieDetail> movieDetails) {
+        Map<String, MovieCard> cards = movieCardService.getCards(movieDetails.stream()
+                .map(MovieDetail::getMovieCd)
+                .collect(Collectors.toList()));
+        return movieDetails.stream()
+                .map(movieDetail -> toDto(movieDetail, cards.get(movieDetail.getMovieCd())))
+                .collect(Collectors.toList());
+    }
 
+    private TopRatedMovieDto toDto(MovieDetail movieDetail, MovieCard card) {
         // 왓챠피디아 스타일 정보 계산
         int calculatedDaysSinceRelease = calculateDaysSinceRelease(movieDetail.getOpenDt());
         int reservationRank = getReservationRank(movieDetail.getMovieCd());
@@ -50,17 +47,17 @@ public class TopRatedMovieMapper {
         return TopRatedMovieDto.builder()
                 .movieCd(movieDetail.getMovieCd())
                 .movieNm(movieDetail.getMovieNm())
-                .movieNmEn(movieNmEn != null ? movieNmEn : movieDetail.getMovieNmEn())
+                .movieNmEn(card != null && card.getMovieNmEn() != null ? card.getMovieNmEn() : movieDetail.getMovieNmEn())
                 .prdtYear(movieDetail.getPrdtYear())
                 .showTm(movieDetail.getShowTm())
                 .openDt(movieDetail.getOpenDt())
-                .genreNm(genreNm != null ? genreNm : movieDetail.getGenreNm())
-                .nationNm(nationNm != null ? nationNm : movieDetail.getNationNm())
-                .watchGradeNm(watchGradeNm != null ? watchGradeNm : movieDetail.getWatchGradeNm())
+                .genreNm(card != null && card.getGenreNm() != null ? card.getGenreNm() : movieDetail.getGenreNm())
+                .nationNm(card != null && card.getNationNm() != null ? card.getNationNm() : movieDetail.getNationNm())
+                .watchGradeNm(card != null && card.getWatchGradeNm() != null ? card.getWatchGradeNm() : movieDetail.getWatchGradeNm())
                 .companyNm(movieDetail.getCompanyNm())
                 .description(movieDetail.getDescription())
-                .posterUrl(posterUrl)
-                .directorName(movieDetail.getDirector() != null ? movieDetail.getDirector().getName() : null)
+                .posterUrl(card != null ? card.getPosterUrl() : null)
+                .directorName(card != null ? card.getDirectorName() : null)
                 .averageRating(movieDetail.getAverageRating() != null ? movieDetail.getAverageRating() : 0.0)
                 .ratingCount(movieDetail.getRatingCount() != null ? movieDetail.getRatingCount() : 0)
                 .reservationRank(reservationRank)
@@ -69,12 +66,6 @@ public class TopRatedMovieMapper {
                 .build();
     }
 
-    public List<TopRatedMovieDto> toDtoList(List<MovieDetail> movieDetails) {
-        return movieDetails.stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
-    }
-
     // ===== 왓챠피디아 스타일 정보 계산 메서드들 =====
 
     /**
@@ -87,21 +78,10 @@ public class TopRatedMovieMapper {
     }
 
     /**
-     * 박스오피스에서 예매 순위 가져오기
+     * 박스오피스에서 예매 순위 가져오기 (메모리 스냅샷, 없으면 0)
      */
     private int getReservationRank(String movieCd) {
-        try {
-            // 최신 박스오피스에서 해당 영화의 순위 찾기
-            var latestBoxOffice = boxOfficeRepository.findLatestBoxOfficeTop10("DAILY");
-            for (var boxOffice : latestBoxOffice) {
-                if (boxOffice.getMovieCd().equals(movieCd)) {
-                    return boxOffice.getRank();
-                }
-            }
-        } catch (Exception e) {
-            // 에러 발생 시 기본값 반환
-        }
-        return 0; // 박스오피스에 없으면 0
+        return boxOfficeSnapshotService.getDailySnapshot().rankOf(movieCd);
     }
 
     /**
@@ -119,20 +99,9 @@ public class TopRatedMovieMapper {
     }
 
     /**
-     * 박스오피스에서 누적 관객수 가져오기
+     * 박스오피스에서 누적 관객수 가져오기 (메모리 스냅샷, 없으면 0)
      */
     private int getTotalAudience(String movieCd) {
-        try {
-            // 최신 박스오피스에서 해당 영화의 누적 관객수 찾기
-            var latestBoxOffice = boxOfficeRepository.findLatestBoxOfficeTop10("DAILY");
-            for (var boxOffice : latestBoxOffice) {
-                if (boxOffice.getMovieCd().equals(movieCd)) {
-                    return (int) boxOffice.getAudiAcc();
-                }
-            }
-        } catch (Exception e) {
-            // 에러 발생 시 기본값 반환
-        }
-        return 0; // 박스오피스에 없으면 0
+        return (int) boxOfficeSnapshotService.getDailySnapshot().audiAccOf(movieCd);
     }
 } 
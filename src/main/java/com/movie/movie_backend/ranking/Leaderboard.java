@@ -0,0 +1,154 @@
+package com.movie.movie_backend.ranking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 카테고리별(전체/장르/상태) 상위 K개 순위표
+ *
+ * - 카테고리마다 정렬된 불변 배열(Board)을 두고, 변경 시 새 배열을 만들어 참조만 교체 (copy-on-write)
+ *   → 읽기는 잠금 없이 배열 앞부분만 복사 (O(limit))
+ * - 쓰기는 단일 스레드(synchronized)에서만 수행, 배열 크기가 capacity로 제한되므로 변경 비용은 O(capacity)
+ * - 읽기 최대 개수(K)보다 여유 있게 capacity(보통 2K)를 유지하고,
+ *   잘려 나간 후보가 있는 보드가 K개 미만으로 줄면 needsRefill()로 재구축 필요를 알림
+ */
+public class Leaderboard {
+
+    public static final String OVERALL = "overall";
+
+    private final int capacity;
+    private final Map<String, Board> boards = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> membership = new HashMap<>(); // movieCd -> 속한 카테고리 (쓰기 전용)
+
+    public Leaderboard(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * 상위 항목 조회 (잠금 없음)
+     */
+    public List<LeaderboardEntry> top(String category, int limit, Predicate<LeaderboardEntry> filter) {
+        Board board = boards.get(category);
+        if (board == null || limit <= 0) {
+            return List.of();
+        }
+        List<LeaderboardEntry> result = new ArrayList<>(Math.min(limit, board.entries.length));
+        for (LeaderboardEntry entry : board.entries) {
+            if (filter.test(entry)) {
+                result.add(entry);
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 항목 추가/갱신 (이전에 속했지만 이제 속하지 않는 카테고리에서는 제거)
+     */
+    public synchronized void update(LeaderboardEntry entry, Collection<String> categories) {
+        Set<String> next = new HashSet<>(categories);
+        Set<String> previous = membership.getOrDefault(entry.movieCd(), Set.of());
+        for (String category : previous) {
+            if (!next.contains(category)) {
+                removeFrom(category, entry.movieCd());
+            }
+        }
+        for (String category : next) {
+            Board board = boards.getOrDefault(category, Board.EMPTY);
+            boards.put(category, board.withUpsert(entry, capacity));
+        }
+        membership.put(entry.movieCd(), next);
+    }
+
+    /**
+     * 항목 삭제 (평점이 모두 지워진 영화 등)
+     */
+    public synchronized void remove(String movieCd) {
+        Set<String> previous = membership.remove(movieCd);
+        if (previous != null) {
+            previous.forEach(category -> removeFrom(category, movieCd));
+        }
+    }
+
+    /**
+     * 잘려 나간 후보가 있는데 minSize개 미만으로 줄어든 보드가 있는지 (재구축 필요 여부)
+     */
+    public boolean needsRefill(int minSize) {
+        for (Board board : boards.values()) {
+            if (board.truncated && board.entries.length < minSize) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void removeFrom(String category, String movieCd) {
+        Board board = boards.get(category);
+        if (board != null) {
+            boards.put(category, board.withRemoval(movieCd));
+        }
+    }
+
+    /**
+     * 정렬된 불변 배열 + 잘린 후보 존재 여부
+     */
+    private static final class Board {
+        static final Board EMPTY = new Board(new LeaderboardEntry[0], false);
+
+        final LeaderboardEntry[] entries;
+        final boolean truncated;
+
+        Board(LeaderboardEntry[] entries, boolean truncated) {
+            this.entries = entries;
+            this.truncated = truncated;
+        }
+
+        Board withUpsert(LeaderboardEntry entry, int capacity) {
+            LeaderboardEntry[] base = indexOf(entry.movieCd()) >= 0 ? without(entry.movieCd()) : entries;
+            int position = Arrays.binarySearch(base, entry, LeaderboardEntry.BEST_FIRST);
+            int insertAt = position >= 0 ? position : -position - 1;
+
+            if (insertAt >= capacity || (truncated && insertAt == base.length)) {
+                // 순위 밖으로 밀려남 (잘린 후보가 있으면 맨 끝 자리도 확신할 수 없으므로 제외)
+                return new Board(base, true);
+            }
+            int length = Math.min(base.length + 1, capacity);
+            LeaderboardEntry[] next = new LeaderboardEntry[length];
+            System.arraycopy(base, 0, next, 0, insertAt);
+            next[insertAt] = entry;
+            System.arraycopy(base, insertAt, next, insertAt + 1, length - insertAt - 1);
+            return new Board(next, truncated || base.length + 1 > capacity);
+        }
+
+        Board withRemoval(String movieCd) {
+            return indexOf(movieCd) >= 0 ? new Board(without(movieCd), truncated) : this;
+        }
+
+        private int indexOf(String movieCd) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].movieCd().equals(movieCd)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private LeaderboardEntry[] without(String movieCd) {
+            int index = indexOf(movieCd);
+            LeaderboardEntry[] next = new LeaderboardEntry[entries.length - 1];
+            System.arraycopy(entries, 0, next, 0, index);
+            System.arraycopy(entries, index + 1, next, index, entries.length - index - 1);
+            return next;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.movie.movie_backend.ranking;
+
+import com.movie.movie_backend.constant.MovieStatus;
+
+import java.util.Comparator;
+
+/**
+ * 순위표 항목 (평균 평점 내림차순 → 평점 개수 내림차순 → movieCd 오름차순)
+ */
+public record LeaderboardEntry(String movieCd, double average, long count, MovieStatus status) {
+
+    public static final Comparator<LeaderboardEntry> BEST_FIRST = Comparator
+            .comparingDouble(LeaderboardEntry::average).reversed()
+            .thenComparing(Comparator.comparingLong(LeaderboardEntry::count).reversed())
+            .thenComparing(LeaderboardEntry::movieCd);
+}
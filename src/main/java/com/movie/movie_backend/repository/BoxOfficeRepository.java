@@ -1,6 +1,7 @@
 package com.movie.movie_backend.repository;
 
 import com.movie.movie_backend.entity.BoxOffice;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -34,4 +35,8 @@ public interface BoxOfficeRepository extends JpaRepository<BoxOffice, Long> {
     
     // 특정 날짜와 타입으로 기존 데이터 삭제
     void deleteByTargetDateAndRankType(LocalDate targetDate, String rankType);
-} 
+
+    // id 순 keyset 페이지 (afterId가 null이면 처음부터, 영화 상세 함께 조회)
+    @Query("SELECT b FROM BoxOffice b LEFT JOIN FETCH b.movieDetail md WHERE (:afterId IS NULL OR b.id > :afterId) ORDER BY b.id")
+    List<BoxOffice> findPageAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
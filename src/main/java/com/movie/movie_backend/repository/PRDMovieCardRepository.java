@@ -0,0 +1,28 @@
+package com.movie.movie_backend.repository;
+
+import com.movie.movie_backend.entity.MovieCard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PRDMovieCardRepository extends JpaRepository<MovieCard, String> {
+
+    /**
+     * 박스오피스 순위가 있는 카드의 영화 코드 (박스오피스가 바뀌면 이전 순위 영화도 다시 만들기 위해)
+     */
+    @Query("SELECT c.movieCd FROM MovieCard c WHERE c.boxOfficeRank > 0")
+    List<String> findMovieCdsWithBoxOfficeRank();
+
+    /**
+     * 전체 재구축에서 갱신되지 않은(원본이 사라진) 카드 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM MovieCard c WHERE c.refreshedAt IS NULL OR c.refreshedAt < :before")
+    int deleteRefreshedBefore(@Param("before") LocalDateTime before);
+}
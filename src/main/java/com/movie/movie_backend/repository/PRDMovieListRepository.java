@@ -1,16 +1,26 @@
 package com.movie.movie_backend.repository;
 
+import com.movie.movie_backend.constant.MovieStatus;
 import com.movie.movie_backend.entity.MovieList;
+import com.movie.movie_backend.ingestion.MovieSearchTarget;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PRDMovieListRepository extends JpaRepository<MovieList, String> {
+
+    /**
+     * 상태별 목록 조건 (상태가 일치하거나 개봉일이 [from, to] 구간, 개봉일 없는 영화는 상태로만 포함)
+     * offset 페이지 전용, keyset 페이지는 두 조건을 나눈 쿼리를 사용
+     */
+    String LISTING_CONDITION = "(m.status = :status OR m.openDt BETWEEN :from AND :to)";
     
     /**
      * 영화 코드로 영화 찾기
@@ -42,6 +52,11 @@ public interface PRDMovieListRepository extends JpaRepository<MovieList, String>
      */
     List<MovieList> findByStatusOrderByOpenDtDesc(String status);
     
+    /**
+     * 영화 상태별 개수
+     */
+    long countByStatus(MovieStatus status);
+    
     /**
      * 장르별 조회
      */
@@ -68,4 +83,170 @@ public interface PRDMovieListRepository extends JpaRepository<MovieList, String>
      * 영화 코드 목록으로 조회
      */
     List<MovieList> findByMovieCdIn(List<String> movieCds);
-} 
+
+    /**
+     * 포스터 URL이 없는 영화 조회 (포스터 보강 작업 대상)
+     */
+    @Query("SELECT m FROM MovieList m WHERE m.posterUrl IS NULL OR m.posterUrl = ''")
+    List<MovieList> findWithoutPosterUrl();
+
+    /**
+     * MovieDetail이 없는 영화 (movieCd 순 keyset 페이지: afterMovieCd 다음부터 pageable 크기만큼, 안티 조인 한 번)
+     */
+    @Query("SELECT new com.movie.movie_backend.ingestion.MovieSearchTarget(m.movieCd, m.movieNm, m.movieNmEn, m.openDt) " +
+           "FROM MovieList m WHERE m.movieCd > :afterMovieCd " +
+           "AND NOT EXISTS (SELECT d.movieCd FROM MovieDetail d WHERE d.movieCd = m.movieCd) ORDER BY m.movieCd")
+    List<MovieSearchTarget> findTargetsWithoutDetail(@Param("afterMovieCd") String afterMovieCd, Pageable pageable);
+
+    /**
+     * MovieDetail이 없는 영화 수
+     */
+    @Query("SELECT COUNT(m) FROM MovieList m WHERE NOT EXISTS (SELECT d.movieCd FROM MovieDetail d WHERE d.movieCd = m.movieCd)")
+    long countWithoutDetail();
+
+    /**
+     * 상태별 MovieDetail이 없는 영화 (movieCd 순)
+     */
+    @Query("SELECT m FROM MovieList m WHERE m.status = :status " +
+           "AND NOT EXISTS (SELECT d.movieCd FROM MovieDetail d WHERE d.movieCd = m.movieCd) ORDER BY m.movieCd")
+    List<MovieList> findByStatusWithoutDetail(@Param("status") MovieStatus status, Pageable pageable);
+
+    /**
+     * 상태별 MovieDetail이 없는 영화 수
+     */
+    @Query("SELECT COUNT(m) FROM MovieList m WHERE m.status = :status " +
+           "AND NOT EXISTS (SELECT d.movieCd FROM MovieDetail d WHERE d.movieCd = m.movieCd)")
+    long countByStatusWithoutDetail(@Param("status") MovieStatus status);
+
+    /**
+     * movieCd 순 keyset 페이지 (afterMovieCd가 null이면 처음부터)
+     */
+    @Query("SELECT m FROM MovieList m WHERE (:afterMovieCd IS NULL OR m.movieCd > :afterMovieCd) ORDER BY m.movieCd")
+    List<MovieList> findPageAfter(@Param("afterMovieCd") String afterMovieCd, Pageable pageable);
+
+    /**
+     * 상태별 목록 개수 - 개봉일 구간 (idx_movie_list_open_dt 범위 조회)
+     */
+    @Query("SELECT COUNT(m) FROM MovieList m WHERE m.openDt BETWEEN :from AND :to")
+    long countListingInRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * 상태별 목록 개수 - 상태는 일치하지만 개봉일 구간 밖이거나 개봉일 없는 영화 (구간 쪽과 겹치지 않게)
+     */
+    @Query("SELECT COUNT(m) FROM MovieList m WHERE m.status = :status " +
+           "AND (m.openDt IS NULL OR m.openDt < :from OR m.openDt > :to)")
+    long countListingByStatusOutsideRange(@Param("status") MovieStatus status, @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to);
+
+    /**
+     * 상태별 목록 offset 페이지 (개봉일 오름차순, 개봉일 없는 영화는 뒤로)
+     */
+    @Query("SELECT m FROM MovieList m WHERE " + LISTING_CONDITION + " ORDER BY m.openDt ASC NULLS LAST, m.movieCd ASC")
+    List<MovieList> findListingOrderByOpenDtAsc(@Param("status") MovieStatus status, @Param("from") LocalDate from,
+                                                @Param("to") LocalDate to, Pageable pageable);
+
+    /**
+     * 상태별 목록 offset 페이지 (개봉일 내림차순, 개봉일 없는 영화는 뒤로)
+     */
+    @Query("SELECT m FROM MovieList m WHERE " + LISTING_CONDITION + " ORDER BY m.openDt DESC NULLS LAST, m.movieCd DESC")
+    List<MovieList> findListingOrderByOpenDtDesc(@Param("status") MovieStatus status, @Param("from") LocalDate from,
+                                                 @Param("to") LocalDate to, Pageable pageable);
+
+    // ===== 상태별 목록 keyset 페이지 =====
+    // 상태 조건과 개봉일 구간 조건을 따로 읽고 서비스에서 병합 (OR로 묶으면 (open_dt, movie_cd) 인덱스를 못 탐)
+    // 첫 페이지와 이어 읽기 쿼리도 분리 (seek 조건은 "openDt >= 커서" 범위 + 같은 날짜 안의 movieCd 비교)
+
+    /**
+     * 개봉일 구간, (openDt, movieCd) 오름차순 첫 페이지
+     */
+    @Query("SELECT m FROM MovieList m WHERE m.openDt BETWEEN :from AND :to ORDER BY m.openDt ASC, m.movieCd ASC")
+    List<MovieList> findListingInRangeAsc(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    /**
+     * 개봉일 구간, (openDt, movieCd) 오름차순으로 after 다음부터
+     */
+    @Query("SELECT m FROM MovieList m WHERE m.openDt BETWEEN :from AND :to AND m.openDt >= :afterOpenDt " +
+           "AND (m.openDt > :afterOpenDt OR m.movieCd > :afterMovieCd) ORDER BY m.openDt ASC, m.movieCd ASC")
+    List<MovieList> findListingInRangeAfter(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                            @Param("afterOpenDt") LocalDate afterOpenDt,
+                                            @Param("afterMovieCd") String afterMovieCd, Pageable pageable);
+
+    /**
+     * 개봉일 구간, (openDt, movieCd) 내림차순 첫 페이지
+     */
+    @Query("SELECT m FROM MovieList m WHERE m.openDt BETWEEN :from AND :to ORDER BY m.openDt DESC, m.movieCd DESC")
+    List<MovieList> findListingInRangeDesc(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    /**
+     * 개봉일 구간, (openDt, movieCd) 내림차순으로 before 다음부터
+     */
+    @Query("SELECT m FROM MovieList m WHERE m.openDt BETWEEN :from AND :to AND m.openDt <= :beforeOpenDt " +
+           "AND (m.openDt < :beforeOpenDt OR m.movieCd < :beforeMovieCd) ORDER BY m.openDt DESC, m.movieCd DESC")
+    List<MovieList> findListingInRangeBefore(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                             @Param("beforeOpenDt") LocalDate beforeOpenDt,
+                                             @Param("beforeMovieCd") String beforeMovieCd, Pageable pageable);
+
+    /**
+     * 상태 일치 + 개봉일 있음, (openDt, movieCd) 오름차순 첫 페이지 (idx_movie_list_status_open_dt)
+     */
+    @Query("SELECT m FROM MovieList m WHERE m.status = :status AND m.openDt IS NOT NULL ORDER BY m.openDt ASC, m.movieCd ASC")
+    List<MovieList> findListingByStatusAsc(@Param("status") MovieStatus status, Pageable pageable);
+
+    /**
+     * 상태 일치 + 개봉일 있음, (openDt, movieCd) 오름차순으로 after 다음부터
+     */
+    @Query("SELECT m FROM MovieList m WHERE m.status = :status AND m.openDt >= :afterOpenDt " +
+           "AND (m.openDt > :afterOpenDt OR m.movieCd > :afterMovieCd) ORDER BY m.openDt ASC, m.movieCd ASC")
+    List<MovieList> findListingByStatusAfter(@Param("status") MovieStatus status,
+                                             @Param("afterOpenDt") LocalDate afterOpenDt,
+                                             @Param("afterMovieCd") String afterMovieCd, Pageable pageable);
+
+    /**
+     * 상태 일치 + 개봉일 있음, (openDt, movieCd) 내림차순 첫 페이지
+     */
+    @Query("SELECT m FROM MovieList m WHERE m.status = :status AND m.openDt IS NOT NULL ORDER BY m.openDt DESC, m.movieCd DESC")
+    List<MovieList> findListingByStatusDesc(@Param("status") MovieStatus status, Pageable pageable);
+
+    /**
+     * 상태 일치 + 개봉일 있음, (openDt, movieCd) 내림차순으로 before 다음부터
+     */
+    @Query("SELECT m FROM MovieList m WHERE m.status = :status AND m.openDt <= :beforeOpenDt " +
+           "AND (m.openDt < :beforeOpenDt OR m.movieCd < :beforeMovieCd) ORDER BY m.openDt DESC, m.movieCd DESC")
+    List<MovieList> findListingByStatusBefore(@Param("status") MovieStatus status,
+                                              @Param("beforeOpenDt") LocalDate beforeOpenDt,
+                                              @Param("beforeMovieCd") String beforeMovieCd, Pageable pageable);
+
+    /**
+     * 개봉일 없는 구간, movieCd 오름차순 첫 페이지
+     */
+    @Query("SELECT m FROM MovieList m WHERE m.status = :status AND m.openDt IS NULL ORDER BY m.movieCd ASC")
+    List<MovieList> findListingWithoutOpenDtAsc(@Param("status") MovieStatus status, Pageable pageable);
+
+    /**
+     * 개봉일 없는 구간, movieCd 오름차순으로 after 다음부터
+     */
+    @Query("SELECT m FROM MovieList m WHERE m.status = :status AND m.openDt IS NULL " +
+           "AND m.movieCd > :afterMovieCd ORDER BY m.movieCd ASC")
+    List<MovieList> findListingWithoutOpenDtAfter(@Param("status") MovieStatus status,
+                                                  @Param("afterMovieCd") String afterMovieCd, Pageable pageable);
+
+    /**
+     * 개봉일 없는 구간, movieCd 내림차순 첫 페이지
+     */
+    @Query("SELECT m FROM MovieList m WHERE m.status = :status AND m.openDt IS NULL ORDER BY m.movieCd DESC")
+    List<MovieList> findListingWithoutOpenDtDesc(@Param("status") MovieStatus status, Pageable pageable);
+
+    /**
+     * 개봉일 없는 구간, movieCd 내림차순으로 before 다음부터
+     */
+    @Query("SELECT m FROM MovieList m WHERE m.status = :status AND m.openDt IS NULL " +
+           "AND m.movieCd < :beforeMovieCd ORDER BY m.movieCd DESC")
+    List<MovieList> findListingWithoutOpenDtBefore(@Param("status") MovieStatus status,
+                                                   @Param("beforeMovieCd") String beforeMovieCd, Pageable pageable);
+
+    /**
+     * 영화 코드 keyset 페이지 (movieCd 순, afterMovieCd 다음부터)
+     */
+    @Query("SELECT m.movieCd FROM MovieList m WHERE m.movieCd > :afterMovieCd ORDER BY m.movieCd")
+    List<String> findMovieCdsAfter(@Param("afterMovieCd") String afterMovieCd, Pageable pageable);
+}
@@ -2,13 +2,20 @@ package com.movie.movie_backend.repository;
 
 import com.movie.movie_backend.entity.MovieDetail;
 import com.movie.movie_backend.constant.MovieStatus;
+import com.movie.movie_backend.export.MovieExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PRDMovieRepository extends JpaRepository<MovieDetail, String> {
@@ -27,5 +34,76 @@ public interface PRDMovieRepository extends JpaRepository<MovieDetail, String> {
     @Query("SELECT m FROM MovieDetail m WHERE m.genreNm = :genreNm")
     List<MovieDetail> findByExactGenreNm(@Param("genreNm") String genreNm);
     
+    // 영화별 감독명 (목록 DTO 변환용) [movieCd, directorName]
+    @Query("SELECT m.movieCd, d.name FROM MovieDetail m JOIN m.director d WHERE m.movieCd IN :movieCds")
+    List<Object[]> findDirectorNamesByMovieCdIn(@Param("movieCds") Collection<String> movieCds);
+
+    // 스틸컷이 하나도 없는 영화 코드 (스틸컷 보강 작업 대상)
+    @Query("SELECT m.movieCd FROM MovieDetail m WHERE NOT EXISTS (SELECT s.id FROM Stillcut s WHERE s.movieDetail = m)")
+    List<String> findMovieCdsWithoutStillcuts();
+
+    // 감독 정보가 없는 영화 코드 (감독 보강 작업 대상)
+    @Query("SELECT m.movieCd FROM MovieDetail m LEFT JOIN m.director d WHERE d.id IS NULL OR d.name IS NULL OR d.name = ''")
+    List<String> findMovieCdsWithoutDirector();
+
+    // MovieList에 없는 MovieDetail 영화 코드 (movieCd 순, 정합성 점검용)
+    @Query("SELECT d.movieCd FROM MovieDetail d WHERE NOT EXISTS (SELECT m.movieCd FROM MovieList m WHERE m.movieCd = d.movieCd) ORDER BY d.movieCd")
+    List<String> findMovieCdsWithoutList(Pageable pageable);
+
+    @Query("SELECT COUNT(d) FROM MovieDetail d WHERE NOT EXISTS (SELECT m.movieCd FROM MovieList m WHERE m.movieCd = d.movieCd)")
+    long countWithoutList();
+
+    // 주어진 영화 코드 중 MovieDetail이 있는 코드 (청크 단위 존재 확인)
+    @Query("SELECT d.movieCd FROM MovieDetail d WHERE d.movieCd IN :movieCds")
+    List<String> findExistingMovieCds(@Param("movieCds") Collection<String> movieCds);
+    
     // 상품 관련 쿼리 메소드 추가 가능
-} 
+
+    /**
+     * movieCd 순 keyset 페이지 (afterMovieCd가 null이면 처음부터)
+     */
+    @Query("SELECT d FROM MovieDetail d WHERE (:afterMovieCd IS NULL OR d.movieCd > :afterMovieCd) ORDER BY d.movieCd")
+    List<MovieDetail> findPageAfter(@Param("afterMovieCd") String afterMovieCd, Pageable pageable);
+
+    /**
+     * 영화명 부분 일치 검색 keyset 페이지 (keyword는 LIKE 특수문자를 '!'로 이스케이프한 값)
+     */
+    @Query("SELECT d FROM MovieDetail d WHERE LOWER(d.movieNm) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '!' " +
+           "AND (:afterMovieCd IS NULL OR d.movieCd > :afterMovieCd) ORDER BY d.movieCd")
+    List<MovieDetail> searchByMovieNmAfter(@Param("keyword") String keyword, @Param("afterMovieCd") String afterMovieCd,
+                                           Pageable pageable);
+
+    /**
+     * 영화명 부분 일치 검색 개수 (keyword는 이스케이프한 값)
+     */
+    @Query("SELECT COUNT(d) FROM MovieDetail d WHERE LOWER(d.movieNm) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '!'")
+    long countByMovieNmLike(@Param("keyword") String keyword);
+
+    /**
+     * 내보내기용 전체 영화 스트림 (movieCd 순, status가 null이면 전체, 태그는 '|'로 이어 붙임)
+     * fetch size를 Integer.MIN_VALUE로 주면 MySQL 드라이버가 결과를 한꺼번에 받지 않고 한 행씩 읽어옴
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.movie.movie_backend.export.MovieExportRow(d.movieCd, d.movieNm, d.movieNmEn, d.prdtYear, " +
+           "d.showTm, d.openDt, d.prdtStatNm, d.typeNm, d.genreNm, d.nationNm, d.watchGradeNm, d.companyNm, d.status, " +
+           "dir.name, listagg(t.name, '|') WITHIN GROUP (ORDER BY t.name), d.description) " +
+           "FROM MovieDetail d LEFT JOIN d.director dir LEFT JOIN d.tags t " +
+           "WHERE (:status IS NULL OR d.status = :status) " +
+           "GROUP BY d.movieCd, dir.name ORDER BY d.movieCd")
+    Stream<MovieExportRow> streamExportRows(@Param("status") MovieStatus status);
+
+    /**
+     * MovieList에 없는 MovieDetail 영화 코드 (movieCd 순 keyset 페이지)
+     */
+    @Query("SELECT d.movieCd FROM MovieDetail d WHERE d.movieCd > :afterMovieCd " +
+           "AND NOT EXISTS (SELECT m.movieCd FROM MovieList m WHERE m.movieCd = d.movieCd) ORDER BY d.movieCd")
+    List<String> findMovieCdsWithoutListAfter(@Param("afterMovieCd") String afterMovieCd, Pageable pageable);
+
+    // 영화 코드 목록의 감독 이름/사진 (movieCd, name, photoUrl)
+    @Query("SELECT m.movieCd, d.name, d.photoUrl FROM MovieDetail m JOIN m.director d WHERE m.movieCd IN :movieCds")
+    List<Object[]> findDirectorsByMovieCdIn(@Param("movieCds") Collection<String> movieCds);
+
+    // 영화 코드 목록의 태그 이름 (movieCd, tagName)
+    @Query("SELECT m.movieCd, t.name FROM MovieDetail m JOIN m.tags t WHERE m.movieCd IN :movieCds ORDER BY t.name")
+    List<Object[]> findTagNamesByMovieCdIn(@Param("movieCds") Collection<String> movieCds);
+}
@@ -1,6 +1,8 @@
 package com.movie.movie_backend.repository;
 
 import com.movie.movie_backend.entity.Tag;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -21,6 +23,9 @@ public interface PRDTagRepository extends JpaRepository<Tag, Long> {
     // 태그명으로 검색 (부분 일치)
     List<Tag> findByNameContainingIgnoreCase(String name);
     
+    // 태그명으로 검색 (부분 일치, 페이징)
+    Page<Tag> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    
     // 특정 영화에 달린 태그들 조회
     @Query("SELECT t FROM Tag t JOIN t.movieDetails md WHERE md.movieCd = :movieCd")
     List<Tag> findTagsByMovieCd(@Param("movieCd") String movieCd);
@@ -0,0 +1,23 @@
+package com.movie.movie_backend.repository;
+
+import com.movie.movie_backend.constant.TmdbListType;
+import com.movie.movie_backend.entity.TmdbMovieListItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PRDTmdbMovieListRepository extends JpaRepository<TmdbMovieListItem, Long> {
+
+    // 저장된 목록 (순서대로)
+    List<TmdbMovieListItem> findByListTypeOrderBySortOrderAsc(TmdbListType listType);
+
+    // 목록 통째로 교체하기 전에 기존 행 삭제
+    @Modifying
+    @Query("DELETE FROM TmdbMovieListItem i WHERE i.listType = :listType")
+    int deleteByListType(@Param("listType") TmdbListType listType);
+}
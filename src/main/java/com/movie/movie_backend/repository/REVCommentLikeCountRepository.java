@@ -0,0 +1,18 @@
+package com.movie.movie_backend.repository;
+
+import com.movie.movie_backend.entity.CommentLikeCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface REVCommentLikeCountRepository extends JpaRepository<CommentLikeCount, Long> {
+
+    // 여러 댓글의 저장된 좋아요 수 [commentId, likeCount]
+    @Query("SELECT c.commentId, c.likeCount FROM CommentLikeCount c WHERE c.commentId IN :commentIds")
+    List<Object[]> findCountsByCommentIdIn(@Param("commentIds") Collection<Long> commentIds);
+}
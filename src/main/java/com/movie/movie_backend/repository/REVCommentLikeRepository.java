@@ -5,15 +5,16 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface REVCommentLikeRepository extends JpaRepository<CommentLike, Long> {
 
-    // 댓글별 좋아요 개수 조회
-    @Query("SELECT COUNT(cl) FROM CommentLike cl WHERE cl.comment.id = :commentId")
-    Long getLikeCountByCommentId(@Param("commentId") Long commentId);
+    // 여러 댓글 중 사용자가 좋아요를 누른 댓글 ID
+    @Query("SELECT cl.comment.id FROM CommentLike cl WHERE cl.user.id = :userId AND cl.comment.id IN :commentIds")
+    List<Long> findLikedCommentIds(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
 
     // 사용자가 특정 댓글에 좋아요를 눌렀는지 확인
     Optional<CommentLike> findByUserIdAndCommentId(Long userId, Long commentId);
@@ -1,10 +1,12 @@
 package com.movie.movie_backend.repository;
 
 import com.movie.movie_backend.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -33,6 +35,38 @@ public interface REVCommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.parent.id = :parentId AND c.status = 'ACTIVE'")
     Long getReplyCountByParentId(@Param("parentId") Long parentId);
 
+    // 리뷰의 활성 최상위 댓글 keyset 페이지 (최신순 = id 역순, afterId보다 오래된 것부터)
+    @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.user " +
+           "WHERE c.review.id = :reviewId AND c.parent IS NULL AND c.status = 'ACTIVE' " +
+           "AND (:afterId IS NULL OR c.id < :afterId) ORDER BY c.id DESC")
+    List<Comment> findTopLevelPage(@Param("reviewId") Long reviewId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 활성 대댓글 keyset 페이지 (작성순 = id 순, afterId 다음부터)
+    @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.user " +
+           "WHERE c.parent.id = :parentId AND c.status = 'ACTIVE' " +
+           "AND (:afterId IS NULL OR c.id > :afterId) ORDER BY c.id")
+    List<Comment> findReplyPage(@Param("parentId") Long parentId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 리뷰의 활성 최상위 댓글 개수
+    @Query("SELECT COUNT(c) FROM Comment c WHERE c.review.id = :reviewId AND c.parent IS NULL AND c.status = 'ACTIVE'")
+    long countTopLevelByReviewId(@Param("reviewId") Long reviewId);
+
+    // 여러 댓글의 활성 대댓글 개수 한 번에 조회 [parentId, count]
+    @Query("SELECT c.parent.id, COUNT(c) FROM Comment c WHERE c.parent.id IN :parentIds AND c.status = 'ACTIVE' GROUP BY c.parent.id")
+    List<Object[]> countRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds);
+
+    // 경로로 하위 트리 조회 (자기 포함, 경로 순 = 부모 다음에 자식이 작성순으로 오는 표시 순서)
+    @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.user WHERE c.path LIKE :pathPrefix ORDER BY c.path")
+    List<Comment> findSubtreeByPath(@Param("pathPrefix") String pathPrefix);
+
+    // 경로로 활성 하위 댓글 수 조회 (자기 제외)
+    @Query("SELECT COUNT(c) FROM Comment c WHERE c.path LIKE :pathPrefix AND c.path <> :path AND c.status = 'ACTIVE'")
+    long countDescendantsByPath(@Param("pathPrefix") String pathPrefix, @Param("path") String path);
+
+    // 리뷰의 전체 댓글 트리 조회 (경로 순)
+    @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.user WHERE c.review.id = :reviewId ORDER BY c.path")
+    List<Comment> findTreeByReviewId(@Param("reviewId") Long reviewId);
+
     // 활성 상태의 댓글만 조회
     List<Comment> findByReviewIdAndStatusOrderByCreatedAtDesc(Long reviewId, Comment.CommentStatus status);
 } 
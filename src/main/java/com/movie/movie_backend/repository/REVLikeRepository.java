@@ -2,9 +2,39 @@ package com.movie.movie_backend.repository;
 
 import com.movie.movie_backend.entity.Like;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface REVLikeRepository extends JpaRepository<Like, Long> {
-    // 좋아요 관련 쿼리 메소드 추가 가능
-} 
+
+    // 좋아요 추가 (이미 있으면 무시, uk_likes_user_movie) → 추가되면 1, 이미 있으면 0
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT IGNORE INTO likes (user_id, movie_detail_id, created_at) VALUES (:userId, :movieCd, :now)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("movieCd") String movieCd, @Param("now") LocalDateTime now);
+
+    // 좋아요 취소 → 지웠으면 1, 없었으면 0
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Like l WHERE l.user.id = :userId AND l.movieDetail.movieCd = :movieCd")
+    int deleteByUserIdAndMovieCd(@Param("userId") Long userId, @Param("movieCd") String movieCd);
+
+    // 사용자가 영화에 좋아요를 눌렀는지 확인
+    @Query("SELECT CASE WHEN COUNT(l) > 0 THEN true ELSE false END FROM Like l WHERE l.user.id = :userId AND l.movieDetail.movieCd = :movieCd")
+    boolean existsByUserIdAndMovieCd(@Param("userId") Long userId, @Param("movieCd") String movieCd);
+
+    // 여러 영화 중 사용자가 좋아요를 누른 영화 코드 (목록 화면용)
+    @Query("SELECT l.movieDetail.movieCd FROM Like l WHERE l.user.id = :userId AND l.movieDetail.movieCd IN :movieCds")
+    List<String> findLikedMovieCds(@Param("userId") Long userId, @Param("movieCds") Collection<String> movieCds);
+
+    // 영화 삭제 시 관련 좋아요 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Like l WHERE l.movieDetail.movieCd = :movieCd")
+    int deleteByMovieCd(@Param("movieCd") String movieCd);
+}
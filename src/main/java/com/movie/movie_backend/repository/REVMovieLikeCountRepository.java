@@ -0,0 +1,18 @@
+package com.movie.movie_backend.repository;
+
+import com.movie.movie_backend.entity.MovieLikeCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface REVMovieLikeCountRepository extends JpaRepository<MovieLikeCount, String> {
+
+    // 여러 영화의 저장된 좋아요 수 [movieCd, likeCount] (증감은 REVLikeCounterService가 주기적으로 반영)
+    @Query("SELECT c.movieCd, c.likeCount FROM MovieLikeCount c WHERE c.movieCd IN :movieCds")
+    List<Object[]> findCountsByMovieCdIn(@Param("movieCds") Collection<String> movieCds);
+}
@@ -0,0 +1,108 @@
+package com.movie.movie_backend.repository;
+
+import com.movie.movie_backend.constant.MovieStatus;
+import com.movie.movie_backend.entity.MovieDetail;
+import com.movie.movie_backend.entity.MovieRatingAggregate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface REVRatingAggregateRepository extends JpaRepository<MovieRatingAggregate, String> {
+
+    // 집계 행이 없으면 0으로 생성 (동시 생성 시 중복 키 무시)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT IGNORE INTO movie_rating_aggregate (movie_cd, rating_sum, rating_count, review_rating_sum, review_rating_count, " +
+                   "review_score1, review_score2, review_score3, review_score4, review_score5) " +
+                   "VALUES (:movieCd, 0, 0, 0, 0, 0, 0, 0, 0, 0)", nativeQuery = true)
+    void insertIfAbsent(@Param("movieCd") String movieCd);
+
+    // 평점 합계/개수 증감 (행 잠금으로 동시 갱신 직렬화)
+    @Modifying
+    @Query("UPDATE MovieRatingAggregate a SET a.ratingSum = a.ratingSum + :sumDelta, " +
+           "a.ratingCount = a.ratingCount + :countDelta, a.updatedAt = :now WHERE a.movieCd = :movieCd")
+    int addRatingDelta(@Param("movieCd") String movieCd, @Param("sumDelta") long sumDelta,
+                       @Param("countDelta") long countDelta, @Param("now") LocalDateTime now);
+
+    // 평점 합계/개수 덮어쓰기 (이전 값을 모를 때 재집계 결과로 교체)
+    @Modifying
+    @Query("UPDATE MovieRatingAggregate a SET a.ratingSum = :sum, a.ratingCount = :count, a.updatedAt = :now WHERE a.movieCd = :movieCd")
+    int setRatingTotals(@Param("movieCd") String movieCd, @Param("sum") long sum,
+                        @Param("count") long count, @Param("now") LocalDateTime now);
+
+    // 평점 평균 재계산 (정렬 인덱스용)
+    @Modifying
+    @Query("UPDATE MovieRatingAggregate a SET a.ratingAverage = " +
+           "CASE WHEN a.ratingCount > 0 THEN a.ratingSum * 1.0 / a.ratingCount ELSE NULL END WHERE a.movieCd = :movieCd")
+    int refreshRatingAverage(@Param("movieCd") String movieCd);
+
+    // 리뷰 평점 합계/개수/분포 증감
+    @Modifying
+    @Query("UPDATE MovieRatingAggregate a SET a.reviewRatingSum = a.reviewRatingSum + :sumDelta, " +
+           "a.reviewRatingCount = a.reviewRatingCount + :countDelta, " +
+           "a.reviewScore1 = a.reviewScore1 + :d1, a.reviewScore2 = a.reviewScore2 + :d2, a.reviewScore3 = a.reviewScore3 + :d3, " +
+           "a.reviewScore4 = a.reviewScore4 + :d4, a.reviewScore5 = a.reviewScore5 + :d5, a.updatedAt = :now " +
+           "WHERE a.movieCd = :movieCd")
+    int addReviewDelta(@Param("movieCd") String movieCd, @Param("sumDelta") long sumDelta, @Param("countDelta") long countDelta,
+                       @Param("d1") long d1, @Param("d2") long d2, @Param("d3") long d3, @Param("d4") long d4, @Param("d5") long d5,
+                       @Param("now") LocalDateTime now);
+
+    // 평점 합계/개수 (영속성 컨텍스트를 거치지 않고 DB 최신값 조회) [ratingSum, ratingCount]
+    @Query("SELECT a.ratingSum, a.ratingCount FROM MovieRatingAggregate a WHERE a.movieCd = :movieCd")
+    List<Object[]> findRatingSumAndCount(@Param("movieCd") String movieCd);
+
+    // 평균 평점 상위 영화 (MovieList에도 있는 영화만, idx_rating_average 사용)
+    @Query("SELECT m FROM MovieRatingAggregate a JOIN MovieDetail m ON m.movieCd = a.movieCd " +
+           "WHERE a.ratingCount > 0 AND EXISTS (SELECT 1 FROM MovieList ml WHERE ml.movieCd = a.movieCd) " +
+           "ORDER BY a.ratingAverage DESC, a.ratingCount DESC")
+    List<MovieDetail> findTopRatedMovies(Pageable pageable);
+
+    // 장르/상태 조건을 붙인 평균 평점 상위 영화 (조건이 null이면 무시)
+    // 장르는 쉼표로 나눈 장르명 중 하나와 완전 일치 (공백 무시, genre는 공백을 뺀 값으로 전달 - 순위표와 같은 기준)
+    @Query("SELECT m FROM MovieRatingAggregate a JOIN MovieDetail m ON m.movieCd = a.movieCd " +
+           "WHERE a.ratingCount > 0 AND EXISTS (SELECT 1 FROM MovieList ml WHERE ml.movieCd = a.movieCd) " +
+           "AND (:genre IS NULL OR CONCAT(',', REPLACE(m.genreNm, ' ', ''), ',') LIKE CONCAT('%,', :genre, ',%')) " +
+           "AND (:status IS NULL OR m.status = :status) " +
+           "ORDER BY a.ratingAverage DESC, a.ratingCount DESC")
+    List<MovieDetail> findTopRatedMoviesFiltered(@Param("genre") String genre, @Param("status") MovieStatus status,
+                                                 Pageable pageable);
+
+    // ===== 순위표 구축용 =====
+
+    // 순위표 대상 전체 (평균 평점 내림차순) [movieCd, ratingAverage, ratingCount, genreNm, status]
+    @Query("SELECT a.movieCd, a.ratingAverage, a.ratingCount, m.genreNm, m.status " +
+           "FROM MovieRatingAggregate a JOIN MovieDetail m ON m.movieCd = a.movieCd " +
+           "WHERE a.ratingCount > 0 AND EXISTS (SELECT 1 FROM MovieList ml WHERE ml.movieCd = a.movieCd) " +
+           "ORDER BY a.ratingAverage DESC, a.ratingCount DESC")
+    List<Object[]> findLeaderboardRows();
+
+    // 순위표 대상 중 지정한 영화들만 [movieCd, ratingAverage, ratingCount, genreNm, status]
+    @Query("SELECT a.movieCd, a.ratingAverage, a.ratingCount, m.genreNm, m.status " +
+           "FROM MovieRatingAggregate a JOIN MovieDetail m ON m.movieCd = a.movieCd " +
+           "WHERE a.movieCd IN :movieCds AND a.ratingCount > 0 " +
+           "AND EXISTS (SELECT 1 FROM MovieList ml WHERE ml.movieCd = a.movieCd)")
+    List<Object[]> findLeaderboardRowsByMovieCdIn(@Param("movieCds") Collection<String> movieCds);
+
+    // ===== 전체 재집계용 =====
+
+    // 영화별 평점 합계/개수 [movieCd, sum, count]
+    @Query("SELECT r.movieDetail.movieCd, SUM(r.score), COUNT(r) FROM Rating r GROUP BY r.movieDetail.movieCd")
+    List<Object[]> sumRatingsByMovie();
+
+    // 한 영화의 평점 합계/개수 [sum, count]
+    @Query("SELECT COALESCE(SUM(r.score), 0), COUNT(r) FROM Rating r WHERE r.movieDetail.movieCd = :movieCd")
+    List<Object[]> sumRatingsForMovie(@Param("movieCd") String movieCd);
+
+    // 영화별/점수별 리뷰 평점 개수 (삭제된 리뷰 제외) [movieCd, rating, count]
+    @Query("SELECT r.movieDetail.movieCd, r.rating, COUNT(r) FROM Review r " +
+           "WHERE r.rating IS NOT NULL AND (r.status IS NULL OR r.status <> com.movie.movie_backend.entity.Review.ReviewStatus.DELETED) " +
+           "GROUP BY r.movieDetail.movieCd, r.rating")
+    List<Object[]> countReviewRatingsByMovie();
+}
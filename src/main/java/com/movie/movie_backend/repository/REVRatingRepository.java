@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface REVRatingRepository extends JpaRepository<Rating, Long> {
@@ -13,6 +14,9 @@ public interface REVRatingRepository extends JpaRepository<Rating, Long> {
     // 특정 영화의 평점 조회
     List<Rating> findByMovieDetailMovieCd(String movieCd);
     
+    // 특정 사용자가 특정 영화에 남긴 평점 조회
+    Optional<Rating> findByMovieDetailMovieCdAndUserId(String movieCd, Long userId);
+    
     // 특정 영화의 평점 개수 조회
     long countByMovieDetailMovieCd(String movieCd);
     
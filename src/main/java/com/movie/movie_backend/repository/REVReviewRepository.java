@@ -5,13 +5,15 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface REVReviewRepository extends JpaRepository<Review, Long> {
 
-    // 영화별 리뷰 조회 (최신순)
-    List<Review> findByMovieDetailMovieCdOrderByCreatedAtDesc(String movieCd);
+    // 영화별 리뷰 조회 (최신순, 작성자 함께 조회)
+    @Query("SELECT r FROM Review r LEFT JOIN FETCH r.user WHERE r.movieDetail.movieCd = :movieCd ORDER BY r.createdAt DESC")
+    List<Review> findWithUserByMovieCd(@Param("movieCd") String movieCd);
 
     // 영화별 평점이 있는 리뷰만 조회 (최신순)
     List<Review> findByMovieDetailMovieCdAndRatingIsNotNullOrderByCreatedAtDesc(String movieCd);
@@ -19,17 +21,12 @@ public interface REVReviewRepository extends JpaRepository<Review, Long> {
     // 영화별 댓글만 있는 리뷰 조회 (평점 없음, 최신순)
     List<Review> findByMovieDetailMovieCdAndRatingIsNullOrderByCreatedAtDesc(String movieCd);
 
-    // 영화별 평균 평점 조회
-    @Query("SELECT AVG(r.rating) FROM Review r WHERE r.movieDetail.movieCd = :movieCd AND r.rating IS NOT NULL")
-    Double getAverageRatingByMovieCd(@Param("movieCd") String movieCd);
-
-    // 영화별 평점 개수 조회
-    @Query("SELECT COUNT(r) FROM Review r WHERE r.movieDetail.movieCd = :movieCd AND r.rating IS NOT NULL")
-    Long getRatingCountByMovieCd(@Param("movieCd") String movieCd);
-
-    // 영화별 평점 분포 조회 (평점별 개수)
-    @Query("SELECT r.rating, COUNT(r) FROM Review r WHERE r.movieDetail.movieCd = :movieCd AND r.rating IS NOT NULL GROUP BY r.rating ORDER BY r.rating")
-    List<Object[]> getRatingDistributionByMovieCd(@Param("movieCd") String movieCd);
+    // 영화별/점수별 리뷰 개수 (삭제된 리뷰 제외, 평점 없는 리뷰는 rating이 null인 묶음) [movieCd, rating, count]
+    @Query("SELECT r.movieDetail.movieCd, r.rating, COUNT(r) FROM Review r " +
+           "WHERE r.movieDetail.movieCd IN :movieCds " +
+           "AND (r.status IS NULL OR r.status <> com.movie.movie_backend.entity.Review.ReviewStatus.DELETED) " +
+           "GROUP BY r.movieDetail.movieCd, r.rating")
+    List<Object[]> countByMovieCdAndRating(@Param("movieCds") Collection<String> movieCds);
 
     // 사용자별 리뷰 조회 (최신순)
     List<Review> findByUserIdOrderByCreatedAtDesc(Long userId);
@@ -1,8 +1,75 @@
 package com.movie.movie_backend.repository;
 
-import org.springframework.stereotype.Repository;
+import com.movie.movie_backend.entity.MovieDetail;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
 
-@Repository
-public interface SRHMovieSearchRepository {
-    // 검색/필터 관련 쿼리 메소드 추가 예정
-} 
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 검색 인덱스 구축용 조회 쿼리 (엔티티 대신 필요한 컬럼만 가져옴)
+ */
+public interface SRHMovieSearchRepository extends Repository<MovieDetail, String> {
+
+    // 색인용 영화 기본 정보 (movieCd 기준 키셋 페이징)
+    // [movieCd, movieNm, movieNmEn, genreNm, directorName, ratingCount, averageRating]
+    @Query("SELECT m.movieCd, m.movieNm, m.movieNmEn, m.genreNm, d.name, m.ratingCount, m.averageRating " +
+           "FROM MovieDetail m LEFT JOIN m.director d WHERE m.movieCd > :afterMovieCd ORDER BY m.movieCd ASC")
+    List<Object[]> findDocumentRowsAfter(@Param("afterMovieCd") String afterMovieCd, Pageable pageable);
+
+    // 색인용 영화 기본 정보 (지정한 영화들만)
+    @Query("SELECT m.movieCd, m.movieNm, m.movieNmEn, m.genreNm, d.name, m.ratingCount, m.averageRating " +
+           "FROM MovieDetail m LEFT JOIN m.director d WHERE m.movieCd IN :movieCds")
+    List<Object[]> findDocumentRowsByMovieCdIn(@Param("movieCds") Collection<String> movieCds);
+
+    // 인덱스 구축 전 DB 검색용 (영화명 부분 일치, keyword는 이스케이프한 값)
+    @Query("SELECT m.movieCd, m.movieNm, m.movieNmEn, m.genreNm, d.name, m.ratingCount, m.averageRating " +
+           "FROM MovieDetail m LEFT JOIN m.director d " +
+           "WHERE LOWER(m.movieNm) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '!' ORDER BY m.movieCd ASC")
+    List<Object[]> findDocumentRowsByMovieNmLike(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query("SELECT COUNT(m) FROM MovieDetail m WHERE LOWER(m.movieNm) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '!'")
+    long countByMovieNmLike(@Param("keyword") String keyword);
+
+    // 영화별 출연 배우 이름 [movieCd, actorName]
+    @Query("SELECT c.movieDetail.movieCd, a.name FROM Cast c JOIN c.actor a " +
+           "WHERE c.movieDetail.movieCd IN :movieCds ORDER BY c.orderInCredits ASC")
+    List<Object[]> findActorNamesByMovieCdIn(@Param("movieCds") Collection<String> movieCds);
+
+    // 영화별 태그명 [movieCd, tagName]
+    @Query("SELECT m.movieCd, t.name FROM MovieDetail m JOIN m.tags t WHERE m.movieCd IN :movieCds")
+    List<Object[]> findTagNamesByMovieCdIn(@Param("movieCds") Collection<String> movieCds);
+
+    // 영화별 포스터 URL [movieCd, posterUrl]
+    @Query("SELECT ml.movieCd, ml.posterUrl FROM MovieList ml WHERE ml.movieCd IN :movieCds")
+    List<Object[]> findPosterUrlsByMovieCdIn(@Param("movieCds") Collection<String> movieCds);
+
+    // ===== 자동완성 색인용 =====
+
+    // 자동완성용 영화 제목 [movieCd, movieNm, movieNmEn]
+    @Query("SELECT ml.movieCd, ml.movieNm, ml.movieNmEn FROM MovieList ml")
+    List<Object[]> findSuggestionTitleRows();
+
+    // 영화별 최대 누적 관객수 [movieCd, audiAcc]
+    @Query("SELECT b.movieCd, MAX(b.audiAcc) FROM BoxOffice b GROUP BY b.movieCd")
+    List<Object[]> findMaxAudiAccRows();
+
+    // 영화별 평점 개수 [movieCd, ratingCount]
+    @Query("SELECT m.movieCd, m.ratingCount FROM MovieDetail m WHERE m.ratingCount > 0")
+    List<Object[]> findRatingCountRows();
+
+    // 배우별 출연 영화 [actorName, movieCd]
+    @Query("SELECT a.name, c.movieDetail.movieCd FROM Cast c JOIN c.actor a")
+    List<Object[]> findActorMovieRows();
+
+    // 감독별 연출 영화 [directorName, movieCd]
+    @Query("SELECT d.name, m.movieCd FROM MovieDetail m JOIN m.director d")
+    List<Object[]> findDirectorMovieRows();
+
+    // 태그별 영화 (영화가 없는 태그도 포함) [tagName, movieCd]
+    @Query("SELECT t.name, m.movieCd FROM Tag t LEFT JOIN t.movieDetails m")
+    List<Object[]> findTagMovieRows();
+}
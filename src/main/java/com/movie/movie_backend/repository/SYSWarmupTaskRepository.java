@@ -0,0 +1,9 @@
+package com.movie.movie_backend.repository;
+
+import com.movie.movie_backend.entity.WarmupTaskState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SYSWarmupTaskRepository extends JpaRepository<WarmupTaskState, String> {
+}
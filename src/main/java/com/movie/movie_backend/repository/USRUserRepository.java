@@ -3,6 +3,8 @@ package com.movie.movie_backend.repository;
 import com.movie.movie_backend.entity.User;
 import com.movie.movie_backend.constant.Provider;
 import com.movie.movie_backend.constant.UserRole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -43,6 +45,10 @@ public interface USRUserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.email LIKE %:keyword% OR u.nickname LIKE %:keyword% OR u.loginId LIKE %:keyword%")
     List<User> findByKeyword(@Param("keyword") String keyword);
     
+    // 검색용 페이징 조회 (닉네임만, 로그인 ID는 노출하지 않음 / keyword는 이스케이프한 값)
+    @Query("SELECT u FROM User u WHERE u.nickname LIKE CONCAT('%', :keyword, '%') ESCAPE '!'")
+    Page<User> searchByNickname(@Param("keyword") String keyword, Pageable pageable);
+    
     // 최근 가입자 조회
     @Query("SELECT u FROM User u ORDER BY u.createdAt DESC")
     List<User> findRecentUsers();
@@ -0,0 +1,291 @@
+package com.movie.movie_backend.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 한글 검색용 토크나이저
+ *
+ * - 단어 + 한글 음절 바이그램: "기생" 으로 "기생충" 검색 (LIKE '%기생%' 대체)
+ * - 한글 음절 유니그램: 한 글자 검색 "봉" 으로 "봉준호" 검색
+ * - 한글이 아닌 단어는 앞부분(edge n-gram, 최대 MAX_PREFIX 글자): "aveng" 으로 "Avengers" 검색
+ * - 초성 바이그램 (제목 전용): "ㄱㅅㅊ" 으로 "기생충" 검색
+ * - 자모 트라이그램 (제목 전용): 입력 중인 "기새", "기생ㅊ" 으로 "기생충" 검색
+ * - n-gram 교집합은 후보만 좁히고, 실제 포함 여부는 SearchQuery.filter 에서 원문으로 검증
+ */
+public class KoreanTokenizer extends SearchTokenizer {
+
+    private static final String CHOSUNG_PREFIX = "^c:";
+    private static final String JAMO_PREFIX = "^j:";
+
+    private static final int MAX_PREFIX = 15; // 한글이 아닌 단어의 앞부분 토큰 최대 길이 (더 긴 검색어는 원문으로 검증)
+
+    private static final char HANGUL_BASE = '가';
+    private static final char HANGUL_LAST = '힣';
+
+    private static final String[] CHOSUNG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    // 복합 모음/받침은 실제 타이핑 순서대로 풀어서 저장 (예: ㅘ -> ㅗㅏ, ㄺ -> ㄹㄱ)
+    private static final String[] JUNGSUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSUNG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    // 호환 자모 중 복합 모음/받침 단독 입력 분해용
+    private static final String COMPAT_COMPOUND = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPAT_COMPOUND_JAMO = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    /**
+     * 일반 필드 색인 토큰: 단어 + 한글 단어의 음절 바이그램/유니그램, 그 외 단어의 앞부분
+     */
+    @Override
+    public Set<String> indexTokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            tokens.add(word);
+            if (containsHangul(word)) {
+                addNgrams(tokens, "", word, 2);
+                addNgrams(tokens, "", word, 1);
+            } else {
+                addPrefixes(tokens, word);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 제목 색인 토큰: 일반 토큰 + 공백을 뺀 음절 바이그램 + 초성 바이그램 + 자모 트라이그램
+     * ("살인의추억" 처럼 띄어쓰기 없이 입력해도 검색되도록)
+     */
+    @Override
+    public Set<String> titleTokens(String title) {
+        Set<String> tokens = indexTokens(title);
+        String compact = compact(title);
+        if (containsHangul(compact)) {
+            addNgrams(tokens, "", compact, 2);
+            addNgrams(tokens, CHOSUNG_PREFIX, chosung(compact), 2);
+            addNgrams(tokens, JAMO_PREFIX, jamo(compact), 3);
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색 토큰: 한글 단어는 음절 바이그램 (한 글자 단어는 유니그램 그대로), 그 외 단어는 앞부분 토큰
+     */
+    @Override
+    public Set<String> queryTokens(String query) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(query)) {
+            if (containsHangul(word) && word.length() >= 2) {
+                addNgrams(tokens, "", word, 2);
+            } else if (containsHangul(word)) {
+                tokens.add(word);
+            } else {
+                tokens.add(word.length() > MAX_PREFIX ? word.substring(0, MAX_PREFIX) : word);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색 계획
+     * - 초성만 입력: 초성 바이그램 → 제목 초성에 연속으로 포함되는지 검증
+     * - 그 외: 음절 바이그램/앞부분 토큰 → 각 단어가 어느 필드에든 그대로 포함되는지 검증
+     *          결과가 없으면 자모 트라이그램 → 제목 자모열에 포함되는지 검증 (입력 중인 글자 대응)
+     */
+    @Override
+    public List<SearchQuery> queryPlans(String query) {
+        List<SearchQuery> plans = new ArrayList<>();
+        String compactQuery = compact(query);
+        if (compactQuery.isEmpty()) {
+            return plans;
+        }
+
+        if (isChosungOnly(compactQuery)) {
+            if (compactQuery.length() >= 2) {
+                Set<String> terms = new LinkedHashSet<>();
+                addNgrams(terms, CHOSUNG_PREFIX, compactQuery, 2);
+                plans.add(new SearchQuery(terms,
+                        document -> chosung(compact(document.getMovieNm())).contains(compactQuery)));
+            }
+            return plans;
+        }
+
+        Set<String> terms = queryTokens(query);
+        if (!terms.isEmpty()) {
+            List<String> queryWords = words(query);
+            plans.add(new SearchQuery(terms, document -> containsAllWords(document, queryWords)));
+        }
+
+        if (containsHangul(compactQuery)) {
+            String queryJamo = jamo(compactQuery);
+            if (queryJamo.length() >= 3) {
+                Set<String> jamoTerms = new LinkedHashSet<>();
+                addNgrams(jamoTerms, JAMO_PREFIX, queryJamo, 3);
+                plans.add(new SearchQuery(jamoTerms,
+                        document -> jamo(compact(document.getMovieNm())).contains(queryJamo)));
+            }
+        }
+        return plans;
+    }
+
+    // ===== 한글 유틸 =====
+
+    /**
+     * 초성 문자열 (한글 음절이 아닌 문자는 그대로)
+     */
+    public static String chosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isHangulSyllable(c)) {
+                sb.append(CHOSUNG[(c - HANGUL_BASE) / 588]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 자모 문자열 (타이핑 순서대로 분해, 한글이 아닌 문자는 그대로)
+     */
+    public static String jamo(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isHangulSyllable(c)) {
+                int code = c - HANGUL_BASE;
+                sb.append(CHOSUNG[code / 588])
+                        .append(JUNGSUNG[(code % 588) / 28])
+                        .append(JONGSUNG[code % 28]);
+            } else {
+                int compound = COMPAT_COMPOUND.indexOf(c);
+                if (compound >= 0) {
+                    sb.append(COMPAT_COMPOUND_JAMO[compound]);
+                } else {
+                    sb.append(c);
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    public static boolean containsHangul(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isHangulSyllable(c) || isCompatibilityJamo(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 한글 자음(ㄱ~ㅎ)으로만 이루어진 문자열인지
+     */
+    public static boolean isChosungOnly(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 정규화 후 문자/숫자만 남긴 문자열 (공백/문장부호 무시 비교용)
+     */
+    public static String compact(String text) {
+        if (text == null || text.isBlank()) {
+            return "";
+        }
+        String normalized = normalize(text);
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // ===== 내부 메서드 =====
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= HANGUL_BASE && c <= HANGUL_LAST;
+    }
+
+    private static boolean isCompatibilityJamo(char c) {
+        return c >= 'ㄱ' && c <= 'ㅣ';
+    }
+
+    /**
+     * n 글자 단위 n-gram 추가 (n보다 짧으면 전체를 하나의 토큰으로)
+     */
+    private static void addNgrams(Set<String> tokens, String prefix, String text, int n) {
+        if (text.length() <= n) {
+            tokens.add(prefix + text);
+            return;
+        }
+        for (int i = 0; i + n <= text.length(); i++) {
+            tokens.add(prefix + text.substring(i, i + n));
+        }
+    }
+
+    /**
+     * 단어의 앞부분 1 ~ MAX_PREFIX 글자 (단어 자체가 더 짧으면 단어까지)
+     */
+    private static void addPrefixes(Set<String> tokens, String word) {
+        int max = Math.min(word.length(), MAX_PREFIX);
+        for (int length = 1; length <= max; length++) {
+            tokens.add(word.substring(0, length));
+        }
+    }
+
+    /**
+     * 검색어의 단어가 모두 (공백 무시) 어느 한 필드에든 그대로 포함되는지
+     */
+    private static boolean containsAllWords(MovieDocument document, List<String> words) {
+        if (words.isEmpty()) {
+            return true;
+        }
+        List<String> fields = new ArrayList<>();
+        fields.add(compact(document.getMovieNm()));
+        fields.add(compact(document.getMovieNmEn()));
+        fields.add(compact(document.getDirectorName()));
+        document.getActors().forEach(actor -> fields.add(compact(actor)));
+        document.getTags().forEach(tag -> fields.add(compact(tag)));
+        document.getGenres().forEach(genre -> fields.add(compact(genre)));
+
+        for (String word : words) {
+            boolean found = false;
+            for (String field : fields) {
+                if (field.contains(word)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
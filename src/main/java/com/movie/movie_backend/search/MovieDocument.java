@@ -0,0 +1,53 @@
+package com.movie.movie_backend.search;
+
+import java.util.List;
+
+/**
+ * 검색 인덱스에 저장되는 영화 문서 (MovieDetail + Director + Cast/Actor + Tag + MovieList 포스터)
+ * 인덱스 내부에서 공유되므로 불변 객체로 유지
+ */
+public class MovieDocument {
+    private final String movieCd;        // 영화 코드
+    private final String movieNm;        // 영화명 (국문)
+    private final String movieNmEn;      // 영화명 (영문)
+    private final String directorName;   // 감독 이름
+    private final List<String> actors;   // 출연 배우 이름 (크레딧 순)
+    private final List<String> tags;     // 태그명
+    private final List<String> genres;   // 장르 (genreNm을 ',' 기준으로 분리)
+    private final String posterUrl;      // 포스터 URL (MovieList)
+    private final int ratingCount;       // 평점 개수 (랭킹 가중치)
+    private final double averageRating;  // 평균 평점 (랭킹 가중치)
+
+    public MovieDocument(String movieCd, String movieNm, String movieNmEn, String directorName,
+                         List<String> actors, List<String> tags, List<String> genres,
+                         String posterUrl, int ratingCount, double averageRating) {
+        this.movieCd = movieCd;
+        this.movieNm = movieNm;
+        this.movieNmEn = movieNmEn;
+        this.directorName = directorName;
+        this.actors = copyNonBlank(actors);
+        this.tags = copyNonBlank(tags);
+        this.genres = copyNonBlank(genres);
+        this.posterUrl = posterUrl;
+        this.ratingCount = ratingCount;
+        this.averageRating = averageRating;
+    }
+
+    private static List<String> copyNonBlank(List<String> values) {
+        if (values == null) return List.of();
+        return values.stream()
+                .filter(value -> value != null && !value.isBlank())
+                .toList();
+    }
+
+    public String getMovieCd() { return movieCd; }
+    public String getMovieNm() { return movieNm; }
+    public String getMovieNmEn() { return movieNmEn; }
+    public String getDirectorName() { return directorName; }
+    public List<String> getActors() { return actors; }
+    public List<String> getTags() { return tags; }
+    public List<String> getGenres() { return genres; }
+    public String getPosterUrl() { return posterUrl; }
+    public int getRatingCount() { return ratingCount; }
+    public double getAverageRating() { return averageRating; }
+}
@@ -0,0 +1,338 @@
+package com.movie.movie_backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 영화 검색용 인메모리 역색인
+ *
+ * - 문서 ID(docId)는 추가될 때마다 단조 증가하므로 포스팅 리스트는 항상 정렬된 상태로 append만 발생
+ * - 수정은 "기존 문서 삭제 표시(tombstone) + 새 docId로 추가" 방식 (Lucene 세그먼트와 같은 방식)
+ * - 검색은 가장 짧은 포스팅부터 교집합을 구하고, (page+1)*size 크기의 힙으로 상위 결과만 유지
+ *   → 비용이 전체 카탈로그 크기가 아니라 매칭된 포스팅 길이에 비례
+ * - 삭제 표시가 많아지면 compact()로 새 인덱스를 만들어 교체
+ */
+public class MovieInvertedIndex {
+
+    // 필드 비트마스크
+    public static final int FIELD_TITLE = 1;
+    public static final int FIELD_TITLE_EN = 1 << 1;
+    public static final int FIELD_DIRECTOR = 1 << 2;
+    public static final int FIELD_ACTOR = 1 << 3;
+    public static final int FIELD_TAG = 1 << 4;
+    public static final int FIELD_GENRE = 1 << 5;
+    public static final int ALL_FIELDS = (1 << 6) - 1;
+
+    private final SearchTokenizer tokenizer;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<MovieDocument> documents = new ArrayList<>(); // docId -> 문서
+    private final BitSet deleted = new BitSet();                      // 삭제 표시된 docId
+    private final Map<String, Integer> liveDocIds = new HashMap<>();  // movieCd -> 현재 docId
+    private final Map<String, Postings> postings = new HashMap<>();   // 토큰 -> 포스팅 리스트
+
+    public MovieInvertedIndex(SearchTokenizer tokenizer) {
+        this.tokenizer = tokenizer;
+    }
+
+    /**
+     * 문서 추가 또는 교체
+     */
+    public void upsert(MovieDocument document) {
+        Map<String, Integer> termFields = analyze(document);
+
+        lock.writeLock().lock();
+        try {
+            Integer previous = liveDocIds.get(document.getMovieCd());
+            if (previous != null) {
+                deleted.set(previous);
+            }
+
+            int docId = documents.size();
+            documents.add(document);
+            liveDocIds.put(document.getMovieCd(), docId);
+
+            for (Map.Entry<String, Integer> entry : termFields.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), key -> new Postings())
+                        .append(docId, entry.getValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 삭제 (삭제 표시만 하고 포스팅은 compact 시 정리)
+     */
+    public void remove(String movieCd) {
+        lock.writeLock().lock();
+        try {
+            Integer docId = liveDocIds.remove(movieCd);
+            if (docId != null) {
+                deleted.set(docId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 (모든 검색 토큰을 포함하는 문서만, 점수 내림차순 페이징)
+     */
+    public SearchPage search(String query, int page, int size) {
+        return search(query, ALL_FIELDS, page, size);
+    }
+
+    /**
+     * 지정한 필드에서만 검색
+     * - 토크나이저가 만든 검색 계획을 순서대로 시도해서 결과가 있는 첫 번째 계획의 결과를 반환
+     */
+    public SearchPage search(String query, int fieldMask, int page, int size) {
+        if (page < 0 || size <= 0) {
+            return SearchPage.empty(page, size);
+        }
+        for (SearchQuery plan : tokenizer.queryPlans(query)) {
+            SearchPage result = execute(plan, fieldMask, page, size);
+            if (result.totalElements() > 0) {
+                return result;
+            }
+        }
+        return SearchPage.empty(page, size);
+    }
+
+    /**
+     * movieCd로 현재 문서 조회
+     */
+    public MovieDocument get(String movieCd) {
+        lock.readLock().lock();
+        try {
+            Integer docId = liveDocIds.get(movieCd);
+            return docId != null ? documents.get(docId) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 살아있는 문서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제 표시된 문서 비율 (compact 필요 여부 판단용)
+     */
+    public double deletedRatio() {
+        lock.readLock().lock();
+        try {
+            return documents.isEmpty() ? 0.0 : (double) deleted.cardinality() / documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제 표시를 제거한 새 인덱스 생성 (현재 인덱스는 그대로 읽기 가능)
+     */
+    public MovieInvertedIndex compact() {
+        List<MovieDocument> live;
+        lock.readLock().lock();
+        try {
+            live = new ArrayList<>(liveDocIds.size());
+            for (int docId = 0; docId < documents.size(); docId++) {
+                if (!deleted.get(docId)) {
+                    live.add(documents.get(docId));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        MovieInvertedIndex compacted = new MovieInvertedIndex(tokenizer);
+        live.forEach(compacted::upsert);
+        return compacted;
+    }
+
+    // ===== 내부 메서드 =====
+
+    /**
+     * 검색 계획 실행 (가장 짧은 포스팅부터 교집합 + 후보 검증 + 상위 K개 유지)
+     */
+    private SearchPage execute(SearchQuery plan, int fieldMask, int page, int size) {
+        Set<String> terms = plan.terms();
+        if (terms.isEmpty()) {
+            return SearchPage.empty(page, size);
+        }
+
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[terms.size()];
+            int i = 0;
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    return SearchPage.empty(page, size); // 하나라도 없으면 교집합은 공집합
+                }
+                lists[i++] = list;
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+            int limit = (int) Math.min((long) (page + 1) * size, Integer.MAX_VALUE);
+            PriorityQueue<ScoredDoc> topK = new PriorityQueue<>(Math.min(limit, 1024), ScoredDoc.WORST_FIRST);
+            int[] cursors = new int[lists.length];
+            long total = 0;
+
+            Postings shortest = lists[0];
+            outer:
+            for (int p = 0; p < shortest.size; p++) {
+                int docId = shortest.docIds[p];
+                int fields = shortest.fields[p] & fieldMask;
+                if (fields == 0 || deleted.get(docId)) {
+                    continue;
+                }
+                double score = fieldScore(fields);
+                for (int l = 1; l < lists.length; l++) {
+                    int pos = lists[l].advance(cursors[l], docId);
+                    cursors[l] = pos;
+                    if (pos >= lists[l].size || lists[l].docIds[pos] != docId) {
+                        continue outer;
+                    }
+                    fields = lists[l].fields[pos] & fieldMask;
+                    if (fields == 0) {
+                        continue outer;
+                    }
+                    score += fieldScore(fields);
+                }
+
+                MovieDocument document = documents.get(docId);
+                if (!plan.filter().test(document)) {
+                    continue; // n-gram 교집합만으로는 순서/인접 여부를 보장하지 못하므로 원문으로 검증
+                }
+                total++;
+                ScoredDoc candidate = new ScoredDoc(docId, score + staticBoost(document));
+                if (topK.size() < limit) {
+                    topK.add(candidate);
+                } else if (ScoredDoc.WORST_FIRST.compare(candidate, topK.peek()) > 0) {
+                    topK.poll();
+                    topK.add(candidate);
+                }
+            }
+
+            List<ScoredDoc> ranked = new ArrayList<>(topK);
+            ranked.sort(ScoredDoc.WORST_FIRST.reversed());
+
+            List<SearchHit> hits = new ArrayList<>();
+            for (int r = page * size; r < ranked.size(); r++) {
+                ScoredDoc scored = ranked.get(r);
+                hits.add(new SearchHit(documents.get(scored.docId), scored.score));
+            }
+            return new SearchPage(hits, total, page, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 문서의 필드별 토큰을 모아 토큰 -> 필드 비트마스크로 변환
+     */
+    private Map<String, Integer> analyze(MovieDocument document) {
+        Map<String, Integer> termFields = new HashMap<>();
+        addTitle(termFields, document.getMovieNm(), FIELD_TITLE);
+        addTitle(termFields, document.getMovieNmEn(), FIELD_TITLE_EN);
+        addField(termFields, document.getDirectorName(), FIELD_DIRECTOR);
+        document.getActors().forEach(actor -> addField(termFields, actor, FIELD_ACTOR));
+        document.getTags().forEach(tag -> addField(termFields, tag, FIELD_TAG));
+        document.getGenres().forEach(genre -> addField(termFields, genre, FIELD_GENRE));
+        return termFields;
+    }
+
+    private void addField(Map<String, Integer> termFields, String text, int field) {
+        for (String token : tokenizer.indexTokens(text)) {
+            termFields.merge(token, field, (a, b) -> a | b);
+        }
+    }
+
+    private void addTitle(Map<String, Integer> termFields, String title, int field) {
+        for (String token : tokenizer.titleTokens(title)) {
+            termFields.merge(token, field, (a, b) -> a | b);
+        }
+    }
+
+    /**
+     * 토큰이 매칭된 필드들의 가중치 합
+     */
+    private static double fieldScore(int fields) {
+        double score = 0.0;
+        if ((fields & FIELD_TITLE) != 0) score += 10.0;
+        if ((fields & FIELD_TITLE_EN) != 0) score += 6.0;
+        if ((fields & FIELD_DIRECTOR) != 0) score += 4.0;
+        if ((fields & FIELD_ACTOR) != 0) score += 3.0;
+        if ((fields & FIELD_TAG) != 0) score += 2.0;
+        if ((fields & FIELD_GENRE) != 0) score += 1.0;
+        return score;
+    }
+
+    /**
+     * 검색어와 무관한 문서 자체 가중치 (평점 개수/평균 평점)
+     */
+    private static double staticBoost(MovieDocument document) {
+        return Math.log1p(document.getRatingCount()) * 0.5 + document.getAverageRating() * 0.1;
+    }
+
+    /**
+     * 정렬된 docId 배열 + 필드 마스크 (append 전용)
+     */
+    private static final class Postings {
+        private int[] docIds = new int[4];
+        private int[] fields = new int[4];
+        private int size;
+
+        void append(int docId, int fieldMask) {
+            if (size == docIds.length) {
+                docIds = Arrays.copyOf(docIds, size * 2);
+                fields = Arrays.copyOf(fields, size * 2);
+            }
+            docIds[size] = docId;
+            fields[size] = fieldMask;
+            size++;
+        }
+
+        /**
+         * from 위치부터 docId 이상인 첫 위치 (지수 탐색 + 이진 탐색)
+         */
+        int advance(int from, int docId) {
+            if (from >= size || docIds[from] >= docId) {
+                return from;
+            }
+            int bound = 1;
+            while (from + bound < size && docIds[from + bound] < docId) {
+                bound <<= 1;
+            }
+            int low = from + (bound >> 1);
+            int high = Math.min(from + bound, size - 1);
+            int found = Arrays.binarySearch(docIds, low, high + 1, docId);
+            return found >= 0 ? found : -found - 1;
+        }
+    }
+
+    private record ScoredDoc(int docId, double score) {
+        // 점수가 낮을수록, 점수가 같으면 나중에 색인된 문서일수록 "나쁜" 결과
+        static final Comparator<ScoredDoc> WORST_FIRST = Comparator
+                .comparingDouble(ScoredDoc::score)
+                .thenComparing(Comparator.comparingInt(ScoredDoc::docId).reversed());
+    }
+}
@@ -0,0 +1,7 @@
+package com.movie.movie_backend.search;
+
+/**
+ * 검색 결과 1건 (문서 + 점수)
+ */
+public record SearchHit(MovieDocument document, double score) {
+}
@@ -0,0 +1,17 @@
+package com.movie.movie_backend.search;
+
+import java.util.List;
+
+/**
+ * 인덱스 검색 결과 페이지
+ */
+public record SearchPage(List<SearchHit> hits, long totalElements, int page, int size) {
+
+    public static SearchPage empty(int page, int size) {
+        return new SearchPage(List.of(), 0, page, size);
+    }
+
+    public int totalPages() {
+        return size <= 0 ? 0 : (int) Math.ceil((double) totalElements / size);
+    }
+}
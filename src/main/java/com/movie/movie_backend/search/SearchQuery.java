@@ -0,0 +1,14 @@
+package com.movie.movie_backend.search;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 인덱스 검색 계획 (교집합을 구할 토큰 + 후보 문서 검증 조건)
+ */
+public record SearchQuery(Set<String> terms, Predicate<MovieDocument> filter) {
+
+    public static SearchQuery of(Set<String> terms) {
+        return new SearchQuery(terms, document -> true);
+    }
+}
@@ -0,0 +1,90 @@
+package com.movie.movie_backend.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색 인덱스용 기본 토크나이저
+ * - NFC 정규화 + 전각 문자 변환 + 소문자 변환 후 문자/숫자가 아닌 문자를 기준으로 단어 분리
+ * - 색인 시점과 검색 시점의 토큰 규칙을 분리해 두어 하위 클래스에서 n-gram 등을 붙일 수 있게 함
+ */
+public class SearchTokenizer {
+
+    /**
+     * 색인할 텍스트를 토큰으로 분리 (중복 제거)
+     */
+    public Set<String> indexTokens(String text) {
+        return new LinkedHashSet<>(words(text));
+    }
+
+    /**
+     * 영화 제목을 토큰으로 분리 (제목 전용 토큰이 필요한 경우 하위 클래스에서 확장)
+     */
+    public Set<String> titleTokens(String title) {
+        return indexTokens(title);
+    }
+
+    /**
+     * 검색어를 토큰으로 분리 (중복 제거)
+     */
+    public Set<String> queryTokens(String query) {
+        return new LinkedHashSet<>(words(query));
+    }
+
+    /**
+     * 검색 계획 목록 (앞에서부터 시도해서 결과가 있는 첫 번째 계획을 사용)
+     */
+    public List<SearchQuery> queryPlans(String query) {
+        Set<String> terms = queryTokens(query);
+        return terms.isEmpty() ? List.of() : List.of(SearchQuery.of(terms));
+    }
+
+    /**
+     * 정규화된 단어 목록
+     */
+    protected List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return words;
+        }
+
+        String normalized = normalize(text);
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (current.length() > 0) {
+                words.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            words.add(current.toString());
+        }
+        return words;
+    }
+
+    /**
+     * NFC 정규화 + 전각 문자 변환 + 소문자 변환
+     * (NFKC는 호환 자모 "ㄱㅅ"을 조합형 자모로 바꾸고 음절로 합쳐 버리므로 사용하지 않음)
+     */
+    public static String normalize(String text) {
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC);
+        StringBuilder sb = new StringBuilder(composed.length());
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (c >= '\uFF01' && c <= '\uFF5E') {
+                c = (char) (c - 0xFEE0); // 전각 ASCII -> 반각
+            } else if (c == '\u3000') {
+                c = ' ';
+            }
+            sb.append(c);
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,15 @@
+package com.movie.movie_backend.search;
+
+/**
+ * 자동완성 후보 (영화 제목/배우/감독/태그)
+ * movieCd는 영화 제목 후보일 때만 존재
+ */
+public record Suggestion(String text, Type type, String movieCd, double weight) {
+
+    public enum Type {
+        MOVIE,
+        ACTOR,
+        DIRECTOR,
+        TAG
+    }
+}
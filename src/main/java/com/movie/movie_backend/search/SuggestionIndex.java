@@ -0,0 +1,245 @@
+package com.movie.movie_backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 자동완성용 불변 접두사 색인
+ *
+ * - 모든 키를 정렬된 배열로 평탄화한 트라이: 같은 접두사를 가진 키는 배열에서 연속 구간을 이룸
+ *   → 접두사 구간은 이진 탐색 두 번으로 찾음 (O(|접두사| * log N))
+ * - 구간 내 가중치 최댓값 위치를 세그먼트 트리로 미리 계산해 두고,
+ *   "최댓값 꺼내고 구간 둘로 나누기"를 반복해 상위 K개를 O(K log K)로 추출 (구간 크기와 무관)
+ * - 한 번 만들면 수정하지 않음 (재구축 후 참조 교체 방식으로만 갱신)
+ *
+ * 키 종류
+ * - 공백/문장부호를 뺀 이름 전체, 그리고 각 단어 시작 위치부터의 나머지 ("추억" → "살인의 추억")
+ * - 한글 이름은 초성 키("ㅅㅇㅇㅊㅇ"), 자모 키(입력 중인 "살이" → "살인의 추억")를 별도 네임스페이스로 추가
+ */
+public class SuggestionIndex {
+
+    private static final String CHOSUNG_PREFIX = "^c:";
+    private static final String JAMO_PREFIX = "^j:";
+    private static final int MAX_WORD_KEYS = 4; // 이름당 단어 시작 키 최대 개수
+
+    private static final SuggestionIndex EMPTY = new Builder().build();
+
+    private final String[] keys;          // 정렬된 키
+    private final int[] suggestionIds;    // 키 위치 -> 후보 번호
+    private final Suggestion[] suggestions;
+    private final int[] maxTree;          // 세그먼트 트리 (구간 내 가중치 최대 키 위치)
+    private final int leafBase;
+
+    private SuggestionIndex(String[] keys, int[] suggestionIds, Suggestion[] suggestions) {
+        this.keys = keys;
+        this.suggestionIds = suggestionIds;
+        this.suggestions = suggestions;
+
+        int base = 1;
+        while (base < Math.max(keys.length, 1)) {
+            base <<= 1;
+        }
+        this.leafBase = base;
+        this.maxTree = new int[base * 2];
+        Arrays.fill(maxTree, -1);
+        for (int i = 0; i < keys.length; i++) {
+            maxTree[base + i] = i;
+        }
+        for (int node = base - 1; node >= 1; node--) {
+            maxTree[node] = better(maxTree[node * 2], maxTree[node * 2 + 1]);
+        }
+    }
+
+    public static SuggestionIndex empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 접두사 자동완성 (가중치 내림차순, 같은 후보는 한 번만)
+     * - 초성만 입력: 초성 키에서 검색
+     * - 그 외: 일반 키에서 검색 후 모자라면 자모 키로 보충 (입력 중인 마지막 글자 대응)
+     */
+    public List<Suggestion> suggest(String query, int limit) {
+        List<Suggestion> result = new ArrayList<>();
+        if (query == null || limit <= 0) {
+            return result;
+        }
+        String prefix = KoreanTokenizer.compact(query);
+        if (prefix.isEmpty()) {
+            return result;
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        if (KoreanTokenizer.isChosungOnly(prefix)) {
+            collect(CHOSUNG_PREFIX + prefix, limit, seen, result);
+            return result;
+        }
+        collect(prefix, limit, seen, result);
+        if (result.size() < limit && KoreanTokenizer.containsHangul(prefix)) {
+            collect(JAMO_PREFIX + KoreanTokenizer.jamo(prefix), limit, seen, result);
+        }
+        return result;
+    }
+
+    public int size() {
+        return suggestions.length;
+    }
+
+    // ===== 내부 메서드 =====
+
+    /**
+     * 접두사 구간에서 가중치 상위 후보를 limit개까지 추가
+     */
+    private void collect(String prefix, int limit, Set<Integer> seen, List<Suggestion> result) {
+        int from = lowerBound(prefix);
+        int to = lowerBound(prefix + Character.MAX_VALUE);
+        if (from >= to) {
+            return;
+        }
+
+        // (구간, 구간 최댓값 위치)를 가중치 순으로 꺼냄
+        PriorityQueue<int[]> ranges = new PriorityQueue<>(
+                Comparator.comparingDouble((int[] range) -> weightAt(range[2])).reversed());
+        ranges.add(new int[]{from, to, rangeMax(from, to)});
+
+        while (!ranges.isEmpty() && result.size() < limit) {
+            int[] range = ranges.poll();
+            int best = range[2];
+            int suggestionId = suggestionIds[best];
+            if (seen.add(suggestionId)) {
+                result.add(suggestions[suggestionId]);
+            }
+            if (range[0] < best) {
+                ranges.add(new int[]{range[0], best, rangeMax(range[0], best)});
+            }
+            if (best + 1 < range[1]) {
+                ranges.add(new int[]{best + 1, range[1], rangeMax(best + 1, range[1])});
+            }
+        }
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * [from, to) 구간에서 가중치가 가장 큰 키 위치
+     */
+    private int rangeMax(int from, int to) {
+        int best = -1;
+        int low = from + leafBase;
+        int high = to - 1 + leafBase;
+        while (low <= high) {
+            if ((low & 1) == 1) best = better(best, maxTree[low++]);
+            if ((high & 1) == 0) best = better(best, maxTree[high--]);
+            low >>= 1;
+            high >>= 1;
+        }
+        return best;
+    }
+
+    private int better(int a, int b) {
+        if (a < 0) return b;
+        if (b < 0) return a;
+        return weightAt(b) > weightAt(a) ? b : a;
+    }
+
+    private double weightAt(int keyPosition) {
+        return suggestions[suggestionIds[keyPosition]].weight();
+    }
+
+    /**
+     * 색인 빌더 (같은 종류 + 같은 이름은 하나로 합치고 가중치는 큰 값을 사용)
+     */
+    public static class Builder {
+
+        private final Map<String, Suggestion> suggestions = new LinkedHashMap<>();
+
+        public Builder add(Suggestion suggestion) {
+            if (suggestion.text() == null || suggestion.text().isBlank()) {
+                return this;
+            }
+            String identity = suggestion.type() == Suggestion.Type.MOVIE
+                    ? "M:" + suggestion.movieCd() + ":" + suggestion.text()
+                    : suggestion.type() + ":" + KoreanTokenizer.compact(suggestion.text());
+            suggestions.merge(identity, suggestion,
+                    (existing, added) -> added.weight() > existing.weight() ? added : existing);
+            return this;
+        }
+
+        public SuggestionIndex build() {
+            Suggestion[] all = suggestions.values().toArray(new Suggestion[0]);
+            List<KeyEntry> entries = new ArrayList<>();
+            for (int id = 0; id < all.length; id++) {
+                for (String key : keysOf(all[id].text())) {
+                    entries.add(new KeyEntry(key, id));
+                }
+            }
+            entries.sort(Comparator.comparing(KeyEntry::key));
+
+            String[] keys = new String[entries.size()];
+            int[] ids = new int[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                keys[i] = entries.get(i).key();
+                ids[i] = entries.get(i).suggestionId();
+            }
+            return new SuggestionIndex(keys, ids, all);
+        }
+
+        private static Set<String> keysOf(String text) {
+            Set<String> keys = new HashSet<>();
+            String compact = KoreanTokenizer.compact(text);
+            if (compact.isEmpty()) {
+                return keys;
+            }
+            keys.add(compact);
+
+            // 두 번째 단어부터 시작하는 키 ("살인의 추억" → "추억")
+            String normalized = SearchTokenizer.normalize(text);
+            int wordKeys = 0;
+            for (int i = 1; i < normalized.length() && wordKeys < MAX_WORD_KEYS; i++) {
+                if (Character.isLetterOrDigit(normalized.charAt(i)) && !Character.isLetterOrDigit(normalized.charAt(i - 1))) {
+                    String rest = KoreanTokenizer.compact(normalized.substring(i));
+                    if (!rest.isEmpty()) {
+                        keys.add(rest);
+                        wordKeys++;
+                    }
+                }
+            }
+
+            if (KoreanTokenizer.containsHangul(compact)) {
+                Set<String> hangulKeys = new HashSet<>();
+                for (String key : keys) {
+                    hangulKeys.add(CHOSUNG_PREFIX + KoreanTokenizer.chosung(key));
+                    hangulKeys.add(JAMO_PREFIX + KoreanTokenizer.jamo(key));
+                }
+                keys.addAll(hangulKeys);
+            }
+            return keys;
+        }
+    }
+
+    private record KeyEntry(String key, int suggestionId) {
+    }
+}
@@ -1,13 +1,19 @@
 package com.movie.movie_backend.service;
 
+import com.movie.movie_backend.client.TmdbClient;
+import com.movie.movie_backend.client.TmdbMovieSearchResponse;
 import com.movie.movie_backend.entity.MovieDetail;
 import com.movie.movie_backend.entity.Tag;
 import com.movie.movie_backend.constant.MovieStatus;
 import com.movie.movie_backend.dto.AdminMovieDto;
+import com.movie.movie_backend.event.MovieChangedEvent;
+import com.movie.movie_backend.ingestion.IngestionEngine;
+import com.movie.movie_backend.ingestion.IngestionProvider;
 import com.movie.movie_backend.repository.PRDMovieRepository;
 import com.movie.movie_backend.repository.PRDTagRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,17 +27,24 @@ import java.util.HashMap;
 import java.util.ArrayList;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.Objects;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AdminMovieService {
 
+    private static final int TITLE_SEARCH_LIMIT = 500; // 제목 검색 최대 결과 수
+
     private final PRDMovieRepository movieRepository;
     private final PRDTagRepository tagRepository;
     private final TmdbRatingService tmdbRatingService;
     private final DataMigrationService dataMigrationService;
     private final TagDataService tagDataService;
+    private final SRHMovieSearchService movieSearchService;
+    private final TmdbClient tmdbClient;
+    private final IngestionEngine ingestionEngine;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 영화 등록 (DTO 사용)
@@ -222,6 +235,7 @@ public class AdminMovieService {
         }
         
         MovieDetail updatedMovie = movieRepository.save(movie);
+        publishTagsChanged(movieCd);
         log.info("영화 태그 설정 완료: {} -> {}개 태그", movieCd, updatedMovie.getTags().size());
         
         return updatedMovie;
@@ -260,6 +274,7 @@ public class AdminMovieService {
         if (!alreadyExists) {
             movie.getTags().add(targetTag);
             movieRepository.save(movie);
+            publishTagsChanged(movieCd);
             log.info("영화 태그 추가 완료: {} -> {}", movieCd, tagName);
         } else {
             log.info("이미 존재하는 태그입니다: {} -> {}", movieCd, tagName);
@@ -288,11 +303,19 @@ public class AdminMovieService {
                 .collect(Collectors.toList()));
         
         movieRepository.save(movie);
+        publishTagsChanged(movieCd);
         log.info("영화 태그 제거 완료: {} -> {}", movieCd, tagName);
         
         return movie;
     }
 
+    /**
+     * 태그(컬렉션)만 바뀌면 @PostUpdate가 불리지 않으므로 영화 변경 이벤트를 직접 발행 (영화 카드 갱신용)
+     */
+    private void publishTagsChanged(String movieCd) {
+        eventPublisher.publishEvent(new MovieChangedEvent(movieCd, MovieChangedEvent.ChangeType.SAVED));
+    }
+
     /**
      * 모든 영화 조회 (관리자용)
      */
@@ -311,7 +334,23 @@ public class AdminMovieService {
      * 영화명으로 검색
      */
     public List<MovieDetail> searchMoviesByName(String movieNm) {
-        return movieRepository.findByMovieNmContainingIgnoreCase(movieNm);
+        if (!movieSearchService.isReady()) {
+            // 검색 인덱스 구축 전에는 DB LIKE 검색
+            return movieRepository.findByMovieNmContainingIgnoreCase(movieNm);
+        }
+        List<String> movieCds = movieSearchService.searchMovieCdsByTitle(movieNm, TITLE_SEARCH_LIMIT);
+        Map<String, MovieDetail> movies = movieRepository.findAllById(movieCds).stream()
+                .collect(Collectors.toMap(MovieDetail::getMovieCd, movie -> movie));
+        // 인덱스의 관련도 순서 유지
+        List<MovieDetail> result = movieCds.stream()
+                .map(movies::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        if (result.isEmpty()) {
+            // 인덱스 반영 전인 영화 등 인덱스에서 못 찾으면 기존 LIKE 검색
+            return movieRepository.findByMovieNmContainingIgnoreCase(movieNm);
+        }
+        return result;
     }
 
     /**
@@ -408,12 +447,21 @@ public class AdminMovieService {
         int updatedCount = 0;
         int failedCount = 0;
         
+        // TMDB 장르 ID → 장르명 (실행마다 한 번, 응답 캐시에 30일 보관, 다른 TMDB 호출과 같은 호출 한도 적용)
+        Map<Integer, String> genreNames;
+        try {
+            genreNames = ingestionEngine.call(IngestionProvider.TMDB, () -> tmdbClient.movieGenres("ko-KR")).namesById();
+        } catch (Exception e) {
+            log.warn("TMDB 장르 목록 조회 실패: {}", e.getMessage());
+            return genreUpdateResult(allMovies.size(), 0, allMovies.size());
+        }
+        
         for (MovieDetail movie : allMovies) {
             try {
                 // 현재 장르가 단일 장르인 경우에만 업데이트
                 if (movie.getGenreNm() != null && !movie.getGenreNm().contains(",")) {
                     // TMDB에서 영화 검색하여 장르 정보 가져오기
-                    String newGenres = getGenreFromTmdb(movie.getMovieNm());
+                    String newGenres = getGenreFromTmdb(movie.getMovieNm(), movie.getOpenDt(), genreNames);
                     if (newGenres != null && !newGenres.isEmpty()) {
                         // 기존 장르와 새로운 장르를 합침
                         Set<String> allGenres = new HashSet<>();
@@ -441,22 +489,33 @@ public class AdminMovieService {
             }
         }
         
+        log.info("TMDB에서 장르 정보 업데이트 완료: 업데이트={}, 실패={}", updatedCount, failedCount);
+        return genreUpdateResult(allMovies.size(), updatedCount, failedCount);
+    }
+
+    private Map<String, Object> genreUpdateResult(int totalMovies, int updatedCount, int failedCount) {
         Map<String, Object> result = new HashMap<>();
-        result.put("totalMovies", allMovies.size());
+        result.put("totalMovies", totalMovies);
         result.put("updatedCount", updatedCount);
         result.put("failedCount", failedCount);
-        
-        log.info("TMDB에서 장르 정보 업데이트 완료: 업데이트={}, 실패={}", updatedCount, failedCount);
         return result;
     }
 
     /**
      * TMDB에서 영화명으로 장르 정보 가져오기
      */
-    private String getGenreFromTmdb(String movieName) {
-        // TMDB 검색 API 호출하여 장르 정보 가져오기
-        // 실제 구현은 TMDB API 호출 로직 필요
-        return null; // 임시 반환값
+    private String getGenreFromTmdb(String movieName, LocalDate openDt, Map<Integer, String> genreNames) {
+        // 포스터 매칭과 같은 검색 조건(제목+개봉연도+ko-KR) → 응답 캐시를 그대로 재사용
+        String year = openDt != null ? String.valueOf(openDt.getYear()) : null;
+        TmdbMovieSearchResponse.Movie firstResult = ingestionEngine.call(IngestionProvider.TMDB,
+                () -> tmdbClient.searchMovie(movieName, year, "ko-KR")).firstResult();
+        if (firstResult == null || firstResult.genreIds() == null) {
+            return null;
+        }
+        return firstResult.genreIds().stream()
+                .map(genreNames::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(","));
     }
 
     /**
@@ -481,7 +540,7 @@ public class AdminMovieService {
      * 영화명으로 검색 (DTO 사용)
      */
     public List<AdminMovieDto> searchMoviesByNameAsDto(String movieNm) {
-        return movieRepository.findByMovieNmContainingIgnoreCase(movieNm).stream()
+        return searchMoviesByName(movieNm).stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
@@ -1,19 +1,19 @@
 package com.movie.movie_backend.service;
 
+import com.movie.movie_backend.client.KobisBoxOfficeResponse;
+import com.movie.movie_backend.client.KobisClient;
 import com.movie.movie_backend.entity.BoxOffice;
 import com.movie.movie_backend.entity.MovieDetail;
 import com.movie.movie_backend.dto.BoxOfficeDto;
+import com.movie.movie_backend.event.DataIngestionCompletedEvent;
 import com.movie.movie_backend.mapper.BoxOfficeMapper;
 import com.movie.movie_backend.repository.BoxOfficeRepository;
 import com.movie.movie_backend.repository.PRDMovieRepository;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -27,19 +27,12 @@ public class BoxOfficeService {
 
     private final BoxOfficeRepository boxOfficeRepository;
     private final PRDMovieRepository movieRepository;
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final KobisClient kobisClient;
     private final KobisApiService kobisApiService;
     private final BoxOfficeMapper boxOfficeMapper;
     private final TmdbRatingService tmdbRatingService;
-
-    @Value("${kobis.api.key}")
-    private String apiKey;
-
-    private static final String BASE_URL = "http://www.kobis.or.kr/kobisopenapi/webservice/rest";
-    private static final String DAILY_BOX_OFFICE_URL = BASE_URL + "/boxoffice/searchDailyBoxOfficeList.json";
-    private static final String WEEKLY_BOX_OFFICE_URL = BASE_URL + "/boxoffice/searchWeeklyBoxOfficeList.json";
-    private static final String WEEKEND_BOX_OFFICE_URL = BASE_URL + "/boxoffice/searchWeekendBoxOfficeList.json";
+    private final ApplicationEventPublisher eventPublisher;
+    private final BoxOfficeSnapshotService boxOfficeSnapshotService;
 
     /**
      * 일일 박스오피스 TOP-10 가져오기
@@ -49,20 +42,17 @@ public class BoxOfficeService {
         try {
             LocalDate yesterday = LocalDate.now().minusDays(1);
             String targetDate = yesterday.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            String url = String.format("%s?key=%s&targetDt=%s", DAILY_BOX_OFFICE_URL, apiKey, targetDate);
-            String response = restTemplate.getForObject(url, String.class);
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode boxOfficeResult = root.get("boxOfficeResult");
-            if (boxOfficeResult != null && boxOfficeResult.get("dailyBoxOfficeList") != null) {
-                JsonNode dailyBoxOfficeList = boxOfficeResult.get("dailyBoxOfficeList");
+            KobisBoxOfficeResponse response = kobisClient.dailyBoxOffice(targetDate);
+            if (response.boxOfficeResult() != null && response.boxOfficeResult().dailyBoxOfficeList() != null) {
+                List<KobisBoxOfficeResponse.Entry> dailyBoxOfficeList = response.dailyEntries();
                 
                 // 기존 데이터 삭제 (항상 최신 데이터로 덮어쓰기)
                 boxOfficeRepository.deleteByTargetDateAndRankType(yesterday, "DAILY");
                 log.info("기존 일일 박스오피스 데이터 삭제 완료: {}", yesterday);
                 
                 // 먼저 모든 MovieDetail을 저장
-                for (JsonNode movie : dailyBoxOfficeList) {
-                    String movieCd = movie.get("movieCd").asText();
+                for (KobisBoxOfficeResponse.Entry movie : dailyBoxOfficeList) {
+                    String movieCd = movie.movieCd();
                     if (movieRepository.findById(movieCd).isEmpty()) {
                         try {
                             log.info("MovieDetail 저장 시작: {}", movieCd);
@@ -75,7 +65,7 @@ public class BoxOfficeService {
                 }
                 
                 // 그 다음 BoxOffice 저장
-                for (JsonNode movie : dailyBoxOfficeList) {
+                for (KobisBoxOfficeResponse.Entry movie : dailyBoxOfficeList) {
                     BoxOffice boxOffice = parseBoxOfficeData(movie, yesterday, "DAILY");
                     if (boxOffice != null) {
                         boxOfficeRepository.save(boxOffice);
@@ -85,6 +75,7 @@ public class BoxOfficeService {
                     }
                 }
                 log.info("일일 박스오피스 데이터 저장 완료: {}개", dailyBoxOfficeList.size());
+                eventPublisher.publishEvent(new DataIngestionCompletedEvent("DAILY_BOX_OFFICE"));
             }
         } catch (Exception e) {
             log.error("일일 박스오피스 데이터 가져오기 실패", e);
@@ -99,20 +90,17 @@ public class BoxOfficeService {
         try {
             LocalDate lastWeek = LocalDate.now().minusWeeks(1);
             String targetDate = lastWeek.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            String url = String.format("%s?key=%s&targetDt=%s&weekGb=0", WEEKLY_BOX_OFFICE_URL, apiKey, targetDate);
-            String response = restTemplate.getForObject(url, String.class);
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode boxOfficeResult = root.get("boxOfficeResult");
-            if (boxOfficeResult != null && boxOfficeResult.get("weeklyBoxOfficeList") != null) {
-                JsonNode weeklyBoxOfficeList = boxOfficeResult.get("weeklyBoxOfficeList");
+            KobisBoxOfficeResponse response = kobisClient.weeklyBoxOffice(targetDate, "0");
+            if (response.boxOfficeResult() != null && response.boxOfficeResult().weeklyBoxOfficeList() != null) {
+                List<KobisBoxOfficeResponse.Entry> weeklyBoxOfficeList = response.weeklyEntries();
                 
                 // 기존 데이터 삭제 (항상 최신 데이터로 덮어쓰기)
                 boxOfficeRepository.deleteByTargetDateAndRankType(lastWeek, "WEEKLY");
                 log.info("기존 주간 박스오피스 데이터 삭제 완료: {}", lastWeek);
                 
                 // 먼저 모든 MovieDetail을 저장
-                for (JsonNode movie : weeklyBoxOfficeList) {
-                    String movieCd = movie.get("movieCd").asText();
+                for (KobisBoxOfficeResponse.Entry movie : weeklyBoxOfficeList) {
+                    String movieCd = movie.movieCd();
                     if (movieRepository.findById(movieCd).isEmpty()) {
                         try {
                             log.info("MovieDetail 저장 시작: {}", movieCd);
@@ -125,7 +113,7 @@ public class BoxOfficeService {
                 }
                 
                 // 그 다음 BoxOffice 저장
-                for (JsonNode movie : weeklyBoxOfficeList) {
+                for (KobisBoxOfficeResponse.Entry movie : weeklyBoxOfficeList) {
                     BoxOffice boxOffice = parseBoxOfficeData(movie, lastWeek, "WEEKLY");
                     if (boxOffice != null) {
                         boxOfficeRepository.save(boxOffice);
@@ -135,6 +123,7 @@ public class BoxOfficeService {
                     }
                 }
                 log.info("주간 박스오피스 데이터 저장 완료: {}개", weeklyBoxOfficeList.size());
+                eventPublisher.publishEvent(new DataIngestionCompletedEvent("WEEKLY_BOX_OFFICE"));
             }
         } catch (Exception e) {
             log.error("주간 박스오피스 데이터 가져오기 실패", e);
@@ -144,14 +133,14 @@ public class BoxOfficeService {
     /**
      * 박스오피스 데이터 파싱
      */
-    private BoxOffice parseBoxOfficeData(JsonNode movie, LocalDate targetDate, String rankType) {
+    private BoxOffice parseBoxOfficeData(KobisBoxOfficeResponse.Entry movie, LocalDate targetDate, String rankType) {
         try {
-            String movieCd = movie.get("movieCd").asText();
-            String movieNm = movie.get("movieNm").asText();
-            int rank = movie.get("rank").asInt();
-            long salesAmt = Long.parseLong(movie.get("salesAmt").asText());
-            long audiCnt = Long.parseLong(movie.get("audiCnt").asText());
-            long audiAcc = Long.parseLong(movie.get("audiAcc").asText());
+            String movieCd = movie.movieCd();
+            String movieNm = movie.movieNm();
+            int rank = movie.rank();
+            long salesAmt = movie.salesAmt();
+            long audiCnt = movie.audiCnt();
+            long audiAcc = movie.audiAcc();
             
             // MovieDetail 찾기 또는 생성
             MovieDetail movieDetail = movieRepository.findById(movieCd).orElse(null);
@@ -198,19 +187,17 @@ public class BoxOfficeService {
     // ===== DTO 변환 메서드들 (왓챠피디아 스타일) =====
 
     /**
-     * 최신 일일 박스오피스 TOP-10 조회 (DTO)
+     * 최신 일일 박스오피스 TOP-10 조회 (DTO, 메모리 스냅샷)
      */
     public List<BoxOfficeDto> getDailyBoxOfficeTop10AsDto() {
-        List<BoxOffice> boxOfficeList = boxOfficeRepository.findLatestBoxOfficeTop10("DAILY");
-        return boxOfficeMapper.toDtoList(boxOfficeList);
+        return boxOfficeSnapshotService.getDailySnapshot().dtos();
     }
 
     /**
-     * 최신 주간 박스오피스 TOP-10 조회 (DTO)
+     * 최신 주간 박스오피스 TOP-10 조회 (DTO, 메모리 스냅샷)
      */
     public List<BoxOfficeDto> getWeeklyBoxOfficeTop10AsDto() {
-        List<BoxOffice> boxOfficeList = boxOfficeRepository.findLatestBoxOfficeTop10("WEEKLY");
-        return boxOfficeMapper.toDtoList(boxOfficeList);
+        return boxOfficeSnapshotService.getWeeklySnapshot().dtos();
     }
 
     /**
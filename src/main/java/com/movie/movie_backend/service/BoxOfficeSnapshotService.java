@@ -0,0 +1,161 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.boxoffice.BoxOfficeEntry;
+import com.movie.movie_backend.boxoffice.BoxOfficeSnapshot;
+import com.movie.movie_backend.dto.BoxOfficeDto;
+import com.movie.movie_backend.entity.BoxOffice;
+import com.movie.movie_backend.event.DataIngestionCompletedEvent;
+import com.movie.movie_backend.event.MovieCardChangedEvent;
+import com.movie.movie_backend.mapper.BoxOfficeMapper;
+import com.movie.movie_backend.repository.BoxOfficeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 최신 박스오피스 스냅샷 서비스
+ *
+ * - 순위 타입(DAILY/WEEKLY)별 불변 스냅샷(BoxOfficeSnapshot)을 메모리에 두고 참조만 교체
+ * - BoxOfficeService.fetchDailyBoxOffice/fetchWeeklyBoxOffice 커밋 후 해당 타입만 다시 읽음
+ * - 스냅샷에 든 영화의 카드(평점/포스터/감독 등)가 바뀌면 모아 두었다가 1초 간격으로 해당 타입만 다시 읽음
+ * - 조회(순위, 누적 관객수, 화면용 DTO)는 모두 메모리에서 응답 (DB 조회 없음)
+ */
+@Slf4j
+@Service
+public class BoxOfficeSnapshotService {
+
+    public static final String DAILY = "DAILY";
+    public static final String WEEKLY = "WEEKLY";
+    private static final List<String> RANK_TYPES = List.of(DAILY, WEEKLY);
+
+    private final BoxOfficeRepository boxOfficeRepository;
+    private final BoxOfficeMapper boxOfficeMapper;
+    private final TransactionTemplate readTransaction;
+
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final Map<String, BoxOfficeSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Set<String> pendingRankTypes = ConcurrentHashMap.newKeySet();
+
+    public BoxOfficeSnapshotService(BoxOfficeRepository boxOfficeRepository, BoxOfficeMapper boxOfficeMapper,
+                                    PlatformTransactionManager transactionManager) {
+        this.boxOfficeRepository = boxOfficeRepository;
+        this.boxOfficeMapper = boxOfficeMapper;
+        // 커밋 후 콜백에서도 새 트랜잭션으로 읽도록 REQUIRES_NEW (지연 로딩되는 감독/태그 포함)
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 전체 순위 타입 스냅샷 구축 (시작 준비 작업에서 호출)
+     */
+    public void reloadAll() {
+        RANK_TYPES.forEach(this::reload);
+    }
+
+    /**
+     * 박스오피스 수집 완료 (커밋 후 바로 해당 타입 교체)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIngestionCompleted(DataIngestionCompletedEvent event) {
+        switch (event.getSource()) {
+            case "DAILY_BOX_OFFICE" -> reload(DAILY);
+            case "WEEKLY_BOX_OFFICE" -> reload(WEEKLY);
+            case "DATA_LOADER" -> reloadAll();
+            default -> { }
+        }
+    }
+
+    /**
+     * 영화 카드 변경 (스냅샷에 든 영화만 반영 대상, movieCds가 null이면 전체)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMovieCardChanged(MovieCardChangedEvent event) {
+        if (event.getMovieCds() == null) {
+            markStale(null);
+        } else {
+            event.getMovieCds().forEach(this::markStale);
+        }
+    }
+
+    /**
+     * 최신 스냅샷 (아직 없으면 빈 스냅샷)
+     */
+    public BoxOfficeSnapshot getSnapshot(String rankType) {
+        BoxOfficeSnapshot snapshot = snapshots.get(rankType);
+        return snapshot != null ? snapshot : BoxOfficeSnapshot.empty(rankType);
+    }
+
+    public BoxOfficeSnapshot getDailySnapshot() {
+        return getSnapshot(DAILY);
+    }
+
+    public BoxOfficeSnapshot getWeeklySnapshot() {
+        return getSnapshot(WEEKLY);
+    }
+
+    /**
+     * 해당 타입 최신 박스오피스를 DB에서 다시 읽어 스냅샷 교체
+     */
+    public synchronized void reload(String rankType) {
+        pendingRankTypes.remove(rankType);
+        try {
+            BoxOfficeSnapshot snapshot = readTransaction.execute(status -> buildSnapshot(rankType));
+            snapshots.put(rankType, snapshot);
+            log.info("박스오피스 스냅샷 교체: {} v{} ({}개, 기준일 {})",
+                    rankType, snapshot.getVersion(), snapshot.size(), snapshot.getTargetDate());
+        } catch (Exception e) {
+            // 기존 스냅샷 유지, 다음 주기에 다시 시도
+            pendingRankTypes.add(rankType);
+            log.warn("박스오피스 스냅샷 구축 실패: {} - {}", rankType, e.getMessage());
+        }
+    }
+
+    /**
+     * 쌓인 변경분 반영 (1초 간격)
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void applyPendingChanges() {
+        for (String rankType : List.copyOf(pendingRankTypes)) {
+            reload(rankType);
+        }
+    }
+
+    // ===== 내부 메서드 =====
+
+    private void markStale(String movieCd) {
+        for (String rankType : RANK_TYPES) {
+            if (movieCd == null || getSnapshot(rankType).contains(movieCd)) {
+                pendingRankTypes.add(rankType);
+            }
+        }
+    }
+
+    private BoxOfficeSnapshot buildSnapshot(String rankType) {
+        List<BoxOffice> boxOffices = boxOfficeRepository.findLatestBoxOfficeTop10(rankType);
+        List<BoxOfficeEntry> entries = new ArrayList<>(boxOffices.size());
+        for (BoxOffice boxOffice : boxOffices) {
+            entries.add(new BoxOfficeEntry(
+                    boxOffice.getRank(),
+                    boxOffice.getMovieCd(),
+                    boxOffice.getMovieNm(),
+                    boxOffice.getSalesAmt(),
+                    boxOffice.getAudiCnt(),
+                    boxOffice.getAudiAcc()));
+        }
+        List<BoxOfficeDto> dtos = boxOfficeMapper.toDtoList(boxOffices);
+        return new BoxOfficeSnapshot(rankType, versionSequence.incrementAndGet(),
+                boxOffices.isEmpty() ? null : boxOffices.get(0).getTargetDate(), entries, dtos);
+    }
+}
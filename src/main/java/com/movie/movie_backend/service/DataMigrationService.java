@@ -11,10 +11,12 @@ import com.movie.movie_backend.repository.PRDMovieListRepository;
 import com.movie.movie_backend.repository.PRDDirectorRepository;
 import com.movie.movie_backend.repository.PRDActorRepository;
 import com.movie.movie_backend.service.KobisApiService;
-import com.movie.movie_backend.service.TmdbPopularMovieService;
+import com.movie.movie_backend.service.TmdbMovieListService;
 import com.movie.movie_backend.dto.MovieDetailDto;
 import com.movie.movie_backend.mapper.MovieDetailMapper;
 import com.movie.movie_backend.constant.MovieStatus;
+import com.movie.movie_backend.constant.TmdbListType;
+import com.movie.movie_backend.ingestion.MovieSearchTarget;
 import com.movie.movie_backend.constant.RoleType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.web.client.RestTemplate;
@@ -26,7 +28,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.ArrayList;
 
 @Service
 @RequiredArgsConstructor
@@ -43,7 +44,10 @@ public class DataMigrationService {
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final MovieDetailMapper movieDetailMapper;
-    private final TmdbPopularMovieService tmdbPopularMovieService;
+    private final TmdbMovieListService tmdbMovieListService;
+    private final MovieDetailReconciliationService reconciliationService;
+
+    private static final int STATUS_SAMPLE_SIZE = 20; // 상태 확인 로그에 보여줄 누락 영화 수
 
     @Transactional
     public void migrateMovieActorToCast() {
@@ -191,71 +195,10 @@ public class DataMigrationService {
     }
 
     /**
-     * MovieList는 있지만 MovieDetail이 없는 영화들 찾기
+     * 누락된 MovieDetail 채워넣기 (안티 조인으로 찾은 영화를 청크 단위로 KOBIS → TMDB 순 보완)
      */
-    public List<String> findMovieListWithoutDetail() {
-        List<String> movieCdsWithoutDetail = new ArrayList<>();
-        
-        List<MovieList> allMovieLists = movieListRepository.findAll();
-        for (MovieList movieList : allMovieLists) {
-            if (!movieRepository.existsById(movieList.getMovieCd())) {
-                movieCdsWithoutDetail.add(movieList.getMovieCd());
-            }
-        }
-        
-        log.info("MovieDetail이 없는 MovieList: {}개", movieCdsWithoutDetail.size());
-        return movieCdsWithoutDetail;
-    }
-
-    /**
-     * 누락된 MovieDetail 채워넣기
-     */
-    @Transactional
-    public void fillMissingMovieDetails() {
-        List<String> missingMovieCds = findMovieListWithoutDetail();
-        
-        if (missingMovieCds.isEmpty()) {
-            log.info("누락된 MovieDetail이 없습니다.");
-            return;
-        }
-        
-        log.info("누락된 MovieDetail {}개 채워넣기 시작", missingMovieCds.size());
-        
-        int successCount = 0;
-        int failCount = 0;
-        
-        for (String movieCd : missingMovieCds) {
-            try {
-                MovieList movieList = movieListRepository.findById(movieCd).orElse(null);
-                if (movieList == null) {
-                    log.warn("MovieList를 찾을 수 없음: {}", movieCd);
-                    failCount++;
-                    continue;
-                }
-                
-                log.info("누락된 MovieDetail 채워넣기 시도: {} ({})", movieList.getMovieNm(), movieCd);
-                
-                // KOBIS API로 MovieDetail 가져오기
-                MovieDetail movieDetail = kobisApiService.fetchAndSaveMovieDetail(movieCd);
-                
-                if (movieDetail != null) {
-                    successCount++;
-                    log.info("MovieDetail 채워넣기 성공: {} ({})", movieList.getMovieNm(), movieCd);
-                } else {
-                    failCount++;
-                    log.warn("MovieDetail 채워넣기 실패: {} ({})", movieList.getMovieNm(), movieCd);
-                }
-                
-                // API 호출 제한을 위한 딜레이
-                Thread.sleep(100);
-                
-            } catch (Exception e) {
-                failCount++;
-                log.error("MovieDetail 채워넣기 실패: {} - {}", movieCd, e.getMessage());
-            }
-        }
-        
-        log.info("누락된 MovieDetail 채워넣기 완료: 성공={}, 실패={}", successCount, failCount);
+    public MovieDetailReconciliationService.ReconcileReport fillMissingMovieDetails() {
+        return reconciliationService.fillMissingDetails(null, 0, null);
     }
 
     /**
@@ -264,20 +207,17 @@ public class DataMigrationService {
     public void checkDataStatus() {
         long movieListCount = movieListRepository.count();
         long movieDetailCount = movieRepository.count();
-        List<String> missingMovieCds = findMovieListWithoutDetail();
+        long missingCount = reconciliationService.countMissingDetails();
         
         log.info("=== 데이터 상태 확인 ===");
         log.info("MovieList 개수: {}", movieListCount);
         log.info("MovieDetail 개수: {}", movieDetailCount);
-        log.info("누락된 MovieDetail 개수: {}", missingMovieCds.size());
+        log.info("누락된 MovieDetail 개수: {}", missingCount);
         
-        if (!missingMovieCds.isEmpty()) {
-            log.info("누락된 MovieDetail 목록:");
-            for (String movieCd : missingMovieCds) {
-                MovieList movieList = movieListRepository.findById(movieCd).orElse(null);
-                if (movieList != null) {
-                    log.info("  - {} ({})", movieList.getMovieNm(), movieCd);
-                }
+        if (missingCount > 0) {
+            log.info("누락된 MovieDetail 목록 (최대 {}개):", STATUS_SAMPLE_SIZE);
+            for (MovieSearchTarget movie : reconciliationService.findMissingDetails(null, STATUS_SAMPLE_SIZE)) {
+                log.info("  - {} ({})", movie.movieNm(), movie.movieCd());
             }
         }
     }
@@ -306,9 +246,13 @@ public class DataMigrationService {
         try {
             log.info("인기 영화 50개 추가 시작 (기존 데이터 보존)");
             
-            // 1. TMDB에서 인기 영화 50개 가져오기 (이미 KOBIS 매칭 시도됨)
-            List<MovieDetailDto> popularMovies = tmdbPopularMovieService.getPopularMovies(50);
-            log.info("TMDB에서 인기 영화 {}개 가져오기 완료", popularMovies.size());
+            // 1. 미리 만들어 둔 TMDB 인기 영화 목록 50개 (이미 KOBIS 매칭 시도됨, 비어 있거나 오래됐으면 여기서 바로 갱신)
+            tmdbMovieListService.refreshIfStale(TmdbListType.POPULAR);
+            List<MovieDetailDto> popularMovies = tmdbMovieListService.getPopularMovies(TmdbMovieListService.POPULAR_SIZE);
+            if (popularMovies.isEmpty()) {
+                throw new IllegalStateException("TMDB 인기 영화 목록을 가져오지 못했습니다.");
+            }
+            log.info("TMDB 인기 영화 목록 {}개 사용", popularMovies.size());
             
             // 2. MovieList와 MovieDetail에 저장 (기존 데이터는 건너뛰기)
             int successCount = 0;
@@ -1,10 +1,18 @@
 package com.movie.movie_backend.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movie.movie_backend.client.KobisClient;
+import com.movie.movie_backend.client.TmdbClient;
+import com.movie.movie_backend.client.TmdbMovieDetailResponse;
+import com.movie.movie_backend.client.TmdbMovieSearchResponse;
+import com.movie.movie_backend.client.TmdbPersonSearchResponse;
 import com.movie.movie_backend.entity.Director;
 import com.movie.movie_backend.entity.MovieDetail;
 import com.movie.movie_backend.entity.MovieList;
+import com.movie.movie_backend.ingestion.IngestionEngine;
+import com.movie.movie_backend.ingestion.IngestionProvider;
+import com.movie.movie_backend.ingestion.IngestionReport;
+import com.movie.movie_backend.ingestion.MovieSearchTarget;
 import com.movie.movie_backend.repository.PRDDirectorRepository;
 import com.movie.movie_backend.repository.PRDMovieRepository;
 import com.movie.movie_backend.repository.PRDMovieListRepository;
@@ -12,248 +20,167 @@ import com.movie.movie_backend.dto.MovieListDto;
 import com.movie.movie_backend.constant.MovieStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class KobisApiService {
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final TmdbClient tmdbClient;
+    private final KobisClient kobisClient;
     private final PRDMovieRepository movieRepository;
     private final PRDMovieListRepository prdMovieListRepository;
     private final PRDDirectorRepository directorRepository;
+    private final IngestionEngine ingestionEngine;
 
-    @Value("${tmdb.api.key}")
-    private String tmdbApiKey;
+    /**
+     * MovieDetail이 없는 영화를 KOBIS 상세정보로 채움 (대상은 MovieDetailReconciliationService가 청크로 넘김)
+     * 수집 엔진으로 병렬 조회하고 청크 단위로 커밋 (호출 간격은 KOBIS 속도 제한으로 조절)
+     */
+    public IngestionReport fillMissingMovieDetailsFromKobis(List<MovieSearchTarget> targets) {
+        return ingestionEngine.run("KOBIS MovieDetail 보완", targets,
+                target -> fetchMovieDetailFromKobis(target.movieCd()),
+                chunk -> saveNewMovieDetails(chunk, this::saveKobisMatch));
+    }
 
-    @Value("${kobis.api.key}")
-    private String kobisApiKey;
+    /**
+     * MovieDetail이 없는 영화를 TMDB에서 검색해 보완 (KOBIS로 못 채운 영화 대상)
+     * 수집 엔진으로 병렬 조회하고 청크 단위로 커밋 (호출 간격은 TMDB 속도 제한으로 조절)
+     */
+    public IngestionReport fillMissingMovieDetailsFromTmdb(List<MovieSearchTarget> targets) {
+        return ingestionEngine.run("TMDB MovieDetail 보완", targets, this::fetchMovieDetailFromTmdb,
+                chunk -> saveNewMovieDetails(chunk, this::saveMovieDetailFromTmdb));
+    }
 
     /**
-     * MovieList에 있는 영화들의 한글제목/영문제목으로 TMDB에서 검색하여 MovieDetail 보완
+     * 청크 저장 공통: 조회하는 동안 다른 작업이 저장한 영화는 건너뜀 (존재 확인은 청크당 쿼리 한 번)
      */
-    public void fillMissingMovieDetailsFromTmdb() {
-        try {
-            log.info("=== TMDB로 MovieDetail 보완 시작 ===");
-            
-            // MovieList에서 MovieDetail이 없는 영화들 찾기
-            List<MovieList> allMovieLists = prdMovieListRepository.findAll();
-            List<String> missingMovieCds = new ArrayList<>();
-            
-            for (MovieList movieList : allMovieLists) {
-                if (!movieRepository.existsById(movieList.getMovieCd())) {
-                    missingMovieCds.add(movieList.getMovieCd());
-                }
-            }
-            
-            log.info("MovieDetail이 누락된 영화 {}개 발견", missingMovieCds.size());
-            
-            int successCount = 0;
-            int failCount = 0;
-            int attemptCount = 0;
-            int maxAttempts = 3; // 최대 3번으로 제한
-            
-            for (String movieCd : missingMovieCds) {
-                if (attemptCount >= maxAttempts) {
-                    log.info("TMDB MovieDetail 보완 시도 횟수 제한에 도달했습니다. (최대 {}회)", maxAttempts);
-                    break;
-                }
-                
-                try {
-                    MovieList movieList = prdMovieListRepository.findById(movieCd).orElse(null);
-                    if (movieList == null) {
-                        failCount++;
-                        continue;
-                    }
-                    
-                    log.info("TMDB로 MovieDetail 보완 시도: {} ({}) - 시도 {}/{}", 
-                        movieList.getMovieNm(), movieCd, attemptCount + 1, maxAttempts);
-                    
-                    // TMDB에서 영화 검색
-                    MovieDetail movieDetail = searchAndSaveMovieDetailFromTmdb(movieList);
-                    
-                    if (movieDetail != null) {
-                        successCount++;
-                        log.info("TMDB MovieDetail 보완 성공: {} ({})", movieList.getMovieNm(), movieCd);
-                    } else {
-                        failCount++;
-                        log.warn("TMDB MovieDetail 보완 실패: {} ({})", movieList.getMovieNm(), movieCd);
-                    }
-                    
-                    attemptCount++;
-                    
-                    // API 호출 제한을 위한 딜레이
-                    Thread.sleep(200);
-                    
-                } catch (Exception e) {
-                    failCount++;
-                    attemptCount++;
-                    log.error("TMDB MovieDetail 보완 실패: {} - {}", movieCd, e.getMessage());
-                }
+    private <R> void saveNewMovieDetails(List<IngestionEngine.FetchedItem<MovieSearchTarget, R>> chunk,
+                                         BiConsumer<MovieSearchTarget, R> saver) {
+        Set<String> existing = new HashSet<>(movieRepository.findExistingMovieCds(
+                chunk.stream().map(fetched -> fetched.item().movieCd()).toList()));
+        for (IngestionEngine.FetchedItem<MovieSearchTarget, R> fetched : chunk) {
+            if (!existing.contains(fetched.item().movieCd())) {
+                saver.accept(fetched.item(), fetched.result());
             }
-            
-            log.info("=== TMDB로 MovieDetail 보완 완료 ===");
-            log.info("성공: {}개, 실패: {}개, 시도 횟수: {}/{}", successCount, failCount, attemptCount, maxAttempts);
-            
-        } catch (Exception e) {
-            log.error("TMDB로 MovieDetail 보완 실패", e);
         }
     }
 
     /**
-     * 영화 제목으로 TMDB에서 검색하여 MovieDetail 저장
+     * 영화 제목으로 TMDB에서 검색하여 상세정보 조회 (못 찾으면 null, 호출 실패는 예외)
      */
-    private MovieDetail searchAndSaveMovieDetailFromTmdb(MovieList movieList) {
-        try {
-            // 검색할 제목 결정 (영문제목 우선, 없으면 한글제목)
-            String searchTitle = movieList.getMovieNmEn();
-            if (searchTitle == null || searchTitle.isEmpty()) {
-                searchTitle = movieList.getMovieNm();
-            }
-            
-            log.info("TMDB 검색 시작: {} (원본: {})", searchTitle, movieList.getMovieNm());
-            
-            // TMDB 검색 API 호출
-            String encodedTitle = java.net.URLEncoder.encode(searchTitle, java.nio.charset.StandardCharsets.UTF_8);
-            String url = String.format("https://api.themoviedb.org/3/search/movie?api_key=%s&query=%s&language=ko-KR&page=1", 
-                tmdbApiKey, encodedTitle);
-            
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                log.error("TMDB 검색 API 호출 실패: status={}", response.getStatusCode());
-                return null;
-            }
-            
-            JsonNode rootNode = objectMapper.readTree(response.getBody());
-            JsonNode results = rootNode.get("results");
-            
-            if (results == null || results.size() == 0) {
-                log.warn("TMDB에서 영화를 찾을 수 없음: {}", searchTitle);
-                return null;
-            }
-            
-            // 첫 번째 결과 사용
-            JsonNode tmdbMovie = results.get(0);
-            String tmdbTitle = tmdbMovie.get("title").asText();
-            String tmdbId = tmdbMovie.get("id").asText();
-            
-            log.info("TMDB에서 영화 발견: {} (TMDB ID: {})", tmdbTitle, tmdbId);
-            
-            // TMDB 영화 상세정보 가져오기
-            String detailUrl = String.format("https://api.themoviedb.org/3/movie/%s?api_key=%s&language=ko-KR&append_to_response=credits", 
-                tmdbId, tmdbApiKey);
-            
-            ResponseEntity<String> detailResponse = restTemplate.getForEntity(detailUrl, String.class);
-            if (!detailResponse.getStatusCode().is2xxSuccessful()) {
-                log.error("TMDB 상세정보 API 호출 실패: status={}", detailResponse.getStatusCode());
-                return null;
-            }
-            
-            JsonNode detailNode = objectMapper.readTree(detailResponse.getBody());
-            
-            // 기본 정보 추출
-            String overview = detailNode.has("overview") ? detailNode.get("overview").asText() : "";
-            String releaseDateStr = detailNode.has("release_date") ? detailNode.get("release_date").asText() : "";
-            int runtime = detailNode.has("runtime") ? detailNode.get("runtime").asInt() : 0;
-            double voteAverage = detailNode.has("vote_average") ? detailNode.get("vote_average").asDouble() : 0.0;
-            
-            // 개봉일 파싱
-            java.time.LocalDate releaseDate = null;
-            if (!releaseDateStr.isEmpty()) {
-                try {
-                    releaseDate = java.time.LocalDate.parse(releaseDateStr, java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-                } catch (Exception e) {
-                    log.warn("TMDB 날짜 파싱 실패: {}", releaseDateStr);
-                }
-            }
-            
-            // 장르 정보
-            String genreNm = "";
-            if (detailNode.has("genres") && detailNode.get("genres").isArray()) {
-                JsonNode genres = detailNode.get("genres");
-                List<String> genreNames = new ArrayList<>();
-                for (JsonNode genre : genres) {
-                    genreNames.add(genre.get("name").asText());
-                }
-                genreNm = String.join(", ", genreNames);
-            }
-            
-            // 감독 정보
-            String directorName = "";
-            if (detailNode.has("credits") && detailNode.get("credits").has("crew")) {
-                JsonNode crew = detailNode.get("credits").get("crew");
-                for (JsonNode person : crew) {
-                    if ("Director".equals(person.get("job").asText())) {
-                        directorName = person.get("name").asText();
-                        break;
-                    }
-                }
-            }
-            
-            // MovieDetail 엔티티 생성 (기존 movieCd 사용)
-            MovieDetail movieDetail = MovieDetail.builder()
-                .movieCd(movieList.getMovieCd()) // 기존 KOBIS movieCd 유지
-                .movieNm(movieList.getMovieNm()) // 기존 한글제목 유지
-                .movieNmEn(movieList.getMovieNmEn()) // 기존 영문제목 유지
-                .description(overview)
-                .openDt(releaseDate != null ? releaseDate : movieList.getOpenDt())
-                .showTm(runtime)
-                .genreNm(genreNm.isEmpty() ? movieList.getGenreNm() : genreNm)
-                .nationNm(movieList.getNationNm())
-                .watchGradeNm(movieList.getWatchGradeNm())
-                .companyNm("")
-                .totalAudience(0)
-                .reservationRate(0.0)
-                .averageRating(voteAverage)
-                .status(movieList.getStatus())
-                .build();
-            
-            // 감독 정보 저장
-            if (!directorName.isEmpty()) {
-                Director director = saveDirectorByName(directorName);
-                movieDetail.setDirector(director);
-            }
-            
-            // MovieDetail 저장
-            MovieDetail savedMovieDetail = movieRepository.save(movieDetail);
-            
-            log.info("TMDB MovieDetail 저장 완료: {} ({})", savedMovieDetail.getMovieNm(), savedMovieDetail.getMovieCd());
-            return savedMovieDetail;
-            
-        } catch (Exception e) {
-            log.error("TMDB 검색 및 저장 실패: {} - {}", movieList.getMovieNm(), e.getMessage());
+    private TmdbMovieDetail fetchMovieDetailFromTmdb(MovieSearchTarget movieList) throws Exception {
+        // 검색할 제목 결정 (영문제목 우선, 없으면 한글제목)
+        String searchTitle = movieList.hasEnglishTitle() ? movieList.movieNmEn() : movieList.movieNm();
+        
+        log.info("TMDB 검색 시작: {} (원본: {})", searchTitle, movieList.movieNm());
+        
+        // TMDB 검색 API 호출 (첫 번째 결과 사용)
+        TmdbMovieSearchResponse.Movie tmdbMovie = ingestionEngine.call(IngestionProvider.TMDB,
+                () -> tmdbClient.searchMovie(searchTitle, null, "ko-KR")).firstResult();
+        if (tmdbMovie == null) {
+            log.warn("TMDB에서 영화를 찾을 수 없음: {}", searchTitle);
             return null;
         }
+        
+        log.info("TMDB에서 영화 발견: {} (TMDB ID: {})", tmdbMovie.title(), tmdbMovie.id());
+        
+        // TMDB 영화 상세정보 가져오기
+        TmdbMovieDetailResponse detail = ingestionEngine.call(IngestionProvider.TMDB,
+                () -> tmdbClient.movieDetail(tmdbMovie.id(), "ko-KR"));
+        
+        // 기본 정보 추출
+        String overview = detail.overview() != null ? detail.overview() : "";
+        String releaseDateStr = detail.releaseDate() != null ? detail.releaseDate() : "";
+        int runtime = detail.runtime() != null ? detail.runtime() : 0;
+        double voteAverage = detail.voteAverage();
+        
+        // 개봉일 파싱
+        java.time.LocalDate releaseDate = null;
+        if (!releaseDateStr.isEmpty()) {
+            try {
+                releaseDate = java.time.LocalDate.parse(releaseDateStr, java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+            } catch (Exception e) {
+                log.warn("TMDB 날짜 파싱 실패: {}", releaseDateStr);
+            }
+        }
+        
+        // 장르/감독 정보
+        String genreNm = detail.genreNames();
+        String directorName = detail.directorName() != null ? detail.directorName() : "";
+        
+        // 처음 보는 감독이면 사진도 조회 단계에서 미리 가져옴 (저장 트랜잭션 안에서 외부 호출하지 않도록)
+        String directorPhotoUrl = null;
+        if (!directorName.isEmpty() && directorRepository.findByName(directorName).isEmpty()) {
+            directorPhotoUrl = fetchDirectorImageUrlFromTmdb(directorName);
+        }
+        
+        return new TmdbMovieDetail(overview, releaseDate, runtime, voteAverage, genreNm, directorName, directorPhotoUrl);
     }
 
     /**
-     * 감독 이름으로 감독 정보 저장
+     * TMDB 상세정보로 MovieDetail 저장 (수집 엔진 청크 트랜잭션 안에서 호출)
      */
-    private Director saveDirectorByName(String directorName) {
-        // 기존 감독이 있는지 확인
-        Optional<Director> existingDirector = directorRepository.findByName(directorName);
+    private void saveMovieDetailFromTmdb(MovieSearchTarget movieList, TmdbMovieDetail tmdb) {
+        MovieList source = prdMovieListRepository.findById(movieList.movieCd()).orElse(null);
+        if (source == null) {
+            return;
+        }
+        
+        // MovieDetail 엔티티 생성 (기존 movieCd 사용)
+        MovieDetail movieDetail = MovieDetail.builder()
+            .movieCd(source.getMovieCd()) // 기존 KOBIS movieCd 유지
+            .movieNm(source.getMovieNm()) // 기존 한글제목 유지
+            .movieNmEn(source.getMovieNmEn()) // 기존 영문제목 유지
+            .description(tmdb.overview())
+            .openDt(tmdb.releaseDate() != null ? tmdb.releaseDate() : source.getOpenDt())
+            .showTm(tmdb.runtime())
+            .genreNm(tmdb.genreNm().isEmpty() ? source.getGenreNm() : tmdb.genreNm())
+            .nationNm(source.getNationNm())
+            .watchGradeNm(source.getWatchGradeNm())
+            .companyNm("")
+            .totalAudience(0)
+            .reservationRate(0.0)
+            .averageRating(tmdb.voteAverage())
+            .status(source.getStatus())
+            .build();
         
-        if (existingDirector.isPresent()) {
-            return existingDirector.get();
+        // 감독 정보 저장
+        if (!tmdb.directorName().isEmpty()) {
+            movieDetail.setDirector(findOrCreateDirector(tmdb.directorName(), tmdb.directorPhotoUrl()));
         }
-
-        // 새 감독 생성 (TMDB에서 이미지 URL 조회)
-        String photoUrl = fetchDirectorImageUrlFromTmdb(directorName);
-        Director director = Director.builder()
-                .name(directorName)
-                .photoUrl(photoUrl)
-                .build();
         
-        return directorRepository.save(director);
+        // MovieDetail 저장
+        MovieDetail savedMovieDetail = movieRepository.save(movieDetail);
+        
+        log.info("TMDB MovieDetail 저장 완료: {} ({})", savedMovieDetail.getMovieNm(), savedMovieDetail.getMovieCd());
+    }
+
+    /**
+     * TMDB에서 가져온 MovieDetail 보완용 값
+     */
+    private record TmdbMovieDetail(String overview, java.time.LocalDate releaseDate, int runtime, double voteAverage,
+                                   String genreNm, String directorName, String directorPhotoUrl) {
+    }
+
+    /**
+     * 감독 이름으로 감독 정보 저장 (없으면 조회 단계에서 미리 가져온 사진 URL로 생성)
+     */
+    private Director findOrCreateDirector(String directorName, String photoUrl) {
+        return directorRepository.findByName(directorName)
+                .orElseGet(() -> directorRepository.save(Director.builder()
+                        .name(directorName)
+                        .photoUrl(photoUrl)
+                        .build()));
     }
 
     /**
@@ -261,22 +188,10 @@ public class KobisApiService {
      */
     private String fetchDirectorImageUrlFromTmdb(String directorName) {
         try {
-            String encodedName = java.net.URLEncoder.encode(directorName, java.nio.charset.StandardCharsets.UTF_8);
-            String url = String.format("https://api.themoviedb.org/3/search/person?api_key=%s&query=%s&language=ko-KR", 
-                tmdbApiKey, encodedName);
-            
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            if (response.getStatusCode().is2xxSuccessful()) {
-                JsonNode rootNode = objectMapper.readTree(response.getBody());
-                JsonNode results = rootNode.get("results");
-                
-                if (results != null && results.size() > 0) {
-                    JsonNode person = results.get(0);
-                    if (person.has("profile_path") && !person.get("profile_path").isNull()) {
-                        String profilePath = person.get("profile_path").asText();
-                        return "https://image.tmdb.org/t/p/w500" + profilePath;
-                    }
-                }
+            TmdbPersonSearchResponse.Person person = ingestionEngine.call(IngestionProvider.TMDB,
+                    () -> tmdbClient.searchPerson(directorName, "ko-KR")).firstResult();
+            if (person != null) {
+                return TmdbClient.posterUrl(person.profilePath());
             }
         } catch (Exception e) {
             log.warn("TMDB 감독 이미지 URL 조회 실패: {} - {}", directorName, e.getMessage());
@@ -290,98 +205,119 @@ public class KobisApiService {
      */
     public MovieDetail fetchAndSaveMovieDetail(String movieCd) {
         try {
-            log.info("KOBIS API로 MovieDetail 가져오기 시작: {}", movieCd);
-            
-            String url = String.format("http://www.kobis.or.kr/kobisopenapi/webservice/rest/movie/searchMovieInfo.json?key=%s&movieCd=%s", 
-                kobisApiKey, movieCd);
-            
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                log.error("KOBIS API 호출 실패: status={}", response.getStatusCode());
-                return null;
-            }
-            
-            JsonNode rootNode = objectMapper.readTree(response.getBody());
-            JsonNode movieInfoResult = rootNode.get("movieInfoResult");
-            
-            if (movieInfoResult == null || movieInfoResult.get("movieInfo") == null) {
-                log.warn("KOBIS API 응답에 movieInfo가 없음: {}", movieCd);
+            KobisMovieDetail kobis = fetchMovieDetailFromKobis(movieCd);
+            if (kobis == null) {
                 return null;
             }
-            
-            JsonNode movieInfo = movieInfoResult.get("movieInfo");
-            
-            // MovieList에서 기본 정보 가져오기
             MovieList movieList = prdMovieListRepository.findById(movieCd).orElse(null);
             if (movieList == null) {
                 log.warn("MovieList를 찾을 수 없음: {}", movieCd);
                 return null;
             }
-            
-            // 상세 정보 추출
-            String description = "";
-            if (movieInfo.has("plot") && !movieInfo.get("plot").isNull()) {
-                description = movieInfo.get("plot").asText();
-            }
-            
-            int showTm = 0;
-            if (movieInfo.has("showTm") && !movieInfo.get("showTm").isNull()) {
-                showTm = movieInfo.get("showTm").asInt();
-            }
-            
-            String companyNm = "";
-            if (movieInfo.has("companys") && movieInfo.get("companys").isArray()) {
-                JsonNode companys = movieInfo.get("companys");
-                for (JsonNode company : companys) {
-                    if ("제작사".equals(company.get("companyPartNm").asText())) {
-                        companyNm = company.get("companyNm").asText();
-                        break;
-                    }
+            return saveMovieDetailFromKobis(movieList, kobis);
+        } catch (Exception e) {
+            log.error("KOBIS API로 MovieDetail 가져오기 실패: {} - {}", movieCd, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * KOBIS 영화 상세정보 조회 (응답에 movieInfo가 없으면 null, 호출 실패는 예외)
+     */
+    private KobisMovieDetail fetchMovieDetailFromKobis(String movieCd) {
+        log.info("KOBIS API로 MovieDetail 가져오기 시작: {}", movieCd);
+
+        JsonNode rootNode = ingestionEngine.call(IngestionProvider.KOBIS, () -> kobisClient.movieInfo(movieCd));
+        JsonNode movieInfoResult = rootNode.get("movieInfoResult");
+
+        if (movieInfoResult == null || movieInfoResult.get("movieInfo") == null) {
+            log.warn("KOBIS API 응답에 movieInfo가 없음: {}", movieCd);
+            return null;
+        }
+
+        JsonNode movieInfo = movieInfoResult.get("movieInfo");
+
+        // 상세 정보 추출
+        String description = "";
+        if (movieInfo.has("plot") && !movieInfo.get("plot").isNull()) {
+            description = movieInfo.get("plot").asText();
+        }
+
+        int showTm = 0;
+        if (movieInfo.has("showTm") && !movieInfo.get("showTm").isNull()) {
+            showTm = movieInfo.get("showTm").asInt();
+        }
+
+        String companyNm = "";
+        if (movieInfo.has("companys") && movieInfo.get("companys").isArray()) {
+            JsonNode companys = movieInfo.get("companys");
+            for (JsonNode company : companys) {
+                if ("제작사".equals(company.get("companyPartNm").asText())) {
+                    companyNm = company.get("companyNm").asText();
+                    break;
                 }
             }
-            
-            // 감독 정보
-            Director director = null;
-            if (movieInfo.has("directors") && movieInfo.get("directors").isArray()) {
-                JsonNode directors = movieInfo.get("directors");
-                if (directors.size() > 0) {
-                    String directorName = directors.get(0).get("peopleNm").asText();
-                    director = saveDirectorByName(directorName);
+        }
+
+        // 감독 정보 (처음 보는 감독이면 사진도 조회 단계에서 미리 가져옴)
+        String directorName = null;
+        String directorPhotoUrl = null;
+        if (movieInfo.has("directors") && movieInfo.get("directors").isArray()) {
+            JsonNode directors = movieInfo.get("directors");
+            if (directors.size() > 0) {
+                directorName = directors.get(0).get("peopleNm").asText();
+                if (directorRepository.findByName(directorName).isEmpty()) {
+                    directorPhotoUrl = fetchDirectorImageUrlFromTmdb(directorName);
                 }
             }
-            
-            // MovieDetail 엔티티 생성
-            MovieDetail movieDetail = MovieDetail.builder()
-                .movieCd(movieCd)
-                .movieNm(movieList.getMovieNm())
-                .movieNmEn(movieList.getMovieNmEn())
-                .description(description)
-                .openDt(movieList.getOpenDt())
-                .showTm(showTm)
-                .genreNm(movieList.getGenreNm())
-                .nationNm(movieList.getNationNm())
-                .watchGradeNm(movieList.getWatchGradeNm())
-                .companyNm(companyNm)
-                .totalAudience(0)
-                .reservationRate(0.0)
-                .averageRating(0.0)
-                .status(movieList.getStatus())
-                .build();
-            
-            if (director != null) {
-                movieDetail.setDirector(director);
-            }
-            
-            // 저장
-            MovieDetail savedMovieDetail = movieRepository.save(movieDetail);
-            log.info("KOBIS MovieDetail 저장 완료: {} ({})", savedMovieDetail.getMovieNm(), movieCd);
-            
-            return savedMovieDetail;
-            
-        } catch (Exception e) {
-            log.error("KOBIS API로 MovieDetail 가져오기 실패: {} - {}", movieCd, e.getMessage());
-            return null;
         }
+
+        return new KobisMovieDetail(description, showTm, companyNm, directorName, directorPhotoUrl);
+    }
+
+    /**
+     * 수집 엔진 청크 저장용 (MovieList가 없으면 건너뜀)
+     */
+    private void saveKobisMatch(MovieSearchTarget target, KobisMovieDetail kobis) {
+        prdMovieListRepository.findById(target.movieCd())
+                .ifPresent(movieList -> saveMovieDetailFromKobis(movieList, kobis));
+    }
+
+    /**
+     * KOBIS 상세정보로 MovieDetail 저장
+     */
+    private MovieDetail saveMovieDetailFromKobis(MovieList movieList, KobisMovieDetail kobis) {
+        MovieDetail movieDetail = MovieDetail.builder()
+            .movieCd(movieList.getMovieCd())
+            .movieNm(movieList.getMovieNm())
+            .movieNmEn(movieList.getMovieNmEn())
+            .description(kobis.description())
+            .openDt(movieList.getOpenDt())
+            .showTm(kobis.showTm())
+            .genreNm(movieList.getGenreNm())
+            .nationNm(movieList.getNationNm())
+            .watchGradeNm(movieList.getWatchGradeNm())
+            .companyNm(kobis.companyNm())
+            .totalAudience(0)
+            .reservationRate(0.0)
+            .averageRating(0.0)
+            .status(movieList.getStatus())
+            .build();
+
+        if (kobis.directorName() != null) {
+            movieDetail.setDirector(findOrCreateDirector(kobis.directorName(), kobis.directorPhotoUrl()));
+        }
+
+        MovieDetail savedMovieDetail = movieRepository.save(movieDetail);
+        log.info("KOBIS MovieDetail 저장 완료: {} ({})", savedMovieDetail.getMovieNm(), savedMovieDetail.getMovieCd());
+        return savedMovieDetail;
+    }
+
+    /**
+     * KOBIS에서 가져온 MovieDetail 값
+     */
+    private record KobisMovieDetail(String description, int showTm, String companyNm,
+                                    String directorName, String directorPhotoUrl) {
     }
 
     /**
@@ -402,16 +338,7 @@ public class KobisApiService {
             
             log.info("개봉예정작 조회 기간: {} ~ {}", startDateStr, endDateStr);
             
-            String url = String.format("http://www.kobis.or.kr/kobisopenapi/webservice/rest/movie/searchMovieList.json?key=%s&openStartDt=%s&openEndDt=%s&itemPerPage=%d", 
-                kobisApiKey, startDateStr, endDateStr, limit);
-            
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                log.error("KOBIS 개봉예정작 API 호출 실패: status={}", response.getStatusCode());
-                return comingSoonMovies;
-            }
-            
-            JsonNode rootNode = objectMapper.readTree(response.getBody());
+            JsonNode rootNode = kobisClient.searchMovieList(null, startDateStr, endDateStr, limit);
             JsonNode movieListResult = rootNode.get("movieListResult");
             
             if (movieListResult == null || movieListResult.get("movieList") == null) {
@@ -491,87 +418,75 @@ public class KobisApiService {
         try {
             log.info("TMDB에서 개봉예정작 가져오기 시작 (제한: {}개)", limit);
             
-            // TMDB는 한 페이지당 20개씩 반환하므로 여러 페이지를 가져와야 함
-            int page = 1;
+            // TMDB는 한 페이지당 20개씩 반환하므로 필요한 페이지를 동시에 요청하고 페이지 순서대로 처리
             int maxPages = (limit + 19) / 20; // 올림 나눗셈으로 필요한 페이지 수 계산
+            List<CompletableFuture<TmdbMovieSearchResponse>> responses = IntStream.rangeClosed(1, maxPages)
+                    .mapToObj(page -> tmdbClient.upcomingMoviesAsync(page, "ko-KR", null))
+                    .toList();
             
-            while (comingSoonMovies.size() < limit && page <= maxPages) {
-                String url = String.format("https://api.themoviedb.org/3/movie/upcoming?api_key=%s&language=ko-KR&page=%d", 
-                    tmdbApiKey, page);
-                
-                ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-                if (!response.getStatusCode().is2xxSuccessful()) {
-                    log.error("TMDB 개봉예정작 API 호출 실패: status={}, page={}", response.getStatusCode(), page);
-                    break;
-                }
-                
-                JsonNode rootNode = objectMapper.readTree(response.getBody());
-                JsonNode results = rootNode.get("results");
+            int page = 1;
+            try {
+                while (comingSoonMovies.size() < limit && page <= maxPages) {
+                    List<TmdbMovieSearchResponse.Movie> results = responses.get(page - 1).join().resultsOrEmpty();
                 
-                if (results == null || results.size() == 0) {
-                    log.info("TMDB 페이지 {}에 더 이상 데이터가 없습니다.", page);
-                    break;
-                }
+                    if (results.isEmpty()) {
+                        log.info("TMDB 페이지 {}에 더 이상 데이터가 없습니다.", page);
+                        break;
+                    }
                 
-                log.info("TMDB 페이지 {}에서 {}개 영화 처리 중...", page, results.size());
+                    log.info("TMDB 페이지 {}에서 {}개 영화 처리 중...", page, results.size());
                 
-                for (JsonNode movie : results) {
-                    if (comingSoonMovies.size() >= limit) break;
+                    for (TmdbMovieSearchResponse.Movie movie : results) {
+                        if (comingSoonMovies.size() >= limit) break;
                     
-                    try {
-                        // 개봉일 파싱
-                        java.time.LocalDate releaseDate = null;
-                        if (movie.has("release_date") && !movie.get("release_date").isNull()) {
-                            String releaseDateStr = movie.get("release_date").asText();
-                            releaseDate = java.time.LocalDate.parse(releaseDateStr, java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-                        }
+                        try {
+                            // 개봉일 파싱
+                            java.time.LocalDate releaseDate = null;
+                            if (movie.releaseDate() != null) {
+                                releaseDate = java.time.LocalDate.parse(movie.releaseDate(), java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+                            }
                         
-                        // 장르 정보
-                        String genreNm = "";
-                        if (movie.has("genre_ids") && movie.get("genre_ids").isArray()) {
-                            // TMDB 장르 ID를 한국어 장르명으로 변환 (간단한 매핑)
-                            List<String> genres = new ArrayList<>();
-                            for (JsonNode genreId : movie.get("genre_ids")) {
-                                String genreName = getGenreNameById(genreId.asInt());
-                                if (!genreName.isEmpty()) {
-                                    genres.add(genreName);
+                            // 장르 정보
+                            String genreNm = "";
+                            if (movie.genreIds() != null) {
+                                // TMDB 장르 ID를 한국어 장르명으로 변환 (간단한 매핑)
+                                List<String> genres = new ArrayList<>();
+                                for (Integer genreId : movie.genreIds()) {
+                                    String genreName = getGenreNameById(genreId);
+                                    if (!genreName.isEmpty()) {
+                                        genres.add(genreName);
+                                    }
                                 }
+                                genreNm = String.join(", ", genres);
                             }
-                            genreNm = String.join(", ", genres);
-                        }
                         
-                        // 고유한 movieCd 생성 (TMDB ID 기반)
-                        String movieCd = "TMDB" + movie.get("id").asText();
+                            // 고유한 movieCd 생성 (TMDB ID 기반)
+                            String movieCd = "TMDB" + movie.id();
                         
-                        MovieListDto movieDto = MovieListDto.builder()
-                            .movieCd(movieCd)
-                            .movieNm(movie.get("title").asText())
-                            .movieNmEn(movie.has("original_title") ? movie.get("original_title").asText() : "")
-                            .openDt(releaseDate)
-                            .genreNm(genreNm.isEmpty() ? "기타" : genreNm)
-                            .nationNm("해외")
-                            .watchGradeNm("전체관람가")
-                            .posterUrl(movie.has("poster_path") && !movie.get("poster_path").isNull() ? 
-                                "https://image.tmdb.org/t/p/w500" + movie.get("poster_path").asText() : "")
-                            .status(MovieStatus.COMING_SOON)
-                            .build();
+                            MovieListDto movieDto = MovieListDto.builder()
+                                .movieCd(movieCd)
+                                .movieNm(movie.title())
+                                .movieNmEn(movie.originalTitle() != null ? movie.originalTitle() : "")
+                                .openDt(releaseDate)
+                                .genreNm(genreNm.isEmpty() ? "기타" : genreNm)
+                                .nationNm("해외")
+                                .watchGradeNm("전체관람가")
+                                .posterUrl(movie.hasPoster() ? TmdbClient.posterUrl(movie.posterPath()) : "")
+                                .status(MovieStatus.COMING_SOON)
+                                .build();
                         
-                        comingSoonMovies.add(movieDto);
+                            comingSoonMovies.add(movieDto);
                         
-                    } catch (Exception e) {
-                        log.warn("TMDB 개봉예정작 파싱 실패: {}", e.getMessage());
+                        } catch (Exception e) {
+                            log.warn("TMDB 개봉예정작 파싱 실패: {}", e.getMessage());
+                        }
                     }
-                }
-                
-                page++;
                 
-                // API 호출 제한을 위한 딜레이
-                try {
-                    Thread.sleep(100);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
+                    page++;
                 }
+            } finally {
+                // 목표 개수를 채웠거나 빈 페이지에서 멈췄으면 남은 페이지 요청은 취소 (완료된 요청에는 영향 없음)
+                responses.forEach(response -> response.cancel(true));
             }
             
             log.info("TMDB에서 개봉예정작 {}개 가져오기 완료 ({}페이지 처리)", comingSoonMovies.size(), page - 1);
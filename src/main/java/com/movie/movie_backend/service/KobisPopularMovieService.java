@@ -1,7 +1,12 @@
 package com.movie.movie_backend.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movie.movie_backend.client.KobisBoxOfficeResponse;
+import com.movie.movie_backend.client.KobisClient;
+import com.movie.movie_backend.client.TmdbClient;
+import com.movie.movie_backend.client.TmdbCreditsResponse;
+import com.movie.movie_backend.client.TmdbMovieSearchResponse;
+import com.movie.movie_backend.client.TmdbPersonSearchResponse;
 import com.movie.movie_backend.dto.MovieListDto;
 import com.movie.movie_backend.entity.MovieDetail;
 import com.movie.movie_backend.entity.Director;
@@ -13,12 +18,12 @@ import com.movie.movie_backend.repository.PRDMovieRepository;
 import com.movie.movie_backend.repository.PRDDirectorRepository;
 import com.movie.movie_backend.repository.PRDActorRepository;
 import com.movie.movie_backend.repository.CastRepository;
+import com.movie.movie_backend.ingestion.IngestionEngine;
+import com.movie.movie_backend.ingestion.IngestionProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -32,8 +37,9 @@ import java.util.HashMap;
 @RequiredArgsConstructor
 public class KobisPopularMovieService {
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final KobisClient kobisClient;
+    private final TmdbClient tmdbClient;
+    private final IngestionEngine ingestionEngine;
     private final KobisApiService kobisApiService;
     private final TmdbPopularMovieService tmdbPopularMovieService;
     private final NaverMovieService naverMovieService;
@@ -42,13 +48,6 @@ public class KobisPopularMovieService {
     private final PRDActorRepository actorRepository;
     private final CastRepository castRepository;
 
-    @Value("${kobis.api.key}")
-    private String kobisApiKey;
-
-    private static final String BASE_URL = "http://www.kobis.or.kr/kobisopenapi/webservice/rest";
-    private static final String DAILY_BOX_OFFICE_URL = BASE_URL + "/boxoffice/searchDailyBoxOfficeList.json";
-    private static final String WEEKLY_BOX_OFFICE_URL = BASE_URL + "/boxoffice/searchWeeklyBoxOfficeList.json";
-
     /**
      * KOBIS 박스오피스 TOP-100 영화를 MovieListDto로 가져오기
      */
@@ -62,39 +61,29 @@ public class KobisPopularMovieService {
                 LocalDate targetDate = LocalDate.now().minusWeeks(week);
                 String dateStr = targetDate.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
                 
-                String url = String.format("%s?key=%s&targetDt=%s&weekGb=0", 
-                    WEEKLY_BOX_OFFICE_URL, kobisApiKey, dateStr);
-                
                 log.info("KOBIS 주간 박스오피스 API 호출: week={}, date={}, 현재 수집된 영화: {}개", 
                     week, dateStr, popularMovies.size());
-                String response = restTemplate.getForObject(url, String.class);
-                JsonNode root = objectMapper.readTree(response);
-                JsonNode boxOfficeResult = root.get("boxOfficeResult");
+                // 호출 간격은 KOBIS 토큰 버킷으로 조절
+                KobisBoxOfficeResponse response = ingestionEngine.call(IngestionProvider.KOBIS,
+                        () -> kobisClient.weeklyBoxOffice(dateStr, "0"));
                 
-                if (boxOfficeResult != null && boxOfficeResult.get("weeklyBoxOfficeList") != null) {
-                    JsonNode weeklyBoxOfficeList = boxOfficeResult.get("weeklyBoxOfficeList");
+                for (KobisBoxOfficeResponse.Entry movie : response.weeklyEntries()) {
+                    if (popularMovies.size() >= limit) break;
                     
-                    for (JsonNode movie : weeklyBoxOfficeList) {
-                        if (popularMovies.size() >= limit) break;
-                        
-                        try {
-                            MovieListDto movieDto = convertBoxOfficeToMovieListDto(movie);
-                            if (movieDto != null && !isDuplicateMovie(popularMovies, movieDto)) {
-                                popularMovies.add(movieDto);
-                                log.info("박스오피스 영화 추가: {} ({}) - 순위: {}, 총 {}개", 
-                                    movieDto.getMovieNm(), movieDto.getMovieCd(), 
-                                    movie.get("rank").asText(), popularMovies.size());
-                            } else if (movieDto != null) {
-                                log.debug("중복 영화 건너뛰기: {} ({})", movieDto.getMovieNm(), movieDto.getMovieCd());
-                            }
-                        } catch (Exception e) {
-                            log.warn("박스오피스 영화 변환 실패: {}", movie.get("movieNm"), e);
+                    try {
+                        MovieListDto movieDto = convertBoxOfficeToMovieListDto(movie);
+                        if (movieDto != null && !isDuplicateMovie(popularMovies, movieDto)) {
+                            popularMovies.add(movieDto);
+                            log.info("박스오피스 영화 추가: {} ({}) - 순위: {}, 총 {}개", 
+                                movieDto.getMovieNm(), movieDto.getMovieCd(), 
+                                movie.rank(), popularMovies.size());
+                        } else if (movieDto != null) {
+                            log.debug("중복 영화 건너뛰기: {} ({})", movieDto.getMovieNm(), movieDto.getMovieCd());
                         }
+                    } catch (Exception e) {
+                        log.warn("박스오피스 영화 변환 실패: {}", movie.movieNm(), e);
                     }
                 }
-                
-                // API 호출 제한 고려
-                Thread.sleep(200);
             }
             
             log.info("KOBIS 박스오피스 영화 {}개 가져오기 완료 (목표: {}개)", popularMovies.size(), limit);
@@ -109,36 +98,26 @@ public class KobisPopularMovieService {
                     LocalDate targetDate = LocalDate.now().minusDays(day);
                     String dateStr = targetDate.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
                     
-                    String url = String.format("%s?key=%s&targetDt=%s", 
-                        DAILY_BOX_OFFICE_URL, kobisApiKey, dateStr);
-                    
                     log.info("KOBIS 일일 박스오피스 API 호출: day={}, date={}, 현재 수집된 영화: {}개", 
                         day, dateStr, popularMovies.size());
-                    String response = restTemplate.getForObject(url, String.class);
-                    JsonNode root = objectMapper.readTree(response);
-                    JsonNode boxOfficeResult = root.get("boxOfficeResult");
+                    KobisBoxOfficeResponse response = ingestionEngine.call(IngestionProvider.KOBIS,
+                            () -> kobisClient.dailyBoxOffice(dateStr));
                     
-                    if (boxOfficeResult != null && boxOfficeResult.get("dailyBoxOfficeList") != null) {
-                        JsonNode dailyBoxOfficeList = boxOfficeResult.get("dailyBoxOfficeList");
+                    for (KobisBoxOfficeResponse.Entry movie : response.dailyEntries()) {
+                        if (popularMovies.size() >= limit) break;
                         
-                        for (JsonNode movie : dailyBoxOfficeList) {
-                            if (popularMovies.size() >= limit) break;
-                            
-                            try {
-                                MovieListDto movieDto = convertBoxOfficeToMovieListDto(movie);
-                                if (movieDto != null && !isDuplicateMovie(popularMovies, movieDto)) {
-                                    popularMovies.add(movieDto);
-                                    log.info("일일 박스오피스 영화 추가: {} ({}) - 순위: {}, 총 {}개", 
-                                        movieDto.getMovieNm(), movieDto.getMovieCd(), 
-                                        movie.get("rank").asText(), popularMovies.size());
-                                }
-                            } catch (Exception e) {
-                                log.warn("일일 박스오피스 영화 변환 실패: {}", movie.get("movieNm"), e);
+                        try {
+                            MovieListDto movieDto = convertBoxOfficeToMovieListDto(movie);
+                            if (movieDto != null && !isDuplicateMovie(popularMovies, movieDto)) {
+                                popularMovies.add(movieDto);
+                                log.info("일일 박스오피스 영화 추가: {} ({}) - 순위: {}, 총 {}개", 
+                                    movieDto.getMovieNm(), movieDto.getMovieCd(), 
+                                    movie.rank(), popularMovies.size());
                             }
+                        } catch (Exception e) {
+                            log.warn("일일 박스오피스 영화 변환 실패: {}", movie.movieNm(), e);
                         }
                     }
-                    
-                    Thread.sleep(200);
                 }
             }
             
@@ -154,11 +133,11 @@ public class KobisPopularMovieService {
     /**
      * 박스오피스 데이터를 MovieListDto로 변환
      */
-    private MovieListDto convertBoxOfficeToMovieListDto(JsonNode movie) {
+    private MovieListDto convertBoxOfficeToMovieListDto(KobisBoxOfficeResponse.Entry movie) {
         try {
-            String movieCd = movie.get("movieCd").asText();
-            String movieNm = movie.get("movieNm").asText();
-            String openDt = movie.has("openDt") ? movie.get("openDt").asText() : "";
+            String movieCd = movie.movieCd();
+            String movieNm = movie.movieNm();
+            String openDt = movie.openDt() != null ? movie.openDt().trim() : "";
             
             // 날짜 파싱 (KOBIS API는 yyyy-MM-dd 형식으로 반환)
             LocalDate openDate = null;
@@ -221,18 +200,12 @@ public class KobisPopularMovieService {
         try {
             log.info("TMDB에서 상세정보 가져오기 시도: {} ({})", movieNm, movieCd);
             
-            // TMDB에서 영화 검색
-            String searchUrl = String.format("https://api.themoviedb.org/3/search/movie?api_key=%s&query=%s&language=ko-KR",
-                    tmdbPopularMovieService.getTmdbApiKey(), movieNm);
+            // TMDB에서 영화 검색 (첫 번째 검색 결과 사용)
+            TmdbMovieSearchResponse.Movie firstResult = ingestionEngine.call(IngestionProvider.TMDB,
+                    () -> tmdbClient.searchMovie(movieNm, null, "ko-KR")).firstResult();
             
-            String response = restTemplate.getForObject(searchUrl, String.class);
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode results = root.get("results");
-            
-            if (results != null && results.isArray() && results.size() > 0) {
-                // 첫 번째 검색 결과 사용
-                JsonNode firstResult = results.get(0);
-                String tmdbId = firstResult.get("id").asText();
+            if (firstResult != null) {
+                String tmdbId = String.valueOf(firstResult.id());
                 
                 // TMDB 상세정보 가져오기 (credits 포함)
                 var tmdbDetailDto = tmdbPopularMovieService.getMovieDetailFromTmdb(tmdbId);
@@ -278,32 +251,22 @@ public class KobisPopularMovieService {
     private MovieDetail saveTmdbCreditsToMovieDetail(MovieDetail movieDetail, String tmdbId) {
         try {
             // TMDB credits API 호출
-            String creditsUrl = String.format("https://api.themoviedb.org/3/movie/%s/credits?api_key=%s",
-                    tmdbId, tmdbPopularMovieService.getTmdbApiKey());
-            
-            String response = restTemplate.getForObject(creditsUrl, String.class);
-            JsonNode root = objectMapper.readTree(response);
-            
-            // 감독 정보 저장
-            JsonNode crew = root.get("crew");
-            if (crew != null && crew.isArray()) {
-                for (JsonNode person : crew) {
-                    if ("Director".equals(person.get("job").asText())) {
-                        String directorName = person.get("name").asText();
-                        Director director = saveTmdbDirector(directorName);
-                        movieDetail.setDirector(director);
-                        break; // 첫 번째 감독만 저장
-                    }
-                }
+            TmdbCreditsResponse credits = ingestionEngine.call(IngestionProvider.TMDB,
+                    () -> tmdbClient.movieCredits(Integer.parseInt(tmdbId)));
+            
+            // 감독 정보 저장 (첫 번째 감독만)
+            String directorName = credits.directorName();
+            if (directorName != null) {
+                Director director = saveTmdbDirector(directorName);
+                movieDetail.setDirector(director);
             }
             
             // 영화 저장 (감독 정보 포함)
             MovieDetail savedMovieDetail = movieRepository.save(movieDetail);
             
             // 배우 정보 저장
-            JsonNode cast = root.get("cast");
-            if (cast != null && cast.isArray()) {
-                saveTmdbActors(cast, savedMovieDetail);
+            if (!credits.castOrEmpty().isEmpty()) {
+                saveTmdbActors(credits.castOrEmpty(), savedMovieDetail);
             }
             
             return savedMovieDetail;
@@ -347,7 +310,7 @@ public class KobisPopularMovieService {
      * TMDB 배우 정보 저장 (KOBIS API에서 한국어 배역명 우선 사용)
      */
     @Transactional
-    private void saveTmdbActors(JsonNode cast, MovieDetail movieDetail) {
+    private void saveTmdbActors(List<TmdbCreditsResponse.CastMember> cast, MovieDetail movieDetail) {
         log.info("TMDB 배우 정보 저장 시작: 영화={}, 배우 수={}", movieDetail.getMovieNm(), cast.size());
         
         try {
@@ -361,8 +324,8 @@ public class KobisPopularMovieService {
             }
             
             for (int i = 0; i < cast.size() && i < 10; i++) { // 최대 10명까지만
-                JsonNode person = cast.get(i);
-                String actorName = person.get("name").asText();
+                TmdbCreditsResponse.CastMember person = cast.get(i);
+                String actorName = person.name();
                 
                 // KOBIS에서 한국어 배역명 우선 사용, 없으면 네이버, 마지막으로 TMDB 영어 캐릭터명 사용
                 String characterName = "";
@@ -373,7 +336,7 @@ public class KobisPopularMovieService {
                     characterName = naverCharacterNames.get(actorName);
                     log.info("네이버 배역명 사용: {} - {}", actorName, characterName);
                 } else {
-                    characterName = person.has("character") ? person.get("character").asText() : "";
+                    characterName = person.character() != null ? person.character() : "";
                     log.info("TMDB 캐릭터명 사용: {} - {}", actorName, characterName);
                 }
                 
@@ -455,12 +418,8 @@ public class KobisPopularMovieService {
         Map<String, String> characterNames = new java.util.HashMap<>();
         
         try {
-            // KOBIS 영화 상세정보 API 호출
-            String detailUrl = String.format("%s/movie/searchMovieInfo.json?key=%s&movieCd=%s",
-                    BASE_URL, kobisApiKey, movieCd);
-            
-            String response = restTemplate.getForObject(detailUrl, String.class);
-            JsonNode root = objectMapper.readTree(response);
+            // KOBIS 영화 상세정보 API 호출 (호출 간격은 KOBIS 토큰 버킷으로 조절)
+            JsonNode root = ingestionEngine.call(IngestionProvider.KOBIS, () -> kobisClient.movieInfo(movieCd));
             JsonNode movieInfo = root.get("movieInfoResult").get("movieInfo");
             
             if (movieInfo != null && movieInfo.has("actors")) {
@@ -492,19 +451,10 @@ public class KobisPopularMovieService {
      */
     private String fetchTmdbPersonImageUrl(String personName) {
         try {
-            String query = java.net.URLEncoder.encode(personName, java.nio.charset.StandardCharsets.UTF_8);
-            String url = "https://api.themoviedb.org/3/search/person?api_key=" + 
-                    tmdbPopularMovieService.getTmdbApiKey() + "&query=" + query;
-            
-            String response = restTemplate.getForObject(url, String.class);
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode results = root.get("results");
-            
-            if (results != null && results.size() > 0) {
-                String profilePath = results.get(0).get("profile_path").asText();
-                if (profilePath != null && !profilePath.isEmpty()) {
-                    return "https://image.tmdb.org/t/p/w500" + profilePath;
-                }
+            TmdbPersonSearchResponse.Person person = ingestionEngine.call(IngestionProvider.TMDB,
+                    () -> tmdbClient.searchPerson(personName, null)).firstResult();
+            if (person != null) {
+                return TmdbClient.posterUrl(person.profilePath());
             }
         } catch (Exception e) {
             log.warn("TMDB 인물 이미지 검색 오류: {} - {}", personName, e.getMessage());
@@ -553,9 +503,6 @@ public class KobisPopularMovieService {
                         }
                     }
                     
-                    // API 호출 간격 조절 (KOBIS API 제한 고려)
-                    Thread.sleep(100);
-                    
                 } catch (Exception e) {
                     log.warn("영화 {} 캐릭터명 업데이트 실패: {}", movie.getMovieNm(), e.getMessage());
                 }
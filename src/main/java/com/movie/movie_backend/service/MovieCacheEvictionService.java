@@ -0,0 +1,102 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.cache.TieredCache;
+import com.movie.movie_backend.cache.TieredCacheStats;
+import com.movie.movie_backend.config.CacheConfig;
+import com.movie.movie_backend.event.DataIngestionCompletedEvent;
+import com.movie.movie_backend.event.MovieCardChangedEvent;
+import com.movie.movie_backend.event.MovieChangedEvent;
+import com.movie.movie_backend.event.RatingAggregateChangedEvent;
+import com.movie.movie_backend.event.ReviewChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 영화 상세/리뷰/평점 통계 캐시 무효화 (모두 커밋 후 처리 → 지운 뒤 커밋 전 값이 다시 채워지지 않음)
+ *
+ * - 리뷰 작성/수정/삭제: 그 영화의 리뷰 목록, 평점 통계, 영화 상세(평균 평점 포함)
+ * - 평점 집계 변경: 그 영화의 평점 통계, 영화 상세 (movieCd가 null이면 전체)
+ * - 영화 정보 변경(관리자 수정 등)과 영화 카드 갱신(포스터/감독/태그): 그 영화의 상세
+ * - 외부 데이터 수집 완료: 영화 상세 전체 (박스오피스 순위 등 여러 영화가 한 번에 바뀜)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovieCacheEvictionService {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        evict(CacheConfig.MOVIE_REVIEWS, event.getMovieCd());
+        evict(CacheConfig.RATING_STATS, event.getMovieCd());
+        evict(CacheConfig.MOVIE_DETAIL, event.getMovieCd());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRatingAggregateChanged(RatingAggregateChangedEvent event) {
+        if (event.getMovieCd() == null) {
+            clear(CacheConfig.RATING_STATS);
+            clear(CacheConfig.MOVIE_DETAIL);
+            return;
+        }
+        evict(CacheConfig.RATING_STATS, event.getMovieCd());
+        evict(CacheConfig.MOVIE_DETAIL, event.getMovieCd());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMovieChanged(MovieChangedEvent event) {
+        evict(CacheConfig.MOVIE_DETAIL, event.getMovieCd());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMovieCardChanged(MovieCardChangedEvent event) {
+        if (event.getMovieCds() == null) {
+            clear(CacheConfig.MOVIE_DETAIL);
+        } else {
+            event.getMovieCds().forEach(movieCd -> evict(CacheConfig.MOVIE_DETAIL, movieCd));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIngestionCompleted(DataIngestionCompletedEvent event) {
+        log.debug("데이터 수집 완료로 영화 상세 캐시 비움: {}", event.getSource());
+        clear(CacheConfig.MOVIE_DETAIL);
+    }
+
+    /**
+     * 캐시별 적중/미스 통계 (관리자 조회용)
+     */
+    public List<TieredCacheStats> getStats() {
+        List<TieredCacheStats> stats = new ArrayList<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            if (cacheManager.getCache(cacheName) instanceof TieredCache cache) {
+                stats.add(cache.stats());
+            }
+        }
+        return stats;
+    }
+
+    // ===== 내부 메서드 =====
+
+    private void evict(String cacheName, String movieCd) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && movieCd != null) {
+            cache.evict(movieCd);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
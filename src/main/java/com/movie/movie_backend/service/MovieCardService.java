@@ -0,0 +1,422 @@
+package com.movie.movie_backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.movie.movie_backend.boxoffice.BoxOfficeEntry;
+import com.movie.movie_backend.entity.BoxOffice;
+import com.movie.movie_backend.entity.MovieCard;
+import com.movie.movie_backend.entity.MovieDetail;
+import com.movie.movie_backend.entity.MovieList;
+import com.movie.movie_backend.event.DataIngestionCompletedEvent;
+import com.movie.movie_backend.event.MovieCardChangedEvent;
+import com.movie.movie_backend.event.MovieChangedEvent;
+import com.movie.movie_backend.event.RatingAggregateChangedEvent;
+import com.movie.movie_backend.repository.BoxOfficeRepository;
+import com.movie.movie_backend.repository.PRDMovieCardRepository;
+import com.movie.movie_backend.repository.PRDMovieListRepository;
+import com.movie.movie_backend.repository.PRDMovieRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 영화 카드 읽기 모델(movie_card) 유지 서비스
+ *
+ * - 원본(MovieList/MovieDetail/감독/태그/평점/일일 박스오피스) 변경 이벤트가 오면 영화 코드를 모아 두었다가
+ *   1초 간격으로 해당 카드만 청크 단위로 다시 만들어 저장 (원본 조회는 청크당 쿼리 5번)
+ * - 박스오피스가 바뀌면 이전 순위 영화와 새 순위 영화의 카드만 다시 만듦
+ * - 읽기: 메모리 캐시 → movie_card 테이블(단일 테이블 PK 조회) → 그래도 없으면 그 자리에서 만들어 저장
+ *   (요청 경로는 재구축 락을 기다리지 않고 영화별로 한 번만 만듦, 원본이 없는 코드는 잠시 기억)
+ * - 카드가 바뀌면 커밋 후 MovieCardChangedEvent 발행 (박스오피스 스냅샷 DTO 갱신용)
+ */
+@Slf4j
+@Service
+public class MovieCardService {
+
+    private static final int CHUNK_SIZE = 200;
+    private static final String DAILY = "DAILY";
+
+    private final PRDMovieCardRepository cardRepository;
+    private final PRDMovieListRepository movieListRepository;
+    private final PRDMovieRepository movieRepository;
+    private final BoxOfficeRepository boxOfficeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate writeTransaction;
+    private final Cache<String, MovieCard> cache;
+    private final Cache<String, Boolean> unknownMovieCds; // 원본이 없는 영화 코드 (요청마다 쓰기 트랜잭션을 열지 않도록)
+    private final Map<String, CompletableFuture<MovieCard>> inFlightLoads = new ConcurrentHashMap<>();
+
+    private final Set<String> pendingMovieCds = ConcurrentHashMap.newKeySet();
+    private volatile boolean boxOfficeStale = true;
+    private volatile boolean rebuildRequested;
+    private volatile Map<String, BoxOfficeEntry> dailyBoxOffice = Map.of();
+
+    public MovieCardService(PRDMovieCardRepository cardRepository, PRDMovieListRepository movieListRepository,
+                            PRDMovieRepository movieRepository, BoxOfficeRepository boxOfficeRepository,
+                            ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                            @Value("${movie-card.cache-size:20000}") long cacheSize,
+                            @Value("${movie-card.unknown-ttl-seconds:60}") long unknownTtlSeconds) {
+        this.cardRepository = cardRepository;
+        this.movieListRepository = movieListRepository;
+        this.movieRepository = movieRepository;
+        this.boxOfficeRepository = boxOfficeRepository;
+        this.eventPublisher = eventPublisher;
+        // 이벤트 콜백/스케줄러/조회 트랜잭션 어디서 불려도 카드 저장은 따로 커밋
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.cache = Caffeine.newBuilder().maximumSize(cacheSize).build();
+        this.unknownMovieCds = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofSeconds(unknownTtlSeconds))
+                .build();
+    }
+
+    // ===== 이벤트 =====
+
+    /**
+     * 영화 정보 변경 (커밋 후 반영 대상에 추가)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMovieChanged(MovieChangedEvent event) {
+        pendingMovieCds.add(event.getMovieCd());
+    }
+
+    /**
+     * 평점 집계 변경 (movieCd가 null이면 전체 재구축)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRatingAggregateChanged(RatingAggregateChangedEvent event) {
+        if (event.getMovieCd() == null) {
+            rebuildRequested = true;
+        } else {
+            pendingMovieCds.add(event.getMovieCd());
+        }
+    }
+
+    /**
+     * 일일 박스오피스 수집/시작 준비 작업 완료 (다음 주기에 순위 영화 카드 갱신)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIngestionCompleted(DataIngestionCompletedEvent event) {
+        if ("DAILY_BOX_OFFICE".equals(event.getSource()) || "DATA_LOADER".equals(event.getSource())) {
+            boxOfficeStale = true;
+        }
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 영화 코드 목록의 카드 (요청 순서 유지, 원본이 없는 영화는 빠짐)
+     */
+    public Map<String, MovieCard> getCards(Collection<String> movieCds) {
+        Map<String, MovieCard> found = cache.getAll(new HashSet<>(movieCds), this::loadCards);
+        Map<String, MovieCard> ordered = new LinkedHashMap<>();
+        for (String movieCd : movieCds) {
+            MovieCard card = found.get(movieCd);
+            if (card != null) {
+                ordered.put(movieCd, card);
+            }
+        }
+        return ordered;
+    }
+
+    public MovieCard getCard(String movieCd) {
+        return getCards(List.of(movieCd)).get(movieCd);
+    }
+
+    // ===== 갱신 =====
+
+    /**
+     * 쌓인 변경분 반영 (1초 간격)
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void applyPendingChanges() {
+        if (rebuildRequested) {
+            rebuildAll();
+            return;
+        }
+        Set<String> movieCds = new HashSet<>();
+        if (boxOfficeStale) {
+            boxOfficeStale = false;
+            try {
+                movieCds.addAll(reloadDailyBoxOffice());
+            } catch (Exception e) {
+                boxOfficeStale = true;
+                log.warn("영화 카드 박스오피스 갱신 실패: {}", e.getMessage());
+            }
+        }
+        for (String movieCd : List.copyOf(pendingMovieCds)) {
+            pendingMovieCds.remove(movieCd);
+            movieCds.add(movieCd);
+        }
+        if (!movieCds.isEmpty()) {
+            refresh(movieCds);
+        }
+    }
+
+    /**
+     * 전체 카드 재구축 (MovieList → MovieList에 없는 MovieDetail 순으로 청크 단위, 원본이 사라진 카드는 삭제)
+     */
+    public synchronized void rebuildAll() {
+        rebuildRequested = false;
+        long start = System.currentTimeMillis();
+        LocalDateTime startedAt = LocalDateTime.now();
+        int count = 0;
+        try {
+            reloadDailyBoxOffice();
+            boxOfficeStale = false;
+
+            String after = "";
+            List<String> chunk;
+            while (!(chunk = movieListRepository.findMovieCdsAfter(after, PageRequest.of(0, CHUNK_SIZE))).isEmpty()) {
+                count += refreshChunk(chunk).size();
+                after = chunk.get(chunk.size() - 1);
+            }
+            after = "";
+            while (!(chunk = movieRepository.findMovieCdsWithoutListAfter(after, PageRequest.of(0, CHUNK_SIZE))).isEmpty()) {
+                count += refreshChunk(chunk).size();
+                after = chunk.get(chunk.size() - 1);
+            }
+
+            Integer deleted = writeTransaction.execute(status -> cardRepository.deleteRefreshedBefore(startedAt));
+            cache.invalidateAll();
+            eventPublisher.publishEvent(new MovieCardChangedEvent(null));
+            log.info("영화 카드 재구축 완료: {}개 (삭제 {}개), {}ms", count, deleted, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            rebuildRequested = true;
+            log.warn("영화 카드 재구축 실패, 다음 주기에 다시 시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 지정한 영화들의 카드를 원본에서 다시 만들어 저장 (원본이 모두 없으면 카드 삭제)
+     */
+    public synchronized void refresh(Collection<String> movieCds) {
+        List<String> all = new ArrayList<>(movieCds);
+        Set<String> changed = new HashSet<>();
+        try {
+            for (int from = 0; from < all.size(); from += CHUNK_SIZE) {
+                List<String> chunk = all.subList(from, Math.min(from + CHUNK_SIZE, all.size()));
+                refreshChunk(chunk);
+                changed.addAll(chunk);
+            }
+        } catch (Exception e) {
+            // 실패한 영화는 다음 주기에 다시 시도
+            all.stream().filter(movieCd -> !changed.contains(movieCd)).forEach(pendingMovieCds::add);
+            log.warn("영화 카드 갱신 실패: {}개 - {}", all.size() - changed.size(), e.getMessage());
+        }
+        if (!changed.isEmpty()) {
+            eventPublisher.publishEvent(new MovieCardChangedEvent(changed));
+        }
+    }
+
+    // ===== 내부 메서드 =====
+
+    /**
+     * 캐시에 없는 카드 로드 (테이블 → 없으면 원본에서 만들어 저장, 최근에 원본이 없던 코드는 건너뜀)
+     */
+    private Map<String, MovieCard> loadCards(Set<? extends String> movieCds) {
+        Map<String, MovieCard> cards = cardRepository.findAllById(movieCds).stream()
+                .collect(Collectors.toMap(MovieCard::getMovieCd, Function.identity()));
+        List<String> missing = movieCds.stream()
+                .filter(movieCd -> !cards.containsKey(movieCd) && unknownMovieCds.getIfPresent(movieCd) == null)
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            cards.putAll(buildMissing(missing));
+        }
+        return cards;
+    }
+
+    /**
+     * 요청 경로에서 테이블에 없는 카드 만들기
+     * - rebuildAll/refresh 락과 분리 (요청이 전체 재구축을 기다리지 않음)
+     * - 같은 영화를 동시에 요청하면 먼저 시작한 요청의 결과를 같이 기다림
+     */
+    private Map<String, MovieCard> buildMissing(List<String> movieCds) {
+        Map<String, CompletableFuture<MovieCard>> owned = new HashMap<>();
+        Map<String, CompletableFuture<MovieCard>> waiting = new HashMap<>();
+        for (String movieCd : movieCds) {
+            CompletableFuture<MovieCard> future = new CompletableFuture<>();
+            CompletableFuture<MovieCard> running = inFlightLoads.putIfAbsent(movieCd, future);
+            if (running == null) {
+                owned.put(movieCd, future);
+            } else {
+                waiting.put(movieCd, running);
+            }
+        }
+
+        Map<String, MovieCard> cards = new HashMap<>();
+        if (!owned.isEmpty()) {
+            List<String> ownedMovieCds = List.copyOf(owned.keySet());
+            Map<String, MovieCard> built;
+            boolean verified = true;
+            try {
+                built = refreshChunk(ownedMovieCds);
+            } catch (Exception e) {
+                verified = false;
+                // 주기 갱신과 같은 카드를 동시에 저장하다 실패한 경우 등: 테이블에 있는 것만 사용
+                log.warn("영화 카드 조회 중 생성 실패: {}개 - {}", ownedMovieCds.size(), e.getMessage());
+                built = cardRepository.findAllById(ownedMovieCds).stream()
+                        .collect(Collectors.toMap(MovieCard::getMovieCd, Function.identity()));
+            }
+            for (Map.Entry<String, CompletableFuture<MovieCard>> entry : owned.entrySet()) {
+                MovieCard card = built.get(entry.getKey());
+                if (card != null) {
+                    cards.put(entry.getKey(), card);
+                } else if (verified) {
+                    unknownMovieCds.put(entry.getKey(), Boolean.TRUE);
+                }
+                entry.getValue().complete(card);
+                inFlightLoads.remove(entry.getKey(), entry.getValue());
+            }
+        }
+
+        waiting.forEach((movieCd, future) -> {
+            MovieCard card = future.join();
+            if (card != null) {
+                cards.put(movieCd, card);
+            }
+        });
+        return cards;
+    }
+
+    /**
+     * 청크 하나의 카드를 원본에서 만들어 한 트랜잭션으로 저장하고 캐시에 반영
+     */
+    private Map<String, MovieCard> refreshChunk(List<String> movieCds) {
+        Map<String, MovieCard> saved = writeTransaction.execute(status -> buildAndSave(movieCds));
+        for (String movieCd : movieCds) {
+            MovieCard card = saved.get(movieCd);
+            if (card != null) {
+                cache.put(movieCd, card);
+                unknownMovieCds.invalidate(movieCd);
+            } else {
+                cache.invalidate(movieCd);
+            }
+        }
+        return saved;
+    }
+
+    private Map<String, MovieCard> buildAndSave(List<String> movieCds) {
+        Map<String, MovieList> movieLists = movieListRepository.findAllById(movieCds).stream()
+                .collect(Collectors.toMap(MovieList::getMovieCd, Function.identity()));
+        Map<String, MovieDetail> movieDetails = movieRepository.findAllById(movieCds).stream()
+                .collect(Collectors.toMap(MovieDetail::getMovieCd, Function.identity()));
+        Map<String, MovieCard> existing = cardRepository.findAllById(movieCds).stream()
+                .collect(Collectors.toMap(MovieCard::getMovieCd, Function.identity()));
+
+        Map<String, Object[]> directors = new HashMap<>();
+        Map<String, List<String>> tagNames = new HashMap<>();
+        List<String> detailMovieCds = List.copyOf(movieDetails.keySet());
+        if (!detailMovieCds.isEmpty()) {
+            for (Object[] row : movieRepository.findDirectorsByMovieCdIn(detailMovieCds)) {
+                directors.put((String) row[0], row);
+            }
+            for (Object[] row : movieRepository.findTagNamesByMovieCdIn(detailMovieCds)) {
+                tagNames.computeIfAbsent((String) row[0], key -> new ArrayList<>()).add((String) row[1]);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, BoxOfficeEntry> boxOffice = dailyBoxOffice;
+        Map<String, MovieCard> saved = new HashMap<>();
+        for (String movieCd : movieCds) {
+            MovieList movieList = movieLists.get(movieCd);
+            MovieDetail movieDetail = movieDetails.get(movieCd);
+            MovieCard card = existing.get(movieCd);
+            if (movieList == null && movieDetail == null) {
+                if (card != null) {
+                    cardRepository.delete(card);
+                }
+                continue;
+            }
+            if (card == null) {
+                card = new MovieCard();
+                card.setMovieCd(movieCd);
+            }
+            apply(card, movieList, movieDetail, directors.get(movieCd),
+                    tagNames.getOrDefault(movieCd, List.of()), boxOffice.get(movieCd), now);
+            saved.put(movieCd, cardRepository.save(card));
+        }
+        return saved;
+    }
+
+    /**
+     * 원본 값을 카드에 복사 (상세 정보는 MovieDetail 우선, 없으면 MovieList 값)
+     */
+    private static void apply(MovieCard card, MovieList movieList, MovieDetail movieDetail, Object[] director,
+                              List<String> tagNames, BoxOfficeEntry boxOffice, LocalDateTime now) {
+        boolean hasDetail = movieDetail != null;
+        card.setMovieNm(hasDetail ? movieDetail.getMovieNm() : movieList.getMovieNm());
+        card.setMovieNmEn(firstNonNull(hasDetail ? movieDetail.getMovieNmEn() : null, movieList != null ? movieList.getMovieNmEn() : null));
+        card.setOpenDt(firstNonNull(hasDetail ? movieDetail.getOpenDt() : null, movieList != null ? movieList.getOpenDt() : null));
+        card.setGenreNm(firstNonNull(hasDetail ? movieDetail.getGenreNm() : null, movieList != null ? movieList.getGenreNm() : null));
+        card.setNationNm(firstNonNull(hasDetail ? movieDetail.getNationNm() : null, movieList != null ? movieList.getNationNm() : null));
+        card.setWatchGradeNm(firstNonNull(hasDetail ? movieDetail.getWatchGradeNm() : null, movieList != null ? movieList.getWatchGradeNm() : null));
+        card.setStatus(firstNonNull(hasDetail ? movieDetail.getStatus() : null, movieList != null ? movieList.getStatus() : null));
+        card.setPrdtYear(hasDetail ? movieDetail.getPrdtYear() : null);
+        card.setShowTm(hasDetail ? movieDetail.getShowTm() : 0);
+        card.setPrdtStatNm(hasDetail ? movieDetail.getPrdtStatNm() : null);
+        card.setTypeNm(hasDetail ? movieDetail.getTypeNm() : null);
+        card.setCompanyNm(hasDetail ? movieDetail.getCompanyNm() : null);
+        card.setDescription(hasDetail ? movieDetail.getDescription() : null);
+        card.setAverageRating(hasDetail ? movieDetail.getAverageRating() : null);
+        card.setRatingCount(hasDetail && movieDetail.getRatingCount() != null ? movieDetail.getRatingCount() : 0);
+
+        card.setPosterUrl(movieList != null ? movieList.getPosterUrl() : null);
+        card.setDirectorName(director != null ? (String) director[1] : null);
+        card.setDirectorPhotoUrl(director != null ? (String) director[2] : null);
+        card.setTagNames(tagNames.isEmpty() ? null : String.join(MovieCard.TAG_SEPARATOR, tagNames));
+
+        card.setBoxOfficeRank(boxOffice != null ? boxOffice.rank() : 0);
+        card.setAudiAcc(boxOffice != null ? boxOffice.audiAcc() : 0L);
+
+        card.setInMovieList(movieList != null);
+        card.setHasDetail(hasDetail);
+        card.setRefreshedAt(now);
+    }
+
+    /**
+     * 최신 일일 박스오피스를 다시 읽고, 갱신해야 할 카드(이전 순위 + 새 순위 영화) 코드를 돌려줌
+     */
+    private Set<String> reloadDailyBoxOffice() {
+        Map<String, BoxOfficeEntry> entries = new HashMap<>();
+        for (BoxOffice boxOffice : boxOfficeRepository.findLatestBoxOfficeTop10(DAILY)) {
+            BoxOfficeEntry entry = new BoxOfficeEntry(boxOffice.getRank(), boxOffice.getMovieCd(), boxOffice.getMovieNm(),
+                    boxOffice.getSalesAmt(), boxOffice.getAudiCnt(), boxOffice.getAudiAcc());
+            // 같은 영화가 두 번 있으면 높은 순위 우선
+            entries.merge(entry.movieCd(), entry, (existing, added) -> added.rank() < existing.rank() ? added : existing);
+        }
+        dailyBoxOffice = Map.copyOf(entries);
+
+        Set<String> movieCds = new HashSet<>(cardRepository.findMovieCdsWithBoxOfficeRank());
+        movieCds.addAll(entries.keySet());
+        return movieCds;
+    }
+
+    private static <T> T firstNonNull(T first, T second) {
+        return first != null ? first : second;
+    }
+}
@@ -0,0 +1,137 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.event.DataIngestionCompletedEvent;
+import com.movie.movie_backend.ingestion.IngestionReport;
+import com.movie.movie_backend.ingestion.MovieSearchTarget;
+import com.movie.movie_backend.repository.PRDMovieListRepository;
+import com.movie.movie_backend.repository.PRDMovieRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * MovieList ↔ MovieDetail 정합성 맞추기 (MovieDetail이 없는 영화 찾기/채우기)
+ *
+ * - 누락 영화는 안티 조인(NOT EXISTS) 한 번으로 찾고, movieCd 순 keyset 청크로 나눠 읽음
+ *   → 두 테이블을 통째로 읽거나 행마다 existsById를 호출하지 않음, 메모리는 청크 크기만큼만 사용
+ * - 채우기: 청크마다 KOBIS 상세 조회 → KOBIS로 못 채운 영화만 TMDB 검색으로 보완 (둘 다 IngestionEngine 사용)
+ * - afterMovieCd를 넘기면 그 다음 movieCd부터 처리 (시작 준비 작업의 체크포인트)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovieDetailReconciliationService {
+
+    public static final int CHUNK_SIZE = 200;
+
+    private final PRDMovieListRepository movieListRepository;
+    private final PRDMovieRepository movieRepository;
+    private final KobisApiService kobisApiService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * MovieDetail이 없는 영화 수
+     */
+    public long countMissingDetails() {
+        return movieListRepository.countWithoutDetail();
+    }
+
+    /**
+     * MovieDetail이 없는 영화 (afterMovieCd 다음 movieCd부터 최대 limit개, null이면 처음부터)
+     */
+    public List<MovieSearchTarget> findMissingDetails(String afterMovieCd, int limit) {
+        return movieListRepository.findTargetsWithoutDetail(afterMovieCd != null ? afterMovieCd : "",
+                PageRequest.of(0, Math.max(1, limit)));
+    }
+
+    /**
+     * MovieDetail이 없는 영화 코드 (처음부터 최대 limit개, 화면/로그 표시용)
+     */
+    public List<String> findMissingMovieCds(int limit) {
+        return findMissingDetails(null, limit).stream().map(MovieSearchTarget::movieCd).toList();
+    }
+
+    /**
+     * MovieDetail이 없는 영화를 청크 단위로 순회 (limit이 0 이하면 전체, 청크마다 쿼리 한 번)
+     */
+    public void forEachMissingChunk(String afterMovieCd, int limit, Consumer<List<MovieSearchTarget>> consumer) {
+        String cursor = afterMovieCd;
+        int remaining = limit > 0 ? limit : Integer.MAX_VALUE;
+        while (remaining > 0) {
+            List<MovieSearchTarget> chunk = findMissingDetails(cursor, Math.min(CHUNK_SIZE, remaining));
+            if (chunk.isEmpty()) {
+                return;
+            }
+            consumer.accept(chunk);
+            remaining -= chunk.size();
+            cursor = chunk.get(chunk.size() - 1).movieCd();
+            if (chunk.size() < CHUNK_SIZE && remaining > 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * MovieDetail이 없는 영화를 KOBIS(실패 시 TMDB)로 채움
+     *
+     * @param afterMovieCd  이 movieCd 다음부터 처리 (null이면 처음부터)
+     * @param limit         최대 처리 개수 (0 이하면 전체)
+     * @param chunkListener 청크 처리가 끝날 때마다 처리한 청크와 함께 호출 (진행률/체크포인트 저장용, null 가능)
+     */
+    public ReconcileReport fillMissingDetails(String afterMovieCd, int limit, Consumer<List<MovieSearchTarget>> chunkListener) {
+        Totals totals = new Totals();
+        forEachMissingChunk(afterMovieCd, limit, chunk -> {
+            IngestionReport kobisReport = kobisApiService.fillMissingMovieDetailsFromKobis(chunk);
+            totals.attempted += chunk.size();
+            totals.filledFromKobis += kobisReport.saved();
+
+            // KOBIS로 못 채운 영화만 TMDB로 보완 (존재 확인은 청크당 쿼리 한 번)
+            Set<String> filled = new HashSet<>(movieRepository.findExistingMovieCds(
+                    chunk.stream().map(MovieSearchTarget::movieCd).toList()));
+            List<MovieSearchTarget> leftovers = new ArrayList<>();
+            for (MovieSearchTarget target : chunk) {
+                if (!filled.contains(target.movieCd())) {
+                    leftovers.add(target);
+                }
+            }
+            if (!leftovers.isEmpty()) {
+                totals.filledFromTmdb += kobisApiService.fillMissingMovieDetailsFromTmdb(leftovers).saved();
+            }
+
+            if (chunkListener != null) {
+                chunkListener.accept(chunk);
+            }
+        });
+
+        ReconcileReport report = new ReconcileReport(totals.attempted, totals.filledFromKobis, totals.filledFromTmdb);
+        log.info("누락된 MovieDetail 채워넣기 완료: 시도 {}, KOBIS {}, TMDB {}",
+                report.attempted(), report.filledFromKobis(), report.filledFromTmdb());
+        if (report.filled() > 0) {
+            eventPublisher.publishEvent(new DataIngestionCompletedEvent("MOVIE_DETAIL_RECONCILE"));
+        }
+        return report;
+    }
+
+    /**
+     * 채우기 결과 요약
+     */
+    public record ReconcileReport(int attempted, int filledFromKobis, int filledFromTmdb) {
+        public int filled() {
+            return filledFromKobis + filledFromTmdb;
+        }
+    }
+
+    private static class Totals {
+        int attempted;
+        int filledFromKobis;
+        int filledFromTmdb;
+    }
+}
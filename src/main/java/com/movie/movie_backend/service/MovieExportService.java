@@ -0,0 +1,108 @@
+package com.movie.movie_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movie.movie_backend.constant.MovieStatus;
+import com.movie.movie_backend.export.MovieExportFormat;
+import com.movie.movie_backend.export.MovieExportRow;
+import com.movie.movie_backend.repository.PRDMovieRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 영화 카탈로그 전체 내보내기 (NDJSON/CSV)
+ *
+ * - DB 커서 스트림에서 한 행씩 읽어 바로 응답에 씀 → 행 수와 관계없이 메모리 사용량이 일정
+ * - 엔티티가 아닌 MovieExportRow로 조회하므로 영속성 컨텍스트에 쌓이지 않음, 태그도 같은 쿼리에서 함께 가져옴
+ * - FLUSH_INTERVAL 행마다 flush → 클라이언트는 내려받는 중에도 앞부분부터 받음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovieExportService {
+
+    private static final int FLUSH_INTERVAL = 500;
+    private static final String[] CSV_HEADER = {
+            "movieCd", "movieNm", "movieNmEn", "prdtYear", "showTm", "openDt", "prdtStatNm", "typeNm", "genreNm",
+            "nationNm", "watchGradeNm", "companyNm", "status", "directorName", "tagNames", "description"
+    };
+
+    private final PRDMovieRepository movieRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 영화 목록을 format 형식으로 out에 씀 (status가 null이면 전체, 반환값은 내보낸 행 수)
+     */
+    @Transactional(readOnly = true)
+    public long export(MovieExportFormat format, MovieStatus status, OutputStream out) throws IOException {
+        long startTime = System.currentTimeMillis();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long count = 0;
+
+        try (Stream<MovieExportRow> rows = movieRepository.streamExportRows(status)) {
+            if (format == MovieExportFormat.CSV) {
+                writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM
+                writeCsvLine(writer, CSV_HEADER);
+            }
+            Iterator<MovieExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                MovieExportRow row = iterator.next();
+                if (format == MovieExportFormat.CSV) {
+                    writeCsvLine(writer, toCsvValues(row));
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+
+        log.info("영화 내보내기 완료: {} {}건 ({}ms)", format, count, System.currentTimeMillis() - startTime);
+        return count;
+    }
+
+    private static String[] toCsvValues(MovieExportRow row) {
+        return new String[] {
+                row.movieCd(), row.movieNm(), row.movieNmEn(), row.prdtYear(), String.valueOf(row.showTm()),
+                row.openDt() != null ? row.openDt().toString() : null, row.prdtStatNm(), row.typeNm(), row.genreNm(),
+                row.nationNm(), row.watchGradeNm(), row.companyNm(), row.status() != null ? row.status().name() : null,
+                row.directorName(), String.join(MovieExportRow.TAG_SEPARATOR, row.tagNames()), row.description()
+        };
+    }
+
+    /**
+     * RFC 4180 형식 한 줄 (쉼표/따옴표/줄바꿈이 있는 값만 따옴표로 감싸고 따옴표는 두 번)
+     */
+    private static void writeCsvLine(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values[i];
+            if (value == null) {
+                continue;
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+}
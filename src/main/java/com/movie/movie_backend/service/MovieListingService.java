@@ -0,0 +1,218 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.constant.MovieStatus;
+import com.movie.movie_backend.entity.BoxOffice;
+import com.movie.movie_backend.entity.MovieDetail;
+import com.movie.movie_backend.entity.MovieList;
+import com.movie.movie_backend.listing.KeysetCursor;
+import com.movie.movie_backend.listing.KeysetPage;
+import com.movie.movie_backend.repository.BoxOfficeRepository;
+import com.movie.movie_backend.repository.PRDMovieListRepository;
+import com.movie.movie_backend.repository.PRDMovieRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 데이터 조회 화면용 목록 페이지 조회 (필터/정렬/페이지 자르기를 모두 DB에서 처리)
+ *
+ * - cursor가 있으면 keyset(seek) 페이지: 앞 페이지를 건너뛰지 않으므로 몇 번째 페이지든 비용이 같음
+ * - cursor 없이 page만 오면 DB offset 페이지 (기존 클라이언트 호환, 응답의 nextCursor로 이어가면 keyset으로 전환)
+ * - 개봉일 정렬 목록은 개봉일 있는 구간을 (openDt, movieCd) 순으로 읽고, 다 읽으면 개봉일 없는 구간을 movieCd 순으로 이어서 읽음
+ *   (개봉일 있는 구간은 "개봉일 범위"와 "상태 일치"를 각각 인덱스로 seek 해서 병합)
+ * - 한 번에 읽는 행 수는 MAX_PAGE_SIZE로 제한
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MovieListingService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final int NOW_PLAYING_MONTHS = 3;
+
+    // MySQL DATE 범위 양 끝 (개봉일 구간 한쪽을 열어둘 때 사용)
+    private static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private final PRDMovieListRepository movieListRepository;
+    private final PRDMovieRepository movieRepository;
+    private final BoxOfficeRepository boxOfficeRepository;
+
+    /**
+     * MovieList 목록 (movieCd 순)
+     */
+    public KeysetPage<MovieList> getMovieLists(String cursor, int page, int size) {
+        int pageSize = pageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<MovieList> content = movieListRepository.findPageAfter(
+                after != null ? after.key() : null, pageRequest(after, page, pageSize));
+        return KeysetPage.of(content, movieListRepository.count(), pageSize, movie -> KeysetCursor.of(movie.getMovieCd()));
+    }
+
+    /**
+     * MovieDetail 목록 (movieCd 순)
+     */
+    public KeysetPage<MovieDetail> getMovieDetails(String cursor, int page, int size) {
+        int pageSize = pageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<MovieDetail> content = movieRepository.findPageAfter(
+                after != null ? after.key() : null, pageRequest(after, page, pageSize));
+        return KeysetPage.of(content, movieRepository.count(), pageSize, movie -> KeysetCursor.of(movie.getMovieCd()));
+    }
+
+    /**
+     * MovieDetail 영화명 부분 일치 검색 (대소문자 무시, movieCd 순)
+     */
+    public KeysetPage<MovieDetail> searchMovieDetails(String keyword, String cursor, int page, int size) {
+        int pageSize = pageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        String escaped = escapeLike(keyword);
+        List<MovieDetail> content = movieRepository.searchByMovieNmAfter(
+                escaped, after != null ? after.key() : null, pageRequest(after, page, pageSize));
+        return KeysetPage.of(content, movieRepository.countByMovieNmLike(escaped), pageSize,
+                movie -> KeysetCursor.of(movie.getMovieCd()));
+    }
+
+    /**
+     * BoxOffice 목록 (id 순, 영화 상세 함께 조회)
+     */
+    public KeysetPage<BoxOffice> getBoxOffices(String cursor, int page, int size) {
+        int pageSize = pageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<BoxOffice> content = boxOfficeRepository.findPageAfter(
+                after != null ? after.longKey() : null, pageRequest(after, page, pageSize));
+        return KeysetPage.of(content, boxOfficeRepository.count(), pageSize,
+                boxOffice -> KeysetCursor.of(String.valueOf(boxOffice.getId())));
+    }
+
+    /**
+     * 개봉예정작 (상태가 COMING_SOON이거나 개봉일이 오늘 이후, 개봉일 오름차순)
+     */
+    public KeysetPage<MovieList> getComingSoon(String cursor, int page, int size) {
+        LocalDate today = LocalDate.now();
+        return getListing(MovieStatus.COMING_SOON, today.plusDays(1), MAX_DATE, true, cursor, page, size);
+    }
+
+    /**
+     * 개봉중인 영화 (상태가 NOW_PLAYING이거나 최근 3개월 안에 개봉, 개봉일 내림차순)
+     */
+    public KeysetPage<MovieList> getNowPlaying(String cursor, int page, int size) {
+        LocalDate today = LocalDate.now();
+        return getListing(MovieStatus.NOW_PLAYING, today.minusMonths(NOW_PLAYING_MONTHS).plusDays(1), today,
+                false, cursor, page, size);
+    }
+
+    /**
+     * 상영종료 영화 (상태가 ENDED이거나 개봉한 지 3개월 넘음, 개봉일 내림차순)
+     */
+    public KeysetPage<MovieList> getEnded(String cursor, int page, int size) {
+        LocalDate today = LocalDate.now();
+        return getListing(MovieStatus.ENDED, MIN_DATE, today.minusMonths(NOW_PLAYING_MONTHS).minusDays(1),
+                false, cursor, page, size);
+    }
+
+    // ===== 내부 메서드 =====
+
+    private KeysetPage<MovieList> getListing(MovieStatus status, LocalDate from, LocalDate to, boolean ascending,
+                                             String cursor, int page, int size) {
+        int pageSize = pageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        long total = movieListRepository.countListingInRange(from, to)
+                + movieListRepository.countListingByStatusOutsideRange(status, from, to);
+
+        List<MovieList> content;
+        if (after == null && page > 0) {
+            PageRequest pageable = PageRequest.of(page, pageSize);
+            content = ascending
+                    ? movieListRepository.findListingOrderByOpenDtAsc(status, from, to, pageable)
+                    : movieListRepository.findListingOrderByOpenDtDesc(status, from, to, pageable);
+        } else {
+            content = new ArrayList<>(pageSize);
+            // 커서가 개봉일 없는 구간을 가리키면 개봉일 있는 구간은 이미 다 읽은 것
+            if (after == null || after.openDt() != null) {
+                content.addAll(findWithOpenDt(status, from, to, ascending, after, pageSize));
+            }
+            if (content.size() < pageSize) {
+                String movieCd = after != null && after.openDt() == null ? after.key() : null;
+                content.addAll(findWithoutOpenDt(status, ascending, movieCd, pageSize - content.size()));
+            }
+        }
+        log.debug("{} 목록 조회: {}개 (전체 {}개)", status, content.size(), total);
+        return KeysetPage.of(content, total, pageSize, movie -> KeysetCursor.of(movie.getOpenDt(), movie.getMovieCd()));
+    }
+
+    /**
+     * 개봉일 있는 구간: 개봉일 범위 쪽과 상태 일치 쪽을 각각 size개씩 seek 한 뒤 (openDt, movieCd) 순으로 병합
+     * (양쪽에 모두 해당하는 영화는 한 번만, 각자 상위 size개 안에 전체 상위 size개가 모두 들어 있음)
+     */
+    private List<MovieList> findWithOpenDt(MovieStatus status, LocalDate from, LocalDate to, boolean ascending,
+                                           KeysetCursor after, int size) {
+        PageRequest pageable = PageRequest.of(0, size);
+        List<MovieList> inRange;
+        List<MovieList> byStatus;
+        if (after == null) {
+            inRange = ascending
+                    ? movieListRepository.findListingInRangeAsc(from, to, pageable)
+                    : movieListRepository.findListingInRangeDesc(from, to, pageable);
+            byStatus = ascending
+                    ? movieListRepository.findListingByStatusAsc(status, pageable)
+                    : movieListRepository.findListingByStatusDesc(status, pageable);
+        } else {
+            inRange = ascending
+                    ? movieListRepository.findListingInRangeAfter(from, to, after.openDt(), after.key(), pageable)
+                    : movieListRepository.findListingInRangeBefore(from, to, after.openDt(), after.key(), pageable);
+            byStatus = ascending
+                    ? movieListRepository.findListingByStatusAfter(status, after.openDt(), after.key(), pageable)
+                    : movieListRepository.findListingByStatusBefore(status, after.openDt(), after.key(), pageable);
+        }
+
+        Map<String, MovieList> merged = new LinkedHashMap<>();
+        inRange.forEach(movie -> merged.put(movie.getMovieCd(), movie));
+        byStatus.forEach(movie -> merged.putIfAbsent(movie.getMovieCd(), movie));
+        Comparator<MovieList> order = Comparator.comparing(MovieList::getOpenDt).thenComparing(MovieList::getMovieCd);
+        return merged.values().stream()
+                .sorted(ascending ? order : order.reversed())
+                .limit(size)
+                .toList();
+    }
+
+    /**
+     * 개봉일 없는 구간 (상태 일치만, movieCd 순)
+     */
+    private List<MovieList> findWithoutOpenDt(MovieStatus status, boolean ascending, String movieCd, int size) {
+        PageRequest pageable = PageRequest.of(0, size);
+        if (movieCd == null) {
+            return ascending
+                    ? movieListRepository.findListingWithoutOpenDtAsc(status, pageable)
+                    : movieListRepository.findListingWithoutOpenDtDesc(status, pageable);
+        }
+        return ascending
+                ? movieListRepository.findListingWithoutOpenDtAfter(status, movieCd, pageable)
+                : movieListRepository.findListingWithoutOpenDtBefore(status, movieCd, pageable);
+    }
+
+    /**
+     * 커서가 있으면 항상 첫 페이지(seek 조건이 위치를 정함), 없으면 page 번호 그대로
+     */
+    private static PageRequest pageRequest(KeysetCursor after, int page, int size) {
+        return PageRequest.of(after != null ? 0 : Math.max(page, 0), size);
+    }
+
+    private static int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    private static String escapeLike(String keyword) {
+        return keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
@@ -1,5 +1,6 @@
 package com.movie.movie_backend.service;
 
+import com.movie.movie_backend.config.CacheConfig;
 import com.movie.movie_backend.dto.MovieDetailDto;
 import com.movie.movie_backend.entity.*;
 import com.movie.movie_backend.mapper.MovieDetailMapper;
@@ -7,10 +8,10 @@ import com.movie.movie_backend.repository.*;
 import com.movie.movie_backend.constant.MovieStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -25,7 +26,7 @@ public class MovieManagementService {
     private final PRDActorRepository actorRepository;
     private final PRDDirectorRepository directorRepository;
     private final PRDTagRepository tagRepository;
-    private final REVLikeRepository likeRepository;
+    private final REVMovieLikeService movieLikeService;
     private final MovieDetailMapper movieDetailMapper;
 
     /**
@@ -156,10 +157,7 @@ public class MovieManagementService {
                 .orElseThrow(() -> new RuntimeException("영화를 찾을 수 없습니다: " + movieCd));
         
         // 관련 데이터 삭제 (좋아요, 댓글 등)
-        List<Like> likes = likeRepository.findAll().stream()
-                .filter(like -> like.getMovieDetail().getMovieCd().equals(movieCd))
-                .toList();
-        likeRepository.deleteAll(likes);
+        movieLikeService.deleteAllForMovie(movieCd);
         
         // 영화 삭제
         movieRepository.delete(movie);
@@ -167,38 +165,21 @@ public class MovieManagementService {
     }
 
     /**
-     * 영화 좋아요
+     * 영화 좋아요 (이미 눌렀으면 그대로)
      */
     @Transactional
     public void likeMovie(String movieCd, Long userId) {
         log.info("영화 좋아요: {} - 사용자: {}", movieCd, userId);
-        
-        MovieDetail movie = movieRepository.findByMovieCd(movieCd)
-                .orElseThrow(() -> new RuntimeException("영화를 찾을 수 없습니다: " + movieCd));
-        
-        // 이미 좋아요를 눌렀는지 확인
-        List<Like> existingLikes = likeRepository.findAll().stream()
-                .filter(like -> like.getMovieDetail().getMovieCd().equals(movieCd) && 
-                               like.getUser().getId().equals(userId))
-                .toList();
-        
-        if (!existingLikes.isEmpty()) {
+
+        if (!movieLikeService.setLiked(movieCd, userId, true)) {
             log.info("이미 좋아요를 눌렀습니다: {} - 사용자: {}", movieCd, userId);
-            return;
         }
-        
-        // 좋아요 추가
-        Like like = new Like();
-        like.setMovieDetail(movie);
-        like.setCreatedAt(LocalDateTime.now());
-        
-        likeRepository.save(like);
-        log.info("좋아요 추가 완료: {} - 사용자: {}", movieCd, userId);
     }
 
     /**
-     * 영화 상세 정보 조회
+     * 영화 상세 정보 조회 (캐시, 영화/카드/평점이 바뀌면 MovieCacheEvictionService가 지움)
      */
+    @Cacheable(cacheNames = CacheConfig.MOVIE_DETAIL, key = "#movieCd", sync = true)
     public MovieDetailDto getMovieDetail(String movieCd) {
         log.info("영화 상세 정보 조회: {}", movieCd);
         
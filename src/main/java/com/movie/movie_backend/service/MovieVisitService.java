@@ -0,0 +1,152 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.event.MovieViewsRecordedEvent;
+import com.movie.movie_backend.visit.MovieVisit;
+import com.movie.movie_backend.visit.SlidingWindowCounter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 영화 상세 방문 기록 (movie_visit_log) 및 최근 방문 수
+ *
+ * - 요청 스레드는 고정 크기 큐(ArrayBlockingQueue)에 offer만 함 (잠깐이라도 기다리지 않음, 가득 차면 새 방문을 버리고 dropped로 집계)
+ * - flush-interval-ms(기본 500ms)마다 큐를 비워 JDBC 배치 INSERT (주기당 트랜잭션 한 번, 방문 수와 무관)
+ * - 최근 방문 수는 기록 스레드에서 영화별 1분 버킷 × 60개(최근 1시간) 슬라이딩 윈도우로 집계
+ * - 주기마다 영화별 방문 수를 MovieViewsRecordedEvent로 한 번 발행 (지금 뜨는 영화 점수)
+ * - DB 저장 실패 시 그 배치는 버리고 로그만 남김 (방문 수 집계는 유지), 종료 시 남은 방문 저장
+ */
+@Slf4j
+@Service
+public class MovieVisitService {
+
+    public static final Duration MAX_WINDOW = Duration.ofHours(1);
+    private static final int BATCH_SIZE = 1000;
+
+    // MySQL 드라이버에 rewriteBatchedStatements=true를 주면 배치가 다중 행 INSERT 한 번으로 전송됨
+    private static final String INSERT_SQL =
+            "INSERT INTO movie_visit_log (movie_detail_id, user_id, visited_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate writeTransaction;
+    private final BlockingQueue<MovieVisit> queue;
+    private final SlidingWindowCounter viewCounts = new SlidingWindowCounter(60, Duration.ofMinutes(1));
+
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private volatile long lastPrunedAt;
+
+    public MovieVisitService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${movie-visit.queue-capacity:65536}") int queueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        // 스케줄러/종료 처리 어디서 불려도 방문 기록은 따로 커밋
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * 방문 기록 요청 (큐에 넣기만 함, userId는 비로그인이면 null)
+     */
+    public void record(String movieCd, Long userId) {
+        if (!queue.offer(new MovieVisit(movieCd, userId, System.currentTimeMillis()))) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * 영화의 최근 방문 수 (window는 최대 1시간, 아직 기록 스레드가 처리하지 않은 방문은 다음 주기에 반영)
+     */
+    public long getViewCount(String movieCd, Duration window) {
+        return viewCounts.count(movieCd, window, System.currentTimeMillis());
+    }
+
+    /**
+     * 최근 방문이 있는 모든 영화의 방문 수
+     */
+    public Map<String, Long> getViewCounts(Duration window) {
+        return viewCounts.counts(window, System.currentTimeMillis());
+    }
+
+    /**
+     * 큐/기록 현황 (관리자 조회용)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queued", queue.size());
+        stats.put("written", written.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("failed", failed.sum());
+        stats.put("trackedMovies", viewCounts.size());
+        return stats;
+    }
+
+    /**
+     * 큐에 쌓인 방문을 집계하고 배치 저장
+     */
+    @Scheduled(fixedDelayString = "${movie-visit.flush-interval-ms:500}")
+    public synchronized void flush() {
+        long now = System.currentTimeMillis();
+        List<MovieVisit> visits = new ArrayList<>();
+        Map<String, Integer> recorded = new HashMap<>();
+        while (queue.drainTo(visits, BATCH_SIZE) > 0) {
+            for (MovieVisit visit : visits) {
+                viewCounts.increment(visit.movieCd(), visit.visitedAt());
+                recorded.merge(visit.movieCd(), 1, Integer::sum);
+            }
+            write(visits);
+            visits.clear();
+        }
+        if (!recorded.isEmpty()) {
+            eventPublisher.publishEvent(new MovieViewsRecordedEvent(recorded, now));
+        }
+        // 1분마다 한 시간 동안 방문이 없던 영화 제거
+        if (now - lastPrunedAt >= Duration.ofMinutes(1).toMillis()) {
+            viewCounts.prune(now);
+            lastPrunedAt = now;
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // ===== 내부 메서드 =====
+
+    private void write(List<MovieVisit> visits) {
+        List<Object[]> args = new ArrayList<>(visits.size());
+        for (MovieVisit visit : visits) {
+            args.add(new Object[]{visit.movieCd(), visit.userId(), new Timestamp(visit.visitedAt())});
+        }
+        try {
+            writeTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, args));
+            written.add(visits.size());
+        } catch (Exception e) {
+            failed.add(visits.size());
+            log.warn("영화 방문 기록 저장 실패: {}건 - {}", visits.size(), e.getMessage());
+        }
+    }
+}
@@ -1,25 +1,30 @@
 package com.movie.movie_backend.service;
 
+import com.movie.movie_backend.client.NaverClient;
+import com.movie.movie_backend.client.NaverMovieSearchResponse;
+import com.movie.movie_backend.event.DataIngestionCompletedEvent;
 import com.movie.movie_backend.entity.MovieList;
 import com.movie.movie_backend.entity.MovieDetail;
 import com.movie.movie_backend.entity.Director;
+import com.movie.movie_backend.ingestion.IngestionEngine;
+import com.movie.movie_backend.ingestion.IngestionProvider;
+import com.movie.movie_backend.ingestion.IngestionReport;
+import com.movie.movie_backend.ingestion.MovieSearchTarget;
 import com.movie.movie_backend.repository.PRDMovieListRepository;
 import com.movie.movie_backend.repository.PRDMovieRepository;
 import com.movie.movie_backend.repository.PRDDirectorRepository;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -29,115 +34,111 @@ public class NaverMovieBatchService {
     private final PRDMovieListRepository movieListRepository;
     private final PRDMovieRepository movieDetailRepository;
     private final PRDDirectorRepository directorRepository;
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
-
-    @Value("${naver.api.client-id}")
-    private String naverClientId;
-
-    @Value("${naver.api.client-secret}")
-    private String naverClientSecret;
-
-    private static final String NAVER_SEARCH_URL = "https://openapi.naver.com/v1/search/movie.json";
-
-    @Transactional
+    private final NaverClient naverClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IngestionEngine ingestionEngine;
+
+    /**
+     * 포스터(MovieList)나 감독(MovieDetail)이 없는 영화를 네이버 검색으로 보완
+     * 영화당 검색 한 번으로 포스터와 감독을 함께 가져옴 (수집 엔진으로 병렬 조회, 청크 단위 커밋)
+     */
     public void updatePosterAndDirectorFromNaver() {
-        List<MovieList> movieLists = movieListRepository.findAll();
-        int posterUpdated = 0, directorUpdated = 0;
-
-        for (MovieList movie : movieLists) {
-            boolean updated = false;
-
-            // 1. 포스터가 없으면 네이버에서 시도
-            if (movie.getPosterUrl() == null || movie.getPosterUrl().isEmpty()) {
-                String posterUrl = fetchPosterUrlFromNaver(movie);
-                if (posterUrl != null && !posterUrl.isEmpty()) {
-                    movie.setPosterUrl(posterUrl);
-                    posterUpdated++;
-                    updated = true;
-                    log.info("네이버 포스터 매칭 성공: {} ({}) -> {}", movie.getMovieNm(), movie.getOpenDt(), posterUrl);
-                }
-            }
+        Set<String> withoutPoster = movieListRepository.findWithoutPosterUrl().stream()
+                .map(MovieList::getMovieCd)
+                .collect(Collectors.toSet());
+        Set<String> withoutDirector = new HashSet<>(movieDetailRepository.findMovieCdsWithoutDirector());
+
+        Set<String> targetMovieCds = new HashSet<>(withoutPoster);
+        targetMovieCds.addAll(withoutDirector);
+        List<NaverTarget> targets = movieListRepository.findAllById(targetMovieCds).stream()
+                .map(movie -> new NaverTarget(MovieSearchTarget.from(movie),
+                        withoutPoster.contains(movie.getMovieCd()),
+                        withoutDirector.contains(movie.getMovieCd())))
+                .toList();
+
+        IngestionReport report = ingestionEngine.run("네이버 포스터/감독 보완", targets, this::fetchFromNaver, this::saveNaverMatches);
+        log.info("네이버 포스터/감독 보완 완료: 저장 {}건", report.saved());
+        eventPublisher.publishEvent(new DataIngestionCompletedEvent("NAVER_MOVIE"));
+    }
 
-            if (updated) {
-                movieListRepository.save(movie);
+    /**
+     * 청크 저장: 포스터는 MovieList, 감독은 MovieDetail에 반영 (같은 이름의 감독은 재사용)
+     */
+    private void saveNaverMatches(List<IngestionEngine.FetchedItem<NaverTarget, NaverMatch>> chunk) {
+        List<String> movieCds = chunk.stream().map(fetched -> fetched.item().movie().movieCd()).toList();
+        Map<String, MovieList> movieLists = movieListRepository.findAllById(movieCds).stream()
+                .collect(Collectors.toMap(MovieList::getMovieCd, Function.identity()));
+        Map<String, MovieDetail> movieDetails = movieDetailRepository.findAllById(movieCds).stream()
+                .collect(Collectors.toMap(MovieDetail::getMovieCd, Function.identity()));
+        Map<String, Director> directors = new HashMap<>();
+
+        for (IngestionEngine.FetchedItem<NaverTarget, NaverMatch> fetched : chunk) {
+            MovieSearchTarget movie = fetched.item().movie();
+            NaverMatch match = fetched.result();
+
+            // 1. 포스터가 없으면 네이버 포스터 사용
+            MovieList movieList = movieLists.get(movie.movieCd());
+            if (match.posterUrl() != null && movieList != null
+                    && (movieList.getPosterUrl() == null || movieList.getPosterUrl().isEmpty())) {
+                movieList.setPosterUrl(match.posterUrl());
+                log.info("네이버 포스터 매칭 성공: {} ({}) -> {}", movie.movieNm(), movie.openDt(), match.posterUrl());
             }
 
-            // 2. 감독이 없으면 네이버에서 시도 (MovieDetail 기준)
-            Optional<MovieDetail> detailOpt = movieDetailRepository.findByMovieCd(movie.getMovieCd());
-            if (detailOpt.isPresent()) {
-                MovieDetail detail = detailOpt.get();
-                if (detail.getDirector() == null || detail.getDirector().getName() == null || detail.getDirector().getName().isEmpty()) {
-                    String directorName = fetchDirectorFromNaver(movie);
-                    if (directorName != null && !directorName.isEmpty()) {
-                        // 기존에 동일한 이름의 Director가 있으면 재사용, 없으면 새로 생성
-                        Director director = directorRepository.findByName(directorName).orElseGet(() -> {
-                            Director newDirector = Director.builder().name(directorName).build();
-                            return directorRepository.save(newDirector);
-                        });
-                        detail.setDirector(director);
-                        movieDetailRepository.save(detail);
-                        directorUpdated++;
-                        log.info("네이버 감독 매칭 성공: {} ({}) -> {}", movie.getMovieNm(), movie.getOpenDt(), directorName);
-                    }
-                }
+            // 2. 감독이 없으면 네이버 감독 사용 (MovieDetail 기준)
+            MovieDetail detail = movieDetails.get(movie.movieCd());
+            if (match.directorName() != null && detail != null
+                    && (detail.getDirector() == null || detail.getDirector().getName() == null || detail.getDirector().getName().isEmpty())) {
+                // 기존에 동일한 이름의 Director가 있으면 재사용, 없으면 새로 생성
+                Director director = directors.computeIfAbsent(match.directorName(), name ->
+                        directorRepository.findByName(name).orElseGet(() ->
+                                directorRepository.save(Director.builder().name(name).build())));
+                detail.setDirector(director);
+                log.info("네이버 감독 매칭 성공: {} ({}) -> {}", movie.movieNm(), movie.openDt(), match.directorName());
             }
         }
-        log.info("네이버 포스터 보완 완료: {}건, 감독 보완: {}건", posterUpdated, directorUpdated);
     }
 
-    private String fetchPosterUrlFromNaver(MovieList movie) {
-        try {
-            String query = URLEncoder.encode(movie.getMovieNm(), StandardCharsets.UTF_8);
-            String year = (movie.getOpenDt() != null) ? String.valueOf(movie.getOpenDt().getYear()) : "";
-            String url = NAVER_SEARCH_URL + "?query=" + query + "&yearfrom=" + year + "&yearto=" + year;
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("X-Naver-Client-Id", naverClientId);
-            headers.set("X-Naver-Client-Secret", naverClientSecret);
-
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
-
-            JsonNode root = objectMapper.readTree(response.getBody());
-            JsonNode items = root.get("items");
-            if (items != null && items.size() > 0) {
-                String imageUrl = items.get(0).get("image").asText();
-                if (imageUrl != null && !imageUrl.isEmpty()) {
-                    return imageUrl;
-                }
+    /**
+     * 네이버 영화 검색 1회로 필요한 값(포스터/감독)을 가져옴 (둘 다 없으면 null, 호출 실패는 예외)
+     */
+    private NaverMatch fetchFromNaver(NaverTarget target) {
+        MovieSearchTarget movie = target.movie();
+        NaverMovieSearchResponse.Item item = ingestionEngine.call(IngestionProvider.NAVER,
+                () -> naverClient.searchMovie(movie.movieNm(), movie.openYear(), 10)).firstItem();
+        if (item == null) {
+            return null;
+        }
+
+        String posterUrl = null;
+        if (target.needsPoster()) {
+            String imageUrl = item.image();
+            if (imageUrl != null && !imageUrl.isEmpty()) {
+                posterUrl = imageUrl;
             }
-        } catch (Exception e) {
-            log.warn("네이버 포스터 검색 오류: {} ({}) - {}", movie.getMovieNm(), movie.getOpenDt(), e.getMessage());
         }
-        return null;
-    }
 
-    private String fetchDirectorFromNaver(MovieList movie) {
-        try {
-            String query = URLEncoder.encode(movie.getMovieNm(), StandardCharsets.UTF_8);
-            String year = (movie.getOpenDt() != null) ? String.valueOf(movie.getOpenDt().getYear()) : "";
-            String url = NAVER_SEARCH_URL + "?query=" + query + "&yearfrom=" + year + "&yearto=" + year;
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("X-Naver-Client-Id", naverClientId);
-            headers.set("X-Naver-Client-Secret", naverClientSecret);
-
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
-
-            JsonNode root = objectMapper.readTree(response.getBody());
-            JsonNode items = root.get("items");
-            if (items != null && items.size() > 0) {
-                String director = items.get(0).get("director").asText();
-                if (director != null && !director.isEmpty()) {
-                    // 네이버는 여러 감독명을 |로 구분해서 내려줌
-                    return director.replaceAll("\\|", ", ").replaceAll(", $", "");
-                }
+        String directorName = null;
+        if (target.needsDirector()) {
+            String director = item.director();
+            if (director != null && !director.isEmpty()) {
+                // 네이버는 여러 감독명을 |로 구분해서 내려줌
+                directorName = director.replaceAll("\\|", ", ").replaceAll(", $", "");
             }
-        } catch (Exception e) {
-            log.warn("네이버 감독 검색 오류: {} ({}) - {}", movie.getMovieNm(), movie.getOpenDt(), e.getMessage());
         }
-        return null;
+
+        return posterUrl != null || directorName != null ? new NaverMatch(posterUrl, directorName) : null;
+    }
+
+    /**
+     * 보완 대상 영화와 필요한 값
+     */
+    private record NaverTarget(MovieSearchTarget movie, boolean needsPoster, boolean needsDirector) {
+        @Override
+        public String toString() {
+            return movie.toString();
+        }
+    }
+
+    private record NaverMatch(String posterUrl, String directorName) {
     }
-} 
+}
@@ -1,13 +1,11 @@
 package com.movie.movie_backend.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movie.movie_backend.client.NaverClient;
+import com.movie.movie_backend.client.NaverMovieSearchResponse;
 import com.movie.movie_backend.entity.MovieDetail;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -17,16 +15,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class NaverMovieService {
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
-
-    @Value("${naver.api.client-id}")
-    private String naverClientId;
-
-    @Value("${naver.api.client-secret}")
-    private String naverClientSecret;
-
-    private static final String NAVER_SEARCH_URL = "https://openapi.naver.com/v1/search/movie.json";
+    private final NaverClient naverClient;
 
     /**
      * 네이버 영화 검색 API로 영화 정보 가져오기
@@ -35,25 +24,13 @@ public class NaverMovieService {
         Map<String, Object> result = new HashMap<>();
         
         try {
-            String encodedTitle = java.net.URLEncoder.encode(movieTitle, java.nio.charset.StandardCharsets.UTF_8);
-            String url = String.format("%s?query=%s&display=1", NAVER_SEARCH_URL, encodedTitle);
-            
-            // 네이버 API 헤더 설정
-            org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
-            headers.set("X-Naver-Client-Id", naverClientId);
-            headers.set("X-Naver-Client-Secret", naverClientSecret);
-            
-            org.springframework.http.HttpEntity<String> entity = new org.springframework.http.HttpEntity<>(headers);
+            NaverMovieSearchResponse.Item movie = naverClient.searchMovie(movieTitle, null, 1).firstItem();
             
-            String response = restTemplate.exchange(url, org.springframework.http.HttpMethod.GET, entity, String.class).getBody();
-            JsonNode root = objectMapper.readTree(response);
-            
-            if (root.has("items") && root.get("items").isArray() && root.get("items").size() > 0) {
-                JsonNode movie = root.get("items").get(0);
-                result.put("title", movie.get("title").asText().replaceAll("<[^>]*>", ""));
-                result.put("director", movie.get("director").asText().replaceAll("<[^>]*>", ""));
-                result.put("actors", movie.get("actor").asText().replaceAll("<[^>]*>", ""));
-                result.put("description", movie.get("description").asText().replaceAll("<[^>]*>", ""));
+            if (movie != null) {
+                result.put("title", stripTags(movie.title()));
+                result.put("director", stripTags(movie.director()));
+                result.put("actors", stripTags(movie.actor()));
+                result.put("description", stripTags(movie.description()));
                 
                 log.info("네이버 영화 검색 성공: {}", movieTitle);
             }
@@ -136,6 +113,13 @@ public class NaverMovieService {
         return null;
     }
 
+    /**
+     * 네이버 검색 결과의 강조 태그(<b> 등) 제거
+     */
+    private String stripTags(String text) {
+        return text != null ? text.replaceAll("<[^>]*>", "") : "";
+    }
+
     /**
      * 텍스트에서 배역명 추출
      */
@@ -10,6 +10,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -19,14 +21,17 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PRDMovieListService {
 
+    private static final int TITLE_SEARCH_LIMIT = 500; // 제목 검색 최대 결과 수
+
     private final PRDMovieListRepository movieListRepository;
     private final MovieListMapper movieListMapper;
+    private final SRHMovieSearchService movieSearchService;
 
     /**
-     * 영화 목록 저장 (중복 체크)
+     * 영화 목록 저장 (중복 체크, 새로 저장한 개수 반환)
      */
     @Transactional
-    public void saveMovieList(List<MovieListDto> movieListDtos) {
+    public int saveMovieList(List<MovieListDto> movieListDtos) {
         log.info("영화 목록 저장 시작: {}개", movieListDtos.size());
         
         int savedCount = 0;
@@ -50,6 +55,7 @@ public class PRDMovieListService {
         }
         
         log.info("영화 목록 저장 완료: 저장={}, 건너뜀={}", savedCount, skippedCount);
+        return savedCount;
     }
 
     /**
@@ -73,9 +79,28 @@ public class PRDMovieListService {
      * 영화명으로 검색
      */
     public List<MovieListDto> searchMoviesByName(String movieNm) {
-        return movieListRepository.findByMovieNmContainingIgnoreCase(movieNm).stream()
+        if (!movieSearchService.isReady()) {
+            // 검색 인덱스 구축 전에는 DB LIKE 검색
+            return movieListRepository.findByMovieNmContainingIgnoreCase(movieNm).stream()
+                    .map(movieListMapper::toDto)
+                    .collect(Collectors.toList());
+        }
+        List<String> movieCds = movieSearchService.searchMovieCdsByTitle(movieNm, TITLE_SEARCH_LIMIT);
+        Map<String, MovieList> movies = movieListRepository.findByMovieCdIn(movieCds).stream()
+                .collect(Collectors.toMap(MovieList::getMovieCd, movie -> movie));
+        // 인덱스의 관련도 순서 유지
+        List<MovieListDto> result = movieCds.stream()
+                .map(movies::get)
+                .filter(Objects::nonNull)
                 .map(movieListMapper::toDto)
                 .collect(Collectors.toList());
+        if (result.isEmpty()) {
+            // 인덱스는 MovieDetail 기준이라 MovieList에만 있는 영화는 찾지 못함 → 기존 LIKE 검색
+            return movieListRepository.findByMovieNmContainingIgnoreCase(movieNm).stream()
+                    .map(movieListMapper::toDto)
+                    .collect(Collectors.toList());
+        }
+        return result;
     }
 
     /**
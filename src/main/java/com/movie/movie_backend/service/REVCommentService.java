@@ -1,31 +1,51 @@
 package com.movie.movie_backend.service;
 
+import com.movie.movie_backend.dto.CommentDto;
 import com.movie.movie_backend.entity.Comment;
 import com.movie.movie_backend.entity.CommentLike;
+import com.movie.movie_backend.entity.CommentLikeCount;
 import com.movie.movie_backend.entity.Review;
 import com.movie.movie_backend.entity.User;
+import com.movie.movie_backend.event.LikeChangedEvent;
+import com.movie.movie_backend.listing.KeysetCursor;
+import com.movie.movie_backend.listing.KeysetPage;
+import com.movie.movie_backend.mapper.CommentMapper;
 import com.movie.movie_backend.repository.REVCommentRepository;
+import com.movie.movie_backend.repository.REVCommentLikeCountRepository;
 import com.movie.movie_backend.repository.REVCommentLikeRepository;
 import com.movie.movie_backend.repository.REVReviewRepository;
 import com.movie.movie_backend.repository.USRUserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class REVCommentService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_PATH_LENGTH = 500; // comment.path 컬럼 길이
+
     private final REVCommentRepository commentRepository;
     private final REVCommentLikeRepository commentLikeRepository;
     private final REVReviewRepository reviewRepository;
     private final USRUserRepository userRepository;
+    private final CommentMapper commentMapper;
+    private final REVCommentLikeCountRepository commentLikeCountRepository;
+    private final REVLikeCounterService likeCounterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 댓글 작성
@@ -46,6 +66,12 @@ public class REVCommentService {
         if (parentId != null) {
             parent = commentRepository.findById(parentId)
                     .orElseThrow(() -> new RuntimeException("부모 댓글을 찾을 수 없습니다: " + parentId));
+            if (!parent.getReview().getId().equals(reviewId)) {
+                throw new RuntimeException("다른 리뷰의 댓글에는 대댓글을 달 수 없습니다: " + parentId);
+            }
+            if (parent.getPath() != null && parent.getPath().length() + Comment.PATH_ID_LENGTH + 1 > MAX_PATH_LENGTH) {
+                throw new RuntimeException("더 이상 대댓글을 달 수 없습니다: " + parentId);
+            }
         }
 
         // 댓글 생성
@@ -57,9 +83,12 @@ public class REVCommentService {
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .status(Comment.CommentStatus.ACTIVE)
+                .depth(parent != null ? parent.getDepth() + 1 : 0)
                 .build();
 
+        // ID가 정해진 뒤 경로 지정 (같은 트랜잭션에서 UPDATE)
         Comment savedComment = commentRepository.save(comment);
+        savedComment.setPath(savedComment.buildPath());
         log.info("댓글 작성 완료: ID={}, 타입={}", savedComment.getId(), 
                 savedComment.isReply() ? "대댓글" : "댓글");
 
@@ -106,7 +135,7 @@ public class REVCommentService {
             throw new RuntimeException("댓글을 삭제할 권한이 없습니다.");
         }
 
-        // 소프트 삭제
+        // 소프트 삭제 (경로는 그대로 두어 하위 댓글이 트리에 남음)
         comment.setStatus(Comment.CommentStatus.DELETED);
         commentRepository.save(comment);
         log.info("댓글 삭제 완료: ID={}", commentId);
@@ -133,6 +162,68 @@ public class REVCommentService {
         return commentRepository.findByParentIdOrderByCreatedAtAsc(parentId);
     }
 
+    /**
+     * 리뷰의 댓글 스레드 페이지 (최상위 댓글 최신순, 대댓글 수/좋아요 수/좋아요 여부 포함)
+     * - 대댓글 수, 좋아요 수, 좋아요 여부는 페이지의 댓글 ID를 모아 IN 쿼리 한 번씩
+     * - 대댓글 본문은 getReplyPage로 펼칠 때 조회
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<CommentDto> getCommentThread(Long reviewId, Long userId, String cursor, int size) {
+        int pageSize = pageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Comment> comments = commentRepository.findTopLevelPage(
+                reviewId, after != null ? after.longKey() : null, PageRequest.of(0, pageSize));
+        long total = commentRepository.countTopLevelByReviewId(reviewId);
+        return KeysetPage.of(comments, total, pageSize, comment -> KeysetCursor.of(String.valueOf(comment.getId())))
+                .map(page -> toDtoList(page, reviewId, userId, true));
+    }
+
+    /**
+     * 댓글의 대댓글 페이지 (작성순, 좋아요 수/좋아요 여부 포함, 다음 페이지는 nextCursor로)
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<CommentDto> getReplyPage(Long parentId, Long userId, String cursor, int size) {
+        Comment parent = commentRepository.findById(parentId)
+                .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다: " + parentId));
+        int pageSize = pageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Comment> replies = commentRepository.findReplyPage(
+                parentId, after != null ? after.longKey() : null, PageRequest.of(0, pageSize));
+        long total = commentRepository.getReplyCountByParentId(parentId);
+        Long reviewId = parent.getReview() != null ? parent.getReview().getId() : null;
+        return KeysetPage.of(replies, total, pageSize, reply -> KeysetCursor.of(String.valueOf(reply.getId())))
+                .map(page -> toDtoList(page, reviewId, userId, false));
+    }
+
+    /**
+     * 댓글과 그 아래 모든 대댓글을 표시 순서대로 조회 (경로 범위 조회 한 번, 좋아요 수/좋아요 여부 포함)
+     */
+    @Transactional(readOnly = true)
+    public List<CommentDto> getSubtree(Long commentId, Long userId) {
+        Comment root = commentRepository.findById(commentId)
+                .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다: " + commentId));
+        List<Comment> subtree = commentRepository.findSubtreeByPath(root.getPath() + "%");
+        return toTreeDtoList(subtree, root.getReview() != null ? root.getReview().getId() : null, userId);
+    }
+
+    /**
+     * 리뷰의 전체 댓글 트리를 표시 순서대로 조회 (좋아요 수/좋아요 여부 포함)
+     */
+    @Transactional(readOnly = true)
+    public List<CommentDto> getCommentTree(Long reviewId, Long userId) {
+        return toTreeDtoList(commentRepository.findTreeByReviewId(reviewId), reviewId, userId);
+    }
+
+    /**
+     * 댓글 아래 활성 대댓글 수 (모든 깊이, 경로 범위 조회 한 번)
+     */
+    @Transactional(readOnly = true)
+    public long getDescendantCount(Long commentId) {
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다: " + commentId));
+        return commentRepository.countDescendantsByPath(comment.getPath() + "%", comment.getPath());
+    }
+
     /**
      * 사용자의 댓글 조회
      */
@@ -182,6 +273,7 @@ public class REVCommentService {
                 .build();
 
         CommentLike savedLike = commentLikeRepository.save(commentLike);
+        eventPublisher.publishEvent(LikeChangedEvent.comment(commentId, true));
         log.info("댓글 좋아요 추가 완료: ID={}", savedLike.getId());
 
         return savedLike;
@@ -198,14 +290,18 @@ public class REVCommentService {
                 .orElseThrow(() -> new RuntimeException("좋아요를 찾을 수 없습니다."));
 
         commentLikeRepository.delete(commentLike);
+        eventPublisher.publishEvent(LikeChangedEvent.comment(commentId, false));
         log.info("댓글 좋아요 취소 완료");
     }
 
     /**
-     * 댓글 좋아요 개수 조회
+     * 댓글 좋아요 개수 조회 (저장된 좋아요 수 + 저장 대기 증감)
      */
     public Long getCommentLikeCount(Long commentId) {
-        return commentLikeRepository.getLikeCountByCommentId(commentId);
+        long persisted = commentLikeCountRepository.findById(commentId)
+                .map(CommentLikeCount::getLikeCount)
+                .orElse(0L);
+        return likeCounterService.getCommentLikeCount(commentId, persisted);
     }
 
     /**
@@ -214,4 +310,59 @@ public class REVCommentService {
     public boolean hasUserLikedComment(Long commentId, Long userId) {
         return commentLikeRepository.existsByUserIdAndCommentId(userId, commentId);
     }
+
+    // ===== 내부 메서드 =====
+
+    private List<CommentDto> toDtoList(List<Comment> comments, Long reviewId, Long userId, boolean withReplyCounts) {
+        if (comments.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = comments.stream().map(Comment::getId).toList();
+        Map<Long, Long> replyCounts = withReplyCounts
+                ? toCountMap(commentRepository.countRepliesByParentIds(ids)) : Map.of();
+        Map<Long, Long> likeCounts = getCommentLikeCounts(ids);
+        Set<Long> likedIds = userId != null
+                ? new HashSet<>(commentLikeRepository.findLikedCommentIds(userId, ids)) : Set.of();
+        return commentMapper.toDtoList(comments, reviewId, replyCounts, likeCounts, likedIds);
+    }
+
+    // 트리 목록은 이미 모든 대댓글을 포함하므로 대댓글 수는 목록 안에서 셈
+    private List<CommentDto> toTreeDtoList(List<Comment> comments, Long reviewId, Long userId) {
+        if (comments.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Long> replyCounts = new HashMap<>();
+        for (Comment comment : comments) {
+            if (comment.getParent() != null && comment.getStatus() == Comment.CommentStatus.ACTIVE) {
+                replyCounts.merge(comment.getParent().getId(), 1L, Long::sum);
+            }
+        }
+        List<Long> ids = comments.stream().map(Comment::getId).toList();
+        Map<Long, Long> likeCounts = getCommentLikeCounts(ids);
+        Set<Long> likedIds = userId != null
+                ? new HashSet<>(commentLikeRepository.findLikedCommentIds(userId, ids)) : Set.of();
+        return commentMapper.toDtoList(comments, reviewId, replyCounts, likeCounts, likedIds);
+    }
+
+    // 여러 댓글의 좋아요 수 (저장된 값 IN 쿼리 한 번 + 저장 대기 증감)
+    private Map<Long, Long> getCommentLikeCounts(List<Long> ids) {
+        Map<Long, Long> persisted = toCountMap(commentLikeCountRepository.findCountsByCommentIdIn(ids));
+        Map<Long, Long> counts = new HashMap<>();
+        for (Long id : ids) {
+            counts.put(id, likeCounterService.getCommentLikeCount(id, persisted.getOrDefault(id, 0L)));
+        }
+        return counts;
+    }
+
+    private static Map<Long, Long> toCountMap(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    private static int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
 } 
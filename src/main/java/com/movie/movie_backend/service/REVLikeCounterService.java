@@ -0,0 +1,127 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.counter.DeltaCounter;
+import com.movie.movie_backend.event.LikeChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 영화/댓글 좋아요 수 쓰기 지연 카운터
+ *
+ * - 좋아요 행은 요청마다 바로 저장하고, 좋아요 수 증감만 메모리(DeltaCounter)에 모음 (커밋된 변경만, LikeChangedEvent)
+ * - flush-interval-ms(기본 1초)마다 키별로 합친 증감을 movie_like_count / comment_like_count에 배치 UPSERT
+ *   → 인기 영화에 좋아요가 몰려도 카운터 행 갱신은 간격당 한 번
+ * - 조회 값 = 저장된 값 + 아직 저장되지 않은 증감 (저장 직후 잠깐 어긋날 수 있고 다음 조회부터 맞음)
+ * - 저장에 실패하면 증감을 되돌려 다음 flush에서 다시 시도, 종료 시 남은 증감 저장
+ */
+@Slf4j
+@Service
+public class REVLikeCounterService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String MOVIE_UPSERT =
+            "INSERT INTO movie_like_count (movie_cd, like_count, updated_at) VALUES (?, GREATEST(?, 0), ?) " +
+            "ON DUPLICATE KEY UPDATE like_count = GREATEST(like_count + ?, 0), updated_at = VALUES(updated_at)";
+
+    private static final String COMMENT_UPSERT =
+            "INSERT INTO comment_like_count (comment_id, like_count, updated_at) VALUES (?, GREATEST(?, 0), ?) " +
+            "ON DUPLICATE KEY UPDATE like_count = GREATEST(like_count + ?, 0), updated_at = VALUES(updated_at)";
+
+    private final DeltaCounter<String> movieLikes = new DeltaCounter<>();
+    private final DeltaCounter<Long> commentLikes = new DeltaCounter<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writeTransaction;
+
+    public REVLikeCounterService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 스케줄러/종료 처리 어디서 불려도 카운터 저장은 따로 커밋
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 좋아요 추가/취소 (커밋 후 증감 반영)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(LikeChangedEvent event) {
+        switch (event.getTarget()) {
+            case MOVIE -> movieLikes.add(event.getMovieCd(), event.getDelta());
+            case COMMENT -> commentLikes.add(event.getCommentId(), event.getDelta());
+        }
+    }
+
+    /**
+     * 영화 좋아요 수 (저장된 값 + 저장 대기 증감)
+     */
+    public long getMovieLikeCount(String movieCd, long persisted) {
+        return Math.max(persisted + movieLikes.pending(movieCd), 0);
+    }
+
+    /**
+     * 댓글 좋아요 수 (저장된 값 + 저장 대기 증감)
+     */
+    public long getCommentLikeCount(Long commentId, long persisted) {
+        return Math.max(persisted + commentLikes.pending(commentId), 0);
+    }
+
+    /**
+     * 삭제된 영화의 저장 대기 증감 버림 (카운터 행이 다시 생기지 않도록)
+     */
+    public void discardMovie(String movieCd) {
+        movieLikes.discard(movieCd);
+    }
+
+    /**
+     * 모인 증감 저장
+     */
+    @Scheduled(fixedDelayString = "${like-counter.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        flush(movieLikes, MOVIE_UPSERT, "영화");
+        flush(commentLikes, COMMENT_UPSERT, "댓글");
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // ===== 내부 메서드 =====
+
+    private <K extends Comparable<K>> void flush(DeltaCounter<K> counter, String upsertSql, String label) {
+        Map<K, Long> drained = counter.drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+        try {
+            // 키 순서로 갱신 (여러 노드가 동시에 저장해도 행 잠금 순서가 같아 교착 없음)
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> args = new ArrayList<>();
+            new TreeMap<>(drained).forEach((key, delta) -> args.add(new Object[]{key, delta, now, delta}));
+            writeTransaction.executeWithoutResult(status -> {
+                for (int from = 0; from < args.size(); from += BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(upsertSql, args.subList(from, Math.min(from + BATCH_SIZE, args.size())));
+                }
+            });
+            counter.complete(drained);
+            log.debug("{} 좋아요 수 저장: {}건", label, drained.size());
+        } catch (Exception e) {
+            counter.restore(drained);
+            log.warn("{} 좋아요 수 저장 실패, 다음 주기에 재시도: {}건 - {}", label, drained.size(), e.getMessage());
+        }
+    }
+}
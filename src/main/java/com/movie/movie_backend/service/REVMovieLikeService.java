@@ -0,0 +1,123 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.entity.MovieLikeCount;
+import com.movie.movie_backend.event.LikeChangedEvent;
+import com.movie.movie_backend.repository.PRDMovieRepository;
+import com.movie.movie_backend.repository.REVLikeRepository;
+import com.movie.movie_backend.repository.REVMovieLikeCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 영화 좋아요 서비스
+ *
+ * - (user_id, movie_detail_id) 유니크 인덱스 + INSERT IGNORE / DELETE 영향 행 수로 실제로 바뀐 경우만 판단 (같은 요청을 반복해도 결과 동일)
+ * - 실제로 바뀐 경우에만 LikeChangedEvent 발행 → 커밋 후 REVLikeCounterService가 증감을 모아 movie_like_count에 주기적으로 반영
+ * - 좋아요 수 = 저장된 movie_like_count + 저장 대기 증감 (likes 전체를 세지 않으므로 좋아요 수와 무관한 비용)
+ * - 목록 화면은 좋아요 수/좋아요 여부를 영화 코드 IN 쿼리 한 번씩으로 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class REVMovieLikeService {
+
+    private final REVLikeRepository likeRepository;
+    private final REVMovieLikeCountRepository likeCountRepository;
+    private final PRDMovieRepository movieRepository;
+    private final REVLikeCounterService likeCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 좋아요 상태 지정 (이미 그 상태면 아무것도 바꾸지 않음) → 상태가 실제로 바뀌었으면 true
+     */
+    @Transactional
+    public boolean setLiked(String movieCd, Long userId, boolean liked) {
+        if (!movieRepository.existsById(movieCd)) {
+            throw new RuntimeException("영화를 찾을 수 없습니다: " + movieCd);
+        }
+        boolean changed = liked
+                ? likeRepository.insertIfAbsent(userId, movieCd, LocalDateTime.now()) > 0
+                : likeRepository.deleteByUserIdAndMovieCd(userId, movieCd) > 0;
+        if (changed) {
+            eventPublisher.publishEvent(LikeChangedEvent.movie(movieCd, liked));
+            log.info("영화 좋아요 {}: {} - 사용자: {}", liked ? "추가" : "취소", movieCd, userId);
+        }
+        return changed;
+    }
+
+    /**
+     * 좋아요 토글 (없으면 추가, 있으면 취소) → 토글 후 좋아요 상태
+     */
+    @Transactional
+    public boolean toggle(String movieCd, Long userId) {
+        if (setLiked(movieCd, userId, true)) {
+            return true;
+        }
+        setLiked(movieCd, userId, false);
+        return false;
+    }
+
+    /**
+     * 사용자가 영화에 좋아요를 눌렀는지 확인
+     */
+    public boolean hasLiked(String movieCd, Long userId) {
+        return userId != null && likeRepository.existsByUserIdAndMovieCd(userId, movieCd);
+    }
+
+    /**
+     * 영화의 좋아요 수
+     */
+    public long getLikeCount(String movieCd) {
+        long persisted = likeCountRepository.findById(movieCd)
+                .map(MovieLikeCount::getLikeCount)
+                .orElse(0L);
+        return likeCounterService.getMovieLikeCount(movieCd, persisted);
+    }
+
+    /**
+     * 여러 영화의 좋아요 수 (요청 순서 유지, 좋아요가 없으면 0)
+     */
+    public Map<String, Long> getLikeCounts(Collection<String> movieCds) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        movieCds.forEach(movieCd -> counts.put(movieCd, 0L));
+        if (!counts.isEmpty()) {
+            for (Object[] row : likeCountRepository.findCountsByMovieCdIn(counts.keySet())) {
+                counts.put((String) row[0], ((Number) row[1]).longValue());
+            }
+            counts.replaceAll(likeCounterService::getMovieLikeCount);
+        }
+        return counts;
+    }
+
+    /**
+     * 여러 영화 중 사용자가 좋아요를 누른 영화 코드
+     */
+    public Set<String> getLikedMovieCds(Long userId, Collection<String> movieCds) {
+        if (userId == null || movieCds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(likeRepository.findLikedMovieCds(userId, movieCds));
+    }
+
+    /**
+     * 영화의 좋아요 전체 삭제 (영화 삭제 시)
+     */
+    @Transactional
+    public void deleteAllForMovie(String movieCd) {
+        int deleted = likeRepository.deleteByMovieCd(movieCd);
+        likeCountRepository.deleteById(movieCd);
+        likeCounterService.discardMovie(movieCd);
+        log.info("영화 좋아요 삭제: {} - {}개", movieCd, deleted);
+    }
+}
@@ -0,0 +1,234 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.constant.MovieStatus;
+import com.movie.movie_backend.entity.MovieDetail;
+import com.movie.movie_backend.entity.MovieRatingAggregate;
+import com.movie.movie_backend.entity.Review;
+import com.movie.movie_backend.event.RatingAggregateChangedEvent;
+import com.movie.movie_backend.repository.PRDMovieRepository;
+import com.movie.movie_backend.repository.REVRatingAggregateRepository;
+import com.movie.movie_backend.repository.REVRatingRepository;
+import com.movie.movie_backend.repository.REVReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 영화별 평점 집계 서비스
+ *
+ * - 평점/리뷰가 저장·수정·삭제될 때 (이전 값, 새 값)을 받아 합계/개수/분포를 증감 (전체 재계산 없음)
+ * - 증감은 DB UPDATE 한 번으로 처리 → 집계 행 잠금으로 동시 요청이 직렬화되어 유실 없음
+ * - Rating 집계가 바뀌면 MovieDetail.averageRating/ratingCount/ratingUpdatedAt 캐시도 함께 갱신
+ * - 호출하는 쪽 트랜잭션에 참여하므로 평점 저장이 롤백되면 집계도 함께 롤백
+ * - Rating 집계가 바뀌면 RatingAggregateChangedEvent 발행 (평점 순위표 갱신용)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class REVRatingAggregateService {
+
+    private final REVRatingAggregateRepository aggregateRepository;
+    private final REVRatingRepository ratingRepository;
+    private final REVReviewRepository reviewRepository;
+    private final PRDMovieRepository movieRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 집계 테이블이 비어 있으면 기존 평점/리뷰로 한 번 채움 (시작 준비 작업에서 호출)
+     */
+    @Transactional
+    public void backfillIfEmpty() {
+        if (aggregateRepository.count() == 0 && (ratingRepository.count() > 0 || reviewRepository.count() > 0)) {
+            rebuildAll();
+        }
+    }
+
+    /**
+     * Rating 변경 반영 (새로 작성: oldScore=null, 삭제: newScore=null)
+     */
+    @Transactional
+    public void applyRatingChange(String movieCd, Integer oldScore, Integer newScore) {
+        if (movieCd == null || Objects.equals(oldScore, newScore)) {
+            return;
+        }
+        long sumDelta = valueOf(newScore) - valueOf(oldScore);
+        long countDelta = (newScore != null ? 1 : 0) - (oldScore != null ? 1 : 0);
+
+        aggregateRepository.insertIfAbsent(movieCd);
+        aggregateRepository.addRatingDelta(movieCd, sumDelta, countDelta, LocalDateTime.now());
+        aggregateRepository.refreshRatingAverage(movieCd);
+        syncMovieDetailCache(movieCd);
+        RatingAggregateChangedEvent.ChangeKind kind = oldScore == null ? RatingAggregateChangedEvent.ChangeKind.ADDED
+                : newScore == null ? RatingAggregateChangedEvent.ChangeKind.REMOVED
+                : RatingAggregateChangedEvent.ChangeKind.UPDATED;
+        eventPublisher.publishEvent(new RatingAggregateChangedEvent(movieCd, kind));
+    }
+
+    /**
+     * 이전 값을 알 수 없는 Rating 변경 반영 (해당 영화만 재집계)
+     */
+    @Transactional
+    public void refreshRating(String movieCd) {
+        if (movieCd == null) {
+            return;
+        }
+        Object[] totals = aggregateRepository.sumRatingsForMovie(movieCd).get(0);
+
+        aggregateRepository.insertIfAbsent(movieCd);
+        aggregateRepository.setRatingTotals(movieCd, ((Number) totals[0]).longValue(),
+                ((Number) totals[1]).longValue(), LocalDateTime.now());
+        aggregateRepository.refreshRatingAverage(movieCd);
+        syncMovieDetailCache(movieCd);
+        eventPublisher.publishEvent(new RatingAggregateChangedEvent(movieCd));
+    }
+
+    /**
+     * Review 평점 변경 반영 (삭제된 리뷰나 평점 없는 리뷰는 null로 전달)
+     */
+    @Transactional
+    public void applyReviewRatingChange(String movieCd, Integer oldRating, Integer newRating) {
+        if (movieCd == null || Objects.equals(oldRating, newRating)) {
+            return;
+        }
+        long[] histogramDelta = new long[6]; // 1~5점 사용
+        if (isHistogramScore(oldRating)) histogramDelta[oldRating]--;
+        if (isHistogramScore(newRating)) histogramDelta[newRating]++;
+
+        aggregateRepository.insertIfAbsent(movieCd);
+        aggregateRepository.addReviewDelta(movieCd,
+                valueOf(newRating) - valueOf(oldRating),
+                (newRating != null ? 1 : 0) - (oldRating != null ? 1 : 0),
+                histogramDelta[1], histogramDelta[2], histogramDelta[3], histogramDelta[4], histogramDelta[5],
+                LocalDateTime.now());
+    }
+
+    /**
+     * 집계에 반영되는 리뷰 평점 (삭제된 리뷰는 제외)
+     */
+    public static Integer countedRating(Review review) {
+        if (review == null || review.getStatus() == Review.ReviewStatus.DELETED) {
+            return null;
+        }
+        return review.getRating();
+    }
+
+    /**
+     * 영화의 집계 조회
+     */
+    public Optional<MovieRatingAggregate> getAggregate(String movieCd) {
+        return aggregateRepository.findById(movieCd);
+    }
+
+    /**
+     * 평균 평점 상위 영화 (MovieList에도 있는 영화만)
+     */
+    public List<MovieDetail> getTopRatedMovies(int limit) {
+        return aggregateRepository.findTopRatedMovies(PageRequest.of(0, limit));
+    }
+
+    /**
+     * 장르/상태 조건을 붙인 평균 평점 상위 영화 (조건이 null이면 무시)
+     */
+    public List<MovieDetail> getTopRatedMovies(int limit, String genre, MovieStatus status) {
+        if (genreKey(genre) == null && status == null) {
+            return getTopRatedMovies(limit);
+        }
+        return aggregateRepository.findTopRatedMoviesFiltered(genreKey(genre), status, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 장르 비교 키 (공백 제거, 비어 있으면 null) - 순위표와 DB 조회가 같은 기준으로 장르를 비교하도록
+     */
+    public static String genreKey(String genre) {
+        if (genre == null) {
+            return null;
+        }
+        String key = genre.replaceAll("\\s+", "");
+        return key.isEmpty() ? null : key;
+    }
+
+    /**
+     * 평점/리뷰 원본으로 전체 재집계 (초기 적재, 데이터 보정용)
+     */
+    @Transactional
+    public void rebuildAll() {
+        long start = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, MovieRatingAggregate> aggregates = new HashMap<>();
+
+        for (Object[] row : aggregateRepository.sumRatingsByMovie()) {
+            MovieRatingAggregate aggregate = aggregates.computeIfAbsent((String) row[0], this::emptyAggregate);
+            aggregate.setRatingSum(((Number) row[1]).longValue());
+            aggregate.setRatingCount(((Number) row[2]).longValue());
+            aggregate.setRatingAverage(aggregate.getRatingCount() > 0
+                    ? (double) aggregate.getRatingSum() / aggregate.getRatingCount() : null);
+            aggregate.setUpdatedAt(now);
+        }
+
+        for (Object[] row : aggregateRepository.countReviewRatingsByMovie()) {
+            MovieRatingAggregate aggregate = aggregates.computeIfAbsent((String) row[0], this::emptyAggregate);
+            int rating = ((Number) row[1]).intValue();
+            long count = ((Number) row[2]).longValue();
+            aggregate.setReviewRatingSum(aggregate.getReviewRatingSum() + rating * count);
+            aggregate.setReviewRatingCount(aggregate.getReviewRatingCount() + count);
+            switch (rating) {
+                case 1 -> aggregate.setReviewScore1(count);
+                case 2 -> aggregate.setReviewScore2(count);
+                case 3 -> aggregate.setReviewScore3(count);
+                case 4 -> aggregate.setReviewScore4(count);
+                case 5 -> aggregate.setReviewScore5(count);
+                default -> { }
+            }
+            aggregate.setUpdatedAt(now);
+        }
+
+        aggregateRepository.deleteAllInBatch();
+        aggregateRepository.saveAll(aggregates.values());
+        eventPublisher.publishEvent(new RatingAggregateChangedEvent(null));
+        log.info("평점 집계 재구축 완료: {}개 영화, {}ms", aggregates.size(), System.currentTimeMillis() - start);
+    }
+
+    // ===== 내부 메서드 =====
+
+    /**
+     * Rating 집계로 MovieDetail 평점 캐시 갱신 (영속 상태 엔티티를 수정 → 커밋 시 반영)
+     */
+    private void syncMovieDetailCache(String movieCd) {
+        List<Object[]> rows = aggregateRepository.findRatingSumAndCount(movieCd);
+        if (rows.isEmpty()) {
+            return;
+        }
+        long sum = ((Number) rows.get(0)[0]).longValue();
+        long count = ((Number) rows.get(0)[1]).longValue();
+
+        movieRepository.findById(movieCd).ifPresent(movie -> {
+            movie.setAverageRating(count > 0 ? Math.round((double) sum / count * 10.0) / 10.0 : null);
+            movie.setRatingCount((int) count);
+            movie.setRatingUpdatedAt(LocalDateTime.now());
+        });
+    }
+
+    private MovieRatingAggregate emptyAggregate(String movieCd) {
+        MovieRatingAggregate aggregate = new MovieRatingAggregate();
+        aggregate.setMovieCd(movieCd);
+        return aggregate;
+    }
+
+    private static boolean isHistogramScore(Integer score) {
+        return score != null && score >= 1 && score <= 5;
+    }
+
+    private static long valueOf(Integer score) {
+        return score != null ? score : 0;
+    }
+}
@@ -0,0 +1,203 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.constant.MovieStatus;
+import com.movie.movie_backend.event.MovieChangedEvent;
+import com.movie.movie_backend.event.RatingAggregateChangedEvent;
+import com.movie.movie_backend.ranking.Leaderboard;
+import com.movie.movie_backend.ranking.LeaderboardEntry;
+import com.movie.movie_backend.repository.REVRatingAggregateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 평균 평점 순위표 서비스
+ *
+ * - 전체 / 장르별(genreNm) / 상태별(MovieStatus) / 장르+상태별 상위 MAX_LIMIT개를 메모리에 유지 (Leaderboard)
+ *   (장르+상태 조합도 별도 보드로 두어 조회 시 걸러내지 않음 → 걸러져서 요청 개수보다 적게 나오는 일 없음)
+ * - 장르는 DB 조회(findTopRatedMoviesFiltered)와 같은 기준으로 비교 (쉼표로 나눈 장르명, 공백 무시, 완전 일치)
+ * - 평점 집계나 영화 정보(장르/상태)가 바뀌면 해당 영화만 모아 두었다가 1초 간격으로 반영
+ * - 요청 스레드는 잠금 없이 배열 앞부분만 읽으므로 TOP-N 조회가 O(N)
+ * - 순위표 밖으로 밀려난 후보 때문에 보드가 비게 되면 전체 재구축 (쿼리 한 번)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class REVRatingLeaderboardService {
+
+    public static final int MAX_LIMIT = 100;             // 순위표에서 바로 응답하는 최대 개수
+    private static final int CAPACITY = MAX_LIMIT * 2;   // 보드별 유지 개수 (점수 하락 대비 여유분)
+    private static final int CHUNK_SIZE = 1000;
+
+    private final REVRatingAggregateRepository aggregateRepository;
+
+    private final Set<String> pendingMovieCds = ConcurrentHashMap.newKeySet();
+    private volatile Leaderboard leaderboard = new Leaderboard(CAPACITY);
+    private volatile boolean ready = false;
+    private volatile boolean rebuildRequested = false;
+
+    /**
+     * 평점 집계 변경 (커밋 후 반영, movieCd가 null이면 전체 재구축)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRatingAggregateChanged(RatingAggregateChangedEvent event) {
+        if (event.getMovieCd() == null) {
+            rebuildRequested = true;
+        } else {
+            pendingMovieCds.add(event.getMovieCd());
+        }
+    }
+
+    /**
+     * 영화 정보 변경 (커밋 후 반영, 장르/상태가 바뀌면 속한 보드가 달라짐)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMovieChanged(MovieChangedEvent event) {
+        pendingMovieCds.add(event.getMovieCd());
+    }
+
+    /**
+     * 평균 평점 상위 movieCd (genre, status가 null이면 조건 없음)
+     * 순위표가 준비되지 않았거나 MAX_LIMIT을 넘으면 null → 호출하는 쪽에서 DB 조회
+     */
+    public List<String> getTopRatedMovieCds(int limit, String genre, MovieStatus status) {
+        if (!ready || limit > MAX_LIMIT) {
+            return null;
+        }
+        String genreKey = REVRatingAggregateService.genreKey(genre);
+        String category = genreKey != null && status != null ? genreStatusCategory(genreKey, status)
+                : genreKey != null ? genreCategory(genreKey)
+                : status != null ? statusCategory(status)
+                : Leaderboard.OVERALL;
+        return leaderboard.top(category, limit, entry -> true).stream()
+                .map(LeaderboardEntry::movieCd)
+                .toList();
+    }
+
+    /**
+     * 전체 재구축 후 교체
+     */
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        rebuildRequested = false;
+        pendingMovieCds.clear(); // 재구축 결과에 모두 포함됨
+
+        Leaderboard newLeaderboard = new Leaderboard(CAPACITY);
+        List<Object[]> rows = aggregateRepository.findLeaderboardRows();
+        for (Object[] row : rows) {
+            newLeaderboard.update(toEntry(row), categoriesOf(row));
+        }
+
+        leaderboard = newLeaderboard;
+        ready = true;
+        log.info("평점 순위표 구축 완료: {}개 영화, {}ms", rows.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 쌓인 변경분 반영 (1초 간격)
+     */
+    @Scheduled(fixedDelay = 1000)
+    public synchronized void applyPendingChanges() {
+        if (!ready) {
+            return;
+        }
+        if (rebuildRequested) {
+            rebuild();
+            return;
+        }
+        if (pendingMovieCds.isEmpty()) {
+            return;
+        }
+
+        List<String> movieCds = new ArrayList<>(pendingMovieCds);
+        pendingMovieCds.removeAll(movieCds);
+
+        try {
+            Set<String> found = new HashSet<>();
+            for (int from = 0; from < movieCds.size(); from += CHUNK_SIZE) {
+                List<String> chunk = movieCds.subList(from, Math.min(from + CHUNK_SIZE, movieCds.size()));
+                for (Object[] row : aggregateRepository.findLeaderboardRowsByMovieCdIn(chunk)) {
+                    leaderboard.update(toEntry(row), categoriesOf(row));
+                    found.add((String) row[0]);
+                }
+            }
+            // 평점이 없어졌거나 MovieList에서 빠진 영화는 순위표에서 제거
+            for (String movieCd : movieCds) {
+                if (!found.contains(movieCd)) {
+                    leaderboard.remove(movieCd);
+                }
+            }
+        } catch (Exception e) {
+            pendingMovieCds.addAll(movieCds);
+            log.warn("평점 순위표 변경분 반영 실패: {}", e.getMessage());
+            return;
+        }
+
+        if (leaderboard.needsRefill(MAX_LIMIT)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 엔티티 이벤트로 잡히지 않는 변경(MovieList 삭제 등) 보정을 위해 매일 새벽 재구축
+     */
+    @Scheduled(cron = "0 40 4 * * *")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    // ===== 내부 메서드 =====
+
+    private LeaderboardEntry toEntry(Object[] row) {
+        return new LeaderboardEntry(
+                (String) row[0],
+                row[1] != null ? ((Number) row[1]).doubleValue() : 0.0,
+                ((Number) row[2]).longValue(),
+                (MovieStatus) row[4]);
+    }
+
+    /**
+     * 영화가 속하는 보드 (전체 + 장르별 + 상태별 + 장르+상태별)
+     */
+    private List<String> categoriesOf(Object[] row) {
+        List<String> categories = new ArrayList<>();
+        categories.add(Leaderboard.OVERALL);
+        MovieStatus status = (MovieStatus) row[4];
+        if (status != null) {
+            categories.add(statusCategory(status));
+        }
+        String genreNm = (String) row[3];
+        if (genreNm != null) {
+            for (String genre : genreNm.split(",")) {
+                String genreKey = REVRatingAggregateService.genreKey(genre);
+                if (genreKey != null) {
+                    categories.add(genreCategory(genreKey));
+                    if (status != null) {
+                        categories.add(genreStatusCategory(genreKey, status));
+                    }
+                }
+            }
+        }
+        return categories;
+    }
+
+    private static String genreCategory(String genreKey) {
+        return "genre:" + genreKey;
+    }
+
+    private static String genreStatusCategory(String genreKey, MovieStatus status) {
+        return genreCategory(genreKey) + "|" + statusCategory(status);
+    }
+
+    private static String statusCategory(MovieStatus status) {
+        return "status:" + status.name();
+    }
+}
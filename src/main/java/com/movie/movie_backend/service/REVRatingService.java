@@ -4,6 +4,7 @@ import com.movie.movie_backend.entity.Rating;
 import com.movie.movie_backend.repository.REVRatingRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -11,9 +12,20 @@ import java.util.List;
 @RequiredArgsConstructor
 public class REVRatingService {
     private final REVRatingRepository ratingRepository;
+    private final REVRatingAggregateService ratingAggregateService;
 
+    @Transactional
     public Rating addRating(Rating rating) {
-        return ratingRepository.save(rating);
+        boolean isNew = rating.getId() == null;
+        Rating saved = ratingRepository.save(rating);
+        String movieCd = saved.getMovieDetail() != null ? saved.getMovieDetail().getMovieCd() : null;
+        if (isNew) {
+            ratingAggregateService.applyRatingChange(movieCd, null, saved.getScore());
+        } else {
+            // 수정 전 점수를 알 수 없으므로 해당 영화만 재집계
+            ratingAggregateService.refreshRating(movieCd);
+        }
+        return saved;
     }
 
     public List<Rating> getRatingsByMovieDetail(String movieCd) {
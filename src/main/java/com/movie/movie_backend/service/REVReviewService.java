@@ -1,20 +1,35 @@
 package com.movie.movie_backend.service;
 
+import com.movie.movie_backend.config.CacheConfig;
+import com.movie.movie_backend.dto.RatingStatsDto;
+import com.movie.movie_backend.dto.ReviewDto;
 import com.movie.movie_backend.entity.Review;
 import com.movie.movie_backend.entity.User;
 import com.movie.movie_backend.entity.MovieDetail;
+import com.movie.movie_backend.event.ReviewChangedEvent;
+import com.movie.movie_backend.mapper.ReviewMapper;
 import com.movie.movie_backend.repository.REVReviewRepository;
 import com.movie.movie_backend.repository.USRUserRepository;
 import com.movie.movie_backend.repository.PRDMovieRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 @Slf4j
 @Service
@@ -24,6 +39,10 @@ public class REVReviewService {
     private final REVReviewRepository reviewRepository;
     private final USRUserRepository userRepository;
     private final PRDMovieRepository movieRepository;
+    private final REVRatingAggregateService ratingAggregateService;
+    private final ReviewMapper reviewMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
 
     /**
      * 리뷰 작성 (댓글만, 평점만, 둘 다 가능)
@@ -56,6 +75,8 @@ public class REVReviewService {
         review.setStatus(Review.ReviewStatus.ACTIVE);
 
         Review savedReview = reviewRepository.save(review);
+        ratingAggregateService.applyReviewRatingChange(movieCd, null, REVRatingAggregateService.countedRating(savedReview));
+        eventPublisher.publishEvent(new ReviewChangedEvent(movieCd, true));
         log.info("리뷰 작성 완료: ID={}, 타입={}", savedReview.getId(), getReviewType(savedReview));
 
         return savedReview;
@@ -76,12 +97,17 @@ public class REVReviewService {
             throw new RuntimeException("리뷰를 수정할 권한이 없습니다.");
         }
 
+        Integer previousRating = REVRatingAggregateService.countedRating(review);
+
         // 리뷰 수정
         review.setContent(content);
         review.setRating(rating);
         review.setUpdatedAt(LocalDateTime.now());
 
         Review updatedReview = reviewRepository.save(review);
+        ratingAggregateService.applyReviewRatingChange(updatedReview.getMovieDetail().getMovieCd(),
+                previousRating, REVRatingAggregateService.countedRating(updatedReview));
+        eventPublisher.publishEvent(new ReviewChangedEvent(updatedReview.getMovieDetail().getMovieCd()));
         log.info("리뷰 수정 완료: ID={}, 타입={}", updatedReview.getId(), getReviewType(updatedReview));
 
         return updatedReview;
@@ -102,17 +128,23 @@ public class REVReviewService {
             throw new RuntimeException("리뷰를 삭제할 권한이 없습니다.");
         }
 
+        Integer previousRating = REVRatingAggregateService.countedRating(review);
+
         // 소프트 삭제
         review.setStatus(Review.ReviewStatus.DELETED);
         reviewRepository.save(review);
+        ratingAggregateService.applyReviewRatingChange(review.getMovieDetail().getMovieCd(), previousRating, null);
+        eventPublisher.publishEvent(new ReviewChangedEvent(review.getMovieDetail().getMovieCd()));
         log.info("리뷰 삭제 완료: ID={}", reviewId);
     }
 
     /**
-     * 영화의 모든 리뷰 조회
+     * 영화의 모든 리뷰 조회 (캐시, 리뷰가 바뀌면 MovieCacheEvictionService가 지움)
      */
-    public List<Review> getReviewsByMovieCd(String movieCd) {
-        return reviewRepository.findByMovieDetailMovieCdOrderByCreatedAtDesc(movieCd);
+    @Cacheable(cacheNames = CacheConfig.MOVIE_REVIEWS, key = "#movieCd", sync = true)
+    @Transactional(readOnly = true)
+    public List<ReviewDto> getReviewsByMovieCd(String movieCd) {
+        return reviewMapper.toDtoList(reviewRepository.findWithUserByMovieCd(movieCd), movieCd);
     }
 
     /**
@@ -130,49 +162,104 @@ public class REVReviewService {
     }
 
     /**
-     * 영화의 평균 평점 조회
+     * 영화의 평균 평점 조회 (평점 통계에서)
      */
     public Double getAverageRating(String movieCd) {
-        Double average = reviewRepository.getAverageRatingByMovieCd(movieCd);
-        return average != null ? Math.round(average * 10.0) / 10.0 : null; // 소수점 첫째자리까지
+        return getRatingStats(movieCd).getAverageRating();
     }
 
     /**
-     * 영화의 평점 개수 조회
+     * 영화의 평점 개수 조회 (평점 통계에서)
      */
     public Long getRatingCount(String movieCd) {
-        return reviewRepository.getRatingCountByMovieCd(movieCd);
+        return getRatingStats(movieCd).getRatingCount();
     }
 
     /**
-     * 영화의 댓글 리뷰 개수 조회
+     * 영화의 댓글 리뷰 개수 조회 (평점 통계에서)
      */
     public Long getContentReviewCount(String movieCd) {
-        return (long) reviewRepository.findByMovieDetailMovieCdAndRatingIsNullOrderByCreatedAtDesc(movieCd).size();
+        return getRatingStats(movieCd).getContentReviewCount();
     }
 
     /**
-     * 영화의 평점 분포 조회 (왓챠피디아 스타일)
+     * 영화의 평점 분포 조회 (왓챠피디아 스타일, 평점 통계에서)
      */
     public Map<Integer, Long> getRatingDistribution(String movieCd) {
-        List<Object[]> distribution = reviewRepository.getRatingDistributionByMovieCd(movieCd);
-        Map<Integer, Long> result = new java.util.HashMap<>();
-        
-        // 1~5점까지 초기화
-        for (int i = 1; i <= 5; i++) {
-            result.put(i, 0L);
+        return getRatingStats(movieCd).getRatingDistribution();
+    }
+
+    /**
+     * 영화의 평점 통계 (평균, 개수, 댓글만 있는 리뷰 수, 1~5점 분포를 쿼리 한 번으로, 캐시)
+     */
+    public RatingStatsDto getRatingStats(String movieCd) {
+        Cache cache = cacheManager.getCache(CacheConfig.RATING_STATS);
+        if (cache == null) {
+            return loadRatingStats(List.of(movieCd)).get(movieCd);
         }
-        
-        // 실제 데이터로 채우기
-        for (Object[] row : distribution) {
-            Integer rating = (Integer) row[0];
-            Long count = (Long) row[1];
-            result.put(rating, count);
+        return cache.get(movieCd, () -> loadRatingStats(List.of(movieCd)).get(movieCd));
+    }
+
+    /**
+     * 여러 영화의 평점 통계 (캐시에 없는 영화만 모아 쿼리 한 번, 요청 순서 유지)
+     */
+    public Map<String, RatingStatsDto> getRatingStats(Collection<String> movieCds) {
+        Cache cache = cacheManager.getCache(CacheConfig.RATING_STATS);
+        Map<String, RatingStatsDto> result = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String movieCd : new LinkedHashSet<>(movieCds)) {
+            RatingStatsDto cached = cache != null ? cache.get(movieCd, RatingStatsDto.class) : null;
+            result.put(movieCd, cached);
+            if (cached == null) {
+                missing.add(movieCd);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<String, RatingStatsDto> loaded = loadRatingStats(missing);
+            loaded.forEach((movieCd, stats) -> {
+                result.put(movieCd, stats);
+                if (cache != null) {
+                    cache.put(movieCd, stats);
+                }
+            });
         }
-        
         return result;
     }
 
+    private Map<String, RatingStatsDto> loadRatingStats(List<String> movieCds) {
+        Map<String, RatingStatsDto> stats = new HashMap<>();
+        Map<String, Long> ratingSums = new HashMap<>();
+        for (String movieCd : movieCds) {
+            Map<Integer, Long> distribution = new TreeMap<>();
+            // 1~5점까지 초기화
+            for (int i = 1; i <= 5; i++) {
+                distribution.put(i, 0L);
+            }
+            stats.put(movieCd, RatingStatsDto.builder().movieCd(movieCd).ratingDistribution(distribution).build());
+        }
+
+        for (Object[] row : reviewRepository.countByMovieCdAndRating(movieCds)) {
+            RatingStatsDto movieStats = stats.get((String) row[0]);
+            Integer rating = (Integer) row[1];
+            long count = ((Number) row[2]).longValue();
+            if (rating == null) {
+                movieStats.setContentReviewCount(count);
+            } else {
+                movieStats.getRatingDistribution().put(rating, count);
+                movieStats.setRatingCount(movieStats.getRatingCount() + count);
+                ratingSums.merge(movieStats.getMovieCd(), rating * count, Long::sum);
+            }
+        }
+
+        for (RatingStatsDto movieStats : stats.values()) {
+            if (movieStats.getRatingCount() > 0) {
+                double average = (double) ratingSums.get(movieStats.getMovieCd()) / movieStats.getRatingCount();
+                movieStats.setAverageRating(Math.round(average * 10.0) / 10.0); // 소수점 첫째자리까지
+            }
+        }
+        return stats;
+    }
+
     /**
      * 사용자의 모든 리뷰 조회
      */
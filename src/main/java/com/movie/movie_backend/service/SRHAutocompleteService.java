@@ -0,0 +1,164 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.dto.AutocompleteSuggestionDto;
+import com.movie.movie_backend.event.DataIngestionCompletedEvent;
+import com.movie.movie_backend.repository.SRHMovieSearchRepository;
+import com.movie.movie_backend.search.Suggestion;
+import com.movie.movie_backend.search.SuggestionIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 검색어 자동완성 서비스
+ *
+ * - 영화 제목(한글/영문), 배우, 감독, 태그 이름으로 불변 접두사 색인(SuggestionIndex)을 만들어 메모리에서 응답
+ * - 영화 가중치: 누적 관객수(BoxOffice.audiAcc) + 평점 개수(MovieDetail.ratingCount)
+ *   배우/감독/태그 가중치: 관련 영화 중 최고 가중치 + 관련 영화 수 보정
+ * - 데이터 수집 작업이 끝나면 별도 스레드에서 다시 만들고 참조만 교체 (요청 스레드는 막히지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SRHAutocompleteService {
+
+    private static final int MAX_LIMIT = 20;
+
+    private final SRHMovieSearchRepository searchRepository;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "autocomplete-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean(false);
+    private volatile SuggestionIndex index = SuggestionIndex.empty();
+
+    /**
+     * 데이터 수집 작업 완료 시 재구축 (트랜잭션 안에서 발행되면 커밋 후 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIngestionCompleted(DataIngestionCompletedEvent event) {
+        log.debug("데이터 수집 완료({}) → 자동완성 색인 재구축 요청", event.getSource());
+        requestRebuild();
+    }
+
+    /**
+     * 관리자 수정 등 수집 작업 외 변경을 위해 1시간마다 재구축
+     */
+    @Scheduled(fixedDelay = 60 * 60 * 1000, initialDelay = 60 * 60 * 1000)
+    public void scheduledRebuild() {
+        requestRebuild();
+    }
+
+    /**
+     * 자동완성 (접두사 일치, 가중치 순)
+     */
+    public List<AutocompleteSuggestionDto> suggest(String query, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return index.suggest(query, boundedLimit).stream()
+                .map(suggestion -> AutocompleteSuggestionDto.builder()
+                        .text(suggestion.text())
+                        .type(suggestion.type().name())
+                        .movieCd(suggestion.movieCd())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 재구축 요청 (이미 대기 중인 재구축이 있으면 합쳐서 한 번만 실행)
+     */
+    public void requestRebuild() {
+        if (rebuildQueued.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                rebuildQueued.set(false);
+                try {
+                    rebuild();
+                } catch (Exception e) {
+                    log.error("자동완성 색인 구축 실패: {}", e.getMessage(), e);
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    // ===== 내부 메서드 =====
+
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+
+        Map<String, Long> audiAcc = toLongMap(searchRepository.findMaxAudiAccRows());
+        Map<String, Long> ratingCount = toLongMap(searchRepository.findRatingCountRows());
+
+        List<Object[]> titleRows = searchRepository.findSuggestionTitleRows();
+        Map<String, Double> movieWeights = new HashMap<>(titleRows.size() * 2);
+        SuggestionIndex.Builder builder = SuggestionIndex.builder();
+
+        for (Object[] row : titleRows) {
+            String movieCd = (String) row[0];
+            double weight = movieWeight(audiAcc.getOrDefault(movieCd, 0L), ratingCount.getOrDefault(movieCd, 0L));
+            movieWeights.put(movieCd, weight);
+            builder.add(new Suggestion((String) row[1], Suggestion.Type.MOVIE, movieCd, weight));
+            builder.add(new Suggestion((String) row[2], Suggestion.Type.MOVIE, movieCd, weight));
+        }
+
+        addNames(builder, Suggestion.Type.ACTOR, searchRepository.findActorMovieRows(), movieWeights);
+        addNames(builder, Suggestion.Type.DIRECTOR, searchRepository.findDirectorMovieRows(), movieWeights);
+        addNames(builder, Suggestion.Type.TAG, searchRepository.findTagMovieRows(), movieWeights);
+
+        SuggestionIndex newIndex = builder.build();
+        index = newIndex;
+        log.info("자동완성 색인 구축 완료: {}개, {}ms", newIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 이름별로 관련 영화 가중치를 모아 후보 추가 (최고 가중치 + 영화 수 로그 보정)
+     */
+    private void addNames(SuggestionIndex.Builder builder, Suggestion.Type type,
+                          List<Object[]> rows, Map<String, Double> movieWeights) {
+        Map<String, double[]> stats = new HashMap<>(); // 이름 -> [최고 가중치, 영화 수]
+        for (Object[] row : rows) {
+            String name = (String) row[0];
+            if (name == null || name.isBlank()) {
+                continue;
+            }
+            double[] stat = stats.computeIfAbsent(name, key -> new double[2]);
+            String movieCd = (String) row[1];
+            if (movieCd != null) {
+                stat[0] = Math.max(stat[0], movieWeights.getOrDefault(movieCd, 0.0));
+                stat[1]++;
+            }
+        }
+        stats.forEach((name, stat) ->
+                builder.add(new Suggestion(name, type, null, stat[0] + Math.log1p(stat[1]))));
+    }
+
+    private static double movieWeight(long audiAcc, long ratingCount) {
+        return Math.log1p(audiAcc) + Math.log1p(ratingCount) * 2.0;
+    }
+
+    private static Map<String, Long> toLongMap(List<Object[]> rows) {
+        Map<String, Long> map = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            if (row[0] != null && row[1] != null) {
+                map.put((String) row[0], ((Number) row[1]).longValue());
+            }
+        }
+        return map;
+    }
+}
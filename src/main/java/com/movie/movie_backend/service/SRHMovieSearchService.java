@@ -1,8 +1,233 @@
 package com.movie.movie_backend.service;
 
+import com.movie.movie_backend.event.MovieChangedEvent;
+import com.movie.movie_backend.repository.SRHMovieSearchRepository;
+import com.movie.movie_backend.search.KoreanTokenizer;
+import com.movie.movie_backend.search.MovieDocument;
+import com.movie.movie_backend.search.MovieInvertedIndex;
+import com.movie.movie_backend.search.SearchHit;
+import com.movie.movie_backend.search.SearchPage;
+import com.movie.movie_backend.search.SearchTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 영화 검색 서비스 (인메모리 역색인)
+ *
+ * - 시작 준비 작업(WarmupScheduler)에서 MovieDetail 전체를 청크 단위로 읽어 인덱스 구축 (구축 전에는 isReady()=false → DB 검색)
+ * - MovieDetail/MovieList/Cast 저장 시 발행되는 MovieChangedEvent를 커밋 후 모아 두었다가 주기적으로 일괄 반영
+ * - 인덱스 쓰기(구축/반영/압축)는 모두 synchronized 메서드에서만 수행 → 변경분 유실 없음
+ * - 한글 음절 바이그램/초성/자모 토큰으로 부분 일치, 초성 검색, 입력 중인 글자 검색 지원 (KoreanTokenizer)
+ */
+@Slf4j
 @Service
+@RequiredArgsConstructor
 public class SRHMovieSearchService {
-    // 검색/필터/정렬 관련 메소드 자리
-} 
+
+    private static final int BUILD_CHUNK_SIZE = 1000;   // 인덱스 구축 시 한 번에 읽는 영화 수
+    private static final double COMPACT_THRESHOLD = 0.3; // 삭제 표시 비율이 이 이상이면 압축
+
+    private final SRHMovieSearchRepository searchRepository;
+
+    private final SearchTokenizer tokenizer = new KoreanTokenizer();
+    private final Set<String> pendingMovieCds = ConcurrentHashMap.newKeySet();
+    private volatile MovieInvertedIndex index = new MovieInvertedIndex(tokenizer);
+    private volatile boolean ready = false;
+
+    /**
+     * 영화 데이터 변경 이벤트 수신 (커밋 후, 실제 반영은 applyPendingChanges에서 일괄 처리)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMovieChanged(MovieChangedEvent event) {
+        pendingMovieCds.add(event.getMovieCd());
+    }
+
+    /**
+     * 검색 (관련도 + 평점 가중치 순)
+     */
+    public SearchPage search(String query, int page, int size) {
+        return index.search(query, page, size);
+    }
+
+    /**
+     * 인덱스 구축 전 DB 검색 (영화명 부분 일치, movieCd 순)
+     */
+    public SearchPage searchFromDb(String query, int page, int size) {
+        String keyword = escapeLike(query);
+        List<Object[]> rows = searchRepository.findDocumentRowsByMovieNmLike(keyword, PageRequest.of(Math.max(page, 0), size));
+        List<SearchHit> hits = toDocuments(rows).stream()
+                .map(document -> new SearchHit(document, 0.0))
+                .toList();
+        return new SearchPage(hits, searchRepository.countByMovieNmLike(keyword), page, size);
+    }
+
+    /**
+     * 제목(한글/영문) 검색 → 관련도 순 movieCd 목록 (LIKE '%검색어%' 대체)
+     */
+    public List<String> searchMovieCdsByTitle(String query, int limit) {
+        SearchPage result = index.search(query,
+                MovieInvertedIndex.FIELD_TITLE | MovieInvertedIndex.FIELD_TITLE_EN, 0, limit);
+        return result.hits().stream()
+                .map(SearchHit::document)
+                .map(MovieDocument::getMovieCd)
+                .toList();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int getIndexedCount() {
+        return index.size();
+    }
+
+    /**
+     * 전체 인덱스 재구축 후 교체 (구축 중에도 기존 인덱스로 검색 가능)
+     */
+    public synchronized void rebuildIndex() {
+        long start = System.currentTimeMillis();
+        log.info("=== 영화 검색 인덱스 구축 시작 ===");
+
+        MovieInvertedIndex newIndex = new MovieInvertedIndex(tokenizer);
+        String lastMovieCd = "";
+        int total = 0;
+
+        while (true) {
+            List<Object[]> rows = searchRepository.findDocumentRowsAfter(lastMovieCd, PageRequest.of(0, BUILD_CHUNK_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            for (MovieDocument document : toDocuments(rows)) {
+                newIndex.upsert(document);
+            }
+            total += rows.size();
+            lastMovieCd = (String) rows.get(rows.size() - 1)[0];
+            if (rows.size() < BUILD_CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        index = newIndex;
+        ready = true;
+        log.info("=== 영화 검색 인덱스 구축 완료: {}개, {}ms ===", total, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 쌓인 변경분을 인덱스에 일괄 반영 (1초 간격)
+     */
+    @Scheduled(fixedDelay = 1000)
+    public synchronized void applyPendingChanges() {
+        if (pendingMovieCds.isEmpty() || !ready) {
+            return;
+        }
+
+        List<String> movieCds = new ArrayList<>(pendingMovieCds);
+        pendingMovieCds.removeAll(movieCds);
+
+        try {
+            Set<String> found = new HashSet<>();
+            for (int from = 0; from < movieCds.size(); from += BUILD_CHUNK_SIZE) {
+                List<String> chunk = movieCds.subList(from, Math.min(from + BUILD_CHUNK_SIZE, movieCds.size()));
+                for (MovieDocument document : toDocuments(searchRepository.findDocumentRowsByMovieCdIn(chunk))) {
+                    index.upsert(document);
+                    found.add(document.getMovieCd());
+                }
+            }
+            // DB에 없는 영화는 삭제된 것으로 처리
+            for (String movieCd : movieCds) {
+                if (!found.contains(movieCd)) {
+                    index.remove(movieCd);
+                }
+            }
+            log.debug("검색 인덱스 변경분 반영: {}개", movieCds.size());
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도
+            pendingMovieCds.addAll(movieCds);
+            log.warn("검색 인덱스 변경분 반영 실패: {}", e.getMessage());
+        }
+
+        if (index.deletedRatio() >= COMPACT_THRESHOLD) {
+            index = index.compact();
+            log.info("검색 인덱스 압축 완료: {}개", index.size());
+        }
+    }
+
+    /**
+     * 태그 변경 등 엔티티 이벤트로 잡히지 않는 변경을 위해 매일 새벽 전체 재구축
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void scheduledRebuild() {
+        rebuildIndex();
+    }
+
+    // ===== 내부 메서드 =====
+
+    /**
+     * 영화 기본 정보 행 + 배우/태그/포스터를 IN 쿼리로 모아 문서로 변환
+     */
+    private List<MovieDocument> toDocuments(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> movieCds = rows.stream().map(row -> (String) row[0]).toList();
+        Map<String, List<String>> actors = groupByMovieCd(searchRepository.findActorNamesByMovieCdIn(movieCds));
+        Map<String, List<String>> tags = groupByMovieCd(searchRepository.findTagNamesByMovieCdIn(movieCds));
+        Map<String, List<String>> posters = groupByMovieCd(searchRepository.findPosterUrlsByMovieCdIn(movieCds));
+
+        List<MovieDocument> documents = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            String movieCd = (String) row[0];
+            List<String> poster = posters.get(movieCd);
+            documents.add(new MovieDocument(
+                    movieCd,
+                    (String) row[1],
+                    (String) row[2],
+                    (String) row[4],
+                    actors.getOrDefault(movieCd, List.of()),
+                    tags.getOrDefault(movieCd, List.of()),
+                    splitGenres((String) row[3]),
+                    poster != null && !poster.isEmpty() ? poster.get(0) : null,
+                    row[5] != null ? ((Number) row[5]).intValue() : 0,
+                    row[6] != null ? ((Number) row[6]).doubleValue() : 0.0
+            ));
+        }
+        return documents;
+    }
+
+    private Map<String, List<String>> groupByMovieCd(Collection<Object[]> rows) {
+        Map<String, List<String>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            grouped.computeIfAbsent((String) row[0], key -> new ArrayList<>()).add((String) row[1]);
+        }
+        return grouped;
+    }
+
+    private static String escapeLike(String keyword) {
+        return keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private List<String> splitGenres(String genreNm) {
+        if (genreNm == null || genreNm.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(genreNm.split(","))
+                .map(String::trim)
+                .filter(genre -> !genre.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,300 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.constant.MovieStatus;
+import com.movie.movie_backend.constant.TmdbListType;
+import com.movie.movie_backend.dto.MovieDetailDto;
+import com.movie.movie_backend.dto.MovieListDto;
+import com.movie.movie_backend.entity.TmdbMovieListItem;
+import com.movie.movie_backend.repository.PRDTmdbMovieListRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * TMDB 인기 영화/개봉예정작 목록 (요청 중에는 TMDB를 호출하지 않음)
+ *
+ * - 목록은 백그라운드에서 TMDB(+ KOBIS 매칭)로 만들어 tmdb_movie_list_item에 저장하고, 메모리 스냅샷은 참조만 교체
+ * - 조회는 항상 메모리 스냅샷으로 바로 응답, 스냅샷이 stale-after(기본 1시간)보다 오래됐거나 비어 있으면
+ *   백그라운드 갱신만 요청 (stale-while-revalidate, 같은 목록의 갱신은 한 번에 하나)
+ * - refresh-interval-ms(기본 30분)마다 정기 갱신, 시작 시에는 저장된 목록으로 스냅샷 복원
+ * - TMDB 호출이 실패하거나 빈 목록이면 기존 스냅샷과 저장된 목록을 그대로 유지 (요청에 의한 재시도는 1분에 한 번)
+ */
+@Slf4j
+@Service
+public class TmdbMovieListService {
+
+    public static final int POPULAR_SIZE = 50;
+    public static final int COMING_SOON_SIZE = 200;
+    private static final Duration RETRY_INTERVAL = Duration.ofMinutes(1);
+
+    private final TmdbPopularMovieService tmdbPopularMovieService;
+    private final KobisApiService kobisApiService;
+    private final PRDTmdbMovieListRepository listRepository;
+    private final TransactionTemplate writeTransaction;
+    private final Duration staleAfter;
+
+    private final Map<TmdbListType, ListSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Set<TmdbListType> refreshing = ConcurrentHashMap.newKeySet();
+    private final Map<TmdbListType, Long> lastAttemptedAt = new ConcurrentHashMap<>();
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tmdb-list-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TmdbMovieListService(TmdbPopularMovieService tmdbPopularMovieService, KobisApiService kobisApiService,
+                                PRDTmdbMovieListRepository listRepository, PlatformTransactionManager transactionManager,
+                                @Value("${tmdb-lists.stale-after:PT1H}") Duration staleAfter) {
+        this.tmdbPopularMovieService = tmdbPopularMovieService;
+        this.kobisApiService = kobisApiService;
+        this.listRepository = listRepository;
+        // 갱신 스레드/시작 준비 작업 어디서 불려도 목록 교체는 따로 커밋
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.staleAfter = staleAfter;
+    }
+
+    /**
+     * 목록 스냅샷 (오래됐거나 비어 있으면 백그라운드 갱신 요청 후 현재 값 그대로 반환)
+     */
+    public ListSnapshot getSnapshot(TmdbListType listType) {
+        ListSnapshot snapshot = snapshots.getOrDefault(listType, ListSnapshot.empty(listType));
+        long now = System.currentTimeMillis();
+        if (snapshot.isStale(staleAfter) && now - lastAttemptedAt.getOrDefault(listType, 0L) >= RETRY_INTERVAL.toMillis()) {
+            requestRefresh(listType);
+        }
+        return snapshot;
+    }
+
+    public Duration getStaleAfter() {
+        return staleAfter;
+    }
+
+    /**
+     * 인기 영화 상위 limit개 (최대 POPULAR_SIZE)
+     */
+    public List<MovieDetailDto> getPopularMovies(int limit) {
+        List<MovieDetailDto> movies = getSnapshot(TmdbListType.POPULAR).movies();
+        return movies.subList(0, Math.max(0, Math.min(limit, movies.size())));
+    }
+
+    /**
+     * 개봉예정작 목록 (MovieList 저장용 형태)
+     */
+    public List<MovieListDto> getComingSoonMovies() {
+        return getSnapshot(TmdbListType.COMING_SOON).movies().stream()
+                .map(TmdbMovieListService::toMovieListDto)
+                .toList();
+    }
+
+    /**
+     * 저장된 목록으로 스냅샷 복원 (시작 준비 작업에서 호출, 오래된 목록은 이어서 백그라운드 갱신)
+     */
+    public void loadPersisted() {
+        for (TmdbListType listType : TmdbListType.values()) {
+            List<TmdbMovieListItem> items = listRepository.findByListTypeOrderBySortOrderAsc(listType);
+            if (!items.isEmpty()) {
+                List<MovieDetailDto> movies = items.stream().map(TmdbMovieListService::toMovieDetailDto).toList();
+                snapshots.put(listType, new ListSnapshot(listType, movies, items.get(0).getRefreshedAt()));
+                log.info("TMDB {} 목록 복원: {}개 ({} 기준)", listType.getDisplayName(), movies.size(), items.get(0).getRefreshedAt());
+            }
+            getSnapshot(listType);
+        }
+    }
+
+    /**
+     * 정기 갱신 (30분 간격)
+     */
+    @Scheduled(fixedDelayString = "${tmdb-lists.refresh-interval-ms:1800000}",
+               initialDelayString = "${tmdb-lists.refresh-interval-ms:1800000}")
+    public void scheduledRefresh() {
+        for (TmdbListType listType : TmdbListType.values()) {
+            requestRefresh(listType);
+        }
+    }
+
+    /**
+     * 백그라운드 갱신 요청 (이미 갱신 중이면 무시)
+     */
+    public void requestRefresh(TmdbListType listType) {
+        if (refreshing.add(listType)) {
+            try {
+                refreshExecutor.execute(() -> {
+                    try {
+                        refresh(listType);
+                    } finally {
+                        refreshing.remove(listType);
+                    }
+                });
+            } catch (Exception e) {
+                refreshing.remove(listType);
+                log.warn("TMDB {} 목록 갱신 요청 실패: {}", listType.getDisplayName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 스냅샷이 오래됐을 때만 호출한 스레드에서 바로 갱신 (다른 스레드가 갱신 중이면 끝날 때까지 기다린 뒤 다시 판단)
+     */
+    public synchronized void refreshIfStale(TmdbListType listType) {
+        if (snapshots.getOrDefault(listType, ListSnapshot.empty(listType)).isStale(staleAfter)) {
+            refresh(listType);
+        }
+    }
+
+    /**
+     * TMDB에서 목록을 다시 만들어 저장하고 스냅샷 교체 (호출한 스레드에서 바로 실행, 목록끼리도 한 번에 하나, 새 목록 개수 반환)
+     */
+    public synchronized int refresh(TmdbListType listType) {
+        long start = System.currentTimeMillis();
+        lastAttemptedAt.put(listType, start);
+        List<MovieDetailDto> movies;
+        try {
+            movies = fetch(listType);
+        } catch (Exception e) {
+            log.warn("TMDB {} 목록 가져오기 실패, 기존 목록 유지: {}", listType.getDisplayName(), e.getMessage());
+            return 0;
+        }
+        if (movies.isEmpty()) {
+            log.warn("TMDB {} 목록이 비어 있어 기존 목록 유지", listType.getDisplayName());
+            return 0;
+        }
+
+        LocalDateTime refreshedAt = LocalDateTime.now();
+        try {
+            writeTransaction.executeWithoutResult(status -> {
+                listRepository.deleteByListType(listType);
+                List<TmdbMovieListItem> items = new ArrayList<>(movies.size());
+                for (int i = 0; i < movies.size(); i++) {
+                    items.add(toItem(listType, i, movies.get(i), refreshedAt));
+                }
+                listRepository.saveAll(items);
+            });
+        } catch (Exception e) {
+            // 저장에 실패해도 새 목록은 메모리에서 제공 (재시작하면 이전 저장본으로 복원)
+            log.warn("TMDB {} 목록 저장 실패: {}", listType.getDisplayName(), e.getMessage());
+        }
+        snapshots.put(listType, new ListSnapshot(listType, List.copyOf(movies), refreshedAt));
+        log.info("TMDB {} 목록 갱신: {}개 ({}ms)", listType.getDisplayName(), movies.size(),
+                System.currentTimeMillis() - start);
+        return movies.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    // ===== 내부 메서드 =====
+
+    private List<MovieDetailDto> fetch(TmdbListType listType) {
+        return switch (listType) {
+            case POPULAR -> tmdbPopularMovieService.getPopularMovies(POPULAR_SIZE);
+            case COMING_SOON -> kobisApiService.fetchComingSoonMoviesFromTmdb(COMING_SOON_SIZE).stream()
+                    .map(TmdbMovieListService::fromMovieListDto)
+                    .toList();
+        };
+    }
+
+    private static TmdbMovieListItem toItem(TmdbListType listType, int sortOrder, MovieDetailDto movie,
+                                            LocalDateTime refreshedAt) {
+        return TmdbMovieListItem.builder()
+                .listType(listType)
+                .sortOrder(sortOrder)
+                .movieCd(movie.getMovieCd())
+                .movieNm(movie.getMovieNm())
+                .movieNmEn(movie.getMovieNmEn())
+                .description(movie.getDescription())
+                .openDt(movie.getOpenDt())
+                .showTm(movie.getShowTm())
+                .genreNm(movie.getGenreNm())
+                .nationNm(movie.getNationNm())
+                .watchGradeNm(movie.getWatchGradeNm())
+                .companyNm(movie.getCompanyNm())
+                .posterUrl(movie.getPosterUrl())
+                .directorName(movie.getDirectorName())
+                .totalAudience(movie.getTotalAudience())
+                .reservationRate(movie.getReservationRate())
+                .averageRating(movie.getAverageRating())
+                .refreshedAt(refreshedAt)
+                .build();
+    }
+
+    private static MovieDetailDto toMovieDetailDto(TmdbMovieListItem item) {
+        return MovieDetailDto.builder()
+                .movieCd(item.getMovieCd())
+                .movieNm(item.getMovieNm())
+                .movieNmEn(item.getMovieNmEn())
+                .description(item.getDescription())
+                .openDt(item.getOpenDt())
+                .showTm(item.getShowTm())
+                .genreNm(item.getGenreNm())
+                .nationNm(item.getNationNm())
+                .watchGradeNm(item.getWatchGradeNm())
+                .companyNm(item.getCompanyNm())
+                .posterUrl(item.getPosterUrl())
+                .directorName(item.getDirectorName())
+                .totalAudience(item.getTotalAudience())
+                .reservationRate(item.getReservationRate())
+                .averageRating(item.getAverageRating())
+                .status(item.getListType() == TmdbListType.COMING_SOON ? MovieStatus.COMING_SOON.name() : null)
+                .build();
+    }
+
+    private static MovieDetailDto fromMovieListDto(MovieListDto movie) {
+        return MovieDetailDto.builder()
+                .movieCd(movie.getMovieCd())
+                .movieNm(movie.getMovieNm())
+                .movieNmEn(movie.getMovieNmEn())
+                .openDt(movie.getOpenDt())
+                .genreNm(movie.getGenreNm())
+                .nationNm(movie.getNationNm())
+                .watchGradeNm(movie.getWatchGradeNm())
+                .posterUrl(movie.getPosterUrl())
+                .status(MovieStatus.COMING_SOON.name())
+                .build();
+    }
+
+    private static MovieListDto toMovieListDto(MovieDetailDto movie) {
+        return MovieListDto.builder()
+                .movieCd(movie.getMovieCd())
+                .movieNm(movie.getMovieNm())
+                .movieNmEn(movie.getMovieNmEn())
+                .openDt(movie.getOpenDt())
+                .genreNm(movie.getGenreNm())
+                .nationNm(movie.getNationNm())
+                .watchGradeNm(movie.getWatchGradeNm())
+                .posterUrl(movie.getPosterUrl())
+                .status(MovieStatus.COMING_SOON)
+                .build();
+    }
+
+    /**
+     * 목록 종류별 불변 스냅샷 (refreshedAt이 null이면 아직 한 번도 만들지 못한 목록)
+     */
+    public record ListSnapshot(TmdbListType listType, List<MovieDetailDto> movies, LocalDateTime refreshedAt) {
+
+        static ListSnapshot empty(TmdbListType listType) {
+            return new ListSnapshot(listType, List.of(), null);
+        }
+
+        public boolean isStale(Duration staleAfter) {
+            return refreshedAt == null || refreshedAt.plus(staleAfter).isBefore(LocalDateTime.now());
+        }
+    }
+}
@@ -1,43 +1,35 @@
 package com.movie.movie_backend.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movie.movie_backend.client.KobisClient;
+import com.movie.movie_backend.client.TmdbClient;
+import com.movie.movie_backend.client.TmdbMovieDetailResponse;
+import com.movie.movie_backend.client.TmdbMovieSearchResponse;
 import com.movie.movie_backend.dto.MovieDetailDto;
 import com.movie.movie_backend.dto.MovieListDto;
 import com.movie.movie_backend.entity.MovieDetail;
+import com.movie.movie_backend.ingestion.IngestionEngine;
+import com.movie.movie_backend.ingestion.IngestionProvider;
 import com.movie.movie_backend.mapper.MovieDetailMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TmdbPopularMovieService {
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final TmdbClient tmdbClient;
+    private final KobisClient kobisClient;
     private final MovieDetailMapper movieDetailMapper;
     private final KobisApiService kobisApiService;
-
-    @Value("${tmdb.api.key}")
-    private String tmdbApiKey;
-
-    @Value("${kobis.api.key}")
-    private String kobisApiKey;
-
-    private static final String TMDB_POPULAR_URL = "https://api.themoviedb.org/3/movie/popular";
-    private static final String TMDB_SEARCH_URL = "https://api.themoviedb.org/3/search/movie";
-    private static final String TMDB_MOVIE_DETAIL_URL = "https://api.themoviedb.org/3/movie";
+    private final IngestionEngine ingestionEngine;
 
     /**
      * TMDB에서 인기 영화 100개를 MovieListDto 형태로 가져오기
@@ -46,36 +38,18 @@ public class TmdbPopularMovieService {
         List<MovieListDto> popularMovies = new ArrayList<>();
         
         try {
-            // TMDB Popular API 호출 (한 번에 최대 20개씩, 5페이지까지)
-            int pages = (int) Math.ceil((double) limit / 20);
-            
-            for (int page = 1; page <= pages && popularMovies.size() < limit; page++) {
-                String url = String.format("%s?api_key=%s&language=ko-KR&page=%d", 
-                    TMDB_POPULAR_URL, tmdbApiKey, page);
-                
-                log.info("TMDB Popular API 호출: page={}", page);
-                String response = restTemplate.getForObject(url, String.class);
-                JsonNode root = objectMapper.readTree(response);
-                JsonNode results = root.get("results");
+            for (TmdbMovieSearchResponse.Movie movie : fetchPopularMovieResults(limit)) {
+                if (popularMovies.size() >= limit) break;
                 
-                if (results != null && results.isArray()) {
-                    for (JsonNode movie : results) {
-                        if (popularMovies.size() >= limit) break;
-                        
-                        try {
-                            MovieListDto movieDto = convertTmdbToMovieListDto(movie);
-                            if (movieDto != null) {
-                                popularMovies.add(movieDto);
-                                log.info("인기 영화 추가: {} ({})", movieDto.getMovieNm(), movieDto.getMovieCd());
-                            }
-                        } catch (Exception e) {
-                            log.warn("영화 변환 실패: {}", movie.get("title"), e);
-                        }
+                try {
+                    MovieListDto movieDto = convertTmdbToMovieListDto(movie);
+                    if (movieDto != null) {
+                        popularMovies.add(movieDto);
+                        log.info("인기 영화 추가: {} ({})", movieDto.getMovieNm(), movieDto.getMovieCd());
                     }
+                } catch (Exception e) {
+                    log.warn("영화 변환 실패: {}", movie.title(), e);
                 }
-                
-                // API 호출 제한 고려
-                Thread.sleep(200);
             }
             
             log.info("인기 영화 {}개 가져오기 완료", popularMovies.size());
@@ -87,20 +61,50 @@ public class TmdbPopularMovieService {
         }
     }
 
+    /**
+     * TMDB Popular 결과 목록 (한 페이지 20개, 필요한 페이지를 동시에 요청하고 페이지 순서대로 합침)
+     * 요청마다 TMDB 호출 한도 토큰을 얻은 뒤 보내고, 실패한 페이지는 건너뜀
+     */
+    private List<TmdbMovieSearchResponse.Movie> fetchPopularMovieResults(int limit) {
+        int pages = (int) Math.ceil((double) limit / 20);
+        log.info("TMDB Popular API 호출: {}페이지", pages);
+        List<CompletableFuture<TmdbMovieSearchResponse>> responses = IntStream.rangeClosed(1, pages)
+                .mapToObj(this::requestPopularPage)
+                .toList();
+        
+        List<TmdbMovieSearchResponse.Movie> results = new ArrayList<>();
+        for (int i = 0; i < responses.size(); i++) {
+            try {
+                results.addAll(responses.get(i).join().resultsOrEmpty());
+            } catch (Exception e) {
+                log.warn("TMDB Popular {}페이지 가져오기 실패 (건너뜀): {}", i + 1, e.getMessage());
+            }
+        }
+        return results;
+    }
+
+    private CompletableFuture<TmdbMovieSearchResponse> requestPopularPage(int page) {
+        try {
+            return ingestionEngine.call(IngestionProvider.TMDB, () -> tmdbClient.popularMoviesAsync(page, "ko-KR"));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * TMDB 영화 데이터를 MovieListDto로 변환
      */
-    private MovieListDto convertTmdbToMovieListDto(JsonNode tmdbMovie) {
+    private MovieListDto convertTmdbToMovieListDto(TmdbMovieSearchResponse.Movie tmdbMovie) {
         try {
-            String title = tmdbMovie.get("title").asText();
-            String originalTitle = tmdbMovie.has("original_title") ? tmdbMovie.get("original_title").asText() : title;
-            String releaseDate = tmdbMovie.has("release_date") ? tmdbMovie.get("release_date").asText() : "";
+            String title = tmdbMovie.title();
+            String originalTitle = tmdbMovie.originalTitle() != null ? tmdbMovie.originalTitle() : title;
+            String releaseDate = tmdbMovie.releaseDate() != null ? tmdbMovie.releaseDate() : "";
             
             // KOBIS에서 한국어 정보 가져오기 시도
             MovieDetail kobisMovie = findKobisMovieByTitle(title, originalTitle, releaseDate);
             
             // KOBIS에서 찾으면 KOBIS movieCd 사용, 없으면 TMDB ID 사용
-            String movieCd = kobisMovie != null ? kobisMovie.getMovieCd() : "TMDB_" + tmdbMovie.get("id").asText();
+            String movieCd = kobisMovie != null ? kobisMovie.getMovieCd() : "TMDB_" + tmdbMovie.id();
             String movieNm = kobisMovie != null ? kobisMovie.getMovieNm() : title;
             String genreNm = kobisMovie != null ? kobisMovie.getGenreNm() : "";
             String nationNm = kobisMovie != null ? kobisMovie.getNationNm() : "";
@@ -127,36 +131,18 @@ public class TmdbPopularMovieService {
         List<MovieDetailDto> popularMovies = new ArrayList<>();
         
         try {
-            // TMDB Popular API 호출 (한 번에 최대 20개씩, 5페이지까지)
-            int pages = (int) Math.ceil((double) limit / 20);
-            
-            for (int page = 1; page <= pages && popularMovies.size() < limit; page++) {
-                String url = String.format("%s?api_key=%s&language=ko-KR&page=%d", 
-                    TMDB_POPULAR_URL, tmdbApiKey, page);
-                
-                log.info("TMDB Popular API 호출: page={}", page);
-                String response = restTemplate.getForObject(url, String.class);
-                JsonNode root = objectMapper.readTree(response);
-                JsonNode results = root.get("results");
+            for (TmdbMovieSearchResponse.Movie movie : fetchPopularMovieResults(limit)) {
+                if (popularMovies.size() >= limit) break;
                 
-                if (results != null && results.isArray()) {
-                    for (JsonNode movie : results) {
-                        if (popularMovies.size() >= limit) break;
-                        
-                        try {
-                            MovieDetailDto movieDto = convertTmdbToMovieDetailDto(movie);
-                            if (movieDto != null) {
-                                popularMovies.add(movieDto);
-                                log.info("인기 영화 추가: {} ({})", movieDto.getMovieNm(), movieDto.getMovieNmEn());
-                            }
-                        } catch (Exception e) {
-                            log.warn("영화 변환 실패: {}", movie.get("title"), e);
-                        }
+                try {
+                    MovieDetailDto movieDto = convertTmdbToMovieDetailDto(movie);
+                    if (movieDto != null) {
+                        popularMovies.add(movieDto);
+                        log.info("인기 영화 추가: {} ({})", movieDto.getMovieNm(), movieDto.getMovieNmEn());
                     }
+                } catch (Exception e) {
+                    log.warn("영화 변환 실패: {}", movie.title(), e);
                 }
-                
-                // API 호출 제한 고려
-                Thread.sleep(200);
             }
             
             log.info("인기 영화 {}개 가져오기 완료", popularMovies.size());
@@ -171,61 +157,28 @@ public class TmdbPopularMovieService {
     /**
      * TMDB 영화 데이터를 MovieDetailDto로 변환
      */
-    private MovieDetailDto convertTmdbToMovieDetailDto(JsonNode tmdbMovie) {
+    private MovieDetailDto convertTmdbToMovieDetailDto(TmdbMovieSearchResponse.Movie tmdbMovie) {
         try {
-            String title = tmdbMovie.get("title").asText();
-            String originalTitle = tmdbMovie.has("original_title") ? tmdbMovie.get("original_title").asText() : title;
-            String overview = tmdbMovie.has("overview") ? tmdbMovie.get("overview").asText() : "";
-            String releaseDate = tmdbMovie.has("release_date") ? tmdbMovie.get("release_date").asText() : "";
-            double popularity = tmdbMovie.has("popularity") ? tmdbMovie.get("popularity").asDouble() : 0.0;
-            double voteAverage = tmdbMovie.has("vote_average") ? tmdbMovie.get("vote_average").asDouble() : 0.0;
-            int voteCount = tmdbMovie.has("vote_count") ? tmdbMovie.get("vote_count").asInt() : 0;
+            String title = tmdbMovie.title();
+            String originalTitle = tmdbMovie.originalTitle() != null ? tmdbMovie.originalTitle() : title;
+            String overview = tmdbMovie.overview() != null ? tmdbMovie.overview() : "";
+            String releaseDate = tmdbMovie.releaseDate() != null ? tmdbMovie.releaseDate() : "";
+            double voteAverage = tmdbMovie.voteAverage();
             
             // 포스터 URL
-            String posterPath = tmdbMovie.has("poster_path") ? tmdbMovie.get("poster_path").asText() : null;
-            String posterUrl = null;
-            if (posterPath != null && !posterPath.isEmpty()) {
-                posterUrl = "https://image.tmdb.org/t/p/w500" + posterPath;
-            }
+            String posterUrl = TmdbClient.posterUrl(tmdbMovie.posterPath());
             
             // KOBIS에서 한국어 정보 가져오기 시도
             MovieDetail kobisMovie = findKobisMovieByTitle(title, originalTitle, releaseDate);
             
-            // 장르 정보 - 기존 장르에 추가
+            // 장르 정보 - 목록 응답에는 장르명이 없으므로 KOBIS 장르 사용
             String genreNm = "";
-            if (tmdbMovie.has("genres") && tmdbMovie.get("genres").isArray()) {
-                JsonNode genres = tmdbMovie.get("genres");
-                List<String> genreNames = new ArrayList<>();
-                for (JsonNode genre : genres) {
-                    genreNames.add(genre.get("name").asText());
-                }
-                
-                // 기존 장르가 있으면 추가, 없으면 새로 생성
-                if (kobisMovie != null && kobisMovie.getGenreNm() != null && !kobisMovie.getGenreNm().isEmpty()) {
-                    // 기존 장르와 새로운 장르를 합침
-                    Set<String> allGenres = new HashSet<>();
-                    
-                    // 기존 장르 추가
-                    String[] existingGenres = kobisMovie.getGenreNm().split(",");
-                    for (String existing : existingGenres) {
-                        allGenres.add(existing.trim());
-                    }
-                    
-                    // 새로운 장르 추가
-                    allGenres.addAll(genreNames);
-                    
-                    genreNm = String.join(",", allGenres);
-                } else {
-                    // 기존 장르가 없으면 새로운 장르만 사용
-                    genreNm = String.join(",", genreNames);
-                }
-            } else if (kobisMovie != null && kobisMovie.getGenreNm() != null) {
-                // TMDB에 장르가 없으면 기존 장르 사용
+            if (kobisMovie != null && kobisMovie.getGenreNm() != null) {
                 genreNm = kobisMovie.getGenreNm();
             }
             
             return MovieDetailDto.builder()
-                    .movieCd(kobisMovie != null ? kobisMovie.getMovieCd() : "TMDB_" + tmdbMovie.get("id").asText())
+                    .movieCd(kobisMovie != null ? kobisMovie.getMovieCd() : "TMDB_" + tmdbMovie.id())
                     .movieNm(kobisMovie != null ? kobisMovie.getMovieNm() : title)
                     .movieNmEn(originalTitle)
                     .description(overview)
@@ -280,12 +233,8 @@ public class TmdbPopularMovieService {
     private MovieDetail searchKobisMovieByTitle(String title, String releaseDate) {
         try {
             // KOBIS 영화목록 API에서 검색
-            String query = URLEncoder.encode(title, StandardCharsets.UTF_8);
-            String url = String.format("http://www.kobis.or.kr/kobisopenapi/webservice/rest/movie/searchMovieList.json?key=%s&movieNm=%s", 
-                kobisApiKey, query);
-            
-            String response = restTemplate.getForObject(url, String.class);
-            JsonNode root = objectMapper.readTree(response);
+            JsonNode root = ingestionEngine.call(IngestionProvider.KOBIS,
+                    () -> kobisClient.searchMovieList(title, null, null, 10));
             JsonNode movieListResult = root.get("movieListResult");
             
             if (movieListResult != null && movieListResult.get("movieList") != null) {
@@ -320,14 +269,9 @@ public class TmdbPopularMovieService {
      */
     public MovieDetailDto getMovieDetailFromTmdb(String tmdbId) {
         try {
-            String url = String.format("%s/%s?api_key=%s&language=ko-KR&append_to_response=credits", 
-                TMDB_MOVIE_DETAIL_URL, tmdbId, tmdbApiKey);
-            
             log.info("TMDB 영화 상세정보 API 호출: movieId={}", tmdbId);
-            String response = restTemplate.getForObject(url, String.class);
-            JsonNode root = objectMapper.readTree(response);
-            
-            return convertTmdbDetailToMovieDetailDto(root);
+            return convertTmdbDetailToMovieDetailDto(ingestionEngine.call(IngestionProvider.TMDB,
+                    () -> tmdbClient.movieDetail(Integer.parseInt(tmdbId), "ko-KR")));
             
         } catch (Exception e) {
             log.warn("TMDB 영화 상세정보 가져오기 실패: movieId={}, error={}", tmdbId, e.getMessage());
@@ -338,72 +282,35 @@ public class TmdbPopularMovieService {
     /**
      * TMDB 상세정보를 MovieDetailDto로 변환
      */
-    private MovieDetailDto convertTmdbDetailToMovieDetailDto(JsonNode tmdbMovie) {
+    private MovieDetailDto convertTmdbDetailToMovieDetailDto(TmdbMovieDetailResponse tmdbMovie) {
         try {
-            String title = tmdbMovie.get("title").asText();
-            String originalTitle = tmdbMovie.has("original_title") ? tmdbMovie.get("original_title").asText() : title;
-            String overview = tmdbMovie.has("overview") ? tmdbMovie.get("overview").asText() : "";
-            String releaseDate = tmdbMovie.has("release_date") ? tmdbMovie.get("release_date").asText() : "";
-            int runtime = tmdbMovie.has("runtime") ? tmdbMovie.get("runtime").asInt() : 0;
-            double voteAverage = tmdbMovie.has("vote_average") ? tmdbMovie.get("vote_average").asDouble() : 0.0;
-            int voteCount = tmdbMovie.has("vote_count") ? tmdbMovie.get("vote_count").asInt() : 0;
+            String title = tmdbMovie.title();
+            String originalTitle = tmdbMovie.originalTitle() != null ? tmdbMovie.originalTitle() : title;
+            String overview = tmdbMovie.overview() != null ? tmdbMovie.overview() : "";
+            String releaseDate = tmdbMovie.releaseDate() != null ? tmdbMovie.releaseDate() : "";
+            int runtime = tmdbMovie.runtime() != null ? tmdbMovie.runtime() : 0;
+            double voteAverage = tmdbMovie.voteAverage();
             
             // 포스터 URL
-            String posterPath = tmdbMovie.has("poster_path") ? tmdbMovie.get("poster_path").asText() : null;
-            String posterUrl = null;
-            if (posterPath != null && !posterPath.isEmpty()) {
-                posterUrl = "https://image.tmdb.org/t/p/w500" + posterPath;
-            }
+            String posterUrl = TmdbClient.posterUrl(tmdbMovie.posterPath());
             
-            // 장르 정보 - TMDB에서 모든 장르 가져오기
-            String genreNm = "";
-            if (tmdbMovie.has("genres") && tmdbMovie.get("genres").isArray()) {
-                JsonNode genres = tmdbMovie.get("genres");
-                List<String> genreNames = new ArrayList<>();
-                for (JsonNode genre : genres) {
-                    genreNames.add(genre.get("name").asText());
-                }
-                genreNm = String.join(",", genreNames); // 모든 장르를 쉼표로 구분
-            }
+            // 장르 정보 - TMDB에서 모든 장르 가져오기 (쉼표로 구분)
+            String genreNm = joinNames(tmdbMovie.genres());
             
             // 국가 정보
-            String nationNm = "";
-            if (tmdbMovie.has("production_countries") && tmdbMovie.get("production_countries").isArray()) {
-                JsonNode countries = tmdbMovie.get("production_countries");
-                List<String> countryNames = new ArrayList<>();
-                for (JsonNode country : countries) {
-                    countryNames.add(country.get("name").asText());
-                }
-                nationNm = String.join(",", countryNames);
-            }
+            String nationNm = joinNames(tmdbMovie.productionCountries());
             
-            // 제작사 정보
+            // 제작사 정보 (첫 번째 제작사)
             String companyNm = "";
-            if (tmdbMovie.has("production_companies") && tmdbMovie.get("production_companies").isArray()) {
-                JsonNode companies = tmdbMovie.get("production_companies");
-                if (companies.size() > 0) {
-                    companyNm = companies.get(0).get("name").asText();
-                }
+            if (tmdbMovie.productionCompanies() != null && !tmdbMovie.productionCompanies().isEmpty()) {
+                companyNm = tmdbMovie.productionCompanies().get(0).name();
             }
             
             // 감독 정보 (credits에서)
-            String directorName = "";
-            if (tmdbMovie.has("credits")) {
-                JsonNode credits = tmdbMovie.get("credits");
-                if (credits.has("crew") && credits.get("crew").isArray()) {
-                    JsonNode crew = credits.get("crew");
-                    for (JsonNode member : crew) {
-                        String job = member.get("job").asText();
-                        if ("Director".equals(job)) {
-                            directorName = member.get("name").asText();
-                            break;
-                        }
-                    }
-                }
-            }
+            String directorName = tmdbMovie.directorName() != null ? tmdbMovie.directorName() : "";
             
             return MovieDetailDto.builder()
-                    .movieCd("TMDB_" + tmdbMovie.get("id").asText())
+                    .movieCd("TMDB_" + tmdbMovie.id())
                     .movieNm(title)
                     .movieNmEn(originalTitle)
                     .description(overview)
@@ -426,7 +333,14 @@ public class TmdbPopularMovieService {
         }
     }
 
-    public String getTmdbApiKey() {
-        return tmdbApiKey;
+    private String joinNames(List<TmdbMovieDetailResponse.Named> values) {
+        if (values == null) {
+            return "";
+        }
+        List<String> names = new ArrayList<>();
+        for (TmdbMovieDetailResponse.Named value : values) {
+            names.add(value.name());
+        }
+        return String.join(",", names);
     }
 } 
@@ -1,19 +1,20 @@
 package com.movie.movie_backend.service;
 
+import com.movie.movie_backend.client.TmdbClient;
+import com.movie.movie_backend.client.TmdbMovieSearchResponse;
 import com.movie.movie_backend.entity.MovieList;
+import com.movie.movie_backend.ingestion.IngestionEngine;
+import com.movie.movie_backend.ingestion.IngestionProvider;
+import com.movie.movie_backend.ingestion.MovieSearchTarget;
 import com.movie.movie_backend.repository.PRDMovieListRepository;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -21,76 +22,49 @@ import java.util.List;
 public class TmdbPosterBatchService {
 
     private final PRDMovieListRepository movieListRepository;
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final TmdbClient tmdbClient;
+    private final IngestionEngine ingestionEngine;
 
-    @Value("${tmdb.api.key}")
-    private String tmdbApiKey;
-
-    private static final String TMDB_SEARCH_URL = "https://api.themoviedb.org/3/search/movie";
-
-    @Transactional
+    /**
+     * 포스터가 없는 영화의 포스터를 TMDB에서 찾아 저장 (수집 엔진으로 병렬 조회, 청크 단위 커밋)
+     */
     public void updatePosterUrlsForAllMovies() {
-        List<MovieList> movies = movieListRepository.findAll();
-        int updated = 0, failed = 0;
+        List<MovieSearchTarget> targets = movieListRepository.findWithoutPosterUrl().stream()
+                .map(MovieSearchTarget::from)
+                .toList();
 
-        for (MovieList movie : movies) {
-            if (movie.getPosterUrl() != null && !movie.getPosterUrl().isEmpty()) continue;
-
-            String posterUrl = fetchPosterUrlFromTmdb(movie);
-            if (posterUrl != null) {
-                movie.setPosterUrl(posterUrl);
-                movieListRepository.save(movie);
-                updated++;
-                log.info("포스터 매칭 성공: {} ({}) -> {}", movie.getMovieNm(), movie.getOpenDt(), posterUrl);
-            } else {
-                failed++;
-                log.warn("포스터 매칭 실패: {} ({})", movie.getMovieNm(), movie.getOpenDt());
+        ingestionEngine.run("TMDB 포스터 매칭", targets, this::fetchPosterUrlFromTmdb, chunk -> {
+            Map<String, MovieList> movies = movieListRepository.findAllById(
+                            chunk.stream().map(fetched -> fetched.item().movieCd()).toList()).stream()
+                    .collect(Collectors.toMap(MovieList::getMovieCd, Function.identity()));
+            for (IngestionEngine.FetchedItem<MovieSearchTarget, String> fetched : chunk) {
+                MovieList movie = movies.get(fetched.item().movieCd());
+                if (movie != null) {
+                    movie.setPosterUrl(fetched.result());
+                    log.info("포스터 매칭 성공: {} ({}) -> {}", movie.getMovieNm(), movie.getOpenDt(), fetched.result());
+                }
             }
-        }
-        log.info("TMDB 포스터 자동 매칭 완료: 성공 {}건, 실패 {}건", updated, failed);
+        });
     }
 
-    private String fetchPosterUrlFromTmdb(MovieList movie) {
-        try {
-            String query = URLEncoder.encode(movie.getMovieNm(), StandardCharsets.UTF_8);
-            String year = (movie.getOpenDt() != null) ? String.valueOf(movie.getOpenDt().getYear()) : null;
-            String url = TMDB_SEARCH_URL +
-                    "?api_key=" + tmdbApiKey +
-                    "&query=" + query +
-                    (year != null ? "&year=" + year : "") +
-                    "&language=ko-KR";
-
-            String response = restTemplate.getForObject(url, String.class);
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode results = root.get("results");
-            if (results != null && results.size() > 0) {
-                String posterPath = results.get(0).get("poster_path").asText();
-                if (posterPath != null && !posterPath.isEmpty()) {
-                    return "https://image.tmdb.org/t/p/w500" + posterPath;
-                }
-            }
+    /**
+     * 한글 제목으로 검색하고, 없으면 영문 제목으로 다시 검색 (못 찾으면 null, 호출 실패는 예외)
+     */
+    private String fetchPosterUrlFromTmdb(MovieSearchTarget movie) throws Exception {
+        String posterUrl = searchPosterUrl(movie.movieNm(), movie.openYear());
+        if (posterUrl == null && movie.hasEnglishTitle()) {
             // 2차 시도: 영문 제목으로 검색
-            if (movie.getMovieNmEn() != null && !movie.getMovieNmEn().isEmpty()) {
-                query = URLEncoder.encode(movie.getMovieNmEn(), StandardCharsets.UTF_8);
-                url = TMDB_SEARCH_URL +
-                        "?api_key=" + tmdbApiKey +
-                        "&query=" + query +
-                        (year != null ? "&year=" + year : "") +
-                        "&language=ko-KR";
-                response = restTemplate.getForObject(url, String.class);
-                root = objectMapper.readTree(response);
-                results = root.get("results");
-                if (results != null && results.size() > 0) {
-                    String posterPath = results.get(0).get("poster_path").asText();
-                    if (posterPath != null && !posterPath.isEmpty()) {
-                        return "https://image.tmdb.org/t/p/w500" + posterPath;
-                    }
-                }
-            }
-        } catch (Exception e) {
-            log.warn("TMDB 포스터 검색 오류: {} ({}) - {}", movie.getMovieNm(), movie.getOpenDt(), e.getMessage());
+            posterUrl = searchPosterUrl(movie.movieNmEn(), movie.openYear());
         }
-        return null;
+        if (posterUrl == null) {
+            log.warn("포스터 매칭 실패: {} ({})", movie.movieNm(), movie.openDt());
+        }
+        return posterUrl;
+    }
+
+    private String searchPosterUrl(String title, String year) {
+        TmdbMovieSearchResponse.Movie firstResult = ingestionEngine.call(IngestionProvider.TMDB,
+                () -> tmdbClient.searchMovie(title, year, "ko-KR")).firstResult();
+        return firstResult != null ? TmdbClient.posterUrl(firstResult.posterPath()) : null;
     }
-} 
+}
@@ -1,5 +1,7 @@
 package com.movie.movie_backend.service;
 
+import com.movie.movie_backend.client.TmdbClient;
+import com.movie.movie_backend.client.TmdbMovieSearchResponse;
 import com.movie.movie_backend.entity.MovieDetail;
 import com.movie.movie_backend.entity.Rating;
 import com.movie.movie_backend.entity.User;
@@ -7,21 +9,22 @@ import com.movie.movie_backend.repository.PRDMovieRepository;
 import com.movie.movie_backend.repository.REVRatingRepository;
 import com.movie.movie_backend.repository.USRUserRepository;
 import com.movie.movie_backend.repository.PRDMovieListRepository;
+import com.movie.movie_backend.constant.MovieStatus;
 import com.movie.movie_backend.constant.UserRole;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movie.movie_backend.ingestion.IngestionEngine;
+import com.movie.movie_backend.ingestion.IngestionProvider;
+import com.movie.movie_backend.ingestion.MovieSearchTarget;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
-import jakarta.annotation.PostConstruct;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import com.movie.movie_backend.mapper.TopRatedMovieMapper;
 import com.movie.movie_backend.dto.TopRatedMovieDto;
 
@@ -30,60 +33,37 @@ import com.movie.movie_backend.dto.TopRatedMovieDto;
 @RequiredArgsConstructor
 public class TmdbRatingService {
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final TmdbClient tmdbClient;
     private final PRDMovieRepository movieRepository;
     private final REVRatingRepository ratingRepository;
     private final USRUserRepository userRepository;
     private final PRDMovieListRepository movieListRepository;
     private final TopRatedMovieMapper topRatedMovieMapper;
-
-    @Value("${tmdb.api.key}")
-    private String tmdbApiKey;
-
-    @Value("${tmdb.api.base-url}")
-    private String tmdbBaseUrl;
-
-    /**
-     * Spring Boot 시작 시 자동으로 TMDB 평점 가져오기
-     */
-    // @PostConstruct  // 자동 실행 비활성화 (필요시 수동 호출)
-    public void initializeRatings() {
-        log.info("Spring Boot 시작 - TMDB 평점 자동 가져오기 시작");
-        
-        // 애플리케이션 시작 후 10초 대기 (다른 서비스들이 초기화될 시간)
-        try {
-            Thread.sleep(10000); // 10초 대기
-            log.info("TMDB 평점 자동 가져오기 시작");
-            fetchAndSaveTmdbRatings();
-        } catch (Exception e) {
-            log.error("Spring Boot 시작 시 TMDB 평점 가져오기 실패", e);
-        }
-    }
+    private final REVRatingAggregateService ratingAggregateService;
+    private final REVRatingLeaderboardService ratingLeaderboardService;
+    private final IngestionEngine ingestionEngine;
 
     /**
-     * TMDB에서 영화 평점을 가져와서 Rating 테이블에 저장
+     * TMDB에서 영화 평점을 가져와서 Rating 테이블에 저장 (수집 엔진으로 병렬 조회, 청크 단위 커밋)
      */
-    @Transactional
     public void fetchAndSaveTmdbRatings() {
         log.info("TMDB 평점 가져오기 시작");
         
         try {
             // 모든 MovieDetail 조회
-            List<MovieDetail> movies = movieRepository.findAll();
-            log.info("총 {}개의 영화에서 TMDB 평점을 가져옵니다.", movies.size());
+            List<MovieSearchTarget> targets = movieRepository.findAll().stream()
+                    .map(movie -> new MovieSearchTarget(movie.getMovieCd(), movie.getMovieNm(), movie.getMovieNmEn(), movie.getOpenDt()))
+                    .toList();
+            log.info("총 {}개의 영화에서 TMDB 평점을 가져옵니다.", targets.size());
             
             // 임시 사용자 생성 (TMDB 평점용)
             User tmdbUser = getOrCreateTmdbUser();
             
-            for (MovieDetail movie : movies) {
-                try {
-                    fetchAndSaveMovieRating(movie, tmdbUser);
-                    Thread.sleep(250); // TMDB API 호출 제한 방지 (초당 4회)
-                } catch (Exception e) {
-                    log.warn("영화 {}의 TMDB 평점 가져오기 실패: {}", movie.getMovieNm(), e.getMessage());
+            ingestionEngine.run("TMDB 평점", targets, this::fetchTmdbVote, chunk -> {
+                for (IngestionEngine.FetchedItem<MovieSearchTarget, TmdbVote> fetched : chunk) {
+                    saveTmdbRating(movieRepository.getReferenceById(fetched.item().movieCd()), tmdbUser, fetched.result());
                 }
-            }
+            });
             
             log.info("TMDB 평점 가져오기 완료");
             
@@ -93,72 +73,84 @@ public class TmdbRatingService {
     }
 
     /**
-     * 특정 영화의 TMDB 평점을 가져와서 저장
+     * 특정 영화의 TMDB 평점을 가져와서 저장 (조회는 트랜잭션 밖에서, 저장은 수집 엔진의 별도 트랜잭션으로)
      */
-    @Transactional
     public void fetchAndSaveMovieRating(MovieDetail movie, User tmdbUser) {
-        try {
-            // TMDB에서 영화 검색
-            String searchUrl = String.format("%s/search/movie?api_key=%s&query=%s&language=ko-KR",
-                    tmdbBaseUrl, tmdbApiKey, movie.getMovieNm());
+        MovieSearchTarget target = new MovieSearchTarget(movie.getMovieCd(), movie.getMovieNm(), movie.getMovieNmEn(), movie.getOpenDt());
+        ingestionEngine.run("TMDB 평점 (" + movie.getMovieCd() + ")", List.of(target), this::fetchTmdbVote, chunk -> {
+            for (IngestionEngine.FetchedItem<MovieSearchTarget, TmdbVote> fetched : chunk) {
+                saveTmdbRating(movieRepository.getReferenceById(fetched.item().movieCd()), tmdbUser, fetched.result());
+            }
+        });
+    }
+
+    /**
+     * TMDB 검색 첫 번째 결과의 평점 (결과가 없거나 투표수가 0이면 null, 호출 실패는 예외)
+     */
+    private TmdbVote fetchTmdbVote(MovieSearchTarget movie) throws Exception {
+        // TMDB에서 영화 검색 (첫 번째 검색 결과 = 가장 관련성 높은 결과)
+        TmdbMovieSearchResponse.Movie firstResult = ingestionEngine.call(IngestionProvider.TMDB,
+                () -> tmdbClient.searchMovie(movie.movieNm(), null, "ko-KR")).firstResult();
+        
+        if (firstResult == null) {
+            log.info("영화 {}을 TMDB에서 찾을 수 없습니다.", movie.movieNm());
+            return null;
+        }
+        
+        double voteAverage = firstResult.voteAverage();
+        int voteCount = firstResult.voteCount();
+        
+        // 평점이 있는 경우만 저장 (vote_count > 0)
+        if (voteCount <= 0) {
+            log.info("영화 {}의 TMDB 평점이 없습니다.", movie.movieNm());
+            return null;
+        }
+        return new TmdbVote(voteAverage, voteCount);
+    }
+
+    /**
+     * TMDB 평점 저장 (기존 TMDB 평점이 있으면 갱신) + 평점 집계 반영
+     */
+    private void saveTmdbRating(MovieDetail movie, User tmdbUser, TmdbVote vote) {
+        int score = (int) Math.round(vote.voteAverage() * 2); // TMDB는 10점 만점, 우리는 5점 만점
+        
+        // 기존 TMDB 평점이 있는지 확인
+        Optional<Rating> existingRating = ratingRepository.findByMovieDetailMovieCdAndUserId(
+                movie.getMovieCd(), tmdbUser.getId());
+        
+        if (existingRating.isPresent()) {
+            // 기존 평점 업데이트
+            Rating rating = existingRating.get();
+            int previousScore = rating.getScore();
+            rating.setScore(score);
+            rating.setCreatedAt(LocalDateTime.now());
+            ratingRepository.save(rating);
             
-            String response = restTemplate.getForObject(searchUrl, String.class);
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode results = root.get("results");
+            // 평점 집계 + MovieDetail 캐시 업데이트
+            ratingAggregateService.applyRatingChange(movie.getMovieCd(), previousScore, rating.getScore());
             
-            if (results != null && results.isArray() && results.size() > 0) {
-                // 첫 번째 검색 결과 사용 (가장 관련성 높은 결과)
-                JsonNode firstResult = results.get(0);
-                double voteAverage = firstResult.get("vote_average").asDouble();
-                int voteCount = firstResult.get("vote_count").asInt();
-                
-                // 평점이 있는 경우만 저장 (vote_count > 0)
-                if (voteCount > 0) {
-                    // 기존 TMDB 평점이 있는지 확인
-                    Optional<Rating> existingRating = ratingRepository.findAll().stream()
-                            .filter(rating -> rating.getMovieDetail().getMovieCd().equals(movie.getMovieCd()) &&
-                                            rating.getUser().getId().equals(tmdbUser.getId()))
-                            .findFirst();
-                    
-                    if (existingRating.isPresent()) {
-                        // 기존 평점 업데이트
-                        Rating rating = existingRating.get();
-                        rating.setScore((int) Math.round(voteAverage * 2)); // TMDB는 10점 만점, 우리는 5점 만점
-                        rating.setCreatedAt(LocalDateTime.now());
-                        ratingRepository.save(rating);
-                        
-                        // MovieDetail 캐시 업데이트
-                        updateMovieDetailRatingCache(movie);
-                        
-                        log.info("영화 {}의 TMDB 평점 업데이트: {} (투표수: {})", 
-                                movie.getMovieNm(), voteAverage, voteCount);
-                    } else {
-                        // 새 평점 생성
-                        Rating rating = new Rating();
-                        rating.setMovieDetail(movie);
-                        rating.setUser(tmdbUser);
-                        rating.setScore((int) Math.round(voteAverage * 2)); // TMDB는 10점 만점, 우리는 5점 만점
-                        rating.setCreatedAt(LocalDateTime.now());
-                        ratingRepository.save(rating);
-                        
-                        // MovieDetail 캐시 업데이트
-                        updateMovieDetailRatingCache(movie);
-                        
-                        log.info("영화 {}의 TMDB 평점 저장: {} (투표수: {})", 
-                                movie.getMovieNm(), voteAverage, voteCount);
-                    }
-                } else {
-                    log.info("영화 {}의 TMDB 평점이 없습니다.", movie.getMovieNm());
-                }
-            } else {
-                log.info("영화 {}을 TMDB에서 찾을 수 없습니다.", movie.getMovieNm());
-            }
+            log.info("영화 {}의 TMDB 평점 업데이트: {} (투표수: {})", 
+                    movie.getMovieCd(), vote.voteAverage(), vote.voteCount());
+        } else {
+            // 새 평점 생성
+            Rating rating = new Rating();
+            rating.setMovieDetail(movie);
+            rating.setUser(tmdbUser);
+            rating.setScore(score);
+            rating.setCreatedAt(LocalDateTime.now());
+            ratingRepository.save(rating);
             
-        } catch (Exception e) {
-            log.warn("영화 {}의 TMDB 평점 가져오기 실패: {}", movie.getMovieNm(), e.getMessage());
+            // 평점 집계 + MovieDetail 캐시 업데이트
+            ratingAggregateService.applyRatingChange(movie.getMovieCd(), null, rating.getScore());
+            
+            log.info("영화 {}의 TMDB 평점 저장: {} (투표수: {})", 
+                    movie.getMovieCd(), vote.voteAverage(), vote.voteCount());
         }
     }
 
+    private record TmdbVote(double voteAverage, int voteCount) {
+    }
+
     /**
      * TMDB 평점용 사용자 생성 또는 조회
      */
@@ -183,52 +175,48 @@ public class TmdbRatingService {
     }
 
     /**
-     * 영화의 평점 개수 조회
+     * 영화의 평점 개수 조회 (평점 집계 사용)
      */
     public Integer getRatingCount(String movieCd) {
-        List<Rating> ratings = ratingRepository.findByMovieDetailMovieCd(movieCd);
-        return ratings.size();
+        return ratingAggregateService.getAggregate(movieCd)
+                .map(aggregate -> (int) aggregate.getRatingCount())
+                .orElse(0);
     }
 
     /**
-     * 영화의 평균 평점 조회
+     * 영화의 평균 평점 조회 (평점 집계 사용)
      */
     public Double getAverageRating(String movieCd) {
-        List<Rating> ratings = ratingRepository.findByMovieDetailMovieCd(movieCd);
-        
-        if (ratings.isEmpty()) {
-            return null;
-        }
-        
-        double average = ratings.stream()
-                .mapToDouble(Rating::getScore)
-                .average()
-                .orElse(0.0);
-        
-        return Math.round(average * 10.0) / 10.0; // 소수점 첫째자리까지
+        return ratingAggregateService.getAggregate(movieCd)
+                .filter(aggregate -> aggregate.getRatingCount() > 0)
+                .map(aggregate -> Math.round((double) aggregate.getRatingSum() / aggregate.getRatingCount() * 10.0) / 10.0) // 소수점 첫째자리까지
+                .orElse(null);
     }
 
     /**
      * 평균 평점이 높은 영화 TOP-10 조회 (MovieList에도 있는 영화만)
      */
     public List<MovieDetail> getTopRatedMovies(int limit) {
-        List<MovieDetail> allMovies = movieRepository.findAll();
-        
-        List<MovieDetail> topRatedMovies = allMovies.stream()
-                .filter(movie -> {
-                    // MovieList에도 있는 영화만 필터링
-                    boolean hasMovieList = movieListRepository.findById(movie.getMovieCd()).isPresent();
-                    // 평점이 있는 영화만 필터링
-                    boolean hasRating = getAverageRating(movie.getMovieCd()) != null;
-                    return hasMovieList && hasRating;
-                })
-                .sorted((m1, m2) -> {
-                    Double rating1 = getAverageRating(m1.getMovieCd());
-                    Double rating2 = getAverageRating(m2.getMovieCd());
-                    return rating2.compareTo(rating1); // 내림차순 정렬
-                })
-                .limit(limit)
-                .toList();
+        return getTopRatedMovies(limit, null, null);
+    }
+
+    /**
+     * 장르/상태별 평균 평점이 높은 영화 TOP-N 조회
+     * 메모리 순위표에서 바로 응답하고, 순위표 준비 전이거나 범위를 넘으면 평점 집계 인덱스로 조회
+     */
+    public List<MovieDetail> getTopRatedMovies(int limit, String genre, MovieStatus status) {
+        List<String> movieCds = ratingLeaderboardService.getTopRatedMovieCds(limit, genre, status);
+        List<MovieDetail> topRatedMovies;
+        if (movieCds != null) {
+            Map<String, MovieDetail> movies = movieRepository.findAllById(movieCds).stream()
+                    .collect(Collectors.toMap(MovieDetail::getMovieCd, movie -> movie));
+            topRatedMovies = movieCds.stream()
+                    .map(movies::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+        } else {
+            topRatedMovies = ratingAggregateService.getTopRatedMovies(limit, genre, status);
+        }
         
         // 포스터 URL이 없는 영화들은 자동으로 TMDB에서 가져오기
         for (MovieDetail movie : topRatedMovies) {
@@ -259,22 +247,10 @@ public class TmdbRatingService {
      */
     private String fetchPosterUrlFromTmdb(String movieName, LocalDate openDt) {
         try {
-            String query = java.net.URLEncoder.encode(movieName, java.nio.charset.StandardCharsets.UTF_8);
             String year = (openDt != null) ? String.valueOf(openDt.getYear()) : null;
-            String url = tmdbBaseUrl + "/search/movie" +
-                    "?api_key=" + tmdbApiKey +
-                    "&query=" + query +
-                    (year != null ? "&year=" + year : "") +
-                    "&language=ko-KR";
-
-            String response = restTemplate.getForObject(url, String.class);
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode results = root.get("results");
-            if (results != null && results.size() > 0) {
-                String posterPath = results.get(0).get("poster_path").asText();
-                if (posterPath != null && !posterPath.isEmpty()) {
-                    return "https://image.tmdb.org/t/p/w500" + posterPath;
-                }
+            TmdbMovieSearchResponse.Movie firstResult = tmdbClient.searchMovie(movieName, year, "ko-KR").firstResult();
+            if (firstResult != null) {
+                return TmdbClient.posterUrl(firstResult.posterPath());
             }
         } catch (Exception e) {
             log.warn("TMDB 포스터 검색 실패: {}", movieName, e);
@@ -283,31 +259,17 @@ public class TmdbRatingService {
     }
 
     /**
-     * MovieDetail의 평점 캐시 업데이트
+     * 평균 별점이 높은 영화 TOP-N 조회 (DTO)
      */
-    private void updateMovieDetailRatingCache(MovieDetail movie) {
-        try {
-            Double averageRating = getAverageRating(movie.getMovieCd());
-            Integer ratingCount = getRatingCount(movie.getMovieCd());
-            
-            movie.setAverageRating(averageRating);
-            movie.setRatingCount(ratingCount);
-            movie.setRatingUpdatedAt(LocalDateTime.now());
-            
-            movieRepository.save(movie);
-            
-            log.debug("영화 {}의 평점 캐시 업데이트: 평점={}, 개수={}", 
-                    movie.getMovieNm(), averageRating, ratingCount);
-        } catch (Exception e) {
-            log.warn("영화 {}의 평점 캐시 업데이트 실패: {}", movie.getMovieNm(), e.getMessage());
-        }
+    public List<TopRatedMovieDto> getTopRatedMoviesAsDto(int limit) {
+        return getTopRatedMoviesAsDto(limit, null, null);
     }
 
     /**
-     * 평균 별점이 높은 영화 TOP-N 조회 (DTO)
+     * 장르/상태별 평균 별점이 높은 영화 TOP-N 조회 (DTO)
      */
-    public List<TopRatedMovieDto> getTopRatedMoviesAsDto(int limit) {
-        List<MovieDetail> topRatedMovies = getTopRatedMovies(limit);
+    public List<TopRatedMovieDto> getTopRatedMoviesAsDto(int limit, String genre, MovieStatus status) {
+        List<MovieDetail> topRatedMovies = getTopRatedMovies(limit, genre, status);
         return topRatedMovieMapper.toDtoList(topRatedMovies);
     }
 } 
@@ -1,24 +1,27 @@
 package com.movie.movie_backend.service;
 
+import com.movie.movie_backend.client.TmdbClient;
+import com.movie.movie_backend.client.TmdbImagesResponse;
+import com.movie.movie_backend.client.TmdbMovieSearchResponse;
 import com.movie.movie_backend.entity.MovieDetail;
 import com.movie.movie_backend.entity.MovieList;
 import com.movie.movie_backend.entity.Stillcut;
+import com.movie.movie_backend.ingestion.IngestionEngine;
+import com.movie.movie_backend.ingestion.IngestionProvider;
+import com.movie.movie_backend.ingestion.MovieSearchTarget;
 import com.movie.movie_backend.repository.PRDMovieListRepository;
 import com.movie.movie_backend.repository.PRDMovieRepository;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -27,51 +30,31 @@ public class TmdbStillcutService {
 
     private final PRDMovieListRepository movieListRepository;
     private final PRDMovieRepository movieRepository;
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final TmdbClient tmdbClient;
+    private final IngestionEngine ingestionEngine;
 
-    @Value("${tmdb.api.key}")
-    private String tmdbApiKey;
-
-    private static final String TMDB_SEARCH_URL = "https://api.themoviedb.org/3/search/movie";
-    private static final String TMDB_IMAGES_URL = "https://api.themoviedb.org/3/movie/{movie_id}/images";
+    private static final int MAX_STILLCUTS = 10;
 
     /**
-     * MovieList를 기반으로 모든 영화의 스틸컷을 가져와서 MovieDetail에 저장
+     * 스틸컷이 없는 영화의 스틸컷을 TMDB에서 가져와서 MovieDetail에 저장 (수집 엔진으로 병렬 조회, 청크 단위 커밋)
      */
-    @Transactional
     public void updateStillcutsForAllMovies() {
-        List<MovieList> movieLists = movieListRepository.findAll();
-        int updated = 0, failed = 0;
-
-        for (MovieList movieList : movieLists) {
-            try {
-                Optional<MovieDetail> movieDetailOpt = movieRepository.findById(movieList.getMovieCd());
-                if (movieDetailOpt.isPresent()) {
-                    MovieDetail movieDetail = movieDetailOpt.get();
-                    // 이미 스틸컷이 있으면 건너뜀
-                    if (movieDetail.getStillcuts() != null && !movieDetail.getStillcuts().isEmpty()) continue;
-                    List<Stillcut> stillcuts = fetchStillcutsFromTmdb(movieList, movieDetail);
-                    if (!stillcuts.isEmpty()) {
-                        movieDetail.getStillcuts().clear();
-                        movieDetail.getStillcuts().addAll(stillcuts);
-                        movieRepository.save(movieDetail);
-                        updated++;
-                        log.info("스틸컷 매칭 성공: {} ({}) -> {}개", movieList.getMovieNm(), movieList.getOpenDt(), stillcuts.size());
-                    } else {
-                        failed++;
-                        log.warn("스틸컷 매칭 실패: {} ({})", movieList.getMovieNm(), movieList.getOpenDt());
-                    }
-                } else {
-                    failed++;
-                    log.warn("MovieDetail을 찾을 수 없음: {} ({})", movieList.getMovieNm(), movieList.getMovieCd());
-                }
-            } catch (Exception e) {
-                failed++;
-                log.error("스틸컷 처리 오류: {} ({}) - {}", movieList.getMovieNm(), movieList.getOpenDt(), e.getMessage());
+        List<MovieSearchTarget> targets = movieListRepository.findAllById(movieRepository.findMovieCdsWithoutStillcuts()).stream()
+                .map(MovieSearchTarget::from)
+                .toList();
+
+        ingestionEngine.run("TMDB 스틸컷 매칭", targets, this::fetchStillcutUrlsFromTmdb, chunk -> {
+            Map<String, MovieDetail> movieDetails = movieRepository.findAllById(
+                            chunk.stream().map(fetched -> fetched.item().movieCd()).toList()).stream()
+                    .collect(Collectors.toMap(MovieDetail::getMovieCd, Function.identity()));
+            for (IngestionEngine.FetchedItem<MovieSearchTarget, List<String>> fetched : chunk) {
+                MovieDetail movieDetail = movieDetails.get(fetched.item().movieCd());
+                // 조회하는 동안 다른 작업이 스틸컷을 채웠으면 건너뜀
+                if (movieDetail == null || !movieDetail.getStillcuts().isEmpty()) continue;
+                movieDetail.getStillcuts().addAll(toStillcuts(fetched.result(), movieDetail));
+                log.info("스틸컷 매칭 성공: {} ({}) -> {}개", fetched.item().movieNm(), fetched.item().openDt(), fetched.result().size());
             }
-        }
-        log.info("TMDB 스틸컷 자동 매칭 완료: 성공 {}건, 실패 {}건", updated, failed);
+        });
     }
 
     /**
@@ -87,139 +70,96 @@ public class TmdbStillcutService {
 
         MovieList movieList = movieListOpt.get();
         Optional<MovieDetail> movieDetailOpt = movieRepository.findById(movieCd);
-        
+
         if (movieDetailOpt.isEmpty()) {
             log.warn("MovieDetail을 찾을 수 없음: {}", movieCd);
             return new ArrayList<>();
         }
 
         MovieDetail movieDetail = movieDetailOpt.get();
-        List<Stillcut> stillcuts = fetchStillcutsFromTmdb(movieList, movieDetail);
-        
+        List<Stillcut> stillcuts = new ArrayList<>();
+        try {
+            stillcuts = toStillcuts(fetchStillcutUrlsFromTmdb(MovieSearchTarget.from(movieList)), movieDetail);
+        } catch (Exception e) {
+            log.warn("TMDB 스틸컷 검색 오류: {} ({}) - {}", movieList.getMovieNm(), movieList.getOpenDt(), e.getMessage());
+        }
+
         if (!stillcuts.isEmpty()) {
             movieDetail.getStillcuts().clear();
             movieDetail.getStillcuts().addAll(stillcuts);
             movieRepository.save(movieDetail);
             log.info("스틸컷 저장 완료: {} -> {}개", movieList.getMovieNm(), stillcuts.size());
         }
-        
+
         return stillcuts;
     }
 
     /**
-     * TMDB에서 영화 스틸컷을 가져오기 (MovieList 기반)
+     * TMDB에서 영화 스틸컷 이미지 URL 가져오기 (못 찾으면 null, 호출 실패는 예외)
      */
-    private List<Stillcut> fetchStillcutsFromTmdb(MovieList movieList, MovieDetail movieDetail) {
-        List<Stillcut> stillcuts = new ArrayList<>();
-        
-        try {
-            // 1단계: 영화 검색으로 TMDB movie_id 찾기
-            Integer tmdbMovieId = findTmdbMovieId(movieList);
-            if (tmdbMovieId == null) {
-                return stillcuts;
-            }
+    private List<String> fetchStillcutUrlsFromTmdb(MovieSearchTarget movie) throws Exception {
+        // 1단계: 영화 검색으로 TMDB movie_id 찾기
+        Integer tmdbMovieId = findTmdbMovieId(movie);
+        if (tmdbMovieId == null) {
+            log.warn("스틸컷 매칭 실패: {} ({})", movie.movieNm(), movie.openDt());
+            return null;
+        }
 
-            // 2단계: 영화 이미지 API 호출
-            String url = TMDB_IMAGES_URL.replace("{movie_id}", tmdbMovieId.toString()) +
-                    "?api_key=" + tmdbApiKey;
-
-            String response = restTemplate.getForObject(url, String.class);
-            JsonNode root = objectMapper.readTree(response);
-            
-            // backdrop 이미지들 (스틸컷으로 사용)
-            JsonNode backdrops = root.get("backdrops");
-            if (backdrops != null && backdrops.isArray()) {
-                int order = 1;
-                for (JsonNode backdrop : backdrops) {
-                    String filePath = backdrop.get("file_path").asText();
-                    if (filePath != null && !filePath.isEmpty()) {
-                        String imageUrl = "https://image.tmdb.org/t/p/original" + filePath;
-                        
-                        Stillcut stillcut = Stillcut.builder()
-                                .imageUrl(imageUrl)
-                                .orderInMovie(order++)
-                                .movieDetail(movieDetail) // MovieDetail 객체 설정
-                                .build();
-                        
-                        stillcuts.add(stillcut);
-                        
-                        // 최대 10개까지만 가져오기
-                        if (stillcuts.size() >= 10) break;
-                    }
-                }
-            }
+        // 2단계: 영화 이미지 API 호출
+        TmdbImagesResponse images = ingestionEngine.call(IngestionProvider.TMDB, () -> tmdbClient.movieImages(tmdbMovieId));
+        List<String> imageUrls = new ArrayList<>();
 
-            // backdrop이 없으면 poster를 스틸컷으로 사용
-            if (stillcuts.isEmpty()) {
-                JsonNode posters = root.get("posters");
-                if (posters != null && posters.isArray() && posters.size() > 0) {
-                    JsonNode poster = posters.get(0);
-                    String filePath = poster.get("file_path").asText();
-                    if (filePath != null && !filePath.isEmpty()) {
-                        String imageUrl = "https://image.tmdb.org/t/p/w500" + filePath;
-                        
-                        Stillcut stillcut = Stillcut.builder()
-                                .imageUrl(imageUrl)
-                                .orderInMovie(1)
-                                .movieDetail(movieDetail) // MovieDetail 객체 설정
-                                .build();
-                        
-                        stillcuts.add(stillcut);
-                    }
-                }
+        // backdrop 이미지들 (스틸컷으로 사용, 최대 10개까지만)
+        for (TmdbImagesResponse.Image backdrop : images.backdropsOrEmpty()) {
+            if (backdrop.hasPath()) {
+                imageUrls.add(TmdbClient.ORIGINAL_IMAGE_BASE_URL + backdrop.filePath());
+                if (imageUrls.size() >= MAX_STILLCUTS) break;
             }
+        }
 
-        } catch (Exception e) {
-            log.warn("TMDB 스틸컷 검색 오류: {} ({}) - {}", movieList.getMovieNm(), movieList.getOpenDt(), e.getMessage());
+        // backdrop이 없으면 poster를 스틸컷으로 사용
+        if (imageUrls.isEmpty() && !images.postersOrEmpty().isEmpty() && images.postersOrEmpty().get(0).hasPath()) {
+            imageUrls.add(TmdbClient.POSTER_BASE_URL + images.postersOrEmpty().get(0).filePath());
         }
-        
-        return stillcuts;
+
+        if (imageUrls.isEmpty()) {
+            log.warn("스틸컷 매칭 실패: {} ({})", movie.movieNm(), movie.openDt());
+            return null;
+        }
+        return imageUrls;
     }
 
     /**
-     * 영화 제목으로 TMDB movie_id 찾기 (MovieList 기반)
+     * 영화 제목으로 TMDB movie_id 찾기 (한글 제목 → 영문 제목 순)
      */
-    private Integer findTmdbMovieId(MovieList movieList) {
-        try {
-            String query = URLEncoder.encode(movieList.getMovieNm(), StandardCharsets.UTF_8);
-            String year = (movieList.getOpenDt() != null) ? String.valueOf(movieList.getOpenDt().getYear()) : null;
-            
-            String url = TMDB_SEARCH_URL +
-                    "?api_key=" + tmdbApiKey +
-                    "&query=" + query +
-                    (year != null ? "&year=" + year : "") +
-                    "&language=ko-KR";
-
-            String response = restTemplate.getForObject(url, String.class);
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode results = root.get("results");
-            
-            if (results != null && results.size() > 0) {
-                return results.get(0).get("id").asInt();
-            }
-
+    private Integer findTmdbMovieId(MovieSearchTarget movie) {
+        Integer tmdbMovieId = searchTmdbMovieId(movie.movieNm(), movie.openYear(), "ko-KR");
+        if (tmdbMovieId == null && movie.hasEnglishTitle()) {
             // 2차 시도: 영문 제목으로 검색
-            if (movieList.getMovieNmEn() != null && !movieList.getMovieNmEn().isEmpty()) {
-                query = URLEncoder.encode(movieList.getMovieNmEn(), StandardCharsets.UTF_8);
-                url = TMDB_SEARCH_URL +
-                        "?api_key=" + tmdbApiKey +
-                        "&query=" + query +
-                        (year != null ? "&year=" + year : "") +
-                        "&language=en-US";
-                
-                response = restTemplate.getForObject(url, String.class);
-                root = objectMapper.readTree(response);
-                results = root.get("results");
-                
-                if (results != null && results.size() > 0) {
-                    return results.get(0).get("id").asInt();
-                }
-            }
+            tmdbMovieId = searchTmdbMovieId(movie.movieNmEn(), movie.openYear(), "en-US");
+        }
+        return tmdbMovieId;
+    }
 
-        } catch (Exception e) {
-            log.warn("TMDB movie_id 검색 오류: {} ({}) - {}", movieList.getMovieNm(), movieList.getOpenDt(), e.getMessage());
+    private Integer searchTmdbMovieId(String title, String year, String language) {
+        TmdbMovieSearchResponse.Movie firstResult = ingestionEngine.call(IngestionProvider.TMDB,
+                () -> tmdbClient.searchMovie(title, year, language)).firstResult();
+        return firstResult != null ? firstResult.id() : null;
+    }
+
+    private List<Stillcut> toStillcuts(List<String> imageUrls, MovieDetail movieDetail) {
+        List<Stillcut> stillcuts = new ArrayList<>();
+        if (imageUrls == null) {
+            return stillcuts;
         }
-        
-        return null;
+        int order = 1;
+        for (String imageUrl : imageUrls) {
+            stillcuts.add(Stillcut.builder()
+                    .imageUrl(imageUrl)
+                    .orderInMovie(order++)
+                    .movieDetail(movieDetail) // MovieDetail 객체 설정
+                    .build());
+        }
+        return stillcuts;
     }
-} 
+}
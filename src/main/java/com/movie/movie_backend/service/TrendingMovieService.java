@@ -0,0 +1,179 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.boxoffice.BoxOfficeEntry;
+import com.movie.movie_backend.boxoffice.BoxOfficeSnapshot;
+import com.movie.movie_backend.event.DataIngestionCompletedEvent;
+import com.movie.movie_backend.event.LikeChangedEvent;
+import com.movie.movie_backend.event.MovieViewsRecordedEvent;
+import com.movie.movie_backend.event.RatingAggregateChangedEvent;
+import com.movie.movie_backend.event.ReviewChangedEvent;
+import com.movie.movie_backend.trending.DecayingScoreBoard;
+import com.movie.movie_backend.trending.TrendingEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 지금 뜨는 영화 순위
+ *
+ * - 영화별 점수 = 최근 활동 가중치 합, 반감기(trending.half-life-hours, 기본 6시간)마다 절반으로 감쇠
+ * - 활동: 상세 방문(1), 새 평점(2), 좋아요(3), 새 리뷰(5), 일일 박스오피스 관객수(log(1 + audiCnt) × 10, 기준일마다 한 번)
+ * - 이벤트가 올 때마다 점수판에 바로 더하고, 요청은 refresh-interval-ms(기본 5초)마다 만든 상위 SNAPSHOT_SIZE개 스냅샷만 읽음
+ * - 시작 시 최근 24시간 방문 기록(서비스 생성 이전분만, 이후분은 이벤트로 반영)과 최신 일일 박스오피스로 점수판을 채움
+ */
+@Slf4j
+@Service
+public class TrendingMovieService {
+
+    public static final int SNAPSHOT_SIZE = 100;
+    private static final Duration SEED_WINDOW = Duration.ofHours(24);
+    private static final Duration COMPACT_INTERVAL = Duration.ofMinutes(10);
+    private static final double MIN_SCORE = 0.01; // 이 밑으로 감쇠한 영화는 점수판에서 제거
+
+    private static final double VIEW_WEIGHT = 1;
+    private static final double RATING_WEIGHT = 2;
+    private static final double LIKE_WEIGHT = 3;
+    private static final double REVIEW_WEIGHT = 5;
+    private static final double BOX_OFFICE_WEIGHT = 10;
+
+    // 10분 단위로 묶어 읽음 (영화당 최대 144행)
+    private static final String RECENT_VISITS_SQL =
+            "SELECT movie_detail_id, FLOOR(UNIX_TIMESTAMP(visited_at) / 600) AS bucket, COUNT(*) AS visits "
+                    + "FROM movie_visit_log WHERE visited_at >= ? AND visited_at < ? AND movie_detail_id IS NOT NULL "
+                    + "GROUP BY movie_detail_id, bucket";
+
+    private final BoxOfficeSnapshotService boxOfficeSnapshotService;
+    private final JdbcTemplate jdbcTemplate;
+    private final DecayingScoreBoard scoreBoard;
+    private final long startedAt; // 이 시각 이후 방문은 MovieViewsRecordedEvent로 반영되므로 seed에서 제외
+
+    private volatile List<TrendingEntry> snapshot = List.of();
+    private volatile LocalDate appliedBoxOfficeDate;
+    private volatile long lastCompactedAt = System.currentTimeMillis();
+
+    public TrendingMovieService(BoxOfficeSnapshotService boxOfficeSnapshotService, JdbcTemplate jdbcTemplate,
+                                @Value("${trending.half-life-hours:6}") long halfLifeHours) {
+        this.boxOfficeSnapshotService = boxOfficeSnapshotService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.startedAt = System.currentTimeMillis();
+        this.scoreBoard = new DecayingScoreBoard(Duration.ofHours(halfLifeHours), startedAt);
+    }
+
+    /**
+     * 지금 뜨는 영화 상위 limit개 (최대 SNAPSHOT_SIZE, 최근 스냅샷 기준)
+     */
+    public List<TrendingEntry> getTrending(int limit) {
+        List<TrendingEntry> current = snapshot;
+        return current.subList(0, Math.max(0, Math.min(limit, current.size())));
+    }
+
+    /**
+     * 점수판 현황 (관리자 조회용)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("trackedMovies", scoreBoard.size());
+        stats.put("snapshotSize", snapshot.size());
+        stats.put("boxOfficeDate", appliedBoxOfficeDate);
+        return stats;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onViewsRecorded(MovieViewsRecordedEvent event) {
+        event.getViewCounts().forEach((movieCd, views) ->
+                scoreBoard.add(movieCd, views * VIEW_WEIGHT, event.getRecordedAt()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.isCreated()) {
+            scoreBoard.add(event.getMovieCd(), REVIEW_WEIGHT, System.currentTimeMillis());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRatingAggregateChanged(RatingAggregateChangedEvent event) {
+        // 새 평점만 활동으로 계산 (수정/삭제/재집계는 제외, 리뷰 평점은 이 이벤트를 내지 않아 새 리뷰와 중복 없음)
+        if (event.getMovieCd() != null && event.getKind() == RatingAggregateChangedEvent.ChangeKind.ADDED) {
+            scoreBoard.add(event.getMovieCd(), RATING_WEIGHT, System.currentTimeMillis());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(LikeChangedEvent event) {
+        if (event.getTarget() == LikeChangedEvent.Target.MOVIE && event.getDelta() > 0) {
+            scoreBoard.add(event.getMovieCd(), LIKE_WEIGHT, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 일일 박스오피스 수집 완료 (스냅샷 서비스가 먼저 교체했으면 바로, 아니면 다음 갱신 주기에 반영)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIngestionCompleted(DataIngestionCompletedEvent event) {
+        if ("DAILY_BOX_OFFICE".equals(event.getSource()) || "DATA_LOADER".equals(event.getSource())) {
+            applyBoxOffice();
+        }
+    }
+
+    /**
+     * 스냅샷 교체 (새 박스오피스 기준일 반영, 10분마다 감쇠가 끝난 영화 제거)
+     */
+    @Scheduled(fixedDelayString = "${trending.refresh-interval-ms:5000}")
+    public void refreshSnapshot() {
+        applyBoxOffice();
+        long now = System.currentTimeMillis();
+        if (now - lastCompactedAt >= COMPACT_INTERVAL.toMillis()) {
+            scoreBoard.compact(MIN_SCORE, now);
+            lastCompactedAt = now;
+        }
+        snapshot = scoreBoard.top(SNAPSHOT_SIZE, now);
+    }
+
+    /**
+     * 최근 방문 기록과 최신 일일 박스오피스로 점수판 채움 (시작 준비 작업에서 호출)
+     */
+    public void seed() {
+        long since = startedAt - SEED_WINDOW.toMillis();
+        int[] rows = {0};
+        jdbcTemplate.query(RECENT_VISITS_SQL, rs -> {
+            long bucketStart = rs.getLong("bucket") * 600_000L;
+            scoreBoard.add(rs.getString("movie_detail_id"), rs.getLong("visits") * VIEW_WEIGHT, bucketStart);
+            rows[0]++;
+        }, new Timestamp(since), new Timestamp(startedAt));
+        refreshSnapshot();
+        log.info("지금 뜨는 영화 점수판 준비: 방문 집계 {}행, 영화 {}개", rows[0], scoreBoard.size());
+    }
+
+    // ===== 내부 메서드 =====
+
+    /**
+     * 기준일이 바뀐 일일 박스오피스만 반영 (관객수는 기준일 끝 시각의 활동으로 계산)
+     */
+    private synchronized void applyBoxOffice() {
+        BoxOfficeSnapshot daily = boxOfficeSnapshotService.getDailySnapshot();
+        LocalDate targetDate = daily.getTargetDate();
+        if (targetDate == null || Objects.equals(targetDate, appliedBoxOfficeDate)) {
+            return;
+        }
+        long timestamp = Math.min(System.currentTimeMillis(),
+                targetDate.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        for (BoxOfficeEntry entry : daily.entries()) {
+            scoreBoard.add(entry.movieCd(), Math.log1p(Math.max(entry.audiCnt(), 0)) * BOX_OFFICE_WEIGHT, timestamp);
+        }
+        appliedBoxOfficeDate = targetDate;
+        log.debug("지금 뜨는 영화 점수에 일일 박스오피스 반영: 기준일 {} ({}개)", targetDate, daily.size());
+    }
+}
@@ -0,0 +1,153 @@
+package com.movie.movie_backend.trending;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 시간이 지나면 반감기마다 절반으로 줄어드는 점수판 (forward decay)
+ *
+ * - 점수 = Σ weight × 2^(-(now - t) / halfLife), 저장은 기준 시각(base) 기준 값 weight × 2^((t - base) / halfLife)
+ *   → 더할 때 한 번만 계산하고, 모든 항목에 같은 감쇠 배수가 곱해지므로 순위 비교는 저장값 그대로
+ * - 키는 처음 볼 때 int 슬롯 번호로 바꾸고 점수는 double[]에 저장 (항목별 객체/박싱 없음)
+ * - 저장값이 너무 커지기 전에 전체를 현재 시각 기준으로 다시 맞춤 (rebase)
+ * - 현재 점수가 기준 밑으로 떨어진 키는 compact()로 제거해 배열을 다시 채움
+ * - 모든 메서드는 synchronized (쓰기는 이벤트 스레드, 읽기는 스냅샷 갱신 스레드뿐이라 경합이 적음)
+ */
+public class DecayingScoreBoard {
+
+    private static final double REBASE_EXPONENT = 32; // 저장값이 2^32배로 커지면 기준 시각 이동
+
+    private final double halfLifeMillis;
+    private final Map<String, Integer> slots;
+    private String[] keys;
+    private double[] values;
+    private int size;
+    private long base;
+
+    public DecayingScoreBoard(Duration halfLife, long now) {
+        this(halfLife, now, 256);
+    }
+
+    public DecayingScoreBoard(Duration halfLife, long now, int initialCapacity) {
+        if (halfLife.isZero() || halfLife.isNegative()) {
+            throw new IllegalArgumentException("반감기는 0보다 커야 합니다: " + halfLife);
+        }
+        this.halfLifeMillis = halfLife.toMillis();
+        this.base = now;
+        int capacity = Math.max(initialCapacity, 16);
+        this.slots = new HashMap<>(capacity * 2);
+        this.keys = new String[capacity];
+        this.values = new double[capacity];
+    }
+
+    /**
+     * timestamp 시점에 일어난 weight만큼의 활동 반영 (과거 시각도 가능, weight가 0 이하면 무시)
+     */
+    public synchronized void add(String key, double weight, long timestamp) {
+        if (key == null || !(weight > 0)) {
+            return;
+        }
+        double exponent = (timestamp - base) / halfLifeMillis;
+        if (exponent > REBASE_EXPONENT) {
+            rebase(timestamp);
+            exponent = 0;
+        }
+        values[slotOf(key)] += weight * Math.pow(2, exponent);
+    }
+
+    /**
+     * now 시점의 점수 (없으면 0)
+     */
+    public synchronized double score(String key, long now) {
+        Integer slot = slots.get(key);
+        return slot != null ? values[slot] * decay(now) : 0;
+    }
+
+    /**
+     * now 시점 점수 상위 k개 (높은 순)
+     */
+    public synchronized List<TrendingEntry> top(int k, long now) {
+        if (k <= 0 || size == 0) {
+            return List.of();
+        }
+        // 크기 k 최소 힙 (슬롯 번호만 담음)
+        PriorityQueue<Integer> heap = new PriorityQueue<>(k, (a, b) -> Double.compare(values[a], values[b]));
+        for (int slot = 0; slot < size; slot++) {
+            if (heap.size() < k) {
+                heap.add(slot);
+            } else if (values[slot] > values[heap.peek()]) {
+                heap.poll();
+                heap.add(slot);
+            }
+        }
+        double decay = decay(now);
+        TrendingEntry[] result = new TrendingEntry[heap.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            int slot = heap.poll();
+            result[i] = new TrendingEntry(i + 1, keys[slot], values[slot] * decay);
+        }
+        return List.of(result);
+    }
+
+    /**
+     * now 시점 점수가 minScore 미만인 키 제거, 남은 키 수 반환
+     */
+    public synchronized int compact(double minScore, long now) {
+        rebase(now);
+        int kept = 0;
+        for (int slot = 0; slot < size; slot++) {
+            if (values[slot] >= minScore) {
+                keys[kept] = keys[slot];
+                values[kept] = values[slot];
+                kept++;
+            }
+        }
+        Arrays.fill(keys, kept, size, null);
+        Arrays.fill(values, kept, size, 0);
+        size = kept;
+        slots.clear();
+        for (int slot = 0; slot < kept; slot++) {
+            slots.put(keys[slot], slot);
+        }
+        return size;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    // ===== 내부 메서드 =====
+
+    private int slotOf(String key) {
+        Integer slot = slots.get(key);
+        if (slot != null) {
+            return slot;
+        }
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        keys[size] = key;
+        slots.put(key, size);
+        return size++;
+    }
+
+    /**
+     * 저장값을 now 기준으로 다시 맞춤 (순위는 그대로)
+     */
+    private void rebase(long now) {
+        double decay = decay(now);
+        for (int slot = 0; slot < size; slot++) {
+            values[slot] *= decay;
+        }
+        base = now;
+    }
+
+    private double decay(long now) {
+        return Math.pow(2, (base - now) / halfLifeMillis);
+    }
+}
@@ -0,0 +1,7 @@
+package com.movie.movie_backend.trending;
+
+/**
+ * 지금 뜨는 영화 순위 항목 (score는 스냅샷 시점의 감쇠 점수)
+ */
+public record TrendingEntry(int rank, String movieCd, double score) {
+}
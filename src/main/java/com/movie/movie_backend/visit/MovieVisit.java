@@ -0,0 +1,7 @@
+package com.movie.movie_backend.visit;
+
+/**
+ * 영화 상세 방문 한 건 (요청 스레드에서 큐에 넣고, 기록 스레드가 모아서 저장)
+ */
+public record MovieVisit(String movieCd, Long userId, long visitedAt) {
+}
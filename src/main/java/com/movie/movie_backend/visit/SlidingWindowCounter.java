@@ -0,0 +1,107 @@
+package com.movie.movie_backend.visit;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 키별 최근 구간 방문 수 (고정 크기 시간 버킷 링)
+ *
+ * - 키마다 bucketCount개 버킷을 원형으로 두고, 시각/bucketMillis 번호의 버킷에 더함 (오래된 버킷은 다시 쓰일 때 0으로)
+ * - 최근 N분 방문 수 = 현재 버킷부터 거슬러 올라간 버킷 합 (최대 bucketCount개 구간)
+ * - 메모리는 키 수 × 버킷 수로 고정, 구간 안에 방문이 없는 키는 prune()으로 제거
+ */
+public class SlidingWindowCounter {
+
+    private final int bucketCount;
+    private final long bucketMillis;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public SlidingWindowCounter(int bucketCount, Duration bucketSize) {
+        this.bucketCount = bucketCount;
+        this.bucketMillis = bucketSize.toMillis();
+    }
+
+    public void increment(String key, long timestamp) {
+        windows.computeIfAbsent(key, k -> new Window(bucketCount)).add(timestamp / bucketMillis, 1);
+    }
+
+    /**
+     * 최근 span 동안의 수 (span은 버킷 단위로 올림, 최대 bucketCount 버킷)
+     */
+    public long count(String key, Duration span, long now) {
+        Window window = windows.get(key);
+        return window != null ? window.sum(now / bucketMillis, buckets(span)) : 0;
+    }
+
+    /**
+     * 최근 span 동안 한 번이라도 기록된 모든 키의 수
+     */
+    public Map<String, Long> counts(Duration span, long now) {
+        long currentBucket = now / bucketMillis;
+        int buckets = buckets(span);
+        Map<String, Long> counts = new HashMap<>();
+        windows.forEach((key, window) -> {
+            long count = window.sum(currentBucket, buckets);
+            if (count > 0) {
+                counts.put(key, count);
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * 전체 구간 안에 기록이 없는 키 제거
+     */
+    public void prune(long now) {
+        long currentBucket = now / bucketMillis;
+        windows.entrySet().removeIf(entry -> entry.getValue().sum(currentBucket, bucketCount) == 0);
+    }
+
+    public int size() {
+        return windows.size();
+    }
+
+    private int buckets(Duration span) {
+        long buckets = (span.toMillis() + bucketMillis - 1) / bucketMillis;
+        return (int) Math.max(1, Math.min(buckets, bucketCount));
+    }
+
+    // 키 하나의 버킷 링 (쓰기는 기록 스레드, 읽기는 조회 스레드 → 짧은 synchronized)
+    private static class Window {
+        private final long[] counts;
+        private final long[] bucketIds;
+
+        Window(int bucketCount) {
+            this.counts = new long[bucketCount];
+            this.bucketIds = new long[bucketCount];
+            Arrays.fill(bucketIds, -1);
+        }
+
+        synchronized void add(long bucketId, long delta) {
+            int index = index(bucketId);
+            if (bucketIds[index] != bucketId) {
+                bucketIds[index] = bucketId;
+                counts[index] = 0;
+            }
+            counts[index] += delta;
+        }
+
+        synchronized long sum(long currentBucket, int buckets) {
+            long sum = 0;
+            for (long bucketId = currentBucket - buckets + 1; bucketId <= currentBucket; bucketId++) {
+                int index = index(bucketId);
+                if (bucketIds[index] == bucketId) {
+                    sum += counts[index];
+                }
+            }
+            return sum;
+        }
+
+        private int index(long bucketId) {
+            return (int) Math.floorMod(bucketId, (long) counts.length);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.movie.movie_backend.warmup;
+
+import com.movie.movie_backend.constant.MovieStatus;
+import com.movie.movie_backend.constant.TmdbListType;
+import com.movie.movie_backend.dto.MovieListDto;
+import com.movie.movie_backend.repository.PRDMovieListRepository;
+import com.movie.movie_backend.service.KobisApiService;
+import com.movie.movie_backend.service.PRDMovieListService;
+import com.movie.movie_backend.service.TmdbMovieListService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 지난 개봉예정작을 상영중으로 정리하고, 개봉예정작이 부족하면 KOBIS(부족하면 TMDB까지)에서 채움
+ */
+@Slf4j
+@Component
+@Order(2)
+public class ComingSoonSeedTask implements WarmupTask {
+
+    private static final int ENOUGH_COMING_SOON = 50; // 이 이상이면 추가 로딩 안 함
+    private static final int FETCH_LIMIT = 200;
+
+    private final PRDMovieListRepository movieListRepository;
+    private final KobisApiService kobisApiService;
+    private final PRDMovieListService movieListService;
+    private final TmdbMovieListService tmdbMovieListService;
+    private final Duration rerunAfter;
+
+    public ComingSoonSeedTask(PRDMovieListRepository movieListRepository,
+                              KobisApiService kobisApiService,
+                              PRDMovieListService movieListService,
+                              TmdbMovieListService tmdbMovieListService,
+                              @Value("${warmup.data-rerun-after:PT6H}") Duration rerunAfter) {
+        this.movieListRepository = movieListRepository;
+        this.kobisApiService = kobisApiService;
+        this.movieListService = movieListService;
+        this.tmdbMovieListService = tmdbMovieListService;
+        this.rerunAfter = rerunAfter;
+    }
+
+    @Override
+    public String getName() {
+        return "comingSoonSeed";
+    }
+
+    @Override
+    public WarmupStage getStage() {
+        return WarmupStage.CATALOG;
+    }
+
+    @Override
+    public Duration getRerunAfter() {
+        return rerunAfter;
+    }
+
+    @Override
+    public void run(WarmupProgress progress) {
+        // 먼저 기존 개봉예정작 데이터 정리 (과거 개봉 영화들을 상영중으로 변경)
+        kobisApiService.cleanupComingSoonMovies();
+
+        long existingCount = movieListRepository.countByStatus(MovieStatus.COMING_SOON);
+        log.info("정리 후 기존 개봉예정작 개수: {}개", existingCount);
+        if (existingCount >= ENOUGH_COMING_SOON) {
+            progress.setMessage("개봉예정작 충분 (" + existingCount + "개)");
+            return;
+        }
+
+        List<MovieListDto> comingSoonMovies = new ArrayList<>(kobisApiService.fetchComingSoonMovies(FETCH_LIMIT));
+        log.info("KOBIS에서 개봉예정작 {}개 가져오기 완료", comingSoonMovies.size());
+
+        // KOBIS + 기존 데이터가 부족하면 TMDB 개봉예정작 목록에서 추가 (제목이 같은 영화는 제외, 목록이 오래됐으면 여기서 갱신)
+        if (existingCount + comingSoonMovies.size() < ENOUGH_COMING_SOON) {
+            Set<String> titles = comingSoonMovies.stream().map(MovieListDto::getMovieNm).collect(Collectors.toSet());
+            tmdbMovieListService.refreshIfStale(TmdbListType.COMING_SOON);
+            for (MovieListDto tmdbMovie : tmdbMovieListService.getComingSoonMovies()) {
+                if (titles.add(tmdbMovie.getMovieNm())) {
+                    comingSoonMovies.add(tmdbMovie);
+                }
+            }
+            log.info("KOBIS + TMDB 합계: {}개", comingSoonMovies.size());
+        }
+
+        comingSoonMovies.forEach(movie -> movie.setStatus(MovieStatus.COMING_SOON));
+        progress.setTotal(comingSoonMovies.size());
+        int savedCount = movieListService.saveMovieList(comingSoonMovies);
+        progress.advance(comingSoonMovies.size());
+
+        progress.setMessage("개봉예정작 " + comingSoonMovies.size() + "개 중 " + savedCount + "개 새로 저장");
+        if (savedCount > 0) {
+            progress.markDataChanged();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.movie.movie_backend.warmup;
+
+import com.movie.movie_backend.ingestion.MovieSearchTarget;
+import com.movie.movie_backend.service.MovieDetailReconciliationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * MovieDetail이 없는 MovieList를 KOBIS 상세로 채우고, KOBIS로 못 채운 영화는 TMDB로 보완
+ *
+ * - 한 번에 최대 MAX_PER_RUN개만 시도, 청크마다 마지막 movieCd를 체크포인트로 남김
+ * - 다음 실행은 체크포인트 다음 movieCd부터 (끝까지 가면 처음으로) → 매번 같은 실패 영화만 다시 시도하지 않음
+ * - 누락 영화 조회/채우기는 MovieDetailReconciliationService (안티 조인 + keyset 청크)
+ */
+@Slf4j
+@Component
+@Order(1)
+public class MovieDetailBackfillTask implements WarmupTask {
+
+    private static final int MAX_PER_RUN = 50;
+
+    private final MovieDetailReconciliationService reconciliationService;
+    private final Duration rerunAfter;
+
+    public MovieDetailBackfillTask(MovieDetailReconciliationService reconciliationService,
+                                   @Value("${warmup.data-rerun-after:PT6H}") Duration rerunAfter) {
+        this.reconciliationService = reconciliationService;
+        this.rerunAfter = rerunAfter;
+    }
+
+    @Override
+    public String getName() {
+        return "movieDetailBackfill";
+    }
+
+    @Override
+    public WarmupStage getStage() {
+        return WarmupStage.DETAIL;
+    }
+
+    @Override
+    public Duration getRerunAfter() {
+        return rerunAfter;
+    }
+
+    @Override
+    public void run(WarmupProgress progress) {
+        long missingCount = reconciliationService.countMissingDetails();
+        if (missingCount == 0) {
+            progress.setMessage("누락된 MovieDetail 없음");
+            return;
+        }
+
+        String checkpoint = progress.getResumeCheckpoint();
+        int limit = (int) Math.min(MAX_PER_RUN, missingCount);
+        progress.setTotal(limit);
+        log.info("누락된 MovieDetail {}개 중 최대 {}개를 처리합니다. (체크포인트: {})", missingCount, limit, checkpoint);
+
+        MovieDetailReconciliationService.ReconcileReport report =
+                reconciliationService.fillMissingDetails(checkpoint, limit, chunk -> onChunk(progress, chunk));
+        int attempted = report.attempted();
+        int filled = report.filled();
+
+        // 체크포인트 뒤쪽을 다 처리했으면 처음부터 체크포인트까지 이어서
+        if (checkpoint != null && attempted < limit) {
+            MovieDetailReconciliationService.ReconcileReport wrapped =
+                    reconciliationService.fillMissingDetails(null, limit - attempted, chunk -> onChunk(progress, chunk));
+            attempted += wrapped.attempted();
+            filled += wrapped.filled();
+        }
+
+        progress.setMessage("누락 " + missingCount + "개 중 " + attempted + "개 시도, " + filled + "개 채움");
+        if (filled > 0) {
+            progress.markDataChanged();
+        }
+    }
+
+    private static void onChunk(WarmupProgress progress, List<MovieSearchTarget> chunk) {
+        progress.advance(chunk.size());
+        progress.checkpoint(chunk.get(chunk.size() - 1).movieCd());
+    }
+}
@@ -0,0 +1,84 @@
+package com.movie.movie_backend.warmup;
+
+import com.movie.movie_backend.dto.MovieListDto;
+import com.movie.movie_backend.repository.BoxOfficeRepository;
+import com.movie.movie_backend.repository.PRDMovieListRepository;
+import com.movie.movie_backend.service.KobisPopularMovieService;
+import com.movie.movie_backend.service.PRDMovieListService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 영화 목록이 부족하면 KOBIS 박스오피스 인기 영화로 채움 (충분하면 건너뜀)
+ */
+@Slf4j
+@Component
+@Order(1)
+public class PopularMovieSeedTask implements WarmupTask {
+
+    private static final int ENOUGH_MOVIE_LISTS = 200; // 이 이상이면 목록 보충 안 함
+    private static final int ENOUGH_BOX_OFFICES = 20;
+    private static final int SEED_LIMIT = 200;
+
+    private final PRDMovieListRepository movieListRepository;
+    private final BoxOfficeRepository boxOfficeRepository;
+    private final KobisPopularMovieService kobisPopularMovieService;
+    private final PRDMovieListService movieListService;
+    private final Duration rerunAfter;
+
+    public PopularMovieSeedTask(PRDMovieListRepository movieListRepository,
+                                BoxOfficeRepository boxOfficeRepository,
+                                KobisPopularMovieService kobisPopularMovieService,
+                                PRDMovieListService movieListService,
+                                @Value("${warmup.data-rerun-after:PT6H}") Duration rerunAfter) {
+        this.movieListRepository = movieListRepository;
+        this.boxOfficeRepository = boxOfficeRepository;
+        this.kobisPopularMovieService = kobisPopularMovieService;
+        this.movieListService = movieListService;
+        this.rerunAfter = rerunAfter;
+    }
+
+    @Override
+    public String getName() {
+        return "popularMovieSeed";
+    }
+
+    @Override
+    public WarmupStage getStage() {
+        return WarmupStage.CATALOG;
+    }
+
+    @Override
+    public Duration getRerunAfter() {
+        return rerunAfter;
+    }
+
+    @Override
+    public void run(WarmupProgress progress) {
+        long movieListCount = movieListRepository.count();
+        long boxOfficeCount = boxOfficeRepository.count();
+        log.info("기존 데이터 확인 - MovieList: {}개, BoxOffice: {}개", movieListCount, boxOfficeCount);
+
+        if (movieListCount >= ENOUGH_MOVIE_LISTS && boxOfficeCount >= ENOUGH_BOX_OFFICES) {
+            progress.setMessage("데이터 충분 (MovieList " + movieListCount + "개, BoxOffice " + boxOfficeCount + "개)");
+            log.info("필요시 수동으로 /api/admin/movies/replace-with-popular 엔드포인트를 호출하세요.");
+            return;
+        }
+
+        // KOBIS 박스오피스에서 인기 영화 가져오기 (기존 데이터는 건너뛰기)
+        List<MovieListDto> popularMovies = kobisPopularMovieService.getPopularMoviesFromBoxOffice(SEED_LIMIT);
+        progress.setTotal(popularMovies.size());
+        int savedCount = movieListService.saveMovieList(popularMovies);
+        progress.advance(popularMovies.size());
+
+        progress.setMessage("인기 영화 " + popularMovies.size() + "개 중 " + savedCount + "개 새로 저장");
+        if (savedCount > 0) {
+            progress.markDataChanged();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.movie.movie_backend.warmup;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 실행 중인 시작 준비 작업의 진행 상황 (작업 스레드가 쓰고 상태 조회 API가 읽음)
+ */
+public class WarmupProgress {
+
+    private final String taskName;
+    private final WarmupStage stage;
+    private final String resumeCheckpoint;
+    private final Consumer<WarmupProgress> checkpointListener;
+    private final Clock clock;
+    private final AtomicInteger processed = new AtomicInteger();
+
+    private volatile WarmupTaskStatus status = WarmupTaskStatus.PENDING;
+    private volatile int total;
+    private volatile String checkpoint;
+    private volatile String message;
+    private volatile boolean dataChanged;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    WarmupProgress(WarmupTask task, String resumeCheckpoint, Consumer<WarmupProgress> checkpointListener, Clock clock) {
+        this.taskName = task.getName();
+        this.stage = task.getStage();
+        this.resumeCheckpoint = resumeCheckpoint;
+        this.checkpoint = resumeCheckpoint;
+        this.checkpointListener = checkpointListener;
+        this.clock = clock;
+    }
+
+    /**
+     * 이전 실행이 남긴 체크포인트 (없으면 null)
+     */
+    public String getResumeCheckpoint() {
+        return resumeCheckpoint;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public void advance() {
+        processed.incrementAndGet();
+    }
+
+    public void advance(int count) {
+        processed.addAndGet(count);
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    /**
+     * 여기까지 처리했음을 기록 (바로 저장 → 중간에 종료돼도 다음 실행이 이어서 처리)
+     */
+    public void checkpoint(String checkpoint) {
+        this.checkpoint = checkpoint;
+        checkpointListener.accept(this);
+    }
+
+    /**
+     * DB 데이터를 바꿨음 (전체 작업이 끝나면 파생 데이터 재구축 이벤트 발행)
+     */
+    public void markDataChanged() {
+        this.dataChanged = true;
+    }
+
+    // ===== 스케줄러 전용 =====
+
+    void start() {
+        status = WarmupTaskStatus.RUNNING;
+        startedAt = LocalDateTime.now(clock);
+    }
+
+    void complete() {
+        finish(WarmupTaskStatus.COMPLETED);
+    }
+
+    void skip(String reason) {
+        message = reason;
+        finish(WarmupTaskStatus.SKIPPED);
+    }
+
+    void fail(String reason) {
+        message = reason;
+        finish(WarmupTaskStatus.FAILED);
+    }
+
+    private void finish(WarmupTaskStatus finalStatus) {
+        status = finalStatus;
+        finishedAt = LocalDateTime.now(clock);
+    }
+
+    boolean isDataChanged() {
+        return dataChanged;
+    }
+
+    String getTaskName() {
+        return taskName;
+    }
+
+    WarmupTaskStatus getStatus() {
+        return status;
+    }
+
+    String getCheckpoint() {
+        return checkpoint;
+    }
+
+    int getProcessed() {
+        return processed.get();
+    }
+
+    int getTotal() {
+        return total;
+    }
+
+    String getMessage() {
+        return message;
+    }
+
+    LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    WarmupTaskView toView() {
+        return new WarmupTaskView(taskName, stage, status, processed.get(), total, checkpoint, message,
+                startedAt, finishedAt);
+    }
+}
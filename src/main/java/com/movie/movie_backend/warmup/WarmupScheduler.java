@@ -0,0 +1,227 @@
+package com.movie.movie_backend.warmup;
+
+import com.movie.movie_backend.entity.WarmupTaskState;
+import com.movie.movie_backend.event.DataIngestionCompletedEvent;
+import com.movie.movie_backend.repository.SYSWarmupTaskRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 시작 준비 작업 스케줄러 (기존 DataLoaderConfig의 CommandLineRunner 대체)
+ *
+ * - 애플리케이션 준비 이벤트에서는 작업을 넘기기만 하고 바로 반환 → 시작 시간은 스프링 컨텍스트 생성 시간뿐
+ * - 작업은 전용 가상 스레드 하나에서 단계(WarmupStage) 순서대로 실행, 수동 재실행도 같은 스레드에서 차례로 처리
+ * - 작업 상태/체크포인트는 warmup_task_state에 저장
+ *   재시작 시 getRerunAfter() 안에 완료된 작업은 건너뛰고, 중단/실패한 작업은 체크포인트부터 이어서 실행
+ * - 상태 저장에 실패해도(테이블 없음 등) 작업은 계속 진행
+ * - DB 데이터를 바꾼 작업이 있으면 모두 끝난 뒤 DataIngestionCompletedEvent("DATA_LOADER") 발행
+ */
+@Slf4j
+@Component
+public class WarmupScheduler {
+
+    private static final String DATA_LOADER_SOURCE = "DATA_LOADER";
+
+    private final List<WarmupTask> tasks;
+    private final SYSWarmupTaskRepository stateRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final Clock clock;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("warmup").factory());
+    private final Map<String, WarmupProgress> progressByTask = new ConcurrentHashMap<>();
+
+    private volatile WarmupStage currentStage;
+    private volatile boolean finished = false;
+
+    @Autowired
+    public WarmupScheduler(ObjectProvider<WarmupTask> taskProvider,
+                           SYSWarmupTaskRepository stateRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${warmup.enabled:true}") boolean enabled) {
+        this(taskProvider, stateRepository, eventPublisher, enabled, Clock.systemDefaultZone());
+    }
+
+    WarmupScheduler(ObjectProvider<WarmupTask> taskProvider,
+                    SYSWarmupTaskRepository stateRepository,
+                    ApplicationEventPublisher eventPublisher,
+                    boolean enabled,
+                    Clock clock) {
+        // @Order 순서를 유지한 채 단계별로 정렬 (안정 정렬)
+        this.tasks = taskProvider.orderedStream()
+                .sorted(Comparator.comparing(WarmupTask::getStage))
+                .toList();
+        this.stateRepository = stateRepository;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.clock = clock;
+        tasks.forEach(task -> progressByTask.put(task.getName(), new WarmupProgress(task, null, this::saveState, clock)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            log.info("시작 준비 작업 비활성화 (warmup.enabled=false)");
+            finished = true;
+            return;
+        }
+        executor.execute(this::runAll);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 작업 하나를 다시 실행 (최근 완료 여부와 관계없이, 앞선 작업이 끝난 뒤 실행) - 없는 작업이면 false
+     */
+    public boolean rerun(String taskName) {
+        WarmupTask task = tasks.stream()
+                .filter(candidate -> candidate.getName().equals(taskName))
+                .findFirst()
+                .orElse(null);
+        if (task == null) {
+            return false;
+        }
+        executor.execute(() -> {
+            if (execute(task, true)) {
+                eventPublisher.publishEvent(new DataIngestionCompletedEvent(DATA_LOADER_SOURCE));
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 전체 작업이 한 번 끝났는지 (실패/건너뜀 포함)
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * 실행 중인 단계 (없으면 null)
+     */
+    public WarmupStage getCurrentStage() {
+        return currentStage;
+    }
+
+    /**
+     * 작업별 진행 상황 (실행 순서)
+     */
+    public List<WarmupTaskView> getTasks() {
+        return tasks.stream()
+                .map(task -> progressByTask.get(task.getName()).toView())
+                .toList();
+    }
+
+    // ===== 내부 메서드 =====
+
+    private void runAll() {
+        long start = System.currentTimeMillis();
+        log.info("=== 시작 준비 작업 시작 ({}개) ===", tasks.size());
+
+        boolean dataChanged = false;
+        for (WarmupTask task : tasks) {
+            if (Thread.currentThread().isInterrupted()) {
+                log.warn("시작 준비 작업 중단 (종료 중)");
+                break;
+            }
+            currentStage = task.getStage();
+            dataChanged |= execute(task, false);
+        }
+        currentStage = null;
+        finished = true;
+
+        if (dataChanged) {
+            eventPublisher.publishEvent(new DataIngestionCompletedEvent(DATA_LOADER_SOURCE));
+        }
+        log.info("=== 시작 준비 작업 완료: {}ms ===", System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 작업 실행 (DB 데이터를 바꿨으면 true)
+     */
+    private boolean execute(WarmupTask task, boolean force) {
+        WarmupTaskState saved = loadState(task.getName());
+        WarmupProgress progress = new WarmupProgress(task, saved != null ? saved.getCheckpoint() : null, this::saveState, clock);
+        progressByTask.put(task.getName(), progress);
+
+        if (!force && completedRecently(task, saved)) {
+            progress.skip("최근 완료 (" + saved.getFinishedAt() + ")");
+            log.info("[{}] {} 건너뜀: 최근 완료 ({})", task.getStage().getDisplayName(), task.getName(), saved.getFinishedAt());
+            return false;
+        }
+        if (saved != null && saved.getStatus() == WarmupTaskStatus.RUNNING) {
+            log.info("[{}] {} 이전 실행이 중단됨 → 체크포인트({})부터 이어서 실행",
+                    task.getStage().getDisplayName(), task.getName(), saved.getCheckpoint());
+        }
+
+        long start = System.currentTimeMillis();
+        progress.start();
+        saveState(progress);
+        try {
+            task.run(progress);
+            progress.complete();
+            log.info("[{}] {} 완료: {}ms", task.getStage().getDisplayName(), task.getName(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            progress.fail(e.getMessage());
+            log.error("[{}] {} 실패", task.getStage().getDisplayName(), task.getName(), e);
+        }
+        saveState(progress);
+        return progress.isDataChanged();
+    }
+
+    private boolean completedRecently(WarmupTask task, WarmupTaskState saved) {
+        if (saved == null || saved.getStatus() != WarmupTaskStatus.COMPLETED || saved.getFinishedAt() == null
+                || task.getRerunAfter().isZero()) {
+            return false;
+        }
+        return saved.getFinishedAt().isAfter(LocalDateTime.now(clock).minus(task.getRerunAfter()));
+    }
+
+    private WarmupTaskState loadState(String taskName) {
+        try {
+            return stateRepository.findById(taskName).orElse(null);
+        } catch (Exception e) {
+            log.warn("시작 준비 작업 상태 조회 실패: {} - {}", taskName, e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveState(WarmupProgress progress) {
+        try {
+            stateRepository.save(WarmupTaskState.builder()
+                    .taskName(progress.getTaskName())
+                    .status(progress.getStatus())
+                    .checkpoint(progress.getCheckpoint())
+                    .processed(progress.getProcessed())
+                    .total(progress.getTotal())
+                    .message(abbreviate(progress.getMessage()))
+                    .startedAt(progress.getStartedAt())
+                    .finishedAt(progress.getFinishedAt())
+                    .build());
+        } catch (Exception e) {
+            log.warn("시작 준비 작업 상태 저장 실패: {} - {}", progress.getTaskName(), e.getMessage());
+        }
+    }
+
+    private static String abbreviate(String message) {
+        return message != null && message.length() > 500 ? message.substring(0, 500) : message;
+    }
+}
@@ -0,0 +1,21 @@
+package com.movie.movie_backend.warmup;
+
+/**
+ * 시작 준비 단계 (선언 순서대로 실행)
+ */
+public enum WarmupStage {
+
+    INDEX("메모리 색인/스냅샷"),
+    CATALOG("영화 목록 보충"),
+    DETAIL("영화 상세 보충");
+
+    private final String displayName;
+
+    WarmupStage(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
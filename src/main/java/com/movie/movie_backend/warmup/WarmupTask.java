@@ -0,0 +1,60 @@
+package com.movie.movie_backend.warmup;
+
+import java.time.Duration;
+
+/**
+ * 시작 준비 작업 (WarmupScheduler가 애플리케이션 준비 후 백그라운드에서 단계 순서대로 실행)
+ *
+ * - 같은 단계 안에서는 @Order 순서대로 하나씩 실행
+ * - 작업은 여러 번 실행해도 결과가 같아야 함 (재시작/수동 실행 시 다시 호출됨)
+ * - 긴 작업은 progress.checkpoint()로 위치를 남기고, 다음 실행에서 getResumeCheckpoint()부터 이어서 처리
+ */
+public interface WarmupTask {
+
+    String getName();
+
+    WarmupStage getStage();
+
+    /**
+     * 완료 후 이 시간 안에 다시 시작하면 건너뜀 (ZERO면 매번 실행 → 메모리 색인처럼 재시작마다 필요한 작업)
+     */
+    default Duration getRerunAfter() {
+        return Duration.ZERO;
+    }
+
+    void run(WarmupProgress progress) throws Exception;
+
+    /**
+     * 매번 실행하는 단순 작업
+     */
+    static WarmupTask of(String name, WarmupStage stage, Runnable action) {
+        return of(name, stage, Duration.ZERO, action);
+    }
+
+    /**
+     * 완료 후 rerunAfter 동안은 재시작해도 건너뛰는 단순 작업
+     */
+    static WarmupTask of(String name, WarmupStage stage, Duration rerunAfter, Runnable action) {
+        return new WarmupTask() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public WarmupStage getStage() {
+                return stage;
+            }
+
+            @Override
+            public Duration getRerunAfter() {
+                return rerunAfter;
+            }
+
+            @Override
+            public void run(WarmupProgress progress) {
+                action.run();
+            }
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package com.movie.movie_backend.warmup;
+
+/**
+ * 시작 준비 작업 상태
+ */
+public enum WarmupTaskStatus {
+    PENDING,   // 대기
+    RUNNING,   // 실행 중
+    COMPLETED, // 완료
+    SKIPPED,   // 최근에 완료되어 건너뜀
+    FAILED     // 실패 (다음 시작 시 또는 수동 실행 시 체크포인트부터 다시 실행)
+}
@@ -0,0 +1,10 @@
+package com.movie.movie_backend.warmup;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시작 준비 작업 진행 상황 (상태 조회 API 응답용)
+ */
+public record WarmupTaskView(String name, WarmupStage stage, WarmupTaskStatus status, int processed, int total,
+                             String checkpoint, String message, LocalDateTime startedAt, LocalDateTime finishedAt) {
+}
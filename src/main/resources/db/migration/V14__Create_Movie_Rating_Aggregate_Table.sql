@@ -0,0 +1,42 @@
+-- 영화별 평점 집계 테이블 (평점/리뷰 변경 시 증감으로 갱신)
+CREATE TABLE IF NOT EXISTS movie_rating_aggregate (
+    movie_cd VARCHAR(20) NOT NULL PRIMARY KEY,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    rating_count BIGINT NOT NULL DEFAULT 0,
+    rating_average DOUBLE NULL,
+    review_rating_sum BIGINT NOT NULL DEFAULT 0,
+    review_rating_count BIGINT NOT NULL DEFAULT 0,
+    review_score1 BIGINT NOT NULL DEFAULT 0,
+    review_score2 BIGINT NOT NULL DEFAULT 0,
+    review_score3 BIGINT NOT NULL DEFAULT 0,
+    review_score4 BIGINT NOT NULL DEFAULT 0,
+    review_score5 BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME NULL
+);
+
+-- 인덱스 생성 (평균 평점 상위 조회용)
+CREATE INDEX idx_rating_average ON movie_rating_aggregate(rating_average);
+
+-- 기존 평점 집계
+INSERT INTO movie_rating_aggregate (movie_cd, rating_sum, rating_count, rating_average, updated_at)
+SELECT movie_detail_id, SUM(score), COUNT(*), AVG(score), CURRENT_TIMESTAMP
+FROM rating
+WHERE movie_detail_id IS NOT NULL
+GROUP BY movie_detail_id;
+
+-- 기존 리뷰 평점 집계 (삭제된 리뷰 제외)
+INSERT INTO movie_rating_aggregate (movie_cd, review_rating_sum, review_rating_count,
+                                    review_score1, review_score2, review_score3, review_score4, review_score5, updated_at)
+SELECT movie_detail_id, SUM(rating), COUNT(*),
+       SUM(rating = 1), SUM(rating = 2), SUM(rating = 3), SUM(rating = 4), SUM(rating = 5), CURRENT_TIMESTAMP
+FROM reviews
+WHERE movie_detail_id IS NOT NULL AND rating IS NOT NULL AND (status IS NULL OR status <> 'DELETED')
+GROUP BY movie_detail_id
+ON DUPLICATE KEY UPDATE
+    review_rating_sum = VALUES(review_rating_sum),
+    review_rating_count = VALUES(review_rating_count),
+    review_score1 = VALUES(review_score1),
+    review_score2 = VALUES(review_score2),
+    review_score3 = VALUES(review_score3),
+    review_score4 = VALUES(review_score4),
+    review_score5 = VALUES(review_score5);
@@ -0,0 +1,11 @@
+-- 시작 준비 작업 상태 (재시작 시 최근 완료 작업 건너뛰기, 중단 지점부터 이어서 실행)
+CREATE TABLE IF NOT EXISTS warmup_task_state (
+    task_name VARCHAR(100) NOT NULL PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    checkpoint VARCHAR(255) NULL,
+    processed INT NOT NULL DEFAULT 0,
+    total INT NOT NULL DEFAULT 0,
+    message VARCHAR(500) NULL,
+    started_at DATETIME NULL,
+    finished_at DATETIME NULL
+);
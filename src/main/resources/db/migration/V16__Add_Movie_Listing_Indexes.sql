@@ -0,0 +1,3 @@
+-- 목록 keyset 페이지용 인덱스 (개봉일 정렬 + movieCd 동순위 정렬, 상태별 개봉일 없는 영화 구간)
+CREATE INDEX idx_movie_list_open_dt ON movie_list(open_dt, movie_cd);
+CREATE INDEX idx_movie_list_status ON movie_list(status, movie_cd);
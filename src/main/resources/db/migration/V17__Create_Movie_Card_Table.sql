@@ -0,0 +1,31 @@
+-- 영화 카드 읽기 모델 (목록 화면용으로 포스터/상세/감독/태그/평점/박스오피스를 한 행에 펼친 테이블)
+CREATE TABLE IF NOT EXISTS movie_card (
+    movie_cd VARCHAR(255) NOT NULL PRIMARY KEY,
+    movie_nm VARCHAR(255) NULL,
+    movie_nm_en VARCHAR(255) NULL,
+    prdt_year VARCHAR(255) NULL,
+    show_tm INT NOT NULL DEFAULT 0,
+    open_dt DATE NULL,
+    prdt_stat_nm VARCHAR(255) NULL,
+    type_nm VARCHAR(255) NULL,
+    genre_nm VARCHAR(255) NULL,
+    nation_nm VARCHAR(255) NULL,
+    watch_grade_nm VARCHAR(255) NULL,
+    company_nm VARCHAR(255) NULL,
+    description TEXT NULL,
+    status VARCHAR(20) NULL,
+    poster_url VARCHAR(255) NULL,
+    director_name VARCHAR(255) NULL,
+    director_photo_url VARCHAR(255) NULL,
+    tag_names VARCHAR(1000) NULL,
+    average_rating DOUBLE NULL,
+    rating_count INT NOT NULL DEFAULT 0,
+    box_office_rank INT NOT NULL DEFAULT 0,
+    audi_acc BIGINT NOT NULL DEFAULT 0,
+    in_movie_list BIT NOT NULL DEFAULT 0,
+    has_detail BIT NOT NULL DEFAULT 0,
+    refreshed_at DATETIME NULL
+);
+
+-- 인덱스 생성 (박스오피스 순위가 바뀔 때 이전 순위 영화 찾기용)
+CREATE INDEX idx_movie_card_box_office_rank ON movie_card(box_office_rank);
@@ -0,0 +1,4 @@
+-- 댓글 스레드 keyset 페이지와 일괄 개수 조회용 인덱스
+CREATE INDEX idx_comment_review_thread ON comment(review_id, parent_id, status, id);
+CREATE INDEX idx_comment_parent_thread ON comment(parent_id, status, id);
+CREATE INDEX idx_comment_likes_comment_user ON comment_likes(comment_id, user_id);
@@ -0,0 +1,23 @@
+-- 댓글 트리 경로 (materialized path): 조상부터 자기까지 ID를 12자리로 채워 '/'로 이음
+-- 하위 트리 조회/하위 댓글 수는 path LIKE '<경로>%' 범위 조회 한 번
+ALTER TABLE comment ADD COLUMN path VARCHAR(500) NULL;
+ALTER TABLE comment ADD COLUMN depth INT NULL;
+
+-- 기존 댓글 경로 채우기 (최상위 댓글부터 재귀)
+UPDATE comment c
+JOIN (
+    WITH RECURSIVE tree (id, path, depth) AS (
+        SELECT id, CAST(CONCAT(LPAD(id, 12, '0'), '/') AS CHAR(500)), 0
+        FROM comment
+        WHERE parent_id IS NULL
+        UNION ALL
+        SELECT child.id, CONCAT(tree.path, LPAD(child.id, 12, '0'), '/'), tree.depth + 1
+        FROM comment child
+        JOIN tree ON child.parent_id = tree.id
+    )
+    SELECT id, path, depth FROM tree
+) t ON c.id = t.id
+SET c.path = t.path, c.depth = t.depth;
+
+CREATE INDEX idx_comment_path ON comment(path);
+CREATE INDEX idx_comment_review_path ON comment(review_id, path);
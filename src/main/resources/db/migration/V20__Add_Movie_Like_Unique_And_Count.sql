@@ -0,0 +1,20 @@
+-- 같은 사용자의 같은 영화 좋아요 중복 정리 (가장 먼저 누른 것만 남김)
+DELETE l1 FROM likes l1
+JOIN likes l2 ON l1.user_id = l2.user_id AND l1.movie_detail_id = l2.movie_detail_id AND l1.id > l2.id;
+
+-- 사용자당 영화 좋아요 하나 (INSERT IGNORE로 중복 요청 무시)
+ALTER TABLE likes ADD CONSTRAINT uk_likes_user_movie UNIQUE (user_id, movie_detail_id);
+
+-- 영화별 좋아요 수 (좋아요 추가/취소 시 증감으로 갱신)
+CREATE TABLE IF NOT EXISTS movie_like_count (
+    movie_cd VARCHAR(20) NOT NULL PRIMARY KEY,
+    like_count BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME NULL
+);
+
+-- 기존 좋아요 집계 (사용자가 없는 좋아요는 취소할 수 없으므로 제외)
+INSERT INTO movie_like_count (movie_cd, like_count, updated_at)
+SELECT movie_detail_id, COUNT(*), CURRENT_TIMESTAMP
+FROM likes
+WHERE movie_detail_id IS NOT NULL AND user_id IS NOT NULL
+GROUP BY movie_detail_id;
@@ -0,0 +1,13 @@
+-- 댓글별 좋아요 수 (좋아요 증감을 메모리에 모았다가 주기적으로 반영)
+CREATE TABLE IF NOT EXISTS comment_like_count (
+    comment_id BIGINT NOT NULL PRIMARY KEY,
+    like_count BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME NULL
+);
+
+-- 기존 댓글 좋아요 집계
+INSERT INTO comment_like_count (comment_id, like_count, updated_at)
+SELECT comment_id, COUNT(*), CURRENT_TIMESTAMP
+FROM comment_likes
+WHERE comment_id IS NOT NULL
+GROUP BY comment_id;
@@ -0,0 +1,10 @@
+-- 영화 상세 방문 기록 (MovieVisitService가 배치 INSERT)
+CREATE TABLE IF NOT EXISTS movie_visit_log (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    visited_at DATETIME NULL,
+    user_id BIGINT NULL,
+    movie_detail_id VARCHAR(20) NULL
+);
+
+-- 영화별 기간 방문 수 조회용 인덱스
+CREATE INDEX idx_movie_visit_log_movie_time ON movie_visit_log(movie_detail_id, visited_at);
@@ -0,0 +1,23 @@
+-- TMDB 인기 영화/개봉예정작 목록 (TmdbMovieListService가 백그라운드에서 교체, 요청은 메모리 스냅샷에서 응답)
+CREATE TABLE IF NOT EXISTS tmdb_movie_list_item (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    list_type VARCHAR(20) NOT NULL,
+    sort_order INT NOT NULL,
+    movie_cd VARCHAR(255) NULL,
+    movie_nm VARCHAR(255) NULL,
+    movie_nm_en VARCHAR(255) NULL,
+    description TEXT NULL,
+    open_dt DATE NULL,
+    show_tm INT NOT NULL DEFAULT 0,
+    genre_nm VARCHAR(255) NULL,
+    nation_nm VARCHAR(255) NULL,
+    watch_grade_nm VARCHAR(255) NULL,
+    company_nm VARCHAR(255) NULL,
+    poster_url VARCHAR(255) NULL,
+    director_name VARCHAR(255) NULL,
+    total_audience INT NOT NULL DEFAULT 0,
+    reservation_rate DOUBLE NOT NULL DEFAULT 0,
+    average_rating DOUBLE NOT NULL DEFAULT 0,
+    refreshed_at DATETIME NULL,
+    CONSTRAINT uk_tmdb_movie_list_item_order UNIQUE (list_type, sort_order)
+);
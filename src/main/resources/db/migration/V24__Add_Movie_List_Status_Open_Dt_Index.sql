@@ -0,0 +1,2 @@
+-- 상태별 목록 keyset 페이지용 인덱스 (상태 일치 구간을 (open_dt, movie_cd) 순으로 seek)
+CREATE INDEX idx_movie_list_status_open_dt ON movie_list(status, open_dt, movie_cd);
@@ -0,0 +1,151 @@
+package com.movie.movie_backend.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TieredCacheTest {
+
+    private static final CacheProfile MOVIES = CacheProfile.of("movies", 100, Duration.ofMinutes(10)).sharedAcrossNodes();
+
+    private InMemorySharedCacheStore sharedStore;
+
+    @BeforeEach
+    public void setUp() {
+        sharedStore = new InMemorySharedCacheStore();
+    }
+
+    @Test
+    public void loadsOnceAndSharesValueThroughL2() {
+        TieredCache nodeA = new TieredCache(MOVIES, sharedStore);
+        TieredCache nodeB = new TieredCache(MOVIES, sharedStore);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("기생충", nodeA.get("20183782", () -> { loads.incrementAndGet(); return "기생충"; }));
+        assertEquals("기생충", nodeA.get("20183782", () -> { loads.incrementAndGet(); return "다른 값"; }));
+        // 다른 노드는 원본 대신 L2에서 읽음
+        assertEquals("기생충", nodeB.get("20183782", () -> { loads.incrementAndGet(); return "다른 값"; }));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void evictOnOneNodeInvalidatesOtherNodesL1() {
+        TieredCache nodeA = new TieredCache(MOVIES, sharedStore);
+        TieredCache nodeB = new TieredCache(MOVIES, sharedStore);
+        nodeA.put("20183782", "기생충");
+        assertEquals("기생충", nodeB.get("20183782", String.class));
+
+        nodeA.evict("20183782");
+
+        assertNull(nodeB.get("20183782"));
+        assertEquals("새 값", nodeB.get("20183782", () -> "새 값"));
+    }
+
+    @Test
+    public void clearInvalidatesWholeCacheOnOtherNodes() {
+        TieredCache nodeA = new TieredCache(MOVIES, sharedStore);
+        TieredCache nodeB = new TieredCache(MOVIES, sharedStore);
+        nodeA.put("a", 1);
+        nodeA.put("b", 2);
+        assertEquals(1, nodeB.get("a", Integer.class));
+
+        nodeB.clear();
+
+        assertNull(nodeA.get("a"));
+        assertNull(nodeA.get("b"));
+    }
+
+    @Test
+    public void localProfileNeverTouchesL2() {
+        TieredCache local = new TieredCache(CacheProfile.of("local", 100, Duration.ofMinutes(1)), sharedStore);
+        local.put("key", "value");
+
+        assertEquals("value", local.get("key", String.class));
+        assertTrue(sharedStore.values.isEmpty());
+    }
+
+    @Test
+    public void nullResultIsCachedOnlyInL1() {
+        TieredCache cache = new TieredCache(MOVIES, sharedStore);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertNull(cache.get("missing", () -> { loads.incrementAndGet(); return null; }));
+        assertNull(cache.get("missing", () -> { loads.incrementAndGet(); return null; }));
+        assertEquals(1, loads.get());
+        assertTrue(sharedStore.values.isEmpty());
+    }
+
+    @Test
+    public void refreshesStaleEntryThroughCallerLoader() throws Exception {
+        TieredCache cache = new TieredCache(CacheProfile.of("refreshing", 100, Duration.ofMinutes(10))
+                .withRefreshAfterWrite(Duration.ofMillis(20)), null);
+        cache.put("key", "old");
+        assertEquals("old", cache.get("key", () -> "new"));
+
+        Thread.sleep(40);
+
+        assertEquals("new", cache.get("key", () -> "new"));
+        assertEquals("new", cache.get("key", String.class));
+    }
+
+    @Test
+    public void weightLimitCountsCollectionSize() {
+        TieredCache cache = new TieredCache(CacheProfile.of("weighted", 0, null).withMaximumWeight(10), null);
+        cache.put("big", List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12));
+        cache.put("small", List.of(1));
+        cache.getNativeCache().cleanUp();
+
+        assertNull(cache.get("big"));
+        assertNotNull(cache.get("small"));
+    }
+
+    /**
+     * 같은 JVM 안의 여러 TieredCache를 서로 다른 노드처럼 연결하는 L2
+     */
+    private static class InMemorySharedCacheStore implements SharedCacheStore {
+
+        private final Map<String, Object> values = new ConcurrentHashMap<>();
+        private final Map<String, List<InvalidationListener>> listeners = new ConcurrentHashMap<>();
+
+        @Override
+        public Object get(String cacheName, String key) {
+            return values.get(cacheName + "::" + key);
+        }
+
+        @Override
+        public void put(String cacheName, String key, Object value, Duration ttl) {
+            values.put(cacheName + "::" + key, value);
+            publish(cacheName, key);
+        }
+
+        @Override
+        public void evict(String cacheName, String key) {
+            values.remove(cacheName + "::" + key);
+            publish(cacheName, key);
+        }
+
+        @Override
+        public void clear(String cacheName) {
+            values.keySet().removeIf(key -> key.startsWith(cacheName + "::"));
+            publish(cacheName, null);
+        }
+
+        @Override
+        public void subscribe(String cacheName, InvalidationListener listener) {
+            listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+        }
+
+        // 실제 저장소는 보낸 노드를 제외하지만, 여기서는 보낸 노드 L1도 지워짐 (다음 조회는 L2에서 읽으므로 결과는 같음)
+        private void publish(String cacheName, String key) {
+            listeners.getOrDefault(cacheName, List.of()).forEach(listener -> listener.invalidated(key));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.movie.movie_backend.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProviderHttpClientTest {
+
+    private ProviderStubServer stubServer;
+    private ProviderHttpClient client;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        stubServer = ProviderStubServer.start();
+        client = new ProviderHttpClient(new ObjectMapper(), ProviderResponseCache.disabled());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        stubServer.close();
+    }
+
+    @Test
+    public void parsesTmdbSearchIntoRecords() {
+        stubServer.stubJson("/3/search/movie", """
+                {"page":1,"total_pages":1,"unknown":true,
+                 "results":[{"id":496243,"title":"기생충","original_title":"Parasite",
+                             "poster_path":"/p.jpg","vote_average":8.5,"vote_count":17000,"adult":false}]}
+                """);
+
+        String url = ProviderHttpClient.buildUrl(stubServer.baseUrl(), "/3/search/movie",
+                Map.of("query", "기생충 2019"));
+        TmdbMovieSearchResponse response = client.get(url, TmdbMovieSearchResponse.class);
+
+        assertEquals(496243, response.firstResult().id());
+        assertEquals("Parasite", response.firstResult().originalTitle());
+        assertEquals(TmdbClient.POSTER_BASE_URL + "/p.jpg", TmdbClient.posterUrl(response.firstResult().posterPath()));
+        assertEquals("query=%EA%B8%B0%EC%83%9D%EC%B6%A9+2019", stubServer.requests("/3/search/movie").get(0));
+    }
+
+    @Test
+    public void parsesKobisNumericStrings() {
+        stubServer.stubJson("/boxoffice/searchDailyBoxOfficeList.json", """
+                {"boxOfficeResult":{"dailyBoxOfficeList":[
+                  {"rank":"1","movieCd":"20190001","movieNm":"기생충","salesAmt":"1234567890","audiCnt":"1000","audiAcc":"10000000"}]}}
+                """);
+
+        KobisBoxOfficeResponse response = client.get(stubServer.baseUrl() + "/boxoffice/searchDailyBoxOfficeList.json",
+                KobisBoxOfficeResponse.class);
+
+        KobisBoxOfficeResponse.Entry entry = response.dailyEntries().get(0);
+        assertEquals(1, entry.rank());
+        assertEquals(1234567890L, entry.salesAmt());
+        assertTrue(response.weeklyEntries().isEmpty());
+    }
+
+    @Test
+    public void coalescesIdenticalInFlightRequests() {
+        stubServer.stub("/3/movie/popular", 200, "{\"page\":1,\"results\":[]}", Duration.ofMillis(300), Map.of());
+        String url = stubServer.baseUrl() + "/3/movie/popular?page=1";
+
+        List<CompletableFuture<TmdbMovieSearchResponse>> futures = IntStream.range(0, 5)
+                .mapToObj(i -> client.getAsync(url, TmdbMovieSearchResponse.class))
+                .toList();
+        futures.forEach(future -> assertEquals(1, future.join().page()));
+        assertEquals(1, stubServer.hits("/3/movie/popular"));
+
+        // 끝난 요청은 재사용하지 않음
+        client.get(url, TmdbMovieSearchResponse.class);
+        assertEquals(2, stubServer.hits("/3/movie/popular"));
+    }
+
+    @Test
+    public void mapsErrorsToRestClientExceptions() {
+        stubServer.stub("/limited", 429, "{}", Duration.ZERO, Map.of(HttpHeaders.RETRY_AFTER, "3"));
+        stubServer.stub("/broken", 503, "{}", Duration.ZERO, Map.of());
+
+        HttpClientErrorException.TooManyRequests tooMany = assertThrows(HttpClientErrorException.TooManyRequests.class,
+                () -> client.get(stubServer.baseUrl() + "/limited?api_key=secret", TmdbMovieSearchResponse.class));
+        assertEquals("3", tooMany.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertFalse(tooMany.getMessage().contains("secret"));
+
+        assertThrows(HttpServerErrorException.class,
+                () -> client.get(stubServer.baseUrl() + "/broken", TmdbMovieSearchResponse.class));
+
+        String closedUrl = stubServer.baseUrl() + "/closed";
+        stubServer.close();
+        assertThrows(ResourceAccessException.class, () -> client.get(closedUrl, TmdbMovieSearchResponse.class));
+    }
+}
@@ -0,0 +1,92 @@
+package com.movie.movie_backend.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProviderResponseCacheTest {
+
+    private static final String SEARCH_JSON = """
+            {"page":1,"total_pages":1,"results":[{"id":496243,"title":"기생충","poster_path":"/p.jpg"}]}
+            """;
+
+    @TempDir
+    Path cacheDir;
+
+    private ProviderStubServer stubServer;
+    private ProviderResponseCache cache;
+    private ProviderHttpClient client;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        stubServer = ProviderStubServer.start();
+        cache = ProviderResponseCache.at(cacheDir);
+        client = new ProviderHttpClient(new ObjectMapper(), cache);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        stubServer.close();
+    }
+
+    @Test
+    public void servesFreshEntryWithoutNetwork() {
+        stubServer.stub("/3/search/movie", 200, SEARCH_JSON, Duration.ZERO, Map.of("ETag", "\"v1\""));
+        String url = stubServer.baseUrl() + "/3/search/movie?query=parasite&api_key=first";
+
+        assertEquals(496243, client.get(url, TmdbMovieSearchResponse.class).firstResult().id());
+        // API 키만 다른 같은 요청도 같은 캐시 항목을 사용
+        String sameQuery = stubServer.baseUrl() + "/3/search/movie?api_key=second&query=parasite";
+        assertEquals(496243, client.get(sameQuery, TmdbMovieSearchResponse.class).firstResult().id());
+
+        assertEquals(1, stubServer.hits("/3/search/movie"));
+        // 프로세스를 다시 띄워도 디스크에 남은 항목을 사용
+        ProviderHttpClient restarted = new ProviderHttpClient(new ObjectMapper(), ProviderResponseCache.at(cacheDir));
+        assertEquals("기생충", restarted.get(url, TmdbMovieSearchResponse.class).firstResult().title());
+        assertEquals(1, stubServer.hits("/3/search/movie"));
+    }
+
+    @Test
+    public void revalidatesExpiredEntryWithEtag() {
+        stubServer.stub("/3/search/movie", 200, "{\"results\":[]}", Duration.ZERO, Map.of("ETag", "\"v1\""));
+        String url = stubServer.baseUrl() + "/3/search/movie?query=parasite";
+        cache.put(url, new ProviderResponseCache.CachedResponse(SEARCH_JSON.getBytes(StandardCharsets.UTF_8),
+                "\"v1\"", null, System.currentTimeMillis() - 1000));
+
+        // 304 → 저장된 본문을 그대로 사용하고 만료 시각만 연장
+        assertEquals(496243, client.get(url, TmdbMovieSearchResponse.class).firstResult().id());
+        assertEquals(1, stubServer.hits("/3/search/movie"));
+        assertTrue(cache.get(url).isFresh(System.currentTimeMillis()));
+
+        client.get(url, TmdbMovieSearchResponse.class);
+        assertEquals(1, stubServer.hits("/3/search/movie"));
+    }
+
+    @Test
+    public void skipsPathsWithoutPolicy() {
+        stubServer.stubJson("/3/trending/movie/day", SEARCH_JSON);
+        String url = stubServer.baseUrl() + "/3/trending/movie/day";
+
+        client.get(url, TmdbMovieSearchResponse.class);
+        client.get(url, TmdbMovieSearchResponse.class);
+
+        assertNull(cache.ttlFor(url));
+        assertEquals(2, stubServer.hits("/3/trending/movie/day"));
+    }
+
+    @Test
+    public void normalizesKeyWithoutSecrets() {
+        assertEquals(ProviderResponseCache.normalize("HTTPS://API.themoviedb.org/3/search/movie?query=a&year=2019"),
+                ProviderResponseCache.normalize("https://api.themoviedb.org/3/search/movie?year=2019&api_key=x&query=a"));
+        assertFalse(ProviderResponseCache.normalize("http://www.kobis.or.kr/x.json?key=secret&movieCd=1").contains("secret"));
+    }
+}
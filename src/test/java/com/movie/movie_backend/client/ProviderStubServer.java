@@ -0,0 +1,109 @@
+package com.movie.movie_backend.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 외부 API 테스트용 로컬 스텁 서버 (WireMock처럼 경로별 응답을 등록하고 요청 기록을 확인)
+ *
+ * - 경로만으로 응답을 고르고 쿼리스트링은 requests()로 따로 확인
+ * - 등록하지 않은 경로는 404
+ * - 응답 헤더에 ETag를 등록하면 If-None-Match가 같은 요청에 304
+ * - TmdbClient/KobisClient/NaverClient의 *.api.base-url을 baseUrl()로 바꾸면 실제 API 대신 호출됨
+ */
+public class ProviderStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final Map<String, Stub> stubs = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> requests = new ConcurrentHashMap<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private ProviderStubServer(HttpServer server) {
+        this.server = server;
+    }
+
+    public static ProviderStubServer start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        ProviderStubServer stubServer = new ProviderStubServer(server);
+        server.createContext("/", stubServer::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        return stubServer;
+    }
+
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public ProviderStubServer stubJson(String path, String json) {
+        return stub(path, 200, json, Duration.ZERO, Map.of());
+    }
+
+    public ProviderStubServer stub(String path, int status, String body, Duration delay, Map<String, String> headers) {
+        stubs.put(path, new Stub(status, body, delay, headers));
+        return this;
+    }
+
+    /**
+     * 경로별 요청 쿼리스트링 목록 (요청 순서)
+     */
+    public List<String> requests(String path) {
+        return requests.getOrDefault(path, List.of());
+    }
+
+    public int hits(String path) {
+        return requests(path).size();
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            server.stop(0);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String query = exchange.getRequestURI().getRawQuery();
+        requests.computeIfAbsent(path, key -> new CopyOnWriteArrayList<>()).add(query != null ? query : "");
+
+        Stub stub = stubs.getOrDefault(path, new Stub(404, "{}", Duration.ZERO, Map.of()));
+        try {
+            if (!stub.delay().isZero()) {
+                Thread.sleep(stub.delay().toMillis());
+            }
+            stub.headers().forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+            String etag = stub.headers().get("ETag");
+            if (etag != null && etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            byte[] body = stub.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+            exchange.sendResponseHeaders(stub.status(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private record Stub(int status, String body, Duration delay, Map<String, String> headers) {
+    }
+}
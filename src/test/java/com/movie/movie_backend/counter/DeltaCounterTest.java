@@ -0,0 +1,97 @@
+package com.movie.movie_backend.counter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeltaCounterTest {
+
+    @Test
+    public void drainReturnsNetDeltaAndKeepsItPendingUntilComplete() {
+        DeltaCounter<String> counter = new DeltaCounter<>();
+        counter.add("20183782", 1);
+        counter.add("20183782", 1);
+        counter.add("20183782", -1);
+        counter.add("20112207", 0);
+
+        Map<String, Long> drained = counter.drain();
+
+        assertEquals(Map.of("20183782", 1L), drained);
+        // 저장 중에도 조회 값에 포함
+        assertEquals(1, counter.pending("20183782"));
+
+        counter.complete(drained);
+        assertEquals(0, counter.pending("20183782"));
+        assertTrue(counter.drain().isEmpty());
+    }
+
+    @Test
+    public void restoreKeepsDeltaForNextDrain() {
+        DeltaCounter<Long> counter = new DeltaCounter<>();
+        counter.add(1L, 3);
+        Map<Long, Long> failed = counter.drain();
+        counter.add(1L, 2);
+
+        counter.restore(failed);
+
+        assertEquals(5, counter.pending(1L));
+        assertEquals(Map.of(1L, 5L), counter.drain());
+    }
+
+    @Test
+    public void idleKeysAreRemovedAfterDrain() {
+        DeltaCounter<Long> counter = new DeltaCounter<>();
+        counter.add(1L, 1);
+        counter.complete(counter.drain());
+        assertEquals(1, counter.size());
+
+        counter.drain();
+
+        assertEquals(0, counter.size());
+    }
+
+    @Test
+    public void concurrentIncrementsAreNotLostWhileDraining() throws Exception {
+        DeltaCounter<String> counter = new DeltaCounter<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong flushed = new AtomicLong();
+        try {
+            Future<?> drainer = executor.submit(() -> {
+                while (running.get()) {
+                    Map<String, Long> drained = counter.drain();
+                    flushed.addAndGet(drained.getOrDefault("hot", 0L));
+                    counter.complete(drained);
+                }
+            });
+            List<Future<?>> writers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                writers.add(executor.submit(() -> {
+                    for (int n = 0; n < 100_000; n++) {
+                        counter.add("hot", 1);
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+            running.set(false);
+            drainer.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        flushed.addAndGet(counter.drain().getOrDefault("hot", 0L));
+
+        assertEquals(300_000, flushed.get());
+    }
+}
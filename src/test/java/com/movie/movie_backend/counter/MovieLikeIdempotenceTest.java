@@ -0,0 +1,109 @@
+package com.movie.movie_backend.counter;
+
+import com.movie.movie_backend.event.LikeChangedEvent;
+import com.movie.movie_backend.repository.PRDMovieRepository;
+import com.movie.movie_backend.repository.REVLikeRepository;
+import com.movie.movie_backend.repository.REVMovieLikeCountRepository;
+import com.movie.movie_backend.service.REVLikeCounterService;
+import com.movie.movie_backend.service.REVMovieLikeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class MovieLikeIdempotenceTest {
+
+    private static final String MOVIE_CD = "20183782";
+
+    // likes 테이블 대신 (user_id, movie_detail_id) 유니크 인덱스처럼 동작하는 Set
+    private final Set<String> likeRows = new HashSet<>();
+    private REVMovieLikeService likeService;
+
+    @BeforeEach
+    public void setUp() {
+        REVLikeRepository likeRepository = mock(REVLikeRepository.class);
+        when(likeRepository.insertIfAbsent(any(), any(), any()))
+                .thenAnswer(invocation -> likeRows.add(row(invocation.getArgument(0), invocation.getArgument(1))) ? 1 : 0);
+        when(likeRepository.deleteByUserIdAndMovieCd(any(), any()))
+                .thenAnswer(invocation -> likeRows.remove(row(invocation.getArgument(0), invocation.getArgument(1))) ? 1 : 0);
+        when(likeRepository.existsByUserIdAndMovieCd(any(), any()))
+                .thenAnswer(invocation -> likeRows.contains(row(invocation.getArgument(0), invocation.getArgument(1))));
+
+        PRDMovieRepository movieRepository = mock(PRDMovieRepository.class);
+        when(movieRepository.existsById(MOVIE_CD)).thenReturn(true);
+
+        // 이벤트는 커밋 후 카운터에 바로 전달된 것으로 봄 (저장된 카운터 행은 없음)
+        REVLikeCounterService likeCounterService =
+                new REVLikeCounterService(mock(JdbcTemplate.class), mock(PlatformTransactionManager.class));
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        doAnswer(invocation -> {
+            likeCounterService.onLikeChanged(invocation.getArgument(0));
+            return null;
+        }).when(eventPublisher).publishEvent(any(LikeChangedEvent.class));
+
+        likeService = new REVMovieLikeService(likeRepository, mock(REVMovieLikeCountRepository.class), movieRepository,
+                likeCounterService, eventPublisher);
+    }
+
+    @Test
+    public void repeatedLikeKeepsSingleRowAndCountsOnce() {
+        assertTrue(likeService.setLiked(MOVIE_CD, 1L, true));
+        assertFalse(likeService.setLiked(MOVIE_CD, 1L, true));
+        assertFalse(likeService.setLiked(MOVIE_CD, 1L, true));
+
+        assertEquals(1, likeRows.size());
+        assertEquals(1, likeService.getLikeCount(MOVIE_CD));
+        assertTrue(likeService.hasLiked(MOVIE_CD, 1L));
+    }
+
+    @Test
+    public void repeatedUnlikeRemovesOnceAndNeverGoesNegative() {
+        likeService.setLiked(MOVIE_CD, 1L, true);
+
+        assertTrue(likeService.setLiked(MOVIE_CD, 1L, false));
+        assertFalse(likeService.setLiked(MOVIE_CD, 1L, false));
+        // 좋아요를 누른 적 없는 사용자의 취소
+        assertFalse(likeService.setLiked(MOVIE_CD, 2L, false));
+
+        assertTrue(likeRows.isEmpty());
+        assertEquals(0, likeService.getLikeCount(MOVIE_CD));
+        assertFalse(likeService.hasLiked(MOVIE_CD, 1L));
+    }
+
+    @Test
+    public void toggleAlternatesAndCountFollowsRows() {
+        assertTrue(likeService.toggle(MOVIE_CD, 1L));
+        assertEquals(1, likeService.getLikeCount(MOVIE_CD));
+
+        assertFalse(likeService.toggle(MOVIE_CD, 1L));
+        assertEquals(0, likeService.getLikeCount(MOVIE_CD));
+
+        assertTrue(likeService.toggle(MOVIE_CD, 1L));
+        assertEquals(1, likeRows.size());
+        assertEquals(1, likeService.getLikeCount(MOVIE_CD));
+    }
+
+    @Test
+    public void eachUserCountsOnce() {
+        likeService.setLiked(MOVIE_CD, 1L, true);
+        likeService.setLiked(MOVIE_CD, 2L, true);
+        likeService.setLiked(MOVIE_CD, 1L, true);
+        likeService.setLiked(MOVIE_CD, 2L, false);
+        likeService.setLiked(MOVIE_CD, 2L, false);
+
+        assertEquals(Set.of(row(1L, MOVIE_CD)), likeRows);
+        assertEquals(1, likeService.getLikeCount(MOVIE_CD));
+    }
+
+    private static String row(Long userId, String movieCd) {
+        return userId + ":" + movieCd;
+    }
+}
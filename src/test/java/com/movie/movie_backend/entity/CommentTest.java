@@ -0,0 +1,72 @@
+package com.movie.movie_backend.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommentTest {
+
+    @Test
+    public void topLevelPathIsPaddedId() {
+        Comment comment = comment(7L, null);
+
+        assertEquals("000000000007/", comment.getPath());
+        assertEquals(Comment.PATH_ID_LENGTH + 1, comment.getPath().length());
+    }
+
+    @Test
+    public void replyPathAppendsToParentPath() {
+        Comment parent = comment(7L, null);
+        Comment reply = comment(42L, parent);
+        Comment nested = comment(100L, reply);
+
+        assertEquals("000000000007/000000000042/", reply.getPath());
+        assertEquals("000000000007/000000000042/000000000100/", nested.getPath());
+    }
+
+    @Test
+    public void subtreePrefixMatchesOnlyDescendants() {
+        Comment root = comment(1L, null);
+        Comment child = comment(2L, root);
+        Comment grandChild = comment(10L, child);
+        Comment sibling = comment(12L, null);
+        List<Comment> all = List.of(root, child, grandChild, sibling);
+
+        // findSubtreeByPath(path + "%")와 같은 조건
+        List<Long> subtree = all.stream()
+                .filter(comment -> comment.getPath().startsWith(root.getPath()))
+                .map(Comment::getId)
+                .toList();
+        assertEquals(List.of(1L, 2L, 10L), subtree);
+
+        // countDescendantsByPath(path + "%", path)와 같은 조건 (자기 제외)
+        long descendants = all.stream()
+                .filter(comment -> comment.getPath().startsWith(child.getPath()) && !comment.getPath().equals(child.getPath()))
+                .count();
+        assertEquals(1, descendants);
+    }
+
+    @Test
+    public void pathOrderIsDisplayOrder() {
+        Comment first = comment(2L, null);
+        Comment second = comment(10L, null);
+        Comment replyToFirst = comment(11L, first);
+        Comment laterReplyToFirst = comment(100L, first);
+
+        // 자릿수를 채워 두었으므로 문자열 순서 = 부모 다음에 자식이 ID(작성) 순
+        List<Long> ordered = List.of(second, laterReplyToFirst, replyToFirst, first).stream()
+                .sorted(Comparator.comparing(Comment::getPath))
+                .map(Comment::getId)
+                .toList();
+        assertEquals(List.of(2L, 11L, 100L, 10L), ordered);
+    }
+
+    private static Comment comment(Long id, Comment parent) {
+        Comment comment = Comment.builder().id(id).parent(parent).build();
+        comment.setPath(comment.buildPath());
+        return comment;
+    }
+}
@@ -0,0 +1,63 @@
+package com.movie.movie_backend.ingestion;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    @Test
+    public void burstIsServedWithoutWaiting() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 3, clock::get);
+
+        assertEquals(0, limiter.reserve());
+        assertEquals(0, limiter.reserve());
+        assertEquals(0, limiter.reserve());
+        // 버스트를 다 쓰면 다음 토큰까지 1/10초
+        assertEquals(SECOND / 10, limiter.reserve());
+    }
+
+    @Test
+    public void waitingCallsAreSpacedInReservationOrder() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 1, clock::get);
+
+        assertEquals(0, limiter.reserve());
+        assertEquals(SECOND / 10, limiter.reserve());
+        assertEquals(2 * SECOND / 10, limiter.reserve());
+    }
+
+    @Test
+    public void tokensRefillOverTimeUpToBurst() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 2, clock::get);
+        limiter.reserve();
+        limiter.reserve();
+
+        // 0.1초 뒤 한 개만 다시 참
+        clock.addAndGet(SECOND / 10);
+        assertEquals(0, limiter.reserve());
+        assertTrue(limiter.reserve() > 0);
+
+        // 오래 쉬어도 burst(2개)까지만 쌓임
+        clock.addAndGet(10 * SECOND);
+        assertEquals(0, limiter.reserve());
+        assertEquals(0, limiter.reserve());
+        assertEquals(SECOND / 10, limiter.reserve());
+    }
+
+    @Test
+    public void pauseDropsTokensAndDelaysRefill() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 5, clock::get);
+
+        limiter.pause(Duration.ofSeconds(2));
+
+        assertEquals(2 * SECOND + SECOND / 10, limiter.reserve());
+    }
+}
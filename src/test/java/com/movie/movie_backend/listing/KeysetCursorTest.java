@@ -0,0 +1,59 @@
+package com.movie.movie_backend.listing;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeysetCursorTest {
+
+    @Test
+    public void openDtCursorSurvivesRoundTrip() {
+        KeysetCursor cursor = KeysetCursor.of(LocalDate.of(2024, 5, 1), "20241234");
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    public void cursorWithoutOpenDtPointsToUndatedSection() {
+        KeysetCursor decoded = KeysetCursor.decode(KeysetCursor.of("20241234").encode());
+
+        assertNull(decoded.openDt());
+        assertEquals("20241234", decoded.key());
+    }
+
+    @Test
+    public void keyMayContainSeparator() {
+        KeysetCursor cursor = KeysetCursor.of(LocalDate.of(2024, 5, 1), "TMDB|42");
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    public void blankCursorMeansFirstPage() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(""));
+        assertNull(KeysetCursor.decode("  "));
+    }
+
+    @Test
+    public void malformedCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not base64!"));
+        // 구분자 없음
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(KeysetCursor.of(null, "").encode()));
+        // 날짜 형식 오류
+        String badDate = Base64.getUrlEncoder().encodeToString("2024-13-01|20241234".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(badDate));
+    }
+
+    @Test
+    public void longKeyParsesNumericKeyOnly() {
+        assertEquals(42L, KeysetCursor.of("42").longKey());
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.of("20241234A").longKey());
+    }
+}
@@ -0,0 +1,45 @@
+package com.movie.movie_backend.listing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeysetPageTest {
+
+    @Test
+    public void fullPageCarriesCursorOfLastRow() {
+        KeysetPage<String> page = KeysetPage.of(List.of("A", "B", "C"), 10, 3, KeysetCursor::of);
+
+        assertEquals("C", KeysetCursor.decode(page.nextCursor()).key());
+        assertEquals(4, page.totalPages());
+    }
+
+    @Test
+    public void partialLastPageHasNoNextCursor() {
+        KeysetPage<String> page = KeysetPage.of(List.of("J"), 10, 3, KeysetCursor::of);
+
+        assertNull(page.nextCursor());
+        assertEquals(List.of("J"), page.content());
+    }
+
+    @Test
+    public void emptyPageHasNoNextCursor() {
+        KeysetPage<String> page = KeysetPage.of(List.of(), 0, 3, KeysetCursor::of);
+
+        assertNull(page.nextCursor());
+        assertEquals(0, page.totalPages());
+    }
+
+    @Test
+    public void mapKeepsPagingInfo() {
+        KeysetPage<String> page = KeysetPage.of(List.of("A", "B"), 5, 2, KeysetCursor::of);
+
+        KeysetPage<Integer> mapped = page.map(rows -> rows.stream().map(String::length).toList());
+
+        assertEquals(List.of(1, 1), mapped.content());
+        assertEquals(page.nextCursor(), mapped.nextCursor());
+        assertEquals(5, mapped.total());
+    }
+}
@@ -0,0 +1,35 @@
+package com.movie.movie_backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KoreanTokenizerTest {
+
+    private final KoreanTokenizer tokenizer = new KoreanTokenizer();
+
+    @Test
+    public void latinWordsAreIndexedWithPrefixes() {
+        Set<String> tokens = tokenizer.indexTokens("Avengers");
+
+        assertTrue(tokens.containsAll(Set.of("a", "av", "aveng", "avengers")));
+        assertFalse(tokens.contains("vengers"));
+    }
+
+    @Test
+    public void hangulWordsAreIndexedWithBigramsAndSyllables() {
+        Set<String> tokens = tokenizer.indexTokens("기생충");
+
+        assertTrue(tokens.containsAll(Set.of("기생충", "기생", "생충", "기", "생", "충")));
+    }
+
+    @Test
+    public void queryTokensMatchIndexRules() {
+        assertEquals(Set.of("기생", "생충"), tokenizer.queryTokens("기생충"));
+        assertEquals(Set.of("봉"), tokenizer.queryTokens("봉"));
+        assertEquals(Set.of("aveng"), tokenizer.queryTokens("Aveng"));
+        assertEquals(Set.of("abcdefghijklmno"), tokenizer.queryTokens("abcdefghijklmnopqrst"));
+    }
+}
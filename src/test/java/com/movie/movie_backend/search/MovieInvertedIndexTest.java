@@ -0,0 +1,64 @@
+package com.movie.movie_backend.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MovieInvertedIndexTest {
+
+    private MovieInvertedIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new MovieInvertedIndex(new KoreanTokenizer());
+        index.upsert(movie("20183782", "기생충", "Parasite", "봉준호", List.of("송강호"), List.of("드라마")));
+        index.upsert(movie("20122356", "어벤져스", "The Avengers", "조스 웨던", List.of("로버트 다우니 주니어"), List.of("액션")));
+        index.upsert(movie("20030321", "살인의 추억", "Memories of Murder", "봉준호", List.of("송강호"), List.of("범죄")));
+    }
+
+    @Test
+    public void partialLatinWordMatchesByPrefix() {
+        assertEquals(List.of("20122356"), movieCds("aveng"));
+        assertEquals(List.of("20122356"), movieCds("AVENGERS"));
+        assertEquals(List.of("20030321"), movieCds("memories of mur"));
+        assertTrue(movieCds("vengers").isEmpty()); // 단어 중간부터는 앞부분 토큰이 아님
+    }
+
+    @Test
+    public void longLatinWordIsVerifiedAgainstOriginalText() {
+        index.upsert(movie("20990001", "긴 제목", "Supercalifragilisticexpialidocious", "감독", List.of(), List.of()));
+
+        assertEquals(List.of("20990001"), movieCds("supercalifragilisticexpi"));
+        assertTrue(movieCds("supercalifragilisticexpiXX").isEmpty());
+    }
+
+    @Test
+    public void singleHangulSyllableMatchesAnyField() {
+        assertEquals(List.of("20183782"), movieCds("충"));
+        assertEquals(2, movieCds("봉").size()); // 감독 봉준호
+        assertTrue(movieCds("펭").isEmpty());
+    }
+
+    @Test
+    public void hangulBigramAndChosungStillWork() {
+        assertEquals(List.of("20183782"), movieCds("기생"));
+        assertEquals(List.of("20030321"), movieCds("살인의추억"));
+        assertEquals(List.of("20183782"), movieCds("ㄱㅅㅊ"));
+        assertEquals(List.of("20183782"), movieCds("기생ㅊ"));
+    }
+
+    private List<String> movieCds(String query) {
+        return index.search(query, 0, 10).hits().stream()
+                .map(hit -> hit.document().getMovieCd())
+                .sorted()
+                .toList();
+    }
+
+    private static MovieDocument movie(String movieCd, String movieNm, String movieNmEn, String director,
+                                       List<String> actors, List<String> genres) {
+        return new MovieDocument(movieCd, movieNm, movieNmEn, director, actors, List.of(), genres, null, 0, 0.0);
+    }
+}
@@ -0,0 +1,149 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.constant.MovieStatus;
+import com.movie.movie_backend.entity.BoxOffice;
+import com.movie.movie_backend.entity.MovieCard;
+import com.movie.movie_backend.entity.MovieDetail;
+import com.movie.movie_backend.entity.MovieList;
+import com.movie.movie_backend.event.MovieCardChangedEvent;
+import com.movie.movie_backend.event.MovieChangedEvent;
+import com.movie.movie_backend.repository.BoxOfficeRepository;
+import com.movie.movie_backend.repository.PRDMovieCardRepository;
+import com.movie.movie_backend.repository.PRDMovieListRepository;
+import com.movie.movie_backend.repository.PRDMovieRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class MovieCardServiceTest {
+
+    private PRDMovieCardRepository cardRepository;
+    private PRDMovieListRepository movieListRepository;
+    private PRDMovieRepository movieRepository;
+    private BoxOfficeRepository boxOfficeRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private MovieCardService service;
+
+    @BeforeEach
+    public void setUp() {
+        cardRepository = mock(PRDMovieCardRepository.class);
+        movieListRepository = mock(PRDMovieListRepository.class);
+        movieRepository = mock(PRDMovieRepository.class);
+        boxOfficeRepository = mock(BoxOfficeRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        service = new MovieCardService(cardRepository, movieListRepository, movieRepository, boxOfficeRepository,
+                eventPublisher, mock(PlatformTransactionManager.class), 100, 60);
+
+        when(cardRepository.save(any(MovieCard.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    public void changedMovieCardIsAssembledFromAllSources() {
+        stubSources("20191234");
+
+        service.onMovieChanged(new MovieChangedEvent("20191234", MovieChangedEvent.ChangeType.SAVED));
+        service.applyPendingChanges();
+
+        // 갱신된 카드는 캐시에서 바로 나옴 (테이블 조회 없음)
+        MovieCard card = service.getCard("20191234");
+        assertNotNull(card);
+        assertEquals("기생충", card.getMovieNm());                 // MovieDetail 우선
+        assertEquals("드라마", card.getGenreNm());                 // MovieDetail에 없으면 MovieList 값
+        assertEquals("poster.jpg", card.getPosterUrl());          // 포스터는 MovieList
+        assertEquals("봉준호", card.getDirectorName());
+        assertEquals("director.jpg", card.getDirectorPhotoUrl());
+        assertEquals(List.of("스릴러", "블랙코미디"), card.getTagNameList());
+        assertEquals(4.5, card.getAverageRating());
+        assertEquals(3, card.getRatingCount());
+        assertEquals(1, card.getBoxOfficeRank());
+        assertEquals(10_000_000L, card.getAudiAcc());
+        assertTrue(card.isInMovieList());
+        assertTrue(card.isHasDetail());
+        assertNotNull(card.getRefreshedAt());
+
+        ArgumentCaptor<MovieCardChangedEvent> event = ArgumentCaptor.forClass(MovieCardChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertTrue(event.getValue().getMovieCds().contains("20191234"));
+    }
+
+    @Test
+    public void deletedMovieCardIsRemoved() {
+        MovieCard existing = MovieCard.builder().movieCd("20191234").movieNm("기생충").build();
+        when(cardRepository.findAllById(any())).thenReturn(List.of(existing));
+
+        service.onMovieChanged(new MovieChangedEvent("20191234", MovieChangedEvent.ChangeType.DELETED));
+        service.applyPendingChanges();
+
+        verify(cardRepository).delete(existing);
+        verify(cardRepository, never()).save(any());
+    }
+
+    @Test
+    public void failedRefreshIsRetriedOnNextCycle() {
+        stubSources("20191234");
+        when(movieListRepository.findAllById(any()))
+                .thenThrow(new IllegalStateException("DB 연결 실패"))
+                .thenReturn(List.of(movieList("20191234")));
+
+        service.onMovieChanged(new MovieChangedEvent("20191234", MovieChangedEvent.ChangeType.SAVED));
+        service.applyPendingChanges();
+        verify(cardRepository, never()).save(any());
+
+        service.applyPendingChanges();
+        verify(cardRepository).save(any(MovieCard.class));
+    }
+
+    @Test
+    public void rebuildAllRefreshesEveryMovieAndDropsStaleCards() {
+        stubSources("20191234");
+        when(movieListRepository.findMovieCdsAfter(eq(""), any())).thenReturn(List.of("20191234"));
+        when(cardRepository.deleteRefreshedBefore(any())).thenReturn(2);
+
+        service.rebuildAll();
+
+        verify(cardRepository).save(any(MovieCard.class));
+        verify(cardRepository).deleteRefreshedBefore(any());
+        ArgumentCaptor<MovieCardChangedEvent> event = ArgumentCaptor.forClass(MovieCardChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertNull(event.getValue().getMovieCds());
+    }
+
+    private void stubSources(String movieCd) {
+        MovieDetail detail = MovieDetail.builder()
+                .movieCd(movieCd)
+                .movieNm("기생충")
+                .status(MovieStatus.ENDED)
+                .averageRating(4.5)
+                .ratingCount(3)
+                .build();
+        when(movieListRepository.findAllById(any())).thenReturn(List.of(movieList(movieCd)));
+        when(movieRepository.findAllById(any())).thenReturn(List.of(detail));
+        when(movieRepository.findDirectorsByMovieCdIn(any()))
+                .thenReturn(List.<Object[]>of(new Object[]{movieCd, "봉준호", "director.jpg"}));
+        when(movieRepository.findTagNamesByMovieCdIn(any()))
+                .thenReturn(List.of(new Object[]{movieCd, "스릴러"}, new Object[]{movieCd, "블랙코미디"}));
+        when(boxOfficeRepository.findLatestBoxOfficeTop10("DAILY")).thenReturn(List.of(
+                BoxOffice.builder().movieCd(movieCd).movieNm("기생충").rank(1).audiAcc(10_000_000L).rankType("DAILY").build()));
+        when(cardRepository.findMovieCdsWithBoxOfficeRank()).thenReturn(List.of());
+    }
+
+    private static MovieList movieList(String movieCd) {
+        return MovieList.builder()
+                .movieCd(movieCd)
+                .movieNm("기생충 (목록)")
+                .genreNm("드라마")
+                .posterUrl("poster.jpg")
+                .status(MovieStatus.ENDED)
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.constant.MovieStatus;
+import com.movie.movie_backend.entity.MovieList;
+import com.movie.movie_backend.listing.KeysetCursor;
+import com.movie.movie_backend.listing.KeysetPage;
+import com.movie.movie_backend.repository.BoxOfficeRepository;
+import com.movie.movie_backend.repository.PRDMovieListRepository;
+import com.movie.movie_backend.repository.PRDMovieRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class MovieListingServiceTest {
+
+    private static final LocalDate OPEN_DT = LocalDate.now().plusDays(10);
+
+    private PRDMovieListRepository movieListRepository;
+    private MovieListingService service;
+
+    @BeforeEach
+    public void setUp() {
+        movieListRepository = mock(PRDMovieListRepository.class);
+        service = new MovieListingService(movieListRepository, mock(PRDMovieRepository.class), mock(BoxOfficeRepository.class));
+    }
+
+    @Test
+    public void tiesOnOpenDtAreOrderedByMovieCdAcrossBothSeeks() {
+        when(movieListRepository.findListingInRangeAsc(any(), any(), any()))
+                .thenReturn(List.of(movie("20240001", OPEN_DT), movie("20240003", OPEN_DT)));
+        // 상태 쪽에도 같은 영화가 있으면 한 번만
+        when(movieListRepository.findListingByStatusAsc(eq(MovieStatus.COMING_SOON), any()))
+                .thenReturn(List.of(movie("20240002", OPEN_DT), movie("20240001", OPEN_DT)));
+
+        KeysetPage<MovieList> page = service.getComingSoon(null, 0, 3);
+
+        assertEquals(List.of("20240001", "20240002", "20240003"), movieCds(page));
+        assertEquals(KeysetCursor.of(OPEN_DT, "20240003"), KeysetCursor.decode(page.nextCursor()));
+        verify(movieListRepository, never()).findListingWithoutOpenDtAsc(any(), any());
+    }
+
+    @Test
+    public void nextPageSeeksFromBoundaryRowAndContinuesIntoUndatedSection() {
+        when(movieListRepository.findListingInRangeAfter(any(), any(), eq(OPEN_DT), eq("20240002"), any()))
+                .thenReturn(List.of(movie("20240003", OPEN_DT)));
+        when(movieListRepository.findListingWithoutOpenDtAsc(eq(MovieStatus.COMING_SOON), any()))
+                .thenReturn(List.of(movie("20249999", null)));
+
+        KeysetPage<MovieList> page = service.getComingSoon(KeysetCursor.of(OPEN_DT, "20240002").encode(), 0, 3);
+
+        assertEquals(List.of("20240003", "20249999"), movieCds(page));
+        assertNull(page.nextCursor());
+        verify(movieListRepository).findListingByStatusAfter(MovieStatus.COMING_SOON, OPEN_DT, "20240002",
+                PageRequest.of(0, 3));
+    }
+
+    @Test
+    public void fullUndatedPageCarriesCursorWithoutOpenDt() {
+        when(movieListRepository.findListingWithoutOpenDtAfter(eq(MovieStatus.COMING_SOON), eq("20249000"), any()))
+                .thenReturn(List.of(movie("20249001", null), movie("20249002", null)));
+
+        KeysetPage<MovieList> page = service.getComingSoon(KeysetCursor.of("20249000").encode(), 0, 2);
+
+        assertEquals(List.of("20249001", "20249002"), movieCds(page));
+        assertEquals(KeysetCursor.of("20249002"), KeysetCursor.decode(page.nextCursor()));
+        // 개봉일 있는 구간은 이미 다 읽었으므로 조회하지 않음
+        verify(movieListRepository, never()).findListingInRangeAsc(any(), any(), any());
+        verify(movieListRepository, never()).findListingInRangeAfter(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void emptyListingHasNoNextCursor() {
+        KeysetPage<MovieList> page = service.getComingSoon(null, 0, 20);
+
+        assertTrue(page.content().isEmpty());
+        assertNull(page.nextCursor());
+        assertEquals(0, page.total());
+    }
+
+    @Test
+    public void malformedCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> service.getNowPlaying("%%%", 0, 20));
+    }
+
+    private static MovieList movie(String movieCd, LocalDate openDt) {
+        return MovieList.builder().movieCd(movieCd).openDt(openDt).status(MovieStatus.COMING_SOON).build();
+    }
+
+    private static List<String> movieCds(KeysetPage<MovieList> page) {
+        return page.content().stream().map(MovieList::getMovieCd).toList();
+    }
+}
@@ -0,0 +1,89 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.entity.Comment;
+import com.movie.movie_backend.entity.Review;
+import com.movie.movie_backend.entity.User;
+import com.movie.movie_backend.mapper.CommentMapper;
+import com.movie.movie_backend.repository.REVCommentLikeCountRepository;
+import com.movie.movie_backend.repository.REVCommentLikeRepository;
+import com.movie.movie_backend.repository.REVCommentRepository;
+import com.movie.movie_backend.repository.REVReviewRepository;
+import com.movie.movie_backend.repository.USRUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class REVCommentServiceTest {
+
+    private static final String ROOT_PATH = "000000000007/";
+
+    private REVCommentRepository commentRepository;
+    private USRUserRepository userRepository;
+    private REVReviewRepository reviewRepository;
+    private REVCommentService service;
+
+    private final Review review = Review.builder().id(1L).build();
+
+    @BeforeEach
+    public void setUp() {
+        commentRepository = mock(REVCommentRepository.class);
+        userRepository = mock(USRUserRepository.class);
+        reviewRepository = mock(REVReviewRepository.class);
+        service = new REVCommentService(commentRepository, mock(REVCommentLikeRepository.class), reviewRepository,
+                userRepository, mock(CommentMapper.class), mock(REVCommentLikeCountRepository.class),
+                mock(REVLikeCounterService.class), mock(ApplicationEventPublisher.class));
+
+        when(userRepository.findById(3L)).thenReturn(Optional.of(User.builder().id(3L).build()));
+        when(reviewRepository.findById(1L)).thenReturn(Optional.of(review));
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> {
+            Comment saved = invocation.getArgument(0);
+            saved.setId(42L);
+            return saved;
+        });
+    }
+
+    @Test
+    public void replyGetsParentPathPlusOwnPaddedId() {
+        when(commentRepository.findById(7L)).thenReturn(Optional.of(parent(ROOT_PATH)));
+
+        Comment reply = service.createComment(1L, 3L, "답글", 7L);
+
+        assertEquals(ROOT_PATH + "000000000042/", reply.getPath());
+        assertEquals(1, reply.getDepth());
+    }
+
+    @Test
+    public void replyBeyondPathColumnIsRejected() {
+        // 다음 단계(ID 12자리 + '/')를 붙이면 500자를 넘는 경로
+        when(commentRepository.findById(7L)).thenReturn(Optional.of(parent("0".repeat(490))));
+
+        assertThrows(RuntimeException.class, () -> service.createComment(1L, 3L, "답글", 7L));
+        verify(commentRepository, never()).save(any());
+    }
+
+    @Test
+    public void subtreeIsQueriedByPathPrefix() {
+        when(commentRepository.findById(7L)).thenReturn(Optional.of(parent(ROOT_PATH)));
+
+        assertTrue(service.getSubtree(7L, null).isEmpty());
+        verify(commentRepository).findSubtreeByPath(ROOT_PATH + "%");
+    }
+
+    @Test
+    public void descendantCountExcludesCommentItself() {
+        when(commentRepository.findById(7L)).thenReturn(Optional.of(parent(ROOT_PATH)));
+        when(commentRepository.countDescendantsByPath(ROOT_PATH + "%", ROOT_PATH)).thenReturn(5L);
+
+        assertEquals(5, service.getDescendantCount(7L));
+    }
+
+    private Comment parent(String path) {
+        return Comment.builder().id(7L).review(review).path(path).depth(0).status(Comment.CommentStatus.ACTIVE).build();
+    }
+}
@@ -0,0 +1,186 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.entity.MovieDetail;
+import com.movie.movie_backend.entity.MovieRatingAggregate;
+import com.movie.movie_backend.event.RatingAggregateChangedEvent;
+import com.movie.movie_backend.repository.PRDMovieRepository;
+import com.movie.movie_backend.repository.REVRatingAggregateRepository;
+import com.movie.movie_backend.repository.REVRatingRepository;
+import com.movie.movie_backend.repository.REVReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class REVRatingAggregateServiceTest {
+
+    private static final String MOVIE_CD = "20183782";
+
+    // movie_rating_aggregate 테이블 대신 (UPDATE 쿼리와 같은 계산을 메모리에서 수행)
+    private final Map<String, MovieRatingAggregate> table = new HashMap<>();
+    private final MovieDetail movie = MovieDetail.builder().movieCd(MOVIE_CD).build();
+
+    private REVRatingAggregateRepository aggregateRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private REVRatingAggregateService service;
+
+    @BeforeEach
+    public void setUp() {
+        aggregateRepository = mock(REVRatingAggregateRepository.class);
+        doAnswer(invocation -> {
+            table.computeIfAbsent(invocation.getArgument(0), movieCd -> MovieRatingAggregate.builder().movieCd(movieCd).build());
+            return null;
+        }).when(aggregateRepository).insertIfAbsent(anyString());
+        when(aggregateRepository.addRatingDelta(anyString(), anyLong(), anyLong(), any())).thenAnswer(invocation -> {
+            MovieRatingAggregate aggregate = table.get(invocation.<String>getArgument(0));
+            aggregate.setRatingSum(aggregate.getRatingSum() + invocation.<Long>getArgument(1));
+            aggregate.setRatingCount(aggregate.getRatingCount() + invocation.<Long>getArgument(2));
+            return 1;
+        });
+        when(aggregateRepository.setRatingTotals(anyString(), anyLong(), anyLong(), any())).thenAnswer(invocation -> {
+            MovieRatingAggregate aggregate = table.get(invocation.<String>getArgument(0));
+            aggregate.setRatingSum(invocation.<Long>getArgument(1));
+            aggregate.setRatingCount(invocation.<Long>getArgument(2));
+            return 1;
+        });
+        when(aggregateRepository.refreshRatingAverage(anyString())).thenAnswer(invocation -> {
+            MovieRatingAggregate aggregate = table.get(invocation.<String>getArgument(0));
+            aggregate.setRatingAverage(aggregate.getRatingCount() > 0
+                    ? aggregate.getRatingSum() * 1.0 / aggregate.getRatingCount() : null);
+            return 1;
+        });
+        when(aggregateRepository.addReviewDelta(anyString(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), any())).thenAnswer(invocation -> {
+            MovieRatingAggregate aggregate = table.get(invocation.<String>getArgument(0));
+            aggregate.setReviewRatingSum(aggregate.getReviewRatingSum() + invocation.<Long>getArgument(1));
+            aggregate.setReviewRatingCount(aggregate.getReviewRatingCount() + invocation.<Long>getArgument(2));
+            aggregate.setReviewScore1(aggregate.getReviewScore1() + invocation.<Long>getArgument(3));
+            aggregate.setReviewScore2(aggregate.getReviewScore2() + invocation.<Long>getArgument(4));
+            aggregate.setReviewScore3(aggregate.getReviewScore3() + invocation.<Long>getArgument(5));
+            aggregate.setReviewScore4(aggregate.getReviewScore4() + invocation.<Long>getArgument(6));
+            aggregate.setReviewScore5(aggregate.getReviewScore5() + invocation.<Long>getArgument(7));
+            return 1;
+        });
+        when(aggregateRepository.findRatingSumAndCount(anyString())).thenAnswer(invocation -> {
+            MovieRatingAggregate aggregate = table.get(invocation.<String>getArgument(0));
+            return aggregate == null ? List.of()
+                    : List.<Object[]>of(new Object[]{aggregate.getRatingSum(), aggregate.getRatingCount()});
+        });
+
+        PRDMovieRepository movieRepository = mock(PRDMovieRepository.class);
+        when(movieRepository.findById(MOVIE_CD)).thenReturn(Optional.of(movie));
+        eventPublisher = mock(ApplicationEventPublisher.class);
+
+        service = new REVRatingAggregateService(aggregateRepository, mock(REVRatingRepository.class),
+                mock(REVReviewRepository.class), movieRepository, eventPublisher);
+    }
+
+    @Test
+    public void addChangeAndRemoveDeltas() {
+        service.applyRatingChange(MOVIE_CD, null, 4);
+        service.applyRatingChange(MOVIE_CD, null, 3);
+        assertTotals(7, 2, 3.5);
+
+        service.applyRatingChange(MOVIE_CD, 3, 5);
+        assertTotals(9, 2, 4.5);
+
+        service.applyRatingChange(MOVIE_CD, 4, null);
+        assertTotals(5, 1, 5.0);
+
+        service.applyRatingChange(MOVIE_CD, 5, null);
+        assertTotals(0, 0, null);
+        assertNull(movie.getAverageRating());
+        assertEquals(0, movie.getRatingCount());
+
+        assertEquals(List.of(RatingAggregateChangedEvent.ChangeKind.ADDED, RatingAggregateChangedEvent.ChangeKind.ADDED,
+                RatingAggregateChangedEvent.ChangeKind.UPDATED, RatingAggregateChangedEvent.ChangeKind.REMOVED,
+                RatingAggregateChangedEvent.ChangeKind.REMOVED), publishedKinds());
+    }
+
+    @Test
+    public void unchangedScoreIsNoOp() {
+        service.applyRatingChange(MOVIE_CD, 4, 4);
+        service.applyRatingChange(MOVIE_CD, null, null);
+        service.applyRatingChange(null, null, 4);
+
+        verify(aggregateRepository, never()).addRatingDelta(anyString(), anyLong(), anyLong(), any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    public void movieDetailCacheFollowsAggregateRoundedToOneDecimal() {
+        service.applyRatingChange(MOVIE_CD, null, 5);
+        service.applyRatingChange(MOVIE_CD, null, 4);
+        service.applyRatingChange(MOVIE_CD, null, 4);
+
+        assertEquals(4.3, movie.getAverageRating());
+        assertEquals(3, movie.getRatingCount());
+        assertNotNull(movie.getRatingUpdatedAt());
+    }
+
+    @Test
+    public void reviewDeltasMoveHistogramBuckets() {
+        service.applyReviewRatingChange(MOVIE_CD, null, 5);
+        service.applyReviewRatingChange(MOVIE_CD, null, 2);
+        service.applyReviewRatingChange(MOVIE_CD, 5, 3);
+
+        MovieRatingAggregate aggregate = table.get(MOVIE_CD);
+        assertEquals(5, aggregate.getReviewRatingSum());
+        assertEquals(2, aggregate.getReviewRatingCount());
+        assertEquals(0, aggregate.getReviewScore5());
+        assertEquals(1, aggregate.getReviewScore3());
+        assertEquals(1, aggregate.getReviewScore2());
+
+        // 리뷰 삭제 (countedRating이 null)
+        service.applyReviewRatingChange(MOVIE_CD, 3, null);
+        service.applyReviewRatingChange(MOVIE_CD, 2, null);
+        assertEquals(0, aggregate.getReviewRatingSum());
+        assertEquals(0, aggregate.getReviewRatingCount());
+        assertEquals(0, aggregate.getReviewScore2() + aggregate.getReviewScore3() + aggregate.getReviewScore5());
+    }
+
+    @Test
+    public void deltasAfterRecountStartFromRecountedTotals() {
+        service.applyRatingChange(MOVIE_CD, null, 4);
+        service.applyRatingChange(MOVIE_CD, null, 2);
+        // 집계가 원본과 어긋난 상태 (예: 이전 값 없이 지워진 평점)
+        table.get(MOVIE_CD).setRatingSum(10);
+        table.get(MOVIE_CD).setRatingCount(3);
+
+        when(aggregateRepository.sumRatingsForMovie(MOVIE_CD)).thenReturn(List.<Object[]>of(new Object[]{6L, 2L}));
+        service.refreshRating(MOVIE_CD);
+        assertTotals(6, 2, 3.0);
+        assertEquals(3.0, movie.getAverageRating());
+
+        service.applyRatingChange(MOVIE_CD, null, 3);
+        service.applyRatingChange(MOVIE_CD, 2, 5);
+        assertTotals(12, 3, 4.0);
+        assertEquals(4.0, movie.getAverageRating());
+        assertEquals(3, movie.getRatingCount());
+        assertEquals(RatingAggregateChangedEvent.ChangeKind.RECOUNTED, publishedKinds().get(2));
+    }
+
+    private void assertTotals(long sum, long count, Double average) {
+        MovieRatingAggregate aggregate = table.get(MOVIE_CD);
+        assertEquals(sum, aggregate.getRatingSum());
+        assertEquals(count, aggregate.getRatingCount());
+        assertEquals(average, aggregate.getRatingAverage());
+    }
+
+    private List<RatingAggregateChangedEvent.ChangeKind> publishedKinds() {
+        ArgumentCaptor<RatingAggregateChangedEvent> events = ArgumentCaptor.forClass(RatingAggregateChangedEvent.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+        return events.getAllValues().stream().map(RatingAggregateChangedEvent::getKind).toList();
+    }
+}
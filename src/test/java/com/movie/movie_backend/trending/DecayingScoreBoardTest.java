@@ -0,0 +1,67 @@
+package com.movie.movie_backend.trending;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DecayingScoreBoardTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+    private static final long START = 1_000 * HOUR;
+
+    @Test
+    public void scoreHalvesEveryHalfLife() {
+        DecayingScoreBoard board = new DecayingScoreBoard(Duration.ofHours(6), START);
+        board.add("20183782", 8, START);
+
+        assertEquals(8, board.score("20183782", START), 1e-9);
+        assertEquals(4, board.score("20183782", START + 6 * HOUR), 1e-9);
+        assertEquals(1, board.score("20183782", START + 18 * HOUR), 1e-9);
+        assertEquals(0, board.score("20112207", START));
+    }
+
+    @Test
+    public void recentActivityOutranksOlderActivityOfSameWeight() {
+        DecayingScoreBoard board = new DecayingScoreBoard(Duration.ofHours(6), START);
+        board.add("old", 10, START);
+        board.add("new", 6, START + 6 * HOUR);
+        board.add("small", 1, START + 6 * HOUR);
+
+        List<TrendingEntry> top = board.top(2, START + 6 * HOUR);
+
+        assertEquals(List.of("new", "old"), top.stream().map(TrendingEntry::movieCd).toList());
+        assertEquals(1, top.get(0).rank());
+        assertEquals(5, top.get(1).score(), 1e-9);
+    }
+
+    @Test
+    public void rebaseKeepsScoresFarInTheFuture() {
+        DecayingScoreBoard board = new DecayingScoreBoard(Duration.ofHours(1), START);
+        board.add("20183782", 1, START);
+        long later = START + 40 * HOUR; // 저장값 지수가 32를 넘어 기준 시각 이동
+        board.add("20112207", 3, later);
+
+        assertEquals(3, board.score("20112207", later), 1e-9);
+        assertEquals(Math.pow(2, -40), board.score("20183782", later), 1e-18);
+        assertEquals("20112207", board.top(1, later).get(0).movieCd());
+    }
+
+    @Test
+    public void compactDropsDecayedKeysAndKeepsOthers() {
+        DecayingScoreBoard board = new DecayingScoreBoard(Duration.ofHours(1), START);
+        board.add("faded", 1, START);
+        board.add("alive", 1, START + 10 * HOUR);
+
+        assertEquals(1, board.compact(0.01, START + 10 * HOUR));
+        assertEquals(0, board.score("faded", START + 10 * HOUR));
+
+        board.add("alive", 1, START + 10 * HOUR);
+        board.add("faded", 3, START + 10 * HOUR);
+        assertEquals(2, board.score("alive", START + 10 * HOUR), 1e-9);
+        assertEquals(List.of("faded", "alive"),
+                board.top(10, START + 10 * HOUR).stream().map(TrendingEntry::movieCd).toList());
+    }
+}
@@ -0,0 +1,49 @@
+package com.movie.movie_backend.visit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SlidingWindowCounterTest {
+
+    private static final long MINUTE = Duration.ofMinutes(1).toMillis();
+    private static final long START = 1_000 * MINUTE;
+
+    @Test
+    public void countsOnlyVisitsInsideWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(60, Duration.ofMinutes(1));
+        counter.increment("20183782", START);
+        counter.increment("20183782", START + 10 * MINUTE);
+        counter.increment("20183782", START + 10 * MINUTE + 1);
+
+        long now = START + 10 * MINUTE + 30_000;
+        assertEquals(2, counter.count("20183782", Duration.ofMinutes(1), now));
+        assertEquals(3, counter.count("20183782", Duration.ofMinutes(15), now));
+        assertEquals(0, counter.count("20112207", Duration.ofMinutes(15), now));
+    }
+
+    @Test
+    public void reusedBucketForgetsOldCount() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(60, Duration.ofMinutes(1));
+        counter.increment("20183782", START);
+        // 같은 버킷 자리를 쓰는 한 시간 뒤 방문
+        counter.increment("20183782", START + 60 * MINUTE);
+
+        assertEquals(1, counter.count("20183782", Duration.ofHours(1), START + 60 * MINUTE));
+    }
+
+    @Test
+    public void pruneRemovesKeysWithoutRecentVisits() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(60, Duration.ofMinutes(1));
+        counter.increment("old", START);
+        counter.increment("recent", START + 50 * MINUTE);
+
+        counter.prune(START + 70 * MINUTE);
+
+        assertEquals(1, counter.size());
+        assertEquals(Map.of("recent", 1L), counter.counts(Duration.ofHours(1), START + 70 * MINUTE));
+    }
+}
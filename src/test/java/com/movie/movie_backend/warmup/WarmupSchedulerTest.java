@@ -0,0 +1,173 @@
+package com.movie.movie_backend.warmup;
+
+import com.movie.movie_backend.entity.WarmupTaskState;
+import com.movie.movie_backend.repository.SYSWarmupTaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class WarmupSchedulerTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final Instant FIRST_BOOT = Instant.parse("2026-01-01T00:00:00Z");
+
+    // 재시작해도 남아 있는 warmup_task_state 테이블
+    private final Map<String, WarmupTaskState> stateTable = new HashMap<>();
+    private SYSWarmupTaskRepository stateRepository;
+
+    @BeforeEach
+    public void setUp() {
+        stateTable.clear();
+        stateRepository = mock(SYSWarmupTaskRepository.class);
+        when(stateRepository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(stateTable.get(invocation.<String>getArgument(0))));
+        when(stateRepository.save(any(WarmupTaskState.class))).thenAnswer(invocation -> {
+            WarmupTaskState state = invocation.getArgument(0);
+            stateTable.put(state.getTaskName(), state);
+            return state;
+        });
+    }
+
+    @Test
+    public void finishedTaskIsSkippedOnRestartWithinRerunAfter() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        WarmupTask task = WarmupTask.of("daily-sync", WarmupStage.CATALOG, Duration.ofHours(24), runs::incrementAndGet);
+
+        boot(task, FIRST_BOOT);
+        assertEquals(1, runs.get());
+        assertEquals(WarmupTaskStatus.COMPLETED, stateTable.get("daily-sync").getStatus());
+        assertEquals(LocalDateTime.ofInstant(FIRST_BOOT, ZONE), stateTable.get("daily-sync").getFinishedAt());
+
+        // 2시간 뒤 재시작 → 24시간 안에 완료됐으므로 건너뜀
+        WarmupScheduler restarted = boot(task, FIRST_BOOT.plus(Duration.ofHours(2)));
+        assertEquals(1, runs.get());
+        assertEquals(WarmupTaskStatus.SKIPPED, restarted.getTasks().get(0).status());
+        // 건너뛴 기록이 완료 시각을 덮어쓰지 않음 → 다음 재시작도 첫 완료 시각 기준
+        assertEquals(WarmupTaskStatus.COMPLETED, stateTable.get("daily-sync").getStatus());
+        assertEquals(LocalDateTime.ofInstant(FIRST_BOOT, ZONE), stateTable.get("daily-sync").getFinishedAt());
+    }
+
+    @Test
+    public void finishedTaskRunsAgainAfterRerunAfterElapses() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        WarmupTask task = WarmupTask.of("daily-sync", WarmupStage.CATALOG, Duration.ofHours(24), runs::incrementAndGet);
+
+        boot(task, FIRST_BOOT);
+        WarmupScheduler restarted = boot(task, FIRST_BOOT.plus(Duration.ofHours(25)));
+
+        assertEquals(2, runs.get());
+        assertEquals(WarmupTaskStatus.COMPLETED, restarted.getTasks().get(0).status());
+        assertEquals(LocalDateTime.ofInstant(FIRST_BOOT.plus(Duration.ofHours(25)), ZONE),
+                stateTable.get("daily-sync").getFinishedAt());
+    }
+
+    @Test
+    public void zeroRerunAfterRunsOnEveryRestart() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        WarmupTask task = WarmupTask.of("search-index", WarmupStage.INDEX, runs::incrementAndGet);
+
+        boot(task, FIRST_BOOT);
+        boot(task, FIRST_BOOT.plus(Duration.ofMinutes(1)));
+
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    public void interruptedTaskResumesFromSavedCheckpoint() throws Exception {
+        // 이전 실행이 체크포인트를 남기고 중단됨 (RUNNING 상태로 남음)
+        stateTable.put("detail-backfill", WarmupTaskState.builder()
+                .taskName("detail-backfill")
+                .status(WarmupTaskStatus.RUNNING)
+                .checkpoint("20190300")
+                .startedAt(LocalDateTime.ofInstant(FIRST_BOOT, ZONE))
+                .build());
+        AtomicReference<String> resumedFrom = new AtomicReference<>();
+        WarmupTask task = new WarmupTask() {
+            @Override
+            public String getName() {
+                return "detail-backfill";
+            }
+
+            @Override
+            public WarmupStage getStage() {
+                return WarmupStage.DETAIL;
+            }
+
+            @Override
+            public Duration getRerunAfter() {
+                return Duration.ofDays(7);
+            }
+
+            @Override
+            public void run(WarmupProgress progress) {
+                resumedFrom.set(progress.getResumeCheckpoint());
+                progress.checkpoint("20190400");
+            }
+        };
+
+        boot(task, FIRST_BOOT.plus(Duration.ofMinutes(10)));
+
+        assertEquals("20190300", resumedFrom.get());
+        assertEquals(WarmupTaskStatus.COMPLETED, stateTable.get("detail-backfill").getStatus());
+        assertEquals("20190400", stateTable.get("detail-backfill").getCheckpoint());
+    }
+
+    @Test
+    public void failedTaskRunsAgainOnRestart() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        WarmupTask task = WarmupTask.of("daily-sync", WarmupStage.CATALOG, Duration.ofHours(24), () -> {
+            if (runs.incrementAndGet() == 1) {
+                throw new IllegalStateException("API 오류");
+            }
+        });
+
+        boot(task, FIRST_BOOT);
+        assertEquals(WarmupTaskStatus.FAILED, stateTable.get("daily-sync").getStatus());
+
+        boot(task, FIRST_BOOT.plus(Duration.ofMinutes(5)));
+        assertEquals(2, runs.get());
+        assertEquals(WarmupTaskStatus.COMPLETED, stateTable.get("daily-sync").getStatus());
+    }
+
+    // ===== 테스트 도우미 =====
+
+    /**
+     * 주어진 시각에 애플리케이션을 시작한 것처럼 스케줄러를 만들어 전체 작업이 끝날 때까지 기다림
+     */
+    @SuppressWarnings("unchecked")
+    private WarmupScheduler boot(WarmupTask task, Instant now) throws InterruptedException {
+        ObjectProvider<WarmupTask> taskProvider = mock(ObjectProvider.class);
+        when(taskProvider.orderedStream()).thenAnswer(invocation -> Stream.of(task));
+        WarmupScheduler scheduler = new WarmupScheduler(taskProvider, stateRepository,
+                mock(ApplicationEventPublisher.class), true, Clock.fixed(now, ZONE));
+
+        scheduler.onApplicationReady();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!scheduler.isFinished()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("시작 준비 작업이 끝나지 않음");
+            }
+            Thread.sleep(10);
+        }
+        scheduler.shutdown();
+        return scheduler;
+    }
+}